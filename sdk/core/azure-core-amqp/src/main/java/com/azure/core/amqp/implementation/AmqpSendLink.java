@@ -34,6 +34,19 @@ public interface AmqpSendLink extends AmqpLink {
      */
     Mono<Void> send(List<Message> messageBatch);
 
+    /**
+     * Sends a message that is already encoded to the remote endpoint. The array is handed to the transport without
+     * being copied, so it must not be modified until the returned Mono completes.
+     *
+     * @param encodedMessage The encoded message. Its first {@code encodedSize} bytes are sent.
+     * @param encodedSize The number of bytes in {@code encodedMessage} to send.
+     * @param messageFormat The AMQP message format of the encoded message, such as
+     *     {@link AmqpConstants#AMQP_BATCH_MESSAGE_FORMAT} for a batch of messages.
+     * @return A Mono that completes when the message has been sent.
+     * @throws AmqpException if {@code encodedSize} exceeds the link's capacity for a single message.
+     */
+    Mono<Void> send(byte[] encodedMessage, int encodedSize, int messageFormat);
+
     /**
      * Gets the size of the send link. {@link Message Messages} sent on the link cannot exceed the size.
      *
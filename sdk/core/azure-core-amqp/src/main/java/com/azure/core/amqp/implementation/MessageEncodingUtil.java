@@ -0,0 +1,59 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.message.Message;
+
+import java.nio.BufferOverflowException;
+
+/**
+ * Encodes AMQP messages directly into the buffer of a batch message, without intermediate copies.
+ */
+public final class MessageEncodingUtil {
+    /**
+     * Number of bytes preceding the encoded message in a data section: the descriptor of the section (0x00 0x53
+     * 0x75), the vbin32 constructor (0xb0), and the 4 byte length of the binary.
+     */
+    public static final int DATA_SECTION_HEADER_SIZE = 8;
+
+    private static final byte DESCRIBED_TYPE_CONSTRUCTOR = 0x00;
+    private static final byte SMALL_ULONG_CONSTRUCTOR = 0x53;
+    private static final byte DATA_SECTION_DESCRIPTOR = 0x75;
+    private static final byte VBIN32_CONSTRUCTOR = (byte) 0xb0;
+
+    private MessageEncodingUtil() {
+    }
+
+    /**
+     * Encodes {@code message} as the binary of a data section, which is how each message is represented in a batch
+     * message of format {@link AmqpConstants#AMQP_BATCH_MESSAGE_FORMAT}. The message is encoded in place, at its final
+     * position in {@code buffer}, and the header of the data section is written once its length is known.
+     *
+     * @param message The message to encode.
+     * @param buffer The buffer to encode the message into.
+     * @param offset The position in {@code buffer} where the data section starts.
+     * @param length The maximum number of bytes that can be written to {@code buffer}, starting at {@code offset}.
+     * @return The number of bytes written, including the header of the data section.
+     * @throws BufferOverflowException if the data section does not fit in {@code length} bytes.
+     */
+    public static int encodeAsDataSection(Message message, byte[] buffer, int offset, int length) {
+        if (length <= DATA_SECTION_HEADER_SIZE) {
+            throw new BufferOverflowException();
+        }
+
+        final int messageSize = message.encode(buffer, offset + DATA_SECTION_HEADER_SIZE,
+            length - DATA_SECTION_HEADER_SIZE);
+
+        buffer[offset] = DESCRIBED_TYPE_CONSTRUCTOR;
+        buffer[offset + 1] = SMALL_ULONG_CONSTRUCTOR;
+        buffer[offset + 2] = DATA_SECTION_DESCRIPTOR;
+        buffer[offset + 3] = VBIN32_CONSTRUCTOR;
+        buffer[offset + 4] = (byte) (messageSize >>> 24);
+        buffer[offset + 5] = (byte) (messageSize >>> 16);
+        buffer[offset + 6] = (byte) (messageSize >>> 8);
+        buffer[offset + 7] = (byte) messageSize;
+
+        return DATA_SECTION_HEADER_SIZE + messageSize;
+    }
+}
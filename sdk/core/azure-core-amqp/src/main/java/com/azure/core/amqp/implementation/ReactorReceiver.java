@@ -27,6 +27,11 @@ import java.util.function.Supplier;
  * Handles receiving events from Event Hubs service and translating them to proton-j messages.
  */
 public class ReactorReceiver extends EndpointStateNotifierBase implements AmqpReceiveLink {
+    // Largest receive buffer kept between deliveries. Larger deliveries are read into a buffer that is discarded once
+    // the message is decoded, so a single large message does not pin its buffer for the lifetime of the link.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
     // Initial value is true because we could not have created this receiver without authorising against the CBS node
     // first.
     private final AtomicBoolean hasAuthorized = new AtomicBoolean(true);
@@ -42,6 +47,10 @@ public class ReactorReceiver extends EndpointStateNotifierBase implements AmqpRe
 
     private volatile Supplier<Integer> creditSupplier;
 
+    // Deliveries are only read on the reactor thread, so the buffer is reused for every delivery on this link. Decoding
+    // copies the message sections out of it, so no decoded message references the buffer.
+    private byte[] receiveBuffer = new byte[INITIAL_BUFFER_SIZE];
+
     ReactorReceiver(String entityPath, Receiver receiver, ReceiveLinkHandler handler, TokenManager tokenManager) {
         super(new ClientLogger(ReactorReceiver.class));
         this.isDisposed = new AtomicBoolean();
@@ -149,7 +158,7 @@ public class ReactorReceiver extends EndpointStateNotifierBase implements AmqpRe
 
     private void decodeDelivery(Delivery delivery) {
         final int messageSize = delivery.pending();
-        final byte[] buffer = new byte[messageSize];
+        final byte[] buffer = getReceiveBuffer(messageSize);
         final int read = receiver.recv(buffer, 0, messageSize);
         receiver.advance();
 
@@ -168,4 +177,21 @@ public class ReactorReceiver extends EndpointStateNotifierBase implements AmqpRe
             }
         }
     }
+
+    /**
+     * Gets a buffer that can hold at least {@code size} bytes. The buffer is reused across deliveries unless it is
+     * larger than {@link #MAX_RETAINED_BUFFER_SIZE}.
+     */
+    private byte[] getReceiveBuffer(int size) {
+        if (size <= receiveBuffer.length) {
+            return receiveBuffer;
+        }
+
+        if (size > MAX_RETAINED_BUFFER_SIZE) {
+            return new byte[size];
+        }
+
+        receiveBuffer = new byte[Math.min(Math.max(size, receiveBuffer.length * 2), MAX_RETAINED_BUFFER_SIZE)];
+        return receiveBuffer;
+    }
 }
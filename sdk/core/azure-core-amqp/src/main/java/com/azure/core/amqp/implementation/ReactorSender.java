@@ -12,11 +12,9 @@ import com.azure.core.amqp.exception.OperationCancelledException;
 import com.azure.core.amqp.implementation.handler.SendLinkHandler;
 import com.azure.core.util.logging.ClientLogger;
 import org.apache.qpid.proton.Proton;
-import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.UnsignedLong;
 import org.apache.qpid.proton.amqp.messaging.Accepted;
-import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Rejected;
 import org.apache.qpid.proton.amqp.messaging.Released;
 import org.apache.qpid.proton.amqp.transport.DeliveryState;
@@ -174,19 +172,11 @@ class ReactorSender extends EndpointStateNotifierBase implements AmqpSendLink {
         int byteArrayOffset = encodedSize;
 
         for (final Message amqpMessage : messageBatch) {
-            final Message messageWrappedByData = Proton.message();
-
-            int payloadSize = messageSerializer.getSize(amqpMessage);
-            int allocationSize =
-                Math.min(payloadSize + ClientConstants.MAX_AMQP_HEADER_SIZE_BYTES, maxMessageSizeTemp);
-
-            byte[] messageBytes = new byte[allocationSize];
-            int messageSizeBytes = amqpMessage.encode(messageBytes, 0, allocationSize);
-            messageWrappedByData.setBody(new Data(new Binary(messageBytes, 0, messageSizeBytes)));
-
             try {
-                encodedSize =
-                    messageWrappedByData.encode(bytes, byteArrayOffset, maxMessageSizeTemp - byteArrayOffset - 1);
+                // Encodes the message in place, wrapped by a data section, instead of encoding it into its own array
+                // and copying it into the batch.
+                encodedSize = MessageEncodingUtil.encodeAsDataSection(amqpMessage, bytes, byteArrayOffset,
+                    maxMessageSizeTemp - byteArrayOffset - 1);
             } catch (BufferOverflowException exception) {
                 final String message =
                     String.format(Locale.US,
@@ -257,9 +247,17 @@ class ReactorSender extends EndpointStateNotifierBase implements AmqpSendLink {
         super.close();
     }
 
-    private Mono<Void> send(byte[] bytes, int arrayOffset, int messageFormat) {
+    @Override
+    public Mono<Void> send(byte[] encodedMessage, int encodedSize, int messageFormat) {
+        if (encodedSize > maxMessageSize) {
+            final String errorMessage = String.format(Locale.US,
+                "Error sending. Size of the payload exceeded maximum message size: %s kb", maxMessageSize / 1024);
+            return Mono.error(new AmqpException(false, ErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED, errorMessage,
+                handler.getErrorContext(sender)));
+        }
+
         Mono<Void> sendWorkItem = Mono.create(sink -> {
-            send(new RetriableWorkItem(bytes, arrayOffset, messageFormat, sink, timeout));
+            send(new RetriableWorkItem(encodedMessage, encodedSize, messageFormat, sink, timeout));
         });
 
         if (hasConnected.get()) {
@@ -0,0 +1,173 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.engine.BaseHandler;
+import org.apache.qpid.proton.engine.Connection;
+import org.apache.qpid.proton.engine.Delivery;
+import org.apache.qpid.proton.engine.EndpointState;
+import org.apache.qpid.proton.engine.Event;
+import org.apache.qpid.proton.engine.Link;
+import org.apache.qpid.proton.engine.Receiver;
+import org.apache.qpid.proton.engine.Session;
+import org.apache.qpid.proton.reactor.Reactor;
+import org.apache.qpid.proton.reactor.ReactorOptions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A proton-j reactor run on its own thread, with an in-process AMQP peer listening on the loopback interface. The peer
+ * opens every endpoint the client opens, and accepts and settles every message it receives.
+ *
+ * <p>
+ * Connections, sessions, and links have to be created with {@link #getReactor()} before {@link #start()} is invoked,
+ * and through the {@link #getReactorDispatcher() dispatcher} afterwards.
+ * </p>
+ */
+class LoopbackReactor implements Closeable {
+    static final String HOSTNAME = "127.0.0.1";
+    private static final int LINK_CREDITS = 1000;
+
+    private final AtomicBoolean isRunning = new AtomicBoolean();
+    private final Reactor reactor;
+    private final ReactorDispatcher reactorDispatcher;
+    private final int port;
+    private final Thread thread;
+
+    LoopbackReactor() throws IOException {
+        final ReactorOptions options = new ReactorOptions();
+        options.setEnableSaslByDefault(false);
+
+        this.reactor = Proton.reactor(options);
+        this.reactorDispatcher = new ReactorDispatcher(reactor);
+        this.port = getFreePort();
+        this.reactor.acceptor(HOSTNAME, port, new PeerHandler());
+        this.thread = new Thread(this::run, "loopback-reactor");
+        this.thread.setDaemon(true);
+    }
+
+    Reactor getReactor() {
+        return reactor;
+    }
+
+    ReactorDispatcher getReactorDispatcher() {
+        return reactorDispatcher;
+    }
+
+    /**
+     * Gets the port the peer listens on.
+     */
+    int getPort() {
+        return port;
+    }
+
+    void start() {
+        if (!isRunning.getAndSet(true)) {
+            thread.start();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isRunning.getAndSet(false)) {
+            return;
+        }
+
+        // Wakes the reactor up so it observes that it has to stop.
+        reactorDispatcher.invoke(() -> { });
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        reactor.start();
+        while (isRunning.get() && reactor.process()) {
+            // Keep processing events until closed.
+        }
+
+        reactor.stop();
+        reactor.free();
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Handles the endpoints the peer accepted.
+     */
+    private static final class PeerHandler extends BaseHandler {
+        private byte[] buffer = new byte[64 * 1024];
+
+        @Override
+        public void onConnectionRemoteOpen(Event event) {
+            final Connection connection = event.getConnection();
+            if (connection.getLocalState() == EndpointState.UNINITIALIZED) {
+                connection.setContainer("loopback-peer");
+                connection.open();
+            }
+        }
+
+        @Override
+        public void onSessionRemoteOpen(Event event) {
+            final Session session = event.getSession();
+            if (session.getLocalState() == EndpointState.UNINITIALIZED) {
+                session.open();
+            }
+        }
+
+        @Override
+        public void onLinkRemoteOpen(Event event) {
+            final Link link = event.getLink();
+            if (link.getLocalState() != EndpointState.UNINITIALIZED) {
+                return;
+            }
+
+            link.setSource(link.getRemoteSource());
+            link.setTarget(link.getRemoteTarget());
+            link.open();
+
+            if (link instanceof Receiver) {
+                ((Receiver) link).flow(LINK_CREDITS);
+            }
+        }
+
+        @Override
+        public void onDelivery(Event event) {
+            final Delivery delivery = event.getDelivery();
+            if (!(delivery.getLink() instanceof Receiver) || delivery.isPartial()) {
+                return;
+            }
+
+            final Receiver receiver = (Receiver) delivery.getLink();
+            final int size = delivery.pending();
+            if (size > buffer.length) {
+                buffer = new byte[size];
+            }
+
+            receiver.recv(buffer, 0, size);
+            receiver.advance();
+            delivery.disposition(Accepted.getInstance());
+            delivery.settle();
+            receiver.flow(1);
+        }
+
+        @Override
+        public void onConnectionRemoteClose(Event event) {
+            event.getConnection().close();
+        }
+    }
+}
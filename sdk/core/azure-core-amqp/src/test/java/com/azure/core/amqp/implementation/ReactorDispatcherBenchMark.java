@@ -0,0 +1,69 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of work invoked on a {@link ReactorDispatcher} until it runs on the reactor thread.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReactorDispatcherBenchMark {
+    @Param({"1", "16", "256"})
+    private int workItems;
+
+    private LoopbackReactor reactor;
+    private ReactorDispatcher dispatcher;
+
+    @Setup
+    public void setup() throws IOException {
+        reactor = new LoopbackReactor();
+        dispatcher = reactor.getReactorDispatcher();
+        reactor.start();
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        reactor.close();
+    }
+
+    /**
+     * Invokes {@code workItems} work items and waits for all of them to run.
+     */
+    @Benchmark
+    public void invoke() throws IOException, InterruptedException {
+        final CountDownLatch completed = new CountDownLatch(workItems);
+        for (int i = 0; i < workItems; i++) {
+            dispatcher.invoke(completed::countDown);
+        }
+
+        completed.await();
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -6,14 +6,19 @@ package com.azure.core.amqp.implementation;
 import com.azure.core.amqp.AmqpEndpointState;
 import com.azure.core.amqp.CBSNode;
 import com.azure.core.amqp.implementation.handler.ReceiveLinkHandler;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
+import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Source;
 import org.apache.qpid.proton.amqp.transport.ErrorCondition;
+import org.apache.qpid.proton.engine.Delivery;
 import org.apache.qpid.proton.engine.EndpointState;
 import org.apache.qpid.proton.engine.Event;
 import org.apache.qpid.proton.engine.Link;
 import org.apache.qpid.proton.engine.Receiver;
 import org.apache.qpid.proton.engine.Session;
+import org.apache.qpid.proton.message.Message;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -25,7 +30,13 @@ import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -150,4 +161,65 @@ public class ReactorReceiverTest {
             .then(() -> receiverHandler.onLinkRemoteClose(event))
             .verifyComplete();
     }
+
+    /**
+     * Verifies that deliveries are decoded from a receive buffer that is reused across deliveries.
+     */
+    @Test
+    public void reusesReceiveBufferAcrossDeliveries() {
+        // Arrange
+        final List<String> contents = Arrays.asList("first-delivery-contents", "second");
+        final List<byte[]> encoded = Arrays.asList(encode(contents.get(0)), encode(contents.get(1)));
+        final Delivery first = mockDelivery(encoded.get(0).length);
+        final Delivery second = mockDelivery(encoded.get(1).length);
+        final ArgumentCaptor<byte[]> buffers = ArgumentCaptor.forClass(byte[].class);
+
+        when(receiver.recv(any(byte[].class), eq(0), anyInt())).thenAnswer(invocation -> {
+            final byte[] buffer = invocation.getArgument(0);
+            final int size = invocation.getArgument(2);
+            final byte[] source = size == encoded.get(0).length ? encoded.get(0) : encoded.get(1);
+            System.arraycopy(source, 0, buffer, 0, size);
+            return size;
+        });
+
+        // Act & Assert
+        StepVerifier.create(reactorReceiver.receive().take(2))
+            .then(() -> {
+                when(event.getDelivery()).thenReturn(first);
+                receiverHandler.onDelivery(event);
+                when(event.getDelivery()).thenReturn(second);
+                receiverHandler.onDelivery(event);
+            })
+            .assertNext(message -> Assert.assertEquals(contents.get(0), getContents(message)))
+            .assertNext(message -> Assert.assertEquals(contents.get(1), getContents(message)))
+            .verifyComplete();
+
+        verify(receiver, times(2)).recv(buffers.capture(), eq(0), anyInt());
+        Assert.assertSame(buffers.getAllValues().get(0), buffers.getAllValues().get(1));
+        verify(first).settle();
+        verify(second).settle();
+    }
+
+    private Delivery mockDelivery(int size) {
+        final Delivery delivery = mock(Delivery.class);
+        when(delivery.getLink()).thenReturn(receiver);
+        when(delivery.isPartial()).thenReturn(false);
+        when(delivery.isSettled()).thenReturn(false);
+        when(delivery.pending()).thenReturn(size);
+        return delivery;
+    }
+
+    private static byte[] encode(String contents) {
+        final Message message = Proton.message();
+        message.setBody(new Data(new Binary(contents.getBytes(UTF_8))));
+
+        final byte[] buffer = new byte[1024];
+        final int size = message.encode(buffer, 0, buffer.length);
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private static String getContents(Message message) {
+        final Binary binary = ((Data) message.getBody()).getValue();
+        return new String(binary.getArray(), binary.getArrayOffset(), binary.getLength(), UTF_8);
+    }
 }
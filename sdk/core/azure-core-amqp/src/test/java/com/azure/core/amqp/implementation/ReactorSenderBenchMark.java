@@ -0,0 +1,201 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import com.azure.core.amqp.AmqpEndpointState;
+import com.azure.core.amqp.ExponentialRetryPolicy;
+import com.azure.core.amqp.RetryOptions;
+import com.azure.core.amqp.exception.AmqpResponseCode;
+import com.azure.core.amqp.implementation.handler.SendLinkHandler;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.amqp.messaging.Source;
+import org.apache.qpid.proton.amqp.messaging.Target;
+import org.apache.qpid.proton.amqp.transport.SenderSettleMode;
+import org.apache.qpid.proton.engine.BaseHandler;
+import org.apache.qpid.proton.engine.Connection;
+import org.apache.qpid.proton.engine.Sender;
+import org.apache.qpid.proton.engine.Session;
+import org.apache.qpid.proton.message.Message;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sending messages through a {@link ReactorSender}, from queueing the send work on the reactor dispatcher until
+ * the in-process peer accepts the delivery.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ReactorSenderBenchMark {
+    private static final String ENTITY_PATH = "benchmark-entity";
+    private static final int MAX_MESSAGE_SIZE = 256 * 1024;
+    private static final int BATCH_SIZE = 16;
+
+    @Param({"128", "1024", "8192"})
+    private int payloadSize;
+
+    private LoopbackReactor reactor;
+    private ReactorSender reactorSender;
+    private Message message;
+    private List<Message> batch;
+
+    @Setup
+    public void setup() throws IOException {
+        reactor = new LoopbackReactor();
+
+        final Connection connection = reactor.getReactor().connectionToHost(LoopbackReactor.HOSTNAME,
+            reactor.getPort(), new BaseHandler());
+        connection.setHostname(LoopbackReactor.HOSTNAME);
+        connection.setContainer("benchmark-client");
+        connection.open();
+
+        final Session session = connection.session();
+        session.open();
+
+        final Target target = new Target();
+        target.setAddress(ENTITY_PATH);
+
+        final Sender sender = session.sender("benchmark-sender");
+        sender.setTarget(target);
+        sender.setSource(new Source());
+        sender.setSenderSettleMode(SenderSettleMode.UNSETTLED);
+
+        final SendLinkHandler handler = new SendLinkHandler("benchmark-connection", LoopbackReactor.HOSTNAME,
+            sender.getName(), ENTITY_PATH);
+        BaseHandler.setHandler(sender, handler);
+        sender.open();
+
+        final ReactorProvider reactorProvider = new ReactorProvider() {
+            @Override
+            public ReactorDispatcher getReactorDispatcher() {
+                return reactor.getReactorDispatcher();
+            }
+        };
+
+        final MessageSerializer serializer = new BodySizeMessageSerializer();
+        reactorSender = new ReactorSender(ENTITY_PATH, sender, handler, reactorProvider, new NoOpTokenManager(),
+            serializer, Duration.ofSeconds(30), new ExponentialRetryPolicy(new RetryOptions()),
+            MAX_MESSAGE_SIZE);
+
+        final Mono<AmqpEndpointState> active = reactorSender.getConnectionStates()
+            .filter(state -> state == AmqpEndpointState.ACTIVE)
+            .next()
+            .cache();
+        active.subscribe();
+
+        reactor.start();
+        active.block(Duration.ofSeconds(30));
+
+        message = createMessage(serializer, payloadSize);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(createMessage(serializer, payloadSize));
+        }
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        reactorSender.close();
+        reactor.close();
+    }
+
+    /**
+     * Sends a single message and waits for the peer to accept it.
+     */
+    @Benchmark
+    public void sendMessage() {
+        reactorSender.send(message).block();
+    }
+
+    /**
+     * Sends {@link #BATCH_SIZE} messages as a single batched delivery and waits for the peer to accept it.
+     */
+    @Benchmark
+    public void sendBatch() {
+        reactorSender.send(batch).block();
+    }
+
+    private static Message createMessage(MessageSerializer serializer, int payloadSize) {
+        return serializer.serialize(new byte[payloadSize]);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+    private static final class NoOpTokenManager implements TokenManager {
+        @Override
+        public Mono<Long> authorize() {
+            return Mono.just(Long.MAX_VALUE);
+        }
+
+        @Override
+        public Flux<AmqpResponseCode> getAuthorizationResults() {
+            return Flux.never();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Serializes byte arrays as the {@link Data} body of a message. The size of a message is the size of its body,
+     * since the benchmark only sends messages without properties or annotations.
+     */
+    private static final class BodySizeMessageSerializer implements MessageSerializer {
+        @Override
+        public int getSize(Message amqpMessage) {
+            return ((Data) amqpMessage.getBody()).getValue().getLength();
+        }
+
+        @Override
+        public <T> Message serialize(T object) {
+            if (!(object instanceof byte[])) {
+                throw new IllegalArgumentException("Only byte arrays can be serialized. Actual: " + object);
+            }
+
+            final Message message = Proton.message();
+            message.setBody(new Data(new Binary((byte[]) object)));
+            return message;
+        }
+
+        @Override
+        public <T> T deserialize(Message message, Class<T> clazz) {
+            if (clazz != byte[].class || !(message.getBody() instanceof Data)) {
+                return null;
+            }
+
+            final Binary body = ((Data) message.getBody()).getValue();
+            final byte[] bytes = new byte[body.getLength()];
+            System.arraycopy(body.getArray(), body.getArrayOffset(), bytes, 0, body.getLength());
+            return clazz.cast(bytes);
+        }
+    }
+}
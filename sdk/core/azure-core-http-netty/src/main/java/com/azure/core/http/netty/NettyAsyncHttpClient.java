@@ -9,6 +9,7 @@ import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.implementation.util.FileSegmentFlux;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -85,7 +86,13 @@ class NettyAsyncHttpClient implements HttpClient {
                     reactorNettyRequest.header(header.getName(), header.getValue());
                 }
             }
-            if (restRequest.getBody() != null) {
+            if (restRequest.getBody() instanceof FileSegmentFlux) {
+                // Sends the file with a FileRegion, or in chunks when the connection is encrypted, so its content
+                // doesn't have to be read into the heap first.
+                FileSegmentFlux fileSegment = (FileSegmentFlux) restRequest.getBody();
+                return reactorNettyOutbound.sendFile(fileSegment.getFile(), fileSegment.getOffset(),
+                    fileSegment.getLength());
+            } else if (restRequest.getBody() != null) {
                 Flux<ByteBuf> nettyByteBufFlux = restRequest.getBody().map(Unpooled::wrappedBuffer);
                 return reactorNettyOutbound.send(nettyByteBufFlux);
             } else {
@@ -106,9 +113,12 @@ class NettyAsyncHttpClient implements HttpClient {
             Mono.just(new ReactorNettyHttpResponse(reactorNettyResponse, reactorNettyConnection, restRequest));
     }
 
-    static class ReactorNettyHttpResponse extends HttpResponse {
+    static class ReactorNettyHttpResponse extends HttpResponse implements NettyHttpResponse {
         private final HttpClientResponse reactorNettyResponse;
         private final Connection reactorNettyConnection;
+        // Converted from the Netty headers once they are requested. Callers get copies of it, since they may modify
+        // the headers they are given.
+        private HttpHeaders headers;
 
         ReactorNettyHttpResponse(HttpClientResponse reactorNettyResponse, Connection reactorNettyConnection,
                                  HttpRequest httpRequest) {
@@ -129,9 +139,13 @@ class NettyAsyncHttpClient implements HttpClient {
 
         @Override
         public HttpHeaders getHeaders() {
-            HttpHeaders headers = new HttpHeaders();
-            reactorNettyResponse.responseHeaders().forEach(e -> headers.put(e.getKey(), e.getValue()));
-            return headers;
+            if (headers == null) {
+                final io.netty.handler.codec.http.HttpHeaders nettyHeaders = reactorNettyResponse.responseHeaders();
+                final HttpHeaders result = new HttpHeaders(nettyHeaders.size());
+                nettyHeaders.forEach(e -> result.put(e.getKey(), e.getValue()));
+                headers = result;
+            }
+            return new HttpHeaders(headers);
         }
 
         @Override
@@ -143,6 +157,13 @@ class NettyAsyncHttpClient implements HttpClient {
             }).map(ByteBuf::nioBuffer);
         }
 
+        @Override
+        public Flux<ByteBuf> getBodyAsByteBuf() {
+            return bodyIntern().retain()
+                .doOnDiscard(ByteBuf.class, ByteBuf::release)
+                .doFinally(s -> close());
+        }
+
         @Override
         public Mono<byte[]> getBodyAsByteArray() {
             return bodyIntern().aggregate().asByteArray().doFinally(s -> {
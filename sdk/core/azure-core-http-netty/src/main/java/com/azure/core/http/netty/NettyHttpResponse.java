@@ -0,0 +1,33 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import io.netty.buffer.ByteBuf;
+import reactor.core.publisher.Flux;
+
+/**
+ * Gives access to the Netty buffers of the body of a response received by the Netty-based
+ * {@link com.azure.core.http.HttpClient}.
+ *
+ * <p>
+ * The {@link java.nio.ByteBuffer ByteBuffers} emitted by {@link com.azure.core.http.HttpResponse#getBody()} share the
+ * memory of pooled buffers that are released as soon as they have been emitted, so they are only valid until
+ * {@code onNext} returns. {@link #getBodyAsByteBuf()} hands the buffers over instead, which lets a consumer keep them,
+ * for example to write them to a file asynchronously, without copying them to the heap first.
+ * </p>
+ */
+public interface NettyHttpResponse {
+    /**
+     * Gets the body of the response as the buffers Netty received it in.
+     *
+     * <p>
+     * Every emitted {@link ByteBuf} is retained for the subscriber, which must {@link ByteBuf#release() release} it
+     * once it is done with it. Buffers that are dropped because the subscription is cancelled are released. The
+     * connection is closed once the body completes, fails, or is cancelled.
+     * </p>
+     *
+     * @return The body of the response.
+     */
+    Flux<ByteBuf> getBodyAsByteBuf();
+}
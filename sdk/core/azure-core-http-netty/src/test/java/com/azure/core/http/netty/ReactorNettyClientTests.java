@@ -7,6 +7,7 @@ import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.implementation.util.FluxUtil;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -30,8 +31,11 @@ import java.net.Socket;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -54,6 +58,8 @@ public class ReactorNettyClientTests {
                 .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
                 WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.put("/file").withRequestBody(WireMock.equalTo(SHORT_BODY.substring(3)))
+                .willReturn(WireMock.aResponse().withStatus(201)));
         server.start();
         // ResourceLeakDetector.setLevel(Level.PARANOID);
     }
@@ -115,6 +121,38 @@ public class ReactorNettyClientTests {
         Assert.assertTrue(response.internConnection().isDisposed());
     }
 
+    @Test
+    public void testBodyAsByteBufIsRetained() {
+        ReactorNettyHttpResponse response = getResponse("/long");
+        List<ByteBuf> buffers = response.getBodyAsByteBuf().collectList().block();
+
+        StringBuilder body = new StringBuilder();
+        for (ByteBuf buffer : buffers) {
+            Assert.assertTrue(buffer.refCnt() > 0);
+            body.append(buffer.toString(StandardCharsets.UTF_8));
+            buffer.release();
+        }
+        Assert.assertEquals(LONG_BODY, body.toString());
+    }
+
+    @Test
+    public void testFileSegmentBodyIsSent() throws IOException {
+        Path file = Files.createTempFile("netty-file-body", ".txt");
+        try {
+            Files.write(file, SHORT_BODY.getBytes(StandardCharsets.UTF_8));
+            int length = SHORT_BODY.length() - 3;
+            HttpRequest request = new HttpRequest(HttpMethod.PUT, url(server, "/file"))
+                    .setHeader("Content-Length", String.valueOf(length))
+                    .setBody(FluxUtil.readFile(file, 3, length));
+
+            StepVerifier.create(new NettyAsyncHttpClient().send(request))
+                    .assertNext(response -> Assert.assertEquals(201, response.getStatusCode()))
+                    .verifyComplete();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     public void testFlowableWhenServerReturnsBodyAndNoErrorsWhenHttp500Returned() {
         HttpResponse response = getResponse("/error");
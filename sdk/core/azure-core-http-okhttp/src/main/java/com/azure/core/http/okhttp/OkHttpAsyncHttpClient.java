@@ -178,7 +178,10 @@ class OkHttpAsyncHttpClient implements HttpClient {
      */
     private static class OkHttpResponse extends HttpResponse {
         private final int statusCode;
-        private final HttpHeaders headers;
+        private final Headers okHttpHeaders;
+        // Converted from the OkHttp headers once they are requested. As when the headers were converted up front, every
+        // call to getHeaders returns this same instance, so changes made to it are seen by later callers.
+        private HttpHeaders headers;
         private final Mono<ResponseBody> responseBodyMono;
         // using 4K as default buffer size: https://stackoverflow.com/a/237495/1473510
         private static final int BYTE_BUFFER_CHUNK_SIZE = 4096;
@@ -186,7 +189,7 @@ class OkHttpAsyncHttpClient implements HttpClient {
         OkHttpResponse(Response innerResponse, HttpRequest request) {
             super(request);
             this.statusCode = innerResponse.code();
-            this.headers = fromOkHttpHeaders(innerResponse.headers());
+            this.okHttpHeaders = innerResponse.headers();
             if (innerResponse.body() == null) {
                 // innerResponse.body() getter will not return null for server returned responses.
                 // It can be null:
@@ -211,11 +214,14 @@ class OkHttpAsyncHttpClient implements HttpClient {
 
         @Override
         public String getHeaderValue(String name) {
-            return this.headers.getValue(name);
+            return this.okHttpHeaders.get(name);
         }
 
         @Override
         public HttpHeaders getHeaders() {
+            if (this.headers == null) {
+                this.headers = fromOkHttpHeaders(this.okHttpHeaders);
+            }
             return this.headers;
         }
 
@@ -269,9 +275,10 @@ class OkHttpAsyncHttpClient implements HttpClient {
          * @return azure-core HttpHeaders
          */
         private static HttpHeaders fromOkHttpHeaders(Headers headers) {
-            HttpHeaders httpHeaders = new HttpHeaders();
-            for (String headerName : headers.names()) {
-                httpHeaders.put(headerName, headers.get(headerName));
+            HttpHeaders httpHeaders = new HttpHeaders(headers.size());
+            // The last value of a repeated header wins, as it does for Headers.get.
+            for (int i = 0; i < headers.size(); i++) {
+                httpHeaders.put(headers.name(i), headers.value(i));
             }
             return httpHeaders;
         }
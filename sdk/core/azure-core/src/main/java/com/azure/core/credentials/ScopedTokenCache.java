@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credentials;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the tokens of a credential, with a {@link SimpleTokenCache} for each set of scopes.
+ *
+ * <p>Sharing an instance between the clients that use the same credential, through their
+ * {@link com.azure.core.http.policy.BearerTokenAuthenticationPolicy BearerTokenAuthenticationPolicies}, lets them
+ * share the tokens and their refreshes.</p>
+ */
+public class ScopedTokenCache {
+    private final Map<List<String>, SimpleTokenCache> caches = new ConcurrentHashMap<>();
+    private final TokenCredential credential;
+    private final Duration refreshOffset;
+
+    /**
+     * Creates a ScopedTokenCache whose tokens are refreshed 5 minutes before they expire.
+     *
+     * @param credential the credential to get the tokens from
+     * @throws NullPointerException If {@code credential} is {@code null}.
+     */
+    public ScopedTokenCache(TokenCredential credential) {
+        this(credential, null);
+    }
+
+    /**
+     * Creates a ScopedTokenCache.
+     *
+     * @param credential the credential to get the tokens from
+     * @param refreshOffset how long before a token expires it is refreshed in the background, or {@code null} for the
+     *     default of 5 minutes
+     * @throws NullPointerException If {@code credential} is {@code null}.
+     */
+    public ScopedTokenCache(TokenCredential credential, Duration refreshOffset) {
+        this.credential = Objects.requireNonNull(credential, "'credential' cannot be null.");
+        this.refreshOffset = refreshOffset;
+    }
+
+    /**
+     * Asynchronously get a token for the provided scopes from either the cache or replenish the cache with a new
+     * token.
+     *
+     * @param scopes the scopes of authentication the token is for
+     * @return a Publisher that emits an AccessToken
+     */
+    public Mono<AccessToken> getToken(String... scopes) {
+        return getTokenCache(scopes).getToken();
+    }
+
+    /**
+     * Gets the cache of the token for the provided scopes, which is the same for scopes in any order.
+     *
+     * @param scopes the scopes of authentication the token is for
+     * @return the cache of the token for the scopes
+     * @throws NullPointerException If {@code scopes} is {@code null}.
+     */
+    public SimpleTokenCache getTokenCache(String... scopes) {
+        Objects.requireNonNull(scopes, "'scopes' cannot be null.");
+        final List<String> sortedScopes = new ArrayList<>(Arrays.asList(scopes));
+        Collections.sort(sortedScopes);
+
+        return caches.computeIfAbsent(Collections.unmodifiableList(sortedScopes), key -> {
+            final TokenRequest request = new TokenRequest().setScopes(key);
+            return refreshOffset == null
+                ? new SimpleTokenCache(() -> credential.getToken(request))
+                : new SimpleTokenCache(() -> credential.getToken(request), refreshOffset);
+        });
+    }
+}
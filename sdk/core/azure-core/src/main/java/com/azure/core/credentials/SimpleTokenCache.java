@@ -3,34 +3,68 @@
 
 package com.azure.core.credentials;
 
-import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.FluxSink.OverflowStrategy;
+import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.ReplayProcessor;
+import reactor.core.publisher.MonoProcessor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
  * A token cache that supports caching a token and refreshing it.
+ *
+ * <p>The token is refreshed in the background once it is within the refresh offset of its expiry, while the cached
+ * token is still returned, so requests only wait for a token when there is none or it has expired. A single refresh
+ * runs at a time, and the requests arriving during a refresh share its result. After a refresh fails, no refresh is
+ * started again for a back-off delay doubling with every consecutive failure, during which requests get the cached
+ * token if it hasn't expired, or else the error of the last refresh.</p>
+ *
+ * <p>This class is thread-safe and doesn't block.</p>
  */
 public class SimpleTokenCache {
-    private static final int REFRESH_TIMEOUT_SECONDS = 30;
+    private static final Duration DEFAULT_REFRESH_OFFSET = Duration.ofMinutes(5);
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
 
-    private final AtomicBoolean wip;
-    private AccessToken cache;
-    private final ReplayProcessor<AccessToken> emitterProcessor = ReplayProcessor.create(1);
-    private final FluxSink<AccessToken> sink = emitterProcessor.sink(OverflowStrategy.BUFFER);
+    private final ClientLogger logger = new ClientLogger(SimpleTokenCache.class);
+    private final AtomicReference<MonoProcessor<AccessToken>> refreshing = new AtomicReference<>();
     private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final Duration refreshOffset;
+
+    private volatile AccessToken cache;
+    // The state of the back-off after failed refreshes, only written by the single refresh in flight.
+    private volatile Throwable lastError;
+    private volatile long backoffNanos;
+    private volatile long nextRefreshNanos;
 
     /**
-     * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
+     * Creates an instance of RefreshableTokenCredential with default scheme "Bearer", which refreshes its token 5
+     * minutes before it expires.
      *
      * @param tokenSupplier a method to get a new token
      */
     public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
-        this.wip = new AtomicBoolean(false);
-        this.tokenSupplier = tokenSupplier;
+        this(tokenSupplier, DEFAULT_REFRESH_OFFSET);
+    }
+
+    /**
+     * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
+     *
+     * @param tokenSupplier a method to get a new token
+     * @param refreshOffset how long before the token expires it is refreshed in the background
+     * @throws NullPointerException If {@code tokenSupplier} or {@code refreshOffset} is {@code null}.
+     * @throws IllegalArgumentException If {@code refreshOffset} is negative.
+     */
+    public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, Duration refreshOffset) {
+        this.tokenSupplier = Objects.requireNonNull(tokenSupplier, "'tokenSupplier' cannot be null.");
+        this.refreshOffset = Objects.requireNonNull(refreshOffset, "'refreshOffset' cannot be null.");
+        if (refreshOffset.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'refreshOffset' cannot be negative."));
+        }
     }
 
     /**
@@ -38,17 +72,67 @@ public class SimpleTokenCache {
      * @return a Publisher that emits an AccessToken
      */
     public Mono<AccessToken> getToken() {
-        if (cache != null && !cache.isExpired()) {
-            return Mono.just(cache);
-        }
         return Mono.defer(() -> {
-            if (!wip.getAndSet(true)) {
-                return tokenSupplier.get().doOnNext(ac -> cache = ac)
-                    .doOnNext(sink::next)
-                    .doOnError(sink::error)
-                    .doOnTerminate(() -> wip.set(false));
-            } else {
-                return emitterProcessor.next();
+            final AccessToken token = cache;
+            final Throwable backoffError = getBackoffError();
+            if (token != null && !token.isExpired()) {
+                if (backoffError == null && OffsetDateTime.now().isAfter(token.getExpiresOn().minus(refreshOffset))) {
+                    refresh();
+                }
+                return Mono.just(token);
+            }
+
+            return backoffError == null ? refresh() : Mono.error(backoffError);
+        });
+    }
+
+    /*
+     * Gets the error of the last refresh while no refresh should be started because of it, or null.
+     */
+    private Throwable getBackoffError() {
+        final Throwable error = lastError;
+        return error != null && System.nanoTime() - nextRefreshNanos < 0 ? error : null;
+    }
+
+    /*
+     * Starts a refresh unless one is already in flight, and returns the token of the refresh in flight.
+     */
+    private Mono<AccessToken> refresh() {
+        while (true) {
+            final MonoProcessor<AccessToken> current = refreshing.get();
+            if (current != null) {
+                return current;
+            }
+
+            final MonoProcessor<AccessToken> processor = MonoProcessor.create();
+            if (refreshing.compareAndSet(null, processor)) {
+                startRefresh(processor);
+                return processor;
+            }
+        }
+    }
+
+    private void startRefresh(MonoProcessor<AccessToken> processor) {
+        // The refresh isn't tied to the subscription of any request, so it completes even if they are cancelled.
+        Mono.defer(tokenSupplier).subscribe(token -> {
+            cache = token;
+            lastError = null;
+            backoffNanos = 0;
+            refreshing.set(null);
+            processor.onNext(token);
+        }, error -> {
+            backoffNanos = backoffNanos == 0 ? INITIAL_BACKOFF_NANOS : Math.min(MAX_BACKOFF_NANOS, backoffNanos * 2);
+            nextRefreshNanos = System.nanoTime() + backoffNanos;
+            lastError = error;
+            logger.warning("Failed to refresh the token, no refresh is attempted for the next {} ms. Error: {}",
+                TimeUnit.NANOSECONDS.toMillis(backoffNanos), error.getMessage());
+            refreshing.set(null);
+            processor.onError(error);
+        }, () -> {
+            if (!processor.isTerminated()) {
+                refreshing.set(null);
+                processor.onError(logger.logExceptionAsError(
+                    new IllegalStateException("The token supplier completed without a token.")));
             }
         });
     }
@@ -3,23 +3,54 @@
 
 package com.azure.core.http;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A collection of headers on an HTTP request or response.
+ *
+ * <p>
+ * Header names are compared case-insensitively. The headers are kept in arrays indexed by an open addressing hash
+ * table, so setting and reading a header doesn't allocate a lower-cased copy of its name, nor an {@link HttpHeader}
+ * until one is requested. Reading doesn't modify the collection, so an instance that is no longer modified can be read
+ * by several threads at once. Modifications aren't thread-safe, the headers of a request or response are expected to
+ * be modified by one thread at a time.
+ * </p>
  */
 public class HttpHeaders implements Iterable<HttpHeader> {
-    private final Map<String, HttpHeader> headers = new ConcurrentHashMap<>();
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // The entries in insertion order, except that a removed entry is replaced by the last one.
+    private String[] names;
+    private String[] values;
+    private int[] hashes;
+    private int size;
+
+    // Linear probing table holding the index of an entry plus one, or zero for an empty slot. It is kept at most half
+    // full.
+    private int[] table;
 
     /**
      * Create an empty HttpHeaders instance.
      */
     public HttpHeaders() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty HttpHeaders instance with room for the provided number of headers.
+     *
+     * @param initialCapacity the number of headers the instance can contain before growing
+     */
+    public HttpHeaders(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 1));
     }
 
     /**
@@ -28,6 +59,8 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param headers the map of initial headers
      */
     public HttpHeaders(Map<String, String> headers) {
+        this(headers.size());
+
         for (final Map.Entry<String, String> header : headers.entrySet()) {
             this.put(header.getKey(), header.getValue());
         }
@@ -39,8 +72,12 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param headers the collection of initial headers
      */
     public HttpHeaders(Iterable<HttpHeader> headers) {
-        this();
+        if (headers instanceof HttpHeaders) {
+            copyFrom((HttpHeaders) headers);
+            return;
+        }
 
+        allocate(DEFAULT_CAPACITY);
         for (final HttpHeader header : headers) {
             this.put(header.getName(), header.getValue());
         }
@@ -52,7 +89,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the number of headers in this collection.
      */
     public int getSize() {
-        return headers.size();
+        return size;
     }
 
     /**
@@ -65,7 +102,23 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return The updated HttpHeaders object
      */
     public HttpHeaders put(String name, String value) {
-        headers.put(formatKey(name), new HttpHeader(name, value));
+        final int hash = hash(name);
+        final int entry = find(name, hash);
+        if (entry >= 0) {
+            names[entry] = name;
+            values[entry] = value;
+            return this;
+        }
+
+        if (size == names.length) {
+            grow();
+        }
+
+        names[size] = name;
+        values[size] = value;
+        hashes[size] = hash;
+        insert(size, hash);
+        size++;
         return this;
     }
 
@@ -77,7 +130,8 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the header if found, null otherwise.
      */
     public HttpHeader get(String name) {
-        return headers.get(formatKey(name));
+        final int entry = find(name, hash(name));
+        return entry < 0 ? null : new EntryHeader(names[entry], values[entry]);
     }
 
     /**
@@ -88,7 +142,14 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the header if removed, null otherwise.
      */
     public HttpHeader remove(String name) {
-        return headers.remove(formatKey(name));
+        final int entry = find(name, hash(name));
+        if (entry < 0) {
+            return null;
+        }
+
+        final HttpHeader header = new HttpHeader(names[entry], values[entry]);
+        removeAt(entry);
+        return header;
     }
 
     /**
@@ -98,8 +159,8 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the value of the header, or null if the header isn't found
      */
     public String getValue(String name) {
-        final HttpHeader header = get(name);
-        return header == null ? null : header.getValue();
+        final int entry = find(name, hash(name));
+        return entry < 0 ? null : values[entry];
     }
 
     /**
@@ -111,12 +172,8 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the values of the header, or null if the header isn't found
      */
     public String[] getValues(String name) {
-        final HttpHeader header = get(name);
-        return header == null ? null : header.getValues();
-    }
-
-    private String formatKey(final String key) {
-        return key.toLowerCase(Locale.ROOT);
+        final String value = getValue(name);
+        return value == null ? null : value.split(",");
     }
 
     /**
@@ -125,16 +182,16 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the headers as map
      */
     public Map<String, String> toMap() {
-        final Map<String, String> result = new HashMap<>();
-        for (final HttpHeader header : headers.values()) {
-            result.put(header.getName(), header.getValue());
+        final Map<String, String> result = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            result.put(names[i], values[i]);
         }
         return result;
     }
 
     @Override
     public Iterator<HttpHeader> iterator() {
-        return headers.values().iterator();
+        return new HeaderIterator();
     }
 
     /**
@@ -143,6 +200,179 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return A {@link Stream} of all header values in this instance.
      */
     public Stream<HttpHeader> stream() {
-        return headers.values().stream();
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size,
+            Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    private void allocate(int capacity) {
+        names = new String[capacity];
+        values = new String[capacity];
+        hashes = new int[capacity];
+        table = new int[tableSizeFor(capacity)];
+    }
+
+    private void copyFrom(HttpHeaders other) {
+        final int capacity = Math.max(other.size, 1);
+        names = Arrays.copyOf(other.names, capacity);
+        hashes = Arrays.copyOf(other.hashes, capacity);
+        values = Arrays.copyOf(other.values, capacity);
+        size = other.size;
+
+        if (other.table.length == tableSizeFor(capacity)) {
+            table = other.table.clone();
+        } else {
+            table = new int[tableSizeFor(capacity)];
+            for (int i = 0; i < size; i++) {
+                insert(i, hashes[i]);
+            }
+        }
+    }
+
+    private void grow() {
+        final int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        values = Arrays.copyOf(values, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        table = new int[tableSizeFor(capacity)];
+        for (int i = 0; i < size; i++) {
+            insert(i, hashes[i]);
+        }
+    }
+
+    private int find(String name, int hash) {
+        final int mask = table.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            final int entry = table[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+
+            if (hashes[entry] == hash && (names[entry] == name || names[entry].equalsIgnoreCase(name))) {
+                return entry;
+            }
+        }
+    }
+
+    private void insert(int entry, int hash) {
+        final int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private int slotOf(int entry) {
+        final int mask = table.length - 1;
+        int slot = hashes[entry] & mask;
+        while (table[slot] != entry + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeAt(int entry) {
+        // Backward shift deletion, which moves the following entries of the probe sequence into the freed slot
+        // instead of leaving a tombstone.
+        final int mask = table.length - 1;
+        int free = slotOf(entry);
+        for (int slot = (free + 1) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            final int home = hashes[table[slot] - 1] & mask;
+            final boolean reachable = free <= slot ? (free < home && home <= slot) : (free < home || home <= slot);
+            if (!reachable) {
+                table[free] = table[slot];
+                free = slot;
+            }
+        }
+        table[free] = 0;
+
+        // Keeps the entries contiguous by moving the last one into the removed one.
+        final int last = size - 1;
+        if (entry != last) {
+            table[slotOf(last)] = entry + 1;
+            names[entry] = names[last];
+            values[entry] = values[last];
+            hashes[entry] = hashes[last];
+        }
+
+        names[last] = null;
+        values[last] = null;
+        size = last;
+    }
+
+    /*
+     * Hash of a header name that is the same for names that are equal ignoring case, as String.equalsIgnoreCase
+     * compares them.
+     */
+    private static int hash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 128) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            hash = 31 * hash + c;
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private final class HeaderIterator implements Iterator<HttpHeader> {
+        private int next;
+        private int lastReturned = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public HttpHeader next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next++;
+            return new EntryHeader(names[lastReturned], values[lastReturned]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            removeAt(lastReturned);
+            // The last entry was moved into the removed one, so it is returned next.
+            next = lastReturned;
+            lastReturned = -1;
+        }
+    }
+
+    /**
+     * A header read from this collection. It is created on every read instead of being kept, so reading never modifies
+     * the collection, and adding a value to it updates the value in the collection.
+     */
+    private final class EntryHeader extends HttpHeader {
+        private EntryHeader(String name, String value) {
+            super(name, value);
+        }
+
+        @Override
+        public void addValue(String value) {
+            super.addValue(value);
+            final int entry = find(getName(), hash(getName()));
+            if (entry >= 0) {
+                values[entry] = getValue();
+            }
+        }
     }
 }
@@ -66,6 +66,15 @@ public final class HttpPipelineCallContext {
         return this.data.getData(key);
     }
 
+    /**
+     * Gets the data stored in the context.
+     *
+     * @return the data
+     */
+    Context getContext() {
+        return this.data;
+    }
+
     /**
      * Get the http request.
      *
@@ -47,6 +47,23 @@ public class HttpPipelineNextPolicy {
         }
     }
 
+    /**
+     * Creates a HttpPipelineNextPolicy that invokes the same remaining policies as this one, with a new context
+     * holding the provided request and a copy of the data of this context.
+     *
+     * <p>Unlike {@link #clone()}, the policies invoked through the returned instance don't share the request of this
+     * context, so it can be used to send a request concurrently with the one of this context.</p>
+     *
+     * @param httpRequest the request to send through the remaining policies
+     * @return a HttpPipelineNextPolicy invoking the remaining policies with a new context
+     */
+    public HttpPipelineNextPolicy fork(HttpRequest httpRequest) {
+        HttpPipelineNextPolicy forked = new HttpPipelineNextPolicy(this.pipeline,
+            new HttpPipelineCallContext(httpRequest, this.context.getContext()));
+        forked.currentPolicyIndex = this.currentPolicyIndex;
+        return forked;
+    }
+
     @Override
     public HttpPipelineNextPolicy clone() {
         HttpPipelineNextPolicy cloned = new HttpPipelineNextPolicy(this.pipeline, this.context);
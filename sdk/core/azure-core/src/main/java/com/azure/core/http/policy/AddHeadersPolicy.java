@@ -19,10 +19,13 @@ public class AddHeadersPolicy implements HttpPipelinePolicy {
     /**
      * Creates a AddHeadersPolicy.
      *
+     * <p>The headers are copied, so changes made to {@code headers} afterwards don't affect the requests sent through
+     * this policy, which may be sent by several threads at once.</p>
+     *
      * @param headers The headers to add to outgoing requests.
      */
     public AddHeadersPolicy(HttpHeaders headers) {
-        this.headers = headers;
+        this.headers = new HttpHeaders(headers);
     }
 
     @Override
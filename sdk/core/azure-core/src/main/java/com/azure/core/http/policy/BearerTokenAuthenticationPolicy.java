@@ -3,9 +3,9 @@
 
 package com.azure.core.http.policy;
 
+import com.azure.core.credentials.ScopedTokenCache;
 import com.azure.core.credentials.SimpleTokenCache;
 import com.azure.core.credentials.TokenCredential;
-import com.azure.core.credentials.TokenRequest;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
 import com.azure.core.http.HttpResponse;
@@ -16,13 +16,14 @@ import java.util.Objects;
 /**
  * The Pipeline policy that applies a token credential to an HTTP request
  * with "Bearer" scheme.
+ *
+ * <p>The token is cached and refreshed ahead of its expiry by a {@link SimpleTokenCache}. The policies of clients using
+ * the same credential can share their tokens through a {@link ScopedTokenCache}.</p>
  */
 public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER = "Bearer";
 
-    private final TokenCredential credential;
-    private final String[] scopes;
     private final SimpleTokenCache cache;
 
     /**
@@ -32,12 +33,20 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
      * @param scopes the scopes of authentication the credential should get token for
      */
     public BearerTokenAuthenticationPolicy(TokenCredential credential, String... scopes) {
-        Objects.requireNonNull(credential);
+        this(new ScopedTokenCache(Objects.requireNonNull(credential)), scopes);
+    }
+
+    /**
+     * Creates BearerTokenAuthenticationPolicy getting its tokens from a cache shared with other policies.
+     *
+     * @param tokenCache the cache of the tokens of the credential to authenticate the request
+     * @param scopes the scopes of authentication the credential should get token for
+     */
+    public BearerTokenAuthenticationPolicy(ScopedTokenCache tokenCache, String... scopes) {
+        Objects.requireNonNull(tokenCache);
         Objects.requireNonNull(scopes);
         assert scopes.length > 0;
-        this.credential = credential;
-        this.scopes = scopes;
-        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequest().addScopes(scopes)));
+        this.cache = tokenCache.getTokenCache(scopes);
     }
 
     @Override
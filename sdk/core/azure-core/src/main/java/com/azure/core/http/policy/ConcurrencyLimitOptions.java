@@ -0,0 +1,155 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+/**
+ * The configuration of the adaptive concurrency limit of a {@link ConcurrencyLimitPolicy}.
+ *
+ * <p>The limit starts at {@link #getInitialLimit() initialLimit} concurrent requests per host. It grows while requests
+ * succeed without their latency increasing, and is multiplied by the {@link #getBackoffRatio() backoffRatio} when a
+ * request is throttled, fails, or takes more than {@link #getLatencyTolerance() latencyTolerance} times the usual
+ * latency of the host.</p>
+ */
+public class ConcurrencyLimitOptions {
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+
+    /**
+     * Gets the number of concurrent requests allowed to a host before any of its responses has been received.
+     *
+     * @return The initial concurrency limit.
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the number of concurrent requests allowed to a host before any of its responses has been received. The
+     * default value is 20.
+     *
+     * @param initialLimit The initial concurrency limit.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Gets the number of concurrent requests to a host that are always allowed.
+     *
+     * @return The minimum concurrency limit.
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the number of concurrent requests to a host that are always allowed. The default value is 1.
+     *
+     * @param minLimit The minimum concurrency limit.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * Gets the number of concurrent requests to a host that the limit never grows past.
+     *
+     * @return The maximum concurrency limit.
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the number of concurrent requests to a host that the limit never grows past. The default value is 200.
+     *
+     * @param maxLimit The maximum concurrency limit.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Gets the number of requests to a host that can wait for the concurrency limit before further requests are
+     * rejected.
+     *
+     * @return The maximum number of waiting requests.
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Sets the number of requests to a host that can wait for the concurrency limit before further requests are
+     * rejected. The default value is 1000.
+     *
+     * @param maxQueueSize The maximum number of waiting requests. {@code 0} rejects requests right away once the
+     *     limit is reached.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Gets the ratio the concurrency limit is multiplied by when a request to the host is throttled, fails, or is
+     * slow.
+     *
+     * @return The backoff ratio.
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the ratio the concurrency limit is multiplied by when a request to the host is throttled, fails, or is
+     * slow. It must be greater than 0 and less than 1. The default value is 0.9.
+     *
+     * @param backoffRatio The backoff ratio.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Gets how many times the usual latency of a host a request can take before the concurrency limit shrinks.
+     *
+     * @return The latency tolerance.
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * Sets how many times the usual latency of a host a request can take before the concurrency limit shrinks. It must
+     * be at least 1. The default value is 2.
+     *
+     * @param latencyTolerance The latency tolerance.
+     * @return The updated ConcurrencyLimitOptions object.
+     */
+    public ConcurrencyLimitOptions setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+        return this;
+    }
+}
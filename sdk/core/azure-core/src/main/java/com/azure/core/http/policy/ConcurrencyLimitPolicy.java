@@ -0,0 +1,296 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pipeline policy that limits the number of concurrent requests sent to each host, adapting the limit to how the
+ * host responds.
+ *
+ * <p>The limit of a host grows additively, by one every time as many requests as the limit have succeeded, and
+ * shrinks multiplicatively when a request is throttled with a 429 or 503 response, fails, or takes much longer than
+ * the usual latency of the host. It shrinks at most once for the requests that were in flight at the same time, so a
+ * burst of throttled responses only counts once. Requests above the limit wait in a bounded queue, and are rejected
+ * with a {@link RejectedExecutionException} once it is full.</p>
+ *
+ * <p>A request holds its place until its response is received, or it fails or is cancelled; streaming the body of the
+ * response isn't counted. The policy should be added after the {@link RetryPolicy}, so that every try is limited and a
+ * rejected request can be retried.</p>
+ */
+public class ConcurrencyLimitPolicy implements HttpPipelinePolicy {
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+    // Weight of a latency sample in the moving average of the usual latency of a host.
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    // Marks a request that was rejected because the queue is full.
+    private static final Waiter REJECTED = new Waiter(null);
+
+    private final ClientLogger logger = new ClientLogger(ConcurrencyLimitPolicy.class);
+    private final Map<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    /**
+     * Creates a ConcurrencyLimitPolicy with the default {@link ConcurrencyLimitOptions}.
+     */
+    public ConcurrencyLimitPolicy() {
+        this(new ConcurrencyLimitOptions());
+    }
+
+    /**
+     * Creates a ConcurrencyLimitPolicy.
+     *
+     * @param options The configuration of the concurrency limit.
+     * @throws NullPointerException If {@code options} is {@code null}.
+     * @throws IllegalArgumentException If the limits aren't positive and ordered as {@code minLimit <= initialLimit
+     *     <= maxLimit}, {@code maxQueueSize} is negative, {@code backoffRatio} isn't between 0 and 1 exclusive, or
+     *     {@code latencyTolerance} is less than 1.
+     */
+    public ConcurrencyLimitPolicy(ConcurrencyLimitOptions options) {
+        Objects.requireNonNull(options, "'options' cannot be null.");
+        if (options.getMinLimit() < 1 || options.getInitialLimit() < options.getMinLimit()
+            || options.getMaxLimit() < options.getInitialLimit()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit. minLimit: %d, initialLimit: %d, "
+                    + "maxLimit: %d", options.getMinLimit(), options.getInitialLimit(), options.getMaxLimit())));
+        }
+        if (options.getMaxQueueSize() < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxQueueSize' cannot be negative."));
+        }
+        if (!(options.getBackoffRatio() > 0 && options.getBackoffRatio() < 1)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'backoffRatio' must be greater than 0 and less than 1."));
+        }
+        if (!(options.getLatencyTolerance() >= 1)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'latencyTolerance' must be at least 1."));
+        }
+
+        this.initialLimit = options.getInitialLimit();
+        this.minLimit = options.getMinLimit();
+        this.maxLimit = options.getMaxLimit();
+        this.maxQueueSize = options.getMaxQueueSize();
+        this.backoffRatio = options.getBackoffRatio();
+        this.latencyTolerance = options.getLatencyTolerance();
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        final HostLimit hostLimit = hostLimits.computeIfAbsent(getHostKey(context.getHttpRequest().getUrl()),
+            host -> new HostLimit(host));
+
+        return Mono.<Permit>create(hostLimit::acquire)
+            .flatMap(permit -> next.process()
+                .doOnNext(response -> permit.release(isThrottled(response) ? Outcome.DROPPED : Outcome.SUCCEEDED))
+                .doOnError(error -> permit.release(Outcome.DROPPED))
+                .doFinally(signal -> permit.release(Outcome.IGNORED)));
+    }
+
+    /**
+     * Gets the current concurrency limit of a host.
+     *
+     * @param url A URL of the host.
+     * @return The concurrency limit, or {@code -1} if no request has been sent to the host.
+     */
+    int getLimit(URL url) {
+        final HostLimit hostLimit = hostLimits.get(getHostKey(url));
+        return hostLimit == null ? -1 : hostLimit.getLimit();
+    }
+
+    private static String getHostKey(URL url) {
+        return url.getHost().toLowerCase(Locale.ROOT) + ":" + (url.getPort() == -1 ? url.getDefaultPort()
+            : url.getPort());
+    }
+
+    private static boolean isThrottled(HttpResponse response) {
+        final int statusCode = response.getStatusCode();
+        return statusCode == HTTP_TOO_MANY_REQUESTS || statusCode == HTTP_SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * How a request that held a place of the concurrency limit ended.
+     */
+    private enum Outcome {
+        // A response that wasn't throttled was received.
+        SUCCEEDED,
+        // The request was throttled or failed.
+        DROPPED,
+        // The request was cancelled, or its outcome has already been recorded.
+        IGNORED
+    }
+
+    /**
+     * The concurrency limit of a host, and the requests waiting for it.
+     */
+    private final class HostLimit {
+        private final String host;
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private double limit = initialLimit;
+        private int inFlight;
+        // Moving average of the latency of the host, or a negative value until the first response.
+        private double usualLatencyNanos = -1;
+        // Requests started before this time don't shrink the limit again.
+        private long lastDecreaseNanos = System.nanoTime();
+
+        HostLimit(String host) {
+            this.host = host;
+        }
+
+        synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        void acquire(MonoSink<Permit> sink) {
+            final Waiter waiter;
+            final int currentLimit;
+            synchronized (this) {
+                currentLimit = (int) limit;
+                if (waiters.isEmpty() && inFlight < currentLimit) {
+                    inFlight++;
+                    waiter = null;
+                } else if (waiters.size() < maxQueueSize) {
+                    waiter = new Waiter(sink);
+                    waiters.addLast(waiter);
+                } else {
+                    waiter = REJECTED;
+                }
+            }
+
+            if (waiter == REJECTED) {
+                sink.error(logger.logExceptionAsWarning(new RejectedExecutionException(String.format(Locale.US,
+                    "The request to '%s' was rejected, %d requests are already waiting for the concurrency limit of "
+                        + "%d.", host, maxQueueSize, currentLimit))));
+                return;
+            } else if (waiter == null) {
+                sink.success(new Permit(this));
+                return;
+            }
+
+            sink.onCancel(() -> {
+                if (waiter.cancel()) {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else {
+                    // The place was granted while the request was being cancelled.
+                    waiter.permit.release(Outcome.IGNORED);
+                }
+            });
+        }
+
+        void release(Permit permit, Outcome outcome) {
+            final long now = System.nanoTime();
+            final List<Waiter> granted = new ArrayList<>();
+            synchronized (this) {
+                final int inFlightBefore = inFlight--;
+                if (outcome == Outcome.SUCCEEDED) {
+                    final long latencyNanos = now - permit.startNanos;
+                    if (usualLatencyNanos < 0) {
+                        usualLatencyNanos = latencyNanos;
+                    }
+
+                    if (latencyNanos > latencyTolerance * usualLatencyNanos) {
+                        decrease(permit.startNanos, now);
+                    } else if (inFlightBefore * 2 >= (int) limit) {
+                        // Only grows while at least half of the limit is used, otherwise the limit isn't what keeps
+                        // the latency low.
+                        limit = Math.min(maxLimit, limit + 1 / limit);
+                    }
+
+                    usualLatencyNanos += (latencyNanos - usualLatencyNanos) * LATENCY_SMOOTHING;
+                } else if (outcome == Outcome.DROPPED) {
+                    decrease(permit.startNanos, now);
+                }
+
+                while (inFlight < (int) limit && !waiters.isEmpty()) {
+                    final Waiter waiter = waiters.pollFirst();
+                    if (waiter.grant(new Permit(this))) {
+                        inFlight++;
+                        granted.add(waiter);
+                    }
+                }
+            }
+
+            // Completing the sinks subscribes to the rest of the pipeline, so it is done without holding the lock.
+            for (Waiter waiter : granted) {
+                waiter.sink.success(waiter.permit);
+            }
+        }
+
+        private void decrease(long requestStartNanos, long now) {
+            if (requestStartNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        }
+    }
+
+    /**
+     * A request waiting for a place of the concurrency limit.
+     */
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final MonoSink<Permit> sink;
+        private volatile Permit permit;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        boolean grant(Permit permit) {
+            this.permit = permit;
+            return state.compareAndSet(WAITING, GRANTED);
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+
+    /**
+     * A place of the concurrency limit held by a request, which is released once.
+     */
+    private static final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final HostLimit hostLimit;
+        private final long startNanos = System.nanoTime();
+
+        Permit(HostLimit hostLimit) {
+            this.hostLimit = hostLimit;
+        }
+
+        void release(Outcome outcome) {
+            if (!released.getAndSet(true)) {
+                hostLimit.release(this, outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link RetryStrategy} that picks every delay at random between the base delay and three times the previous delay,
+ * up to a maximum delay.
+ *
+ * <p>The delays grow about as fast as with {@link ExponentialBackoff}, but each one depends on the previous delay of
+ * the same request rather than on the number of retries, which spreads the retries of clients that failed at the same
+ * time much further apart.</p>
+ */
+public class DecorrelatedJitterBackoff implements RetryStrategy {
+    private static final int GROWTH_FACTOR = 3;
+
+    private final ClientLogger logger = new ClientLogger(DecorrelatedJitterBackoff.class);
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    /**
+     * Creates a DecorrelatedJitterBackoff.
+     *
+     * @param maxRetries The maximum number of times a request is retried.
+     * @param baseDelay The minimum delay before a retry.
+     * @param maxDelay The maximum delay before a retry.
+     * @throws NullPointerException If {@code baseDelay} or {@code maxDelay} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxRetries} is negative, {@code baseDelay} isn't positive, or
+     *     {@code maxDelay} is less than {@code baseDelay}.
+     */
+    public DecorrelatedJitterBackoff(int maxRetries, Duration baseDelay, Duration maxDelay) {
+        Objects.requireNonNull(baseDelay, "'baseDelay' cannot be null.");
+        Objects.requireNonNull(maxDelay, "'maxDelay' cannot be null.");
+        if (maxRetries < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxRetries' cannot be negative."));
+        }
+        if (baseDelay.isZero() || baseDelay.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'baseDelay' must be positive."));
+        }
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxDelay' cannot be less than 'baseDelay'."));
+        }
+
+        this.maxRetries = maxRetries;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public Duration calculateRetryDelay(int retryAttempts, Duration previousDelay) {
+        final long previousNanos = previousDelay == null
+            ? baseDelayNanos
+            : Math.max(baseDelayNanos, previousDelay.toNanos());
+        final long upperNanos = previousNanos > maxDelayNanos / GROWTH_FACTOR
+            ? maxDelayNanos
+            : previousNanos * GROWTH_FACTOR;
+        if (upperNanos <= baseDelayNanos) {
+            return Duration.ofNanos(baseDelayNanos);
+        }
+
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(baseDelayNanos, upperNanos + 1));
+    }
+}
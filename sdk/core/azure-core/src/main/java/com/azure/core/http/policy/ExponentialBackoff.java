@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link RetryStrategy} that doubles the delay before every retry, up to a maximum delay.
+ *
+ * <p>The delay before retry {@code n} is {@code baseDelay * 2^n}, randomly increased or decreased by up to 20% so that
+ * clients that failed at the same time don't retry at the same time.</p>
+ */
+public class ExponentialBackoff implements RetryStrategy {
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(800);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(8);
+    private static final double JITTER_FACTOR = 0.2;
+    // Past this many retries the delay is always the maximum one, and shifting further would overflow.
+    private static final int MAX_DOUBLINGS = 30;
+
+    private final ClientLogger logger = new ClientLogger(ExponentialBackoff.class);
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    /**
+     * Creates an ExponentialBackoff that retries 3 times, with a base delay of 800 milliseconds and a maximum delay of
+     * 8 seconds.
+     */
+    public ExponentialBackoff() {
+        this(DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Creates an ExponentialBackoff.
+     *
+     * @param maxRetries The maximum number of times a request is retried.
+     * @param baseDelay The delay before the first retry, before jitter is applied.
+     * @param maxDelay The maximum delay before a retry.
+     * @throws NullPointerException If {@code baseDelay} or {@code maxDelay} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxRetries} is negative, {@code baseDelay} isn't positive, or
+     *     {@code maxDelay} is less than {@code baseDelay}.
+     */
+    public ExponentialBackoff(int maxRetries, Duration baseDelay, Duration maxDelay) {
+        Objects.requireNonNull(baseDelay, "'baseDelay' cannot be null.");
+        Objects.requireNonNull(maxDelay, "'maxDelay' cannot be null.");
+        if (maxRetries < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxRetries' cannot be negative."));
+        }
+        if (baseDelay.isZero() || baseDelay.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'baseDelay' must be positive."));
+        }
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxDelay' cannot be less than 'baseDelay'."));
+        }
+
+        this.maxRetries = maxRetries;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public Duration calculateRetryDelay(int retryAttempts, Duration previousDelay) {
+        final double delayNanos = retryAttempts >= MAX_DOUBLINGS
+            ? maxDelayNanos
+            : Math.min(maxDelayNanos, (double) baseDelayNanos * (1L << retryAttempts));
+        final double jitter = ThreadLocalRandom.current().nextDouble(1 - JITTER_FACTOR, 1 + JITTER_FACTOR);
+
+        return Duration.ofNanos((long) Math.min(maxDelayNanos, delayNanos * jitter));
+    }
+}
@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A {@link RetryStrategy} that waits the same delay before every retry.
+ */
+public class FixedDelay implements RetryStrategy {
+    private final ClientLogger logger = new ClientLogger(FixedDelay.class);
+    private final int maxRetries;
+    private final Duration delay;
+
+    /**
+     * Creates a FixedDelay.
+     *
+     * @param maxRetries The maximum number of times a request is retried.
+     * @param delay The delay before every retry.
+     * @throws NullPointerException If {@code delay} is {@code null}.
+     * @throws IllegalArgumentException If {@code maxRetries} or {@code delay} is negative.
+     */
+    public FixedDelay(int maxRetries, Duration delay) {
+        Objects.requireNonNull(delay, "'delay' cannot be null.");
+        if (maxRetries < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxRetries' cannot be negative."));
+        }
+        if (delay.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'delay' cannot be negative."));
+        }
+
+        this.maxRetries = maxRetries;
+        this.delay = delay;
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public Duration calculateRetryDelay(int retryAttempts, Duration previousDelay) {
+        return delay;
+    }
+}
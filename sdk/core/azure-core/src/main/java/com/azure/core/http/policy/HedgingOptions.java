@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.time.Duration;
+
+/**
+ * The configuration of when a {@link HedgingPolicy} sends a second request.
+ *
+ * <p>The second request is sent once the first one has taken longer than the {@link #getPercentile() percentile} of
+ * the recent latencies of the host, but never sooner than the {@link #getMinDelay() minDelay}. Until enough latencies
+ * have been recorded for the host, it is sent after the {@link #getInitialDelay() initialDelay}. Second requests are
+ * sent for at most a {@link #getMaxHedgeRatio() maxHedgeRatio} of the calls.</p>
+ */
+public class HedgingOptions {
+    private static final double DEFAULT_PERCENTILE = 0.95;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+    private double percentile = DEFAULT_PERCENTILE;
+    private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+    private Duration minDelay = DEFAULT_MIN_DELAY;
+    private double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+
+    /**
+     * Gets the percentile of the recent latencies of a host after which a second request is sent.
+     *
+     * @return The percentile, between 0 and 1.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Sets the percentile of the recent latencies of a host after which a second request is sent. It must be greater
+     * than 0 and less than 1. The default value is 0.95, which sends a second request for about one request out of
+     * twenty.
+     *
+     * @param percentile The percentile, between 0 and 1.
+     * @return The updated HedgingOptions object.
+     */
+    public HedgingOptions setPercentile(double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    /**
+     * Gets the delay after which a second request is sent while too few latencies of the host have been recorded.
+     *
+     * @return The initial delay.
+     */
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Sets the delay after which a second request is sent while too few latencies of the host have been recorded. The
+     * default value is 1 second.
+     *
+     * @param initialDelay The initial delay.
+     * @return The updated HedgingOptions object.
+     */
+    public HedgingOptions setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+        return this;
+    }
+
+    /**
+     * Gets the minimum delay before a second request is sent.
+     *
+     * @return The minimum delay.
+     */
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Sets the minimum delay before a second request is sent, so that a host answering very quickly doesn't receive
+     * most requests twice. The default value is 10 milliseconds.
+     *
+     * @param minDelay The minimum delay.
+     * @return The updated HedgingOptions object.
+     */
+    public HedgingOptions setMinDelay(Duration minDelay) {
+        this.minDelay = minDelay;
+        return this;
+    }
+
+    /**
+     * Gets the maximum fraction of calls for which a second request is sent.
+     *
+     * @return The maximum fraction of hedged calls, greater than 0 and at most 1.
+     */
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    /**
+     * Sets the maximum fraction of calls for which a second request is sent, so that a host whose requests all slow
+     * down doesn't receive twice as many of them. It must be greater than 0 and at most 1. The default value is 0.1,
+     * which sends a second request for at most one call out of ten.
+     *
+     * @param maxHedgeRatio The maximum fraction of hedged calls.
+     * @return The updated HedgingOptions object.
+     */
+    public HedgingOptions setMaxHedgeRatio(double maxHedgeRatio) {
+        this.maxHedgeRatio = maxHedgeRatio;
+        return this;
+    }
+}
@@ -0,0 +1,305 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A pipeline policy that sends a second copy of a slow read request, and uses the response of whichever copy
+ * succeeds first.
+ *
+ * <p>Hedging is opt-in per call: it only applies to {@code GET} and {@code HEAD} requests whose {@link
+ * com.azure.core.util.Context Context} has {@link #HEDGING_ENABLED_KEY} set to {@code true}. The second request is
+ * sent once the first one has taken longer than a percentile of the recent latencies of the host, tracked by the
+ * policy, so that only the slowest requests are sent twice. The first successful response is returned and the other
+ * request is cancelled. When a request fails while the other one is in flight, the policy waits for the other one;
+ * when the first request fails before the second one is sent, its failure is returned right away.</p>
+ *
+ * <p>The latency recorded for a call is the time from when its first request was sent until a successful response was
+ * received, whichever request it came from, so a first request that was overtaken by the second one still counts as
+ * slow. A call that is cancelled before any response is received records the time elapsed until then, a lower bound of
+ * its latency. Calls that fail record nothing.</p>
+ *
+ * <p>Second requests are limited to a {@link HedgingOptions#getMaxHedgeRatio() fraction} of the calls hedging
+ * applies to, so a host that slows down for every request doesn't receive twice as many requests. Each call earns
+ * that fraction of a second request, and a second request is only sent when a whole one has been earned. Up to
+ * {@link #MAX_HEDGE_BURST} unused second requests are kept for bursts of slow requests.</p>
+ *
+ * <p>The policy should be added after the {@link RetryPolicy}, so that every try is hedged.</p>
+ */
+public class HedgingPolicy implements HttpPipelinePolicy {
+    /**
+     * The key of the {@link com.azure.core.util.Context Context} data that enables hedging for a call when its value
+     * is {@code true}.
+     */
+    public static final String HEDGING_ENABLED_KEY = "hedging-enabled";
+
+    /**
+     * The maximum number of second requests that can be earned and not yet sent.
+     */
+    public static final int MAX_HEDGE_BURST = 10;
+
+    // The delay of a host is updated every time this many latencies have been recorded, and the initial delay is used
+    // until then.
+    private static final int SAMPLES_PER_UPDATE = 20;
+    // The percentile is computed from the latencies of the current and the previous windows of this many requests.
+    private static final int WINDOW_SIZE = 1000;
+    // Hedge tokens are counted in thousandths of a second request.
+    private static final long TOKEN_SCALE = 1000;
+
+    private final ClientLogger logger = new ClientLogger(HedgingPolicy.class);
+    private final Map<String, LatencyHistogram> hostLatencies = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final long tokensPerCall;
+    // Starts full so that the first slow requests can be hedged.
+    private final AtomicLong hedgeTokens = new AtomicLong(MAX_HEDGE_BURST * TOKEN_SCALE);
+
+    /**
+     * Creates a HedgingPolicy with the default {@link HedgingOptions}.
+     */
+    public HedgingPolicy() {
+        this(new HedgingOptions());
+    }
+
+    /**
+     * Creates a HedgingPolicy.
+     *
+     * @param options The configuration of when a second request is sent.
+     * @throws NullPointerException If {@code options}, its {@code initialDelay} or its {@code minDelay} is
+     *     {@code null}.
+     * @throws IllegalArgumentException If {@code percentile} isn't between 0 and 1 exclusive, {@code maxHedgeRatio}
+     *     isn't greater than 0 and at most 1, or a delay is negative.
+     */
+    public HedgingPolicy(HedgingOptions options) {
+        Objects.requireNonNull(options, "'options' cannot be null.");
+        Objects.requireNonNull(options.getInitialDelay(), "'initialDelay' cannot be null.");
+        Objects.requireNonNull(options.getMinDelay(), "'minDelay' cannot be null.");
+        if (!(options.getPercentile() > 0 && options.getPercentile() < 1)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'percentile' must be greater than 0 and less than 1."));
+        }
+        if (!(options.getMaxHedgeRatio() > 0 && options.getMaxHedgeRatio() <= 1)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxHedgeRatio' must be greater than 0 and at most 1."));
+        }
+        if (options.getInitialDelay().isNegative() || options.getMinDelay().isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("The delays cannot be negative."));
+        }
+
+        this.percentile = options.getPercentile();
+        this.initialDelayNanos = options.getInitialDelay().toNanos();
+        this.minDelayNanos = options.getMinDelay().toNanos();
+        this.tokensPerCall = Math.max(1, Math.round(options.getMaxHedgeRatio() * TOKEN_SCALE));
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        final HttpRequest request = context.getHttpRequest();
+        if (!isHedgingEnabled(context) || !isIdempotent(request.getHttpMethod())) {
+            return next.process();
+        }
+
+        final LatencyHistogram latencies = hostLatencies.computeIfAbsent(getHostKey(request.getUrl()),
+            host -> new LatencyHistogram());
+        final Duration delay = Duration.ofNanos(Math.max(minDelayNanos, latencies.getDelayNanos()));
+        // Copied before the first request goes through the next policies, which may modify it.
+        final HttpPipelineNextPolicy hedgeNext = next.fork(request.copy());
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        return Mono.defer(() -> {
+            earnHedgeTokens();
+            final long startNanos = System.nanoTime();
+            final Mono<Attempt> hedge = Mono.delay(delay)
+                .then(Mono.defer(() -> tryTakeHedgeToken() ? attempt(hedgeNext, inFlight) : Mono.<Attempt>empty()));
+
+            return Flux.merge(attempt(next, inFlight), hedge)
+                .<Attempt>handle((attempt, sink) -> {
+                    if (attempt.isSuccessful() || inFlight.get() == 0) {
+                        sink.next(attempt);
+                    } else {
+                        // The other request may still succeed.
+                        attempt.close();
+                    }
+                })
+                .next()
+                .doOnNext(attempt -> {
+                    if (attempt.isSuccessful()) {
+                        latencies.record(System.nanoTime() - startNanos);
+                    }
+                })
+                // The call's latency is at least the time elapsed until it was cancelled.
+                .doOnCancel(() -> latencies.record(System.nanoTime() - startNanos))
+                .doOnDiscard(Attempt.class, Attempt::close)
+                .flatMap(attempt -> attempt.error == null ? Mono.just(attempt.response) : Mono.error(attempt.error));
+        });
+    }
+
+    private static Mono<Attempt> attempt(HttpPipelineNextPolicy next, AtomicInteger inFlight) {
+        return Mono.defer(() -> {
+            inFlight.incrementAndGet();
+            return next.process()
+                .map(response -> new Attempt(response, null))
+                .onErrorResume(error -> Mono.just(new Attempt(null, error)))
+                .doOnNext(attempt -> inFlight.decrementAndGet());
+        });
+    }
+
+    private void earnHedgeTokens() {
+        hedgeTokens.getAndUpdate(tokens -> Math.min(MAX_HEDGE_BURST * TOKEN_SCALE, tokens + tokensPerCall));
+    }
+
+    private boolean tryTakeHedgeToken() {
+        while (true) {
+            final long tokens = hedgeTokens.get();
+            if (tokens < TOKEN_SCALE) {
+                logger.verbose("Not hedging the request, the hedge budget is spent.");
+                return false;
+            }
+            if (hedgeTokens.compareAndSet(tokens, tokens - TOKEN_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isHedgingEnabled(HttpPipelineCallContext context) {
+        return context.getData(HEDGING_ENABLED_KEY).filter(Boolean.TRUE::equals).isPresent();
+    }
+
+    private static boolean isIdempotent(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD;
+    }
+
+    private static String getHostKey(URL url) {
+        return url.getHost().toLowerCase(Locale.ROOT) + ":" + (url.getPort() == -1 ? url.getDefaultPort()
+            : url.getPort());
+    }
+
+    /**
+     * The outcome of one of the requests, either a response or an error.
+     */
+    private static final class Attempt {
+        private final HttpResponse response;
+        private final Throwable error;
+
+        Attempt(HttpResponse response, Throwable error) {
+            this.response = response;
+            this.error = error;
+        }
+
+        boolean isSuccessful() {
+            if (response == null) {
+                return false;
+            }
+
+            final int statusCode = response.getStatusCode();
+            return statusCode < 500 && statusCode != 408 && statusCode != 429;
+        }
+
+        void close() {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * The recent latencies of a host, counted in microseconds in buckets spanning an eighth of a power of two, which
+     * keeps the percentiles within 12.5% of the recorded latencies.
+     */
+    private final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final AtomicInteger windowCount = new AtomicInteger();
+        private final AtomicLong recordedCount = new AtomicLong();
+        private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+        private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+        private volatile long delayNanos = initialDelayNanos;
+        private volatile long delayUpdatedAt;
+
+        void record(long latencyNanos) {
+            current.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            recordedCount.incrementAndGet();
+            if (windowCount.incrementAndGet() == WINDOW_SIZE) {
+                previous = current;
+                current = new AtomicLongArray(BUCKETS);
+                windowCount.set(0);
+            }
+        }
+
+        long getDelayNanos() {
+            final long recorded = recordedCount.get();
+            if (recorded - delayUpdatedAt >= SAMPLES_PER_UPDATE) {
+                // Concurrent updates compute about the same value, so they don't need to be prevented.
+                delayUpdatedAt = recorded;
+                delayNanos = computePercentileNanos();
+            }
+
+            return delayNanos;
+        }
+
+        private long computePercentileNanos() {
+            final AtomicLongArray currentCounts = current;
+            final AtomicLongArray previousCounts = previous;
+            final long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = currentCounts.get(i) + previousCounts.get(i);
+                total += counts[i];
+            }
+
+            final long target = (long) Math.ceil(percentile * total);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return TimeUnit.MICROSECONDS.toNanos(upperBoundOf(i));
+                }
+            }
+
+            return initialDelayNanos;
+        }
+
+        private int bucketOf(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) Math.max(0, micros);
+            }
+
+            final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+            final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket + 1;
+            }
+
+            final int shift = bucket / SUB_BUCKETS - 1;
+            final long subBucket = bucket % SUB_BUCKETS;
+            return (SUB_BUCKETS + subBucket + 1) << shift;
+        }
+    }
+}
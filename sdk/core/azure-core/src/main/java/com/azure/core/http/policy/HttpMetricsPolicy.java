@@ -0,0 +1,174 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.metrics.DoubleHistogram;
+import com.azure.core.util.metrics.LongCounter;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
+import reactor.core.publisher.Mono;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pipeline policy that records the duration, the request and response sizes, the retries and the number of in flight
+ * requests of every try of a request with a {@link Meter}.
+ *
+ * <p>The values are recorded with the {@code host} and {@code method} of the request and, for calls made through a
+ * service interface, the {@code operation} that sent it. The duration is also recorded with the {@code status_code}
+ * of the response, or the {@code error_type} of the error. The sizes are taken from the {@code Content-Length}
+ * headers, so the bodies sent and received in chunks aren't counted.</p>
+ *
+ * <p>The policy should be added after the {@link RetryPolicy}, so that every try is recorded.</p>
+ */
+public class HttpMetricsPolicy implements HttpPipelinePolicy {
+    /**
+     * Name of the histogram of the duration of the tries of requests, in milliseconds.
+     */
+    public static final String DURATION_METRIC = "az.http.client.duration";
+
+    /**
+     * Name of the histogram of the size of the request bodies, in bytes.
+     */
+    public static final String REQUEST_SIZE_METRIC = "az.http.client.request.size";
+
+    /**
+     * Name of the histogram of the size of the response bodies, in bytes.
+     */
+    public static final String RESPONSE_SIZE_METRIC = "az.http.client.response.size";
+
+    /**
+     * Name of the counter of the retries of requests.
+     */
+    public static final String RETRIES_METRIC = "az.http.client.retries";
+
+    /**
+     * Name of the up-down counter of the requests in flight.
+     */
+    public static final String IN_FLIGHT_METRIC = "az.http.client.in_flight";
+
+    private static final String CALLER_METHOD_KEY = "caller-method";
+    // Context data holding the number of tries of the request so far.
+    private static final String TRY_COUNT_KEY = "metrics-try-count";
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private static final String HOST_ATTRIBUTE = "host";
+    private static final String METHOD_ATTRIBUTE = "method";
+    private static final String OPERATION_ATTRIBUTE = "operation";
+    private static final String STATUS_CODE_ATTRIBUTE = "status_code";
+    private static final String ERROR_TYPE_ATTRIBUTE = "error_type";
+
+    private final boolean enabled;
+    private final DoubleHistogram duration;
+    private final DoubleHistogram requestSize;
+    private final DoubleHistogram responseSize;
+    private final LongCounter retries;
+    private final LongCounter inFlight;
+
+    /**
+     * Creates a HttpMetricsPolicy recording with the {@link Meter} plugged into the SDK.
+     */
+    public HttpMetricsPolicy() {
+        this(MeterProxy.getMeter());
+    }
+
+    /**
+     * Creates a HttpMetricsPolicy.
+     *
+     * @param meter The meter to record the metrics with.
+     * @throws NullPointerException If {@code meter} is {@code null}.
+     */
+    public HttpMetricsPolicy(Meter meter) {
+        Objects.requireNonNull(meter, "'meter' cannot be null.");
+        this.enabled = meter.isEnabled();
+        this.duration = meter.createDoubleHistogram(DURATION_METRIC, "Duration of HTTP requests", "ms");
+        this.requestSize = meter.createDoubleHistogram(REQUEST_SIZE_METRIC, "Size of HTTP request bodies", "bytes");
+        this.responseSize = meter.createDoubleHistogram(RESPONSE_SIZE_METRIC, "Size of HTTP response bodies",
+            "bytes");
+        this.retries = meter.createLongCounter(RETRIES_METRIC, "Number of HTTP request retries", "{retry}");
+        this.inFlight = meter.createLongUpDownCounter(IN_FLIGHT_METRIC, "Number of HTTP requests in flight",
+            "{request}");
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        if (!enabled) {
+            return next.process();
+        }
+
+        final HttpRequest request = context.getHttpRequest();
+        final Map<String, String> attributes = getAttributes(context, request);
+
+        final int tryCount = (Integer) context.getData(TRY_COUNT_KEY).orElse(0) + 1;
+        context.setData(TRY_COUNT_KEY, tryCount);
+        if (tryCount > 1) {
+            retries.add(1, attributes);
+        }
+
+        final long contentLength = getContentLength(request.getHeaders().getValue(CONTENT_LENGTH));
+        if (contentLength >= 0) {
+            requestSize.record(contentLength, attributes);
+        }
+
+        return Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+            inFlight.add(1, attributes);
+            return next.process()
+                .doOnSuccess(response -> {
+                    if (response != null) {
+                        recordDuration(startNanos, attributes, STATUS_CODE_ATTRIBUTE,
+                            Integer.toString(response.getStatusCode()));
+
+                        final long responseLength = getContentLength(response.getHeaderValue(CONTENT_LENGTH));
+                        if (responseLength >= 0) {
+                            responseSize.record(responseLength, attributes);
+                        }
+                    }
+                })
+                .doOnError(error -> recordDuration(startNanos, attributes, ERROR_TYPE_ATTRIBUTE,
+                    error.getClass().getName()))
+                .doFinally(signal -> inFlight.add(-1, attributes));
+        });
+    }
+
+    private void recordDuration(long startNanos, Map<String, String> attributes, String outcomeAttribute,
+        String outcome) {
+        final Map<String, String> outcomeAttributes = new HashMap<>(attributes);
+        outcomeAttributes.put(outcomeAttribute, outcome);
+        duration.record((System.nanoTime() - startNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1),
+            outcomeAttributes);
+    }
+
+    private static Map<String, String> getAttributes(HttpPipelineCallContext context, HttpRequest request) {
+        final URL url = request.getUrl();
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put(HOST_ATTRIBUTE, url.getHost().toLowerCase(Locale.ROOT));
+        attributes.put(METHOD_ATTRIBUTE, request.getHttpMethod().toString());
+        context.getData(CALLER_METHOD_KEY).ifPresent(operation ->
+            attributes.put(OPERATION_ATTRIBUTE, operation.toString()));
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    private static long getContentLength(String contentLength) {
+        if (contentLength == null || contentLength.isEmpty()) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that caps the retries of one or more {@link RetryPolicy RetryPolicies} at a percentage of the
+ * requests that complete without needing a retry.
+ *
+ * <p>Every request that succeeds on its first try deposits {@code retryRatio} of a token, and every retry
+ * withdraws a whole token. When the bucket is empty, failed requests aren't retried, so an outage doesn't multiply the
+ * load on the service by the number of retries. The bucket starts full, and holds at most {@code maxTokens} tokens,
+ * which is the number of retries allowed in a burst.</p>
+ *
+ * <p>A RetryBudget is thread-safe. Passing the same instance to the retry policies of several pipelines shares it
+ * between them.</p>
+ */
+public final class RetryBudget {
+    // Tokens are counted in thousandths, so fractional deposits don't need a lock.
+    private static final long TOKEN = 1000;
+    private static final double DEFAULT_RETRY_RATIO = 0.1;
+    private static final int DEFAULT_MAX_TOKENS = 100;
+
+    private final ClientLogger logger = new ClientLogger(RetryBudget.class);
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a RetryBudget that allows retries for 10% of the requests, and bursts of 100 retries.
+     */
+    public RetryBudget() {
+        this(DEFAULT_RETRY_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * Creates a RetryBudget.
+     *
+     * @param retryRatio The number of retries allowed for every request that succeeds, for example {@code 0.1} to
+     *     allow one retry for every 10 successful requests.
+     * @param maxTokens The maximum number of retries allowed in a burst.
+     * @throws IllegalArgumentException If {@code retryRatio} isn't greater than 0 and at most 1, or {@code maxTokens}
+     *     isn't positive.
+     */
+    public RetryBudget(double retryRatio, int maxTokens) {
+        if (!(retryRatio > 0 && retryRatio <= 1)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'retryRatio' must be greater than 0 and at most 1."));
+        }
+        if (maxTokens < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxTokens' must be positive."));
+        }
+
+        this.deposit = Math.max(1, Math.round(retryRatio * TOKEN));
+        this.capacity = maxTokens * TOKEN;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Gets the number of retries the budget currently allows.
+     *
+     * @return The number of whole tokens in the bucket.
+     */
+    public int getAvailableRetries() {
+        return (int) (balance.get() / TOKEN);
+    }
+
+    /**
+     * Records a request that completed without needing a retry.
+     */
+    void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Withdraws a token for a retry.
+     *
+     * @return Whether the retry is allowed.
+     */
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+
+        return true;
+    }
+}
@@ -12,24 +12,29 @@ import reactor.core.publisher.Mono;
 import java.net.HttpURLConnection;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * A pipeline policy that retries when a recoverable HTTP error occurs.
+ *
+ * <p>The {@link RetryStrategy} decides how many times a request is retried and how long to wait before each retry,
+ * unless a throttled response tells how long to wait with a {@code retry-after-ms} header. An optional
+ * {@link RetryBudget} caps the retries at a percentage of the requests that complete without needing a retry.</p>
  */
 public class RetryPolicy implements HttpPipelinePolicy {
     private static final int DEFAULT_MAX_RETRIES = 3;
     private static final int DEFAULT_DELAY = 0;
     private static final ChronoUnit DEFAULT_TIME_UNIT = ChronoUnit.MILLIS;
     private static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
-    private final int maxRetries;
-    private final Duration delayDuration;
+    private final RetryStrategy retryStrategy;
+    private final RetryBudget retryBudget;
 
     /**
      * Creates a RetryPolicy with the default number of retry attempts and delay between retries.
      */
     public RetryPolicy() {
-        this.maxRetries = DEFAULT_MAX_RETRIES;
-        this.delayDuration = Duration.of(DEFAULT_DELAY, DEFAULT_TIME_UNIT);
+        this(DEFAULT_MAX_RETRIES, Duration.of(DEFAULT_DELAY, DEFAULT_TIME_UNIT));
     }
 
     /**
@@ -39,66 +44,105 @@ public class RetryPolicy implements HttpPipelinePolicy {
      * @param delayDuration the delay between retries
      */
     public RetryPolicy(int maxRetries, Duration delayDuration) {
-        this.maxRetries = maxRetries;
-        this.delayDuration = delayDuration;
+        this(new FixedDelay(maxRetries, delayDuration));
+    }
+
+    /**
+     * Creates a RetryPolicy.
+     *
+     * @param retryStrategy the strategy deciding the number of retries and the delay before each of them.
+     * @throws NullPointerException If {@code retryStrategy} is {@code null}.
+     */
+    public RetryPolicy(RetryStrategy retryStrategy) {
+        this(retryStrategy, null);
+    }
+
+    /**
+     * Creates a RetryPolicy.
+     *
+     * @param retryStrategy the strategy deciding the number of retries and the delay before each of them.
+     * @param retryBudget the budget the retries are withdrawn from, or {@code null} to not limit them.
+     * @throws NullPointerException If {@code retryStrategy} is {@code null}.
+     */
+    public RetryPolicy(RetryStrategy retryStrategy, RetryBudget retryBudget) {
+        this.retryStrategy = Objects.requireNonNull(retryStrategy, "'retryStrategy' cannot be null.");
+        this.retryBudget = retryBudget;
     }
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
-        return attemptAsync(context, next, context.getHttpRequest(), 0);
+        return attemptAsync(context, next, context.getHttpRequest(), 0, null);
     }
 
     private Mono<HttpResponse> attemptAsync(final HttpPipelineCallContext context, final HttpPipelineNextPolicy next,
-                                            final HttpRequest originalHttpRequest, final int tryCount) {
+                                            final HttpRequest originalHttpRequest, final int tryCount,
+                                            final Duration previousDelay) {
         context.setHttpRequest(originalHttpRequest.copy());
+        // The outcome of this try is mapped to the Mono that completes the request before subscribing to it, so the
+        // errors of later tries aren't handled again as errors of this one.
         return next.clone().process()
-            .flatMap(httpResponse -> {
-                if (shouldRetry(httpResponse, tryCount)) {
-                    return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
-                        .delaySubscription(determineDelayDuration(httpResponse));
+            .map(httpResponse -> {
+                if (!isRetriable(httpResponse)) {
+                    // Only first tries that succeed refill the budget, so failures and retries can't earn retries.
+                    if (retryBudget != null && tryCount == 0
+                        && httpResponse.getStatusCode() < HttpURLConnection.HTTP_BAD_REQUEST) {
+                        retryBudget.deposit();
+                    }
+                    return Mono.just(httpResponse);
+                } else if (tryCount < retryStrategy.getMaxRetries() && tryWithdraw()) {
+                    final Duration delay = determineDelayDuration(httpResponse, tryCount, previousDelay);
+                    return attemptAsync(context, next, originalHttpRequest, tryCount + 1, delay)
+                        .delaySubscription(delay);
                 } else {
                     return Mono.just(httpResponse);
                 }
             })
             .onErrorResume(err -> {
-                if (tryCount < maxRetries) {
-                    return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
-                        .delaySubscription(this.delayDuration);
+                if (tryCount < retryStrategy.getMaxRetries() && tryWithdraw()) {
+                    final Duration delay = retryStrategy.calculateRetryDelay(tryCount, previousDelay);
+                    return Mono.just(attemptAsync(context, next, originalHttpRequest, tryCount + 1, delay)
+                        .delaySubscription(delay));
                 } else {
                     return Mono.error(err);
                 }
-            });
+            })
+            .flatMap(Function.identity());
+    }
+
+    private boolean tryWithdraw() {
+        return retryBudget == null || retryBudget.tryWithdraw();
     }
 
-    private boolean shouldRetry(HttpResponse response, int tryCount) {
+    private static boolean isRetriable(HttpResponse response) {
         int code = response.getStatusCode();
-        return tryCount < maxRetries
-            && (code == HttpURLConnection.HTTP_CLIENT_TIMEOUT
+        return code == HttpURLConnection.HTTP_CLIENT_TIMEOUT
             || (code >= HttpURLConnection.HTTP_INTERNAL_ERROR
             && code != HttpURLConnection.HTTP_NOT_IMPLEMENTED
-            && code != HttpURLConnection.HTTP_VERSION));
+            && code != HttpURLConnection.HTTP_VERSION);
     }
 
     /**
      * Determines the delay duration that should be waited before retrying.
      * @param response HTTP response
+     * @param tryCount the number of retries so far
+     * @param previousDelay the delay before the previous retry, or null before the first retry
      * @return If the HTTP response has a retry-after-ms header that will be returned,
-     *     otherwise the duration used during the construction of the policy.
+     *     otherwise the delay calculated by the retry strategy.
      */
-    private Duration determineDelayDuration(HttpResponse response) {
+    private Duration determineDelayDuration(HttpResponse response, int tryCount, Duration previousDelay) {
         int code = response.getStatusCode();
 
         // Response will not have a retry-after-ms header.
         if (code != 429        // too many requests
             && code != 503) {  // service unavailable
-            return this.delayDuration;
+            return retryStrategy.calculateRetryDelay(tryCount, previousDelay);
         }
 
         String retryHeader = response.getHeaderValue(RETRY_AFTER_MS_HEADER);
 
-        // Retry header is missing or empty, return the default delay duration.
+        // Retry header is missing or empty, return the delay calculated by the retry strategy.
         if (retryHeader == null || retryHeader.isEmpty()) {
-            return this.delayDuration;
+            return retryStrategy.calculateRetryDelay(tryCount, previousDelay);
         }
 
         // Use the response delay duration, the server returned it for a reason.
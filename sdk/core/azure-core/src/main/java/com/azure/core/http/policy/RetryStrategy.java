@@ -0,0 +1,33 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.time.Duration;
+
+/**
+ * The strategy a {@link RetryPolicy} uses to decide how many times a request is retried and how long it waits before
+ * each retry.
+ *
+ * @see FixedDelay
+ * @see ExponentialBackoff
+ * @see DecorrelatedJitterBackoff
+ */
+public interface RetryStrategy {
+    /**
+     * Gets the maximum number of times a request is retried.
+     *
+     * @return The maximum number of retries.
+     */
+    int getMaxRetries();
+
+    /**
+     * Calculates the delay before the next retry of a request.
+     *
+     * @param retryAttempts The number of times the request has been retried so far, starting at {@code 0} for the
+     *     first retry.
+     * @param previousDelay The delay before the previous retry of the request, or {@code null} for the first retry.
+     * @return The delay before the next retry.
+     */
+    Duration calculateRetryDelay(int retryAttempts, Duration previousDelay);
+}
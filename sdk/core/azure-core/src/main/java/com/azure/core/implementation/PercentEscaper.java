@@ -3,10 +3,6 @@
 
 package com.azure.core.implementation;
 
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * An escaper that escapes URL data through percent encoding.
  */
@@ -49,7 +45,8 @@ final class PercentEscaper {
 
     private final boolean usePlusForSpace;
 
-    private final List<Character> safeChars = new ArrayList<>();
+    // Lookup table of the ASCII characters that are not escaped.
+    private final boolean[] safeChars = new boolean[128];
 
     /**
      * Creates a percent escaper.
@@ -57,8 +54,21 @@ final class PercentEscaper {
      * @param usePlusForSpace escape ' ' as '+' if true, "%20" otherwise
      */
     PercentEscaper(String safeChars, boolean usePlusForSpace) {
+        for (char c = 'a'; c <= 'z'; c++) {
+            this.safeChars[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            this.safeChars[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            this.safeChars[c] = true;
+        }
         for (int i = 0; i != safeChars.length(); i++) {
-            this.safeChars.add(safeChars.charAt(i));
+            final char c = safeChars.charAt(i);
+            // ' ' is always escaped, either as '+' or as "%20".
+            if (c < this.safeChars.length && c != ' ') {
+                this.safeChars[c] = true;
+            }
         }
         this.usePlusForSpace = usePlusForSpace;
     }
@@ -76,19 +86,20 @@ final class PercentEscaper {
      * @return the escaped string
      */
     public String escape(String original) {
-        StringBuilder output = new StringBuilder();
-        for (int i = 0; i != utf16ToAscii(original).length(); i++) {
-            char c = original.charAt(i);
-            if (c == ' ') {
-                output.append(usePlusForSpace ? "+" : HEX[' ']);
-            } else if (c >= 'a' && c <= 'z') {
-                output.append(c);
-            } else if (c >= 'A' && c <= 'Z') {
-                output.append(c);
-            } else if (c >= '0' && c <= '9') {
-                output.append(c);
-            } else if (safeChars.contains(c)) {
+        // Most values, such as names and identifiers, have nothing to escape.
+        final int firstUnsafe = indexOfUnsafe(original);
+        if (firstUnsafe == original.length()) {
+            return original;
+        }
+
+        final StringBuilder output = new StringBuilder(original.length() + 16);
+        output.append(original, 0, firstUnsafe);
+        for (int i = firstUnsafe; i < original.length(); i++) {
+            final char c = original.charAt(i);
+            if (isSafe(c)) {
                 output.append(c);
+            } else if (c == ' ') {
+                output.append(usePlusForSpace ? "+" : HEX[' ']);
             } else {
                 output.append(HEX[c]);
             }
@@ -96,11 +107,16 @@ final class PercentEscaper {
         return output.toString();
     }
 
-    private String utf16ToAscii(String input) {
-        byte[] ascii = new byte[input.length()];
-        for (int i = 0; i < input.length(); i++) {
-            ascii[i] = (byte) input.charAt(i);
+    private int indexOfUnsafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isSafe(value.charAt(i))) {
+                return i;
+            }
         }
-        return new String(ascii, StandardCharsets.UTF_8);
+        return value.length();
+    }
+
+    private boolean isSafe(char c) {
+        return c < safeChars.length && safeChars[c];
     }
 }
@@ -24,7 +24,6 @@ import com.azure.core.http.rest.ResponseBase;
 import com.azure.core.exception.UnexpectedLengthException;
 import com.azure.core.implementation.http.ContentType;
 import com.azure.core.implementation.http.PagedResponseBase;
-import com.azure.core.implementation.http.UrlBuilder;
 import com.azure.core.implementation.serializer.HttpResponseDecoder;
 import com.azure.core.implementation.serializer.HttpResponseDecoder.HttpDecodedResponse;
 import com.azure.core.implementation.serializer.SerializerAdapter;
@@ -32,6 +31,7 @@ import com.azure.core.implementation.serializer.SerializerEncoding;
 import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
 import com.azure.core.util.Base64Url;
 import com.azure.core.util.tracing.TracerProxy;
+import com.azure.core.implementation.util.FileSegmentFlux;
 import com.azure.core.implementation.util.FluxUtil;
 import com.azure.core.implementation.util.ImplUtils;
 import com.azure.core.implementation.util.TypeUtil;
@@ -53,6 +53,8 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -64,6 +66,15 @@ import java.util.function.Supplier;
  * deserialized Java object.
  */
 public class RestProxy implements InvocationHandler {
+    /**
+     * Suffix of the names of the Swagger interface implementations generated by
+     * {@link com.azure.core.implementation.processor.ServiceInterfaceProcessor}.
+     */
+    public static final String GENERATED_IMPLEMENTATION_SUFFIX = "RestProxy";
+
+    // Swagger interfaces without a generated implementation, so the class loader isn't asked for it on every create.
+    private static final Set<Class<?>> INTERFACES_WITHOUT_GENERATED_IMPLEMENTATION = ConcurrentHashMap.newKeySet();
+
     private final ClientLogger logger = new ClientLogger(RestProxy.class);
     private final HttpPipeline httpPipeline;
     private final SerializerAdapter serializer;
@@ -171,6 +182,12 @@ public class RestProxy implements InvocationHandler {
             return Flux.empty();
         }
 
+        // The length of a file segment is known, keeping it lets the HTTP client send it directly from the file.
+        if (bbFlux instanceof FileSegmentFlux && String.valueOf(((FileSegmentFlux) bbFlux).getLength())
+            .equals(request.getHeaders().getValue("Content-Length"))) {
+            return bbFlux;
+        }
+
         return Flux.defer(() -> {
             Long expectedLength = Long.valueOf(request.getHeaders().getValue("Content-Length"));
             final long[] currentTotalLength = new long[1];
@@ -226,41 +243,7 @@ public class RestProxy implements InvocationHandler {
      * @throws IOException thrown if the body contents cannot be serialized
      */
     private HttpRequest createHttpRequest(SwaggerMethodParser methodParser, Object[] args) throws IOException {
-        UrlBuilder urlBuilder;
-
-        // Sometimes people pass in a full URL for the value of their PathParam annotated argument.
-        // This definitely happens in paging scenarios. In that case, just use the full URL and
-        // ignore the Host annotation.
-        final String path = methodParser.setPath(args);
-        final UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
-        if (pathUrlBuilder.getScheme() != null) {
-            urlBuilder = pathUrlBuilder;
-        } else {
-            urlBuilder = new UrlBuilder();
-
-            final String scheme = methodParser.setScheme(args);
-            urlBuilder.setScheme(scheme);
-
-            final String host = methodParser.setHost(args);
-            urlBuilder.setHost(host);
-
-            // Set the path after host, concatenating the path
-            // segment in the host.
-            if (path != null && !path.isEmpty() && !path.equals("/")) {
-                String hostPath = urlBuilder.getPath();
-                if (hostPath == null || hostPath.isEmpty() || hostPath.equals("/")) {
-                    urlBuilder.setPath(path);
-                } else {
-                    urlBuilder.setPath(hostPath + "/" + path);
-                }
-            }
-        }
-
-        for (final EncodedParameter queryParameter : methodParser.setEncodedQueryParameters(args)) {
-            urlBuilder.setQueryParameter(queryParameter.getName(), queryParameter.getEncodedValue());
-        }
-
-        final URL url = urlBuilder.toURL();
+        final URL url = methodParser.setUrl(args);
         final HttpRequest request = configRequest(new HttpRequest(methodParser.getHttpMethod(), url),
             methodParser, args);
 
@@ -708,7 +691,69 @@ public class RestProxy implements InvocationHandler {
     public static <A> A create(Class<A> swaggerInterface, HttpPipeline httpPipeline, SerializerAdapter serializer) {
         final SwaggerInterfaceParser interfaceParser = new SwaggerInterfaceParser(swaggerInterface, serializer);
         final RestProxy restProxy = new RestProxy(httpPipeline, serializer, interfaceParser);
+
+        final A implementation = restProxy.createGeneratedImplementation(swaggerInterface);
+        if (implementation != null) {
+            return implementation;
+        }
+
         return (A) Proxy.newProxyInstance(swaggerInterface.getClassLoader(), new Class<?>[]{swaggerInterface},
             restProxy);
     }
+
+    /**
+     * Get the fully qualified name of the implementation that
+     * {@link com.azure.core.implementation.processor.ServiceInterfaceProcessor} generates for the provided Swagger
+     * interface.
+     *
+     * @param swaggerInterface the Swagger interface
+     * @return the name of the generated implementation, such as {@code com.example.Outer_FooServiceRestProxy} for
+     *     {@code com.example.Outer.FooService}
+     */
+    static String getGeneratedImplementationName(Class<?> swaggerInterface) {
+        final String name = swaggerInterface.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        return name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_')
+            + GENERATED_IMPLEMENTATION_SUFFIX;
+    }
+
+    /**
+     * Create an instance of the implementation generated for the provided Swagger interface at build time, whose
+     * methods invoke this RestProxy directly.
+     *
+     * @param swaggerInterface the Swagger interface
+     * @param <A> the type of the Swagger interface
+     * @return the generated implementation, or {@code null} if the interface doesn't have one or it can't be created,
+     *     in which case a {@link Proxy} implements the interface instead
+     */
+    private <A> A createGeneratedImplementation(Class<A> swaggerInterface) {
+        if (INTERFACES_WITHOUT_GENERATED_IMPLEMENTATION.contains(swaggerInterface)) {
+            return null;
+        }
+
+        final Class<?> implementationClass;
+        try {
+            implementationClass = Class.forName(getGeneratedImplementationName(swaggerInterface), true,
+                swaggerInterface.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            INTERFACES_WITHOUT_GENERATED_IMPLEMENTATION.add(swaggerInterface);
+            return null;
+        }
+
+        if (!swaggerInterface.isAssignableFrom(implementationClass)) {
+            INTERFACES_WITHOUT_GENERATED_IMPLEMENTATION.add(swaggerInterface);
+            return null;
+        }
+
+        try {
+            final Constructor<?> constructor = implementationClass.getDeclaredConstructor(RestProxy.class);
+            constructor.setAccessible(true);
+            return swaggerInterface.cast(constructor.newInstance(this));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The package of the implementation might not be open to this module.
+            logger.warning("Unable to create the generated implementation of {}, using a proxy instead. {}",
+                swaggerInterface.getName(), e.getMessage());
+            return null;
+        }
+    }
 }
@@ -10,8 +10,8 @@ import com.azure.core.implementation.serializer.SerializerAdapter;
 import com.azure.core.implementation.util.ImplUtils;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type responsible for creating individual Swagger interface method parsers from a Swagger
@@ -20,7 +20,7 @@ import java.util.Map;
 public class SwaggerInterfaceParser {
     private final String host;
     private final String serviceName;
-    private final Map<Method, SwaggerMethodParser> methodParsers = new HashMap<>();
+    private final Map<Method, SwaggerMethodParser> methodParsers = new ConcurrentHashMap<>();
 
     /**
      * Create a SwaggerInterfaceParser object with the provided fully qualified interface
@@ -67,12 +67,7 @@ public class SwaggerInterfaceParser {
      * @return the SwaggerMethodParser associated with the provided swaggerMethod
      */
     public SwaggerMethodParser getMethodParser(Method swaggerMethod) {
-        SwaggerMethodParser result = methodParsers.get(swaggerMethod);
-        if (result == null) {
-            result = new SwaggerMethodParser(swaggerMethod, getHost());
-            methodParsers.put(swaggerMethod, result);
-        }
-        return result;
+        return methodParsers.computeIfAbsent(swaggerMethod, method -> new SwaggerMethodParser(method, getHost()));
     }
 
     /**
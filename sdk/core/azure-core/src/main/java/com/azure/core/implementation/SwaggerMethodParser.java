@@ -30,6 +30,7 @@ import com.azure.core.http.rest.Page;
 import com.azure.core.http.rest.Response;
 import com.azure.core.implementation.exception.MissingRequiredAnnotationException;
 import com.azure.core.implementation.http.ContentType;
+import com.azure.core.implementation.http.UrlBuilder;
 import com.azure.core.implementation.serializer.HttpResponseDecodeData;
 import com.azure.core.implementation.serializer.SerializerAdapter;
 import com.azure.core.implementation.util.ImplUtils;
@@ -41,11 +42,14 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -63,6 +67,10 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
     private final List<Substitution> querySubstitutions = new ArrayList<>();
     private final List<Substitution> formSubstitutions = new ArrayList<>();
     private final List<Substitution> headerSubstitutions = new ArrayList<>();
+    private final UrlTemplate hostTemplate;
+    private final UrlTemplate pathTemplate;
+    private final boolean hasDistinctQueryParameterNames;
+    private final Function<Object, String> argumentSerializer = this::serialize;
     private final HttpHeaders headers = new HttpHeaders();
     private Integer bodyContentMethodParameterIndex;
     private String bodyContentType;
@@ -187,6 +195,13 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
                 }
             }
         }
+
+        hostTemplate = new UrlTemplate(rawHost, hostSubstitutions, UrlEscapers.PATH_ESCAPER);
+        pathTemplate = new UrlTemplate(relativePath, pathSubstitutions, UrlEscapers.PATH_ESCAPER);
+        hasDistinctQueryParameterNames = querySubstitutions.stream()
+            .map(Substitution::getUrlParameterName)
+            .distinct()
+            .count() == querySubstitutions.size();
     }
 
     /**
@@ -226,8 +241,7 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method.
      */
     public String setScheme(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
+        final String substitutedHost = hostTemplate.expand(swaggerMethodArguments, argumentSerializer);
         final String[] substitutedHostParts = substitutedHost.split("://");
         return substitutedHostParts.length < 1 ? null : substitutedHostParts[0];
     }
@@ -239,8 +253,7 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method
      */
     public String setHost(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
+        final String substitutedHost = hostTemplate.expand(swaggerMethodArguments, argumentSerializer);
         final String[] substitutedHostParts = substitutedHost.split("://");
         return substitutedHostParts.length < 2 ? substitutedHost : substitutedHost.split("://")[1];
     }
@@ -252,7 +265,145 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the path value with its placeholders replaced by the matching substitutions
      */
     public String setPath(Object[] methodArguments) {
-        return applySubstitutions(relativePath, pathSubstitutions, methodArguments, UrlEscapers.PATH_ESCAPER);
+        return pathTemplate.expand(methodArguments, argumentSerializer);
+    }
+
+    /**
+     * Get the URL of the Swagger method's request, with the scheme and host, the path, and the query parameters set
+     * from the provided method arguments.
+     *
+     * If the path is a full URL, as happens with paging links, it is used instead of the host.
+     *
+     * @param swaggerMethodArguments the arguments to use for host, path, and query substitutions
+     * @return the URL of the Swagger method's request
+     * @throws MalformedURLException if the URL is not valid
+     */
+    public URL setUrl(Object[] swaggerMethodArguments) throws MalformedURLException {
+        final String path = setPath(swaggerMethodArguments);
+        final String substitutedHost = hostTemplate.expand(swaggerMethodArguments, argumentSerializer);
+
+        // The common case of a host made of a scheme and a host name, a path without a query, and query parameters
+        // with different names is appended as is. Anything else is composed by UrlBuilder.
+        final int schemeEnd = substitutedHost == null ? -1 : substitutedHost.indexOf("://");
+        if (schemeEnd <= 0
+            || !hasDistinctQueryParameterNames
+            || hasScheme(path)
+            || path.indexOf('?') >= 0
+            || !isSchemeName(substitutedHost, schemeEnd)
+            || !isHostName(substitutedHost, schemeEnd + 3)) {
+            return createUrlBuilder(path, swaggerMethodArguments).toURL();
+        }
+
+        final StringBuilder url = new StringBuilder(substitutedHost.length() + path.length() + 64);
+        url.append(substitutedHost);
+        if (!path.isEmpty() && !path.equals("/")) {
+            if (path.charAt(0) != '/') {
+                url.append('/');
+            }
+            url.append(path);
+        }
+
+        char separator = '?';
+        for (Substitution substitution : swaggerMethodArguments == null
+            ? Collections.<Substitution>emptyList()
+            : querySubstitutions) {
+            final int parameterIndex = substitution.getMethodParameterIndex();
+            if (0 <= parameterIndex && parameterIndex < swaggerMethodArguments.length) {
+                final String parameterValue = serialize(swaggerMethodArguments[parameterIndex]);
+                if (parameterValue != null) {
+                    url.append(separator)
+                        .append(substitution.getUrlParameterName())
+                        .append('=')
+                        .append(substitution.shouldEncode()
+                            ? UrlEscapers.QUERY_ESCAPER.escape(parameterValue)
+                            : parameterValue);
+                    separator = '&';
+                }
+            }
+        }
+
+        return new URL(url.toString());
+    }
+
+    private UrlBuilder createUrlBuilder(String path, Object[] swaggerMethodArguments) {
+        UrlBuilder urlBuilder;
+
+        // Sometimes people pass in a full URL for the value of their PathParam annotated argument.
+        // This definitely happens in paging scenarios. In that case, just use the full URL and
+        // ignore the Host annotation.
+        final UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
+        if (pathUrlBuilder.getScheme() != null) {
+            urlBuilder = pathUrlBuilder;
+        } else {
+            urlBuilder = new UrlBuilder();
+
+            final String scheme = setScheme(swaggerMethodArguments);
+            urlBuilder.setScheme(scheme);
+
+            final String host = setHost(swaggerMethodArguments);
+            urlBuilder.setHost(host);
+
+            // Set the path after host, concatenating the path
+            // segment in the host.
+            if (path != null && !path.isEmpty() && !path.equals("/")) {
+                String hostPath = urlBuilder.getPath();
+                if (hostPath == null || hostPath.isEmpty() || hostPath.equals("/")) {
+                    urlBuilder.setPath(path);
+                } else {
+                    urlBuilder.setPath(hostPath + "/" + path);
+                }
+            }
+        }
+
+        for (final EncodedParameter queryParameter : setEncodedQueryParameters(swaggerMethodArguments)) {
+            urlBuilder.setQueryParameter(queryParameter.getName(), queryParameter.getEncodedValue());
+        }
+
+        return urlBuilder;
+    }
+
+    /*
+     * Whether UrlBuilder would parse a scheme out of the value: the first of ':', '/', and '?' starts "://".
+     */
+    private static boolean hasScheme(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ':') {
+                return i > 0 && value.startsWith("://", i);
+            } else if (c == '/' || c == '?') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Whether the value, up to the given index, is made of letters and digits only.
+     */
+    private static boolean isSchemeName(String value, int endIndex) {
+        for (int i = 0; i < endIndex; i++) {
+            if (!Character.isLetterOrDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Whether the value, from the given index, is a host name without a port, path, or query.
+     */
+    private static boolean isHostName(String value, int fromIndex) {
+        if (fromIndex >= value.length()) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ':' || c == '/' || c == '?') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -538,35 +689,6 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
         return result;
     }
 
-    private String applySubstitutions(String originalValue, Iterable<Substitution> substitutions,
-                                      Object[] methodArguments, PercentEscaper escaper) {
-        String result = originalValue;
-
-        if (methodArguments != null) {
-            for (Substitution substitution : substitutions) {
-                final int substitutionParameterIndex = substitution.getMethodParameterIndex();
-                if (0 <= substitutionParameterIndex && substitutionParameterIndex < methodArguments.length) {
-                    final Object methodArgument = methodArguments[substitutionParameterIndex];
-
-                    String substitutionValue = serialize(methodArgument);
-                    if (substitutionValue != null
-                        && !substitutionValue.isEmpty()
-                        && substitution.shouldEncode() && escaper != null) {
-                        substitutionValue = escaper.escape(substitutionValue);
-                    }
-                    // if a parameter is null, we treat it as empty string. This is
-                    // assuming no {...} will be allowed otherwise in a path template
-                    if (substitutionValue == null) {
-                        substitutionValue = "";
-                    }
-                    result = result.replace("{" + substitution.getUrlParameterName() + "}", substitutionValue);
-                }
-            }
-        }
-
-        return result;
-    }
-
     private Map<Integer, UnexpectedExceptionInformation> processUnexpectedResponseExceptionTypes() {
         HashMap<Integer, UnexpectedExceptionInformation> exceptionHashMap = new HashMap<>();
 
@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A host or path template of a Swagger method, such as {@code "/containers/{containerName}/blobs/{blobName}"}, split
+ * once into its static segments and the substitutions of its placeholders. Expanding the template only appends the
+ * static segments and the escaped argument values, instead of searching and replacing each placeholder on every call.
+ */
+final class UrlTemplate {
+    private final String template;
+    // segments[i] precedes placeholders[i]; the last segment follows the last placeholder.
+    private final String[] segments;
+    private final Substitution[] placeholders;
+    private final PercentEscaper escaper;
+    private final int staticLength;
+
+    /**
+     * Create a new UrlTemplate.
+     * @param template The template, or {@code null}.
+     * @param substitutions The substitutions of the template's placeholders. Placeholders without a substitution are
+     *                      kept as they are.
+     * @param escaper The escaper used for values of substitutions that should be encoded.
+     */
+    UrlTemplate(String template, List<Substitution> substitutions, PercentEscaper escaper) {
+        this.template = template;
+        this.escaper = escaper;
+
+        final List<String> segments = new ArrayList<>();
+        final List<Substitution> placeholders = new ArrayList<>();
+        if (template != null) {
+            int segmentStart = 0;
+            int openIndex = template.indexOf('{');
+            while (openIndex >= 0) {
+                final int closeIndex = template.indexOf('}', openIndex + 1);
+                if (closeIndex < 0) {
+                    break;
+                }
+
+                final Substitution substitution =
+                    findSubstitution(substitutions, template.substring(openIndex + 1, closeIndex));
+                if (substitution == null) {
+                    // Not a placeholder, look for one starting after this brace.
+                    openIndex = template.indexOf('{', openIndex + 1);
+                } else {
+                    segments.add(template.substring(segmentStart, openIndex));
+                    placeholders.add(substitution);
+                    segmentStart = closeIndex + 1;
+                    openIndex = template.indexOf('{', segmentStart);
+                }
+            }
+            segments.add(template.substring(segmentStart));
+        }
+
+        this.segments = segments.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new Substitution[0]);
+
+        int staticLength = 0;
+        for (String segment : this.segments) {
+            staticLength += segment.length();
+        }
+        this.staticLength = staticLength;
+    }
+
+    /**
+     * Get the template with its placeholders replaced by the matching method arguments. A {@code null} argument is
+     * substituted with an empty string, and the placeholder of a parameter index that is not in the arguments is kept.
+     * @param methodArguments The arguments of the Swagger method.
+     * @param serializer Converts an argument into the string that is substituted.
+     * @return The expanded template.
+     */
+    String expand(Object[] methodArguments, Function<Object, String> serializer) {
+        if (template == null || methodArguments == null || placeholders.length == 0) {
+            return template;
+        }
+
+        final StringBuilder result = new StringBuilder(staticLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(segments[i]);
+
+            final Substitution substitution = placeholders[i];
+            final int parameterIndex = substitution.getMethodParameterIndex();
+            if (parameterIndex < 0 || parameterIndex >= methodArguments.length) {
+                result.append('{').append(substitution.getUrlParameterName()).append('}');
+                continue;
+            }
+
+            final String value = serializer.apply(methodArguments[parameterIndex]);
+            if (value != null && !value.isEmpty()) {
+                result.append(substitution.shouldEncode() && escaper != null ? escaper.escape(value) : value);
+            }
+        }
+        result.append(segments[segments.length - 1]);
+
+        return result.toString();
+    }
+
+    private static Substitution findSubstitution(List<Substitution> substitutions, String name) {
+        // Only the first substitution of a name is used, since it replaces every occurrence of the placeholder.
+        for (Substitution substitution : substitutions) {
+            if (substitution.getUrlParameterName().equals(name)) {
+                return substitution;
+            }
+        }
+        return null;
+    }
+}
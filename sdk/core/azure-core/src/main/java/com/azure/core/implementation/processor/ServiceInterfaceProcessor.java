@@ -0,0 +1,268 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.processor;
+
+import com.azure.core.implementation.RestProxy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a concrete implementation of every interface annotated with
+ * {@link com.azure.core.annotation.ServiceInterface}. {@link RestProxy#create(Class, com.azure.core.http.HttpPipeline,
+ * com.azure.core.implementation.serializer.SerializerAdapter) RestProxy.create} uses the generated implementation
+ * instead of a {@link java.lang.reflect.Proxy} when it is on the class path.
+ *
+ * <p>
+ * The implementation of {@code com.example.Outer.FooService} is named {@code com.example.Outer_FooServiceRestProxy}.
+ * Each of its methods passes its arguments to the {@link RestProxy} it was created with, so requests are sent through
+ * the same pipeline, without going through the {@link java.lang.reflect.InvocationHandler} dispatch of a proxy
+ * instance. Default methods keep their implementation, and private or generic interfaces are skipped, which leaves
+ * them to the reflective proxy.
+ * </p>
+ *
+ * <p>
+ * The processor isn't registered as a service, so it only runs when it is named explicitly, for example through
+ * {@code -processor com.azure.core.implementation.processor.ServiceInterfaceProcessor} or the
+ * {@code annotationProcessors} of the maven-compiler-plugin.
+ * </p>
+ */
+@SupportedAnnotationTypes("com.azure.core.annotation.ServiceInterface")
+public final class ServiceInterfaceProcessor extends AbstractProcessor {
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.INTERFACE) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@ServiceInterface can only be applied to interfaces.", element);
+                    continue;
+                }
+
+                final TypeElement swaggerInterface = (TypeElement) element;
+                if (!canImplement(swaggerInterface)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No implementation is generated for private or generic service interfaces.", element);
+                    continue;
+                }
+
+                try {
+                    generate(swaggerInterface);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to generate the implementation of the service interface: " + e.getMessage(), element);
+                }
+            }
+        }
+
+        // Other processors can still process the @ServiceInterface annotation.
+        return false;
+    }
+
+    /**
+     * Get the simple name of the class generated for the provided interface.
+     *
+     * @param swaggerInterface The interface.
+     * @return The simple names of the interface and its enclosing types joined by underscores, followed by
+     *     {@link RestProxy#GENERATED_IMPLEMENTATION_SUFFIX}.
+     */
+    private static String getImplementationName(TypeElement swaggerInterface) {
+        final StringBuilder name = new StringBuilder(swaggerInterface.getSimpleName());
+        Element enclosing = swaggerInterface.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return name.append(RestProxy.GENERATED_IMPLEMENTATION_SUFFIX).toString();
+    }
+
+    private static boolean canImplement(TypeElement swaggerInterface) {
+        if (!swaggerInterface.getTypeParameters().isEmpty()) {
+            return false;
+        }
+
+        Element element = swaggerInterface;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private static boolean isPublic(TypeElement swaggerInterface) {
+        Element element = swaggerInterface;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void generate(TypeElement swaggerInterface) throws IOException {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(swaggerInterface);
+        final String packageName = packageElement.getQualifiedName().toString();
+        final String implementationName = getImplementationName(swaggerInterface);
+        final String interfaceName = swaggerInterface.getQualifiedName().toString();
+        final String visibility = isPublic(swaggerInterface) ? "public " : "";
+
+        final List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method
+            : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(swaggerInterface))) {
+            if (method.getEnclosingElement().getKind() == ElementKind.INTERFACE
+                && method.getModifiers().contains(Modifier.ABSTRACT)) {
+                methods.add(method);
+            }
+        }
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n")
+            .append(" * Implementation of {@link ").append(interfaceName).append("} generated by {@code ")
+            .append(ServiceInterfaceProcessor.class.getName()).append("}.\n")
+            .append(" */\n")
+            .append("@SuppressWarnings(\"unchecked\")\n")
+            .append(visibility).append("final class ").append(implementationName).append(" implements ")
+            .append(interfaceName).append(" {\n");
+
+        appendMethodsInitializer(source, interfaceName, methods);
+
+        source.append(INDENT).append("private final com.azure.core.implementation.RestProxy restProxy;\n\n")
+            .append(INDENT).append("/**\n")
+            .append(INDENT).append(" * Create a new ").append(implementationName).append(".\n")
+            .append(INDENT).append(" * @param restProxy The RestProxy that sends the requests of the methods.\n")
+            .append(INDENT).append(" */\n")
+            .append(INDENT).append(visibility).append(implementationName)
+            .append("(com.azure.core.implementation.RestProxy restProxy) {\n")
+            .append(INDENT).append(INDENT).append("this.restProxy = restProxy;\n")
+            .append(INDENT).append("}\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            appendMethod(source, methods.get(i), i);
+        }
+
+        source.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler()
+            .createSourceFile(packageName.isEmpty() ? implementationName : packageName + "." + implementationName,
+                swaggerInterface)
+            .openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void appendMethodsInitializer(StringBuilder source, String interfaceName,
+                                          List<ExecutableElement> methods) {
+        source.append(INDENT).append("private static final java.lang.reflect.Method[] METHODS;\n\n")
+            .append(INDENT).append("static {\n")
+            .append(INDENT).append(INDENT).append("try {\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("METHODS = new java.lang.reflect.Method[] {\n");
+
+        for (ExecutableElement method : methods) {
+            source.append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                .append(interfaceName).append(".class.getMethod(\"").append(method.getSimpleName()).append('"');
+            for (VariableElement parameter : method.getParameters()) {
+                source.append(", ").append(processingEnv.getTypeUtils().erasure(parameter.asType())).append(".class");
+            }
+            source.append("),\n");
+        }
+
+        source.append(INDENT).append(INDENT).append(INDENT).append("};\n")
+            .append(INDENT).append(INDENT).append("} catch (NoSuchMethodException e) {\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("throw new IllegalStateException(e);\n")
+            .append(INDENT).append(INDENT).append("}\n")
+            .append(INDENT).append("}\n\n");
+    }
+
+    private static void appendMethod(StringBuilder source, ExecutableElement method, int index) {
+        source.append('\n').append(INDENT).append("@Override\n").append(INDENT).append("public ");
+
+        final List<? extends TypeParameterElement> typeParameters = method.getTypeParameters();
+        if (!typeParameters.isEmpty()) {
+            source.append('<');
+            for (int i = 0; i < typeParameters.size(); i++) {
+                final TypeParameterElement typeParameter = typeParameters.get(i);
+                source.append(i == 0 ? "" : ", ").append(typeParameter.getSimpleName());
+
+                String separator = " extends ";
+                for (TypeMirror bound : typeParameter.getBounds()) {
+                    if (!"java.lang.Object".equals(bound.toString())) {
+                        source.append(separator).append(bound);
+                        separator = " & ";
+                    }
+                }
+            }
+            source.append("> ");
+        }
+
+        final TypeMirror returnType = method.getReturnType();
+        source.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            final TypeMirror parameterType = parameters.get(i).asType();
+            source.append(i == 0 ? "" : ", ");
+            if (method.isVarArgs() && i == parameters.size() - 1 && parameterType.getKind() == TypeKind.ARRAY) {
+                source.append(((ArrayType) parameterType).getComponentType()).append("...");
+            } else {
+                source.append(parameterType);
+            }
+            source.append(' ').append(parameters.get(i).getSimpleName());
+        }
+        source.append(") {\n").append(INDENT).append(INDENT);
+
+        if (returnType.getKind() != TypeKind.VOID) {
+            source.append("return (").append(returnType).append(") ");
+        }
+
+        // A proxy instance is invoked with null arguments for methods without parameters, so the same is done here.
+        source.append("this.restProxy.invoke(this, METHODS[").append(index).append("], ");
+        if (parameters.isEmpty()) {
+            source.append("null");
+        } else {
+            source.append("new Object[] {");
+            for (int i = 0; i < parameters.size(); i++) {
+                source.append(i == 0 ? "" : ", ").append(parameters.get(i).getSimpleName());
+            }
+            source.append('}');
+        }
+        source.append(");\n").append(INDENT).append("}\n");
+    }
+}
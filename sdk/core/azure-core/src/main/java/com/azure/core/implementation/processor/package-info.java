@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Package containing the annotation processors that generate code for Swagger interfaces at build time.
+ */
+package com.azure.core.implementation.processor;
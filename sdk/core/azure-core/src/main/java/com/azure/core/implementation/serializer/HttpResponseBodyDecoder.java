@@ -51,10 +51,10 @@ final class HttpResponseBodyDecoder {
         //
         return Mono.defer(() -> {
             if (isErrorStatus(httpResponse, decodeData)) {
-                return httpResponse.getBodyAsString()
-                    .flatMap(bodyString -> {
+                return httpResponse.getBodyAsByteArray()
+                    .flatMap(body -> {
                         try {
-                            final Object decodedErrorEntity = deserializeBody(bodyString,
+                            final Object decodedErrorEntity = deserializeBody(body,
                                 decodeData.getUnexpectedException(httpResponse.getStatusCode()).getExceptionBodyType(),
                                 null,
                                 serializer,
@@ -72,10 +72,11 @@ final class HttpResponseBodyDecoder {
             } else if (!isReturnTypeDecodable(decodeData)) {
                 return Mono.empty();
             } else {
-                return httpResponse.getBodyAsString()
-                    .flatMap(bodyString -> {
+                // The body is parsed from its bytes, without decoding it into an intermediate string.
+                return httpResponse.getBodyAsByteArray()
+                    .flatMap(body -> {
                         try {
-                            final Object decodedSuccessEntity = deserializeBody(bodyString,
+                            final Object decodedSuccessEntity = deserializeBody(body,
                                 extractEntityTypeFromReturnType(decodeData),
                                 decodeData.getReturnValueWireType(),
                                 serializer,
@@ -147,12 +148,12 @@ final class HttpResponseBodyDecoder {
     }
 
     /**
-     * Deserialize the given string value representing content of a REST API response.
+     * Deserialize the given bytes representing content of a REST API response.
      *
      * If the {@link ReturnValueWireType} is of type {@link Page}, then the returned object will be an instance of that
      * {@param wireType}. Otherwise, the returned object is converted back to its {@param resultType}.
      *
-     * @param value the string value to deserialize
+     * @param value the bytes to deserialize
      * @param resultType the return type of the java proxy method
      * @param wireType value of optional {@link ReturnValueWireType} annotation present in java proxy method
      *     indicating 'entity type' (wireType) of REST API wire response body
@@ -160,7 +161,7 @@ final class HttpResponseBodyDecoder {
      * @return Deserialized object
      * @throws IOException When the body cannot be deserialized
      */
-    private static Object deserializeBody(String value, Type resultType, Type wireType, SerializerAdapter serializer,
+    private static Object deserializeBody(byte[] value, Type resultType, Type wireType, SerializerAdapter serializer,
                                           SerializerEncoding encoding) throws IOException {
         if (wireType == null) {
             return serializer.deserialize(value, resultType, encoding);
@@ -230,15 +231,15 @@ final class HttpResponseBodyDecoder {
      * 1. A type that implements the interface
      * 2. Is of {@link Page}
      *
-     * @param value The string to deserialize
+     * @param value The bytes to deserialize
      * @param resultType The type T, of the page contents.
      * @param wireType The {@link Type} that either is, or implements {@link Page}
      * @param serializer The serializer used to deserialize the value.
-     * @param encoding Encoding used to deserialize string
+     * @param encoding Encoding used to deserialize the bytes
      * @return An object representing an instance of {@param wireType}
      * @throws IOException if the serializer is unable to deserialize the value.
      */
-    private static Object deserializePage(String value, Type resultType, Type wireType, SerializerAdapter serializer,
+    private static Object deserializePage(byte[] value, Type resultType, Type wireType, SerializerAdapter serializer,
                                           SerializerEncoding encoding) throws IOException {
         final Type wireResponseType;
 
@@ -4,9 +4,17 @@
 package com.azure.core.implementation.serializer;
 
 import com.azure.core.implementation.CollectionFormat;
+import com.azure.core.implementation.util.FluxUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -53,4 +61,74 @@ public interface SerializerAdapter {
      * @throws IOException exception from deserialization
      */
     <U> U deserialize(String value, Type type, SerializerEncoding encoding) throws IOException;
+
+    /**
+     * Deserializes UTF-8 encoded bytes into a {@link U} object.
+     *
+     * Implementations should parse the bytes directly rather than decoding them into a string first. The default
+     * implementation decodes the bytes into a string and calls {@link #deserialize(String, Type, SerializerEncoding)}.
+     *
+     * @param value the bytes to deserialize
+     * @param <U> the type of the deserialized object
+     * @param type the type to deserialize
+     * @param encoding the encoding used in the serialized value
+     * @return the deserialized object
+     * @throws IOException exception from deserialization
+     */
+    default <U> U deserialize(byte[] value, Type type, SerializerEncoding encoding) throws IOException {
+        return value == null ? null : deserialize(new String(value, StandardCharsets.UTF_8), type, encoding);
+    }
+
+    /**
+     * Deserializes the contents of a stream into a {@link U} object. Closing the stream remains the responsibility of
+     * the caller.
+     *
+     * Implementations should parse the stream as it is read. The default implementation reads the whole stream and
+     * calls {@link #deserialize(byte[], Type, SerializerEncoding)}.
+     *
+     * @param stream the stream to deserialize
+     * @param <U> the type of the deserialized object
+     * @param type the type to deserialize
+     * @param encoding the encoding used in the serialized value
+     * @return the deserialized object
+     * @throws IOException exception from reading the stream or from deserialization
+     */
+    default <U> U deserialize(InputStream stream, Type type, SerializerEncoding encoding) throws IOException {
+        if (stream == null) {
+            return null;
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+
+        return deserialize(outputStream.toByteArray(), type, encoding);
+    }
+
+    /**
+     * Deserializes a stream of byte buffers, such as the body of a HTTP response, into a {@link U} object.
+     *
+     * The default implementation collects the buffers into a byte array and calls
+     * {@link #deserialize(byte[], Type, SerializerEncoding)}, so that no intermediate string is created.
+     *
+     * @param value the byte buffers to deserialize
+     * @param <U> the type of the deserialized object
+     * @param type the type to deserialize
+     * @param encoding the encoding used in the serialized value
+     * @return a {@link Mono} that emits the deserialized object, or completes empty if it deserialized to {@code null}.
+     *     Errors with {@link UncheckedIOException} if the buffers cannot be deserialized.
+     */
+    default <U> Mono<U> deserialize(Flux<ByteBuffer> value, Type type, SerializerEncoding encoding) {
+        return FluxUtil.collectBytesInByteBufferStream(value)
+            .flatMap(bytes -> {
+                try {
+                    return Mono.justOrEmpty(this.<U>deserialize(bytes, type, encoding));
+                } catch (IOException e) {
+                    return Mono.error(new UncheckedIOException(e));
+                }
+            });
+    }
 }
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.io.StringWriter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -54,6 +56,11 @@ public class JacksonAdapter implements SerializerAdapter {
      */
     private static final String BOM = "\uFEFF";
 
+    /*
+     * UTF-8 encoded BOM header.
+     */
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
     /**
      * Creates a new JacksonAdapter instance with default mapper settings.
      */
@@ -163,6 +170,75 @@ public class JacksonAdapter implements SerializerAdapter {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] value, final Type type, SerializerEncoding encoding) throws IOException {
+        if (value == null) {
+            return null;
+        }
+
+        // Remove BOM
+        final int offset = startsWithBom(value, value.length) ? UTF_8_BOM.length : 0;
+        if (value.length == offset) {
+            return null;
+        }
+
+        final JavaType javaType = createJavaType(type);
+        try {
+            if (encoding == SerializerEncoding.XML) {
+                return (T) xmlMapper.readValue(value, offset, value.length - offset, javaType);
+            } else {
+                return (T) serializer().readValue(value, offset, value.length - offset, javaType);
+            }
+        } catch (JsonParseException jpe) {
+            throw logger.logExceptionAsError(new MalformedValueException(jpe.getMessage(), jpe));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(InputStream stream, final Type type, SerializerEncoding encoding) throws IOException {
+        if (stream == null) {
+            return null;
+        }
+
+        // Peeks at the start of the stream to skip the BOM and to return null for an empty stream, as is done for
+        // strings.
+        final PushbackInputStream pushbackStream = new PushbackInputStream(stream, UTF_8_BOM.length);
+        final byte[] start = new byte[UTF_8_BOM.length];
+        int length = 0;
+        int read;
+        while (length < start.length && (read = pushbackStream.read(start, length, start.length - length)) != -1) {
+            length += read;
+        }
+
+        if (!startsWithBom(start, length)) {
+            pushbackStream.unread(start, 0, length);
+        } else {
+            length = 0;
+        }
+
+        if (length == 0) {
+            final int next = pushbackStream.read();
+            if (next == -1) {
+                return null;
+            }
+
+            pushbackStream.unread(next);
+        }
+
+        final JavaType javaType = createJavaType(type);
+        try {
+            if (encoding == SerializerEncoding.XML) {
+                return (T) xmlMapper.readValue(pushbackStream, javaType);
+            } else {
+                return (T) serializer().readValue(pushbackStream, javaType);
+            }
+        } catch (JsonParseException jpe) {
+            throw logger.logExceptionAsError(new MalformedValueException(jpe.getMessage(), jpe));
+        }
+    }
+
     /**
      * Initializes an instance of JacksonMapperAdapter with default configurations
      * applied to the object mapper.
@@ -192,6 +268,20 @@ public class JacksonAdapter implements SerializerAdapter {
         return mapper;
     }
 
+    private static boolean startsWithBom(byte[] value, int length) {
+        if (length < UTF_8_BOM.length) {
+            return false;
+        }
+
+        for (int i = 0; i < UTF_8_BOM.length; i++) {
+            if (value[i] != UTF_8_BOM[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private JavaType createJavaType(Type type) {
         JavaType result;
         if (type == null) {
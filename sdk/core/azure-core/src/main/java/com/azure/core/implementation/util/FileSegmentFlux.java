@@ -0,0 +1,97 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.util;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A {@link Flux} that reads a segment of a file, opening the file for every subscription.
+ *
+ * <p>
+ * Since the segment is known, an HTTP client that can transfer files directly, such as with a Netty
+ * {@code FileRegion}, sends it from the file instead of subscribing, so the content is never copied to the heap.
+ * Policies that replace the body of a request with an operator applied to it lose this ability, so they should keep a
+ * {@link FileSegmentFlux} body as it is where they can.
+ * </p>
+ */
+public final class FileSegmentFlux extends Flux<ByteBuffer> {
+    private final ClientLogger logger = new ClientLogger(FileSegmentFlux.class);
+    private final Path file;
+    private final int chunkSize;
+    private final long offset;
+    private final long length;
+
+    /**
+     * Creates a FileSegmentFlux.
+     *
+     * @param file The file to read.
+     * @param chunkSize The size of the buffers the file is read into.
+     * @param offset The offset in the file to begin reading.
+     * @param length The number of bytes to read from the file.
+     * @throws NullPointerException If {@code file} is null.
+     * @throws IllegalArgumentException If {@code chunkSize} isn't positive, or {@code offset} or {@code length} is
+     *     negative.
+     */
+    FileSegmentFlux(Path file, int chunkSize, long offset, long length) {
+        this.file = Objects.requireNonNull(file, "'file' cannot be null.");
+        if (chunkSize <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'chunkSize' must be positive."));
+        }
+        if (offset < 0 || length < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'offset' and 'length' cannot be negative."));
+        }
+
+        this.chunkSize = chunkSize;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @return The file that is read.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return The offset in the file the segment begins at.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return The number of bytes in the segment.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super ByteBuffer> actual) {
+        Flux.using(() -> AsynchronousFileChannel.open(file, StandardOpenOption.READ),
+            channel -> FluxUtil.readFile(channel, chunkSize, offset, length),
+            this::close)
+            .subscribe(actual);
+    }
+
+    private void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw logger.logExceptionAsError(new UncheckedIOException(e));
+        }
+    }
+}
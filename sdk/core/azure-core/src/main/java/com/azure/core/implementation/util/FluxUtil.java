@@ -18,6 +18,7 @@ import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -265,6 +266,19 @@ public final class FluxUtil {
         }
     }
 
+    /**
+     * Creates a {@link Flux} which reads part of a file, opening the file for every subscription. HTTP clients that
+     * support it send the returned {@link FileSegmentFlux} directly from the file, without copying it to the heap.
+     *
+     * @param file The file.
+     * @param offset The offset in the file to begin reading.
+     * @param length The number of bytes to read from the file.
+     * @return the Flux.
+     */
+    public static Flux<ByteBuffer> readFile(Path file, long offset, long length) {
+        return new FileSegmentFlux(file, DEFAULT_CHUNK_SIZE, offset, length);
+    }
+
     private static final int DEFAULT_CHUNK_SIZE = 1024 * 64;
 
     private static final class FileReadFlux extends Flux<ByteBuffer> {
@@ -0,0 +1,22 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import java.util.Map;
+
+/**
+ * A histogram recording the distribution of a value.
+ *
+ * @see Meter#createDoubleHistogram(String, String, String)
+ */
+@FunctionalInterface
+public interface DoubleHistogram {
+    /**
+     * Records a value.
+     *
+     * @param value The value to record.
+     * @param attributes Attributes the value is recorded with, such as the host a request is sent to.
+     */
+    void record(double value, Map<String, String> attributes);
+}
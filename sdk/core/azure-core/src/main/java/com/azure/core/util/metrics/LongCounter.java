@@ -0,0 +1,23 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import java.util.Map;
+
+/**
+ * A counter of a value.
+ *
+ * @see Meter#createLongCounter(String, String, String)
+ * @see Meter#createLongUpDownCounter(String, String, String)
+ */
+@FunctionalInterface
+public interface LongCounter {
+    /**
+     * Adds a value to the counter.
+     *
+     * @param value The value to add, which can only be negative for an up-down counter.
+     * @param attributes Attributes the value is counted with, such as the host a request is sent to.
+     */
+    void add(long value, Map<String, String> attributes);
+}
@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+/**
+ * Contract that all meters must implement to be pluggable into the SDK.
+ *
+ * <p>The instruments created by a meter are created once by their users and then used for the lifetime of the
+ * client, so a meter may do any expensive registration work when creating them. The attributes passed when recording
+ * a value are only read during the call.</p>
+ *
+ * @see MeterProxy
+ */
+public interface Meter {
+    /**
+     * Creates a histogram recording the distribution of a value, such as the duration of a request.
+     *
+     * @param name Name of the histogram.
+     * @param description Description of the values recorded.
+     * @param unit Unit of the values recorded, for example {@code ms} or {@code bytes}.
+     * @return A histogram.
+     */
+    DoubleHistogram createDoubleHistogram(String name, String description, String unit);
+
+    /**
+     * Creates a counter that only increases, such as the number of retries.
+     *
+     * @param name Name of the counter.
+     * @param description Description of the values counted.
+     * @param unit Unit of the values counted.
+     * @return A counter.
+     */
+    LongCounter createLongCounter(String name, String description, String unit);
+
+    /**
+     * Creates a counter that increases and decreases, such as the number of requests in flight.
+     *
+     * @param name Name of the counter.
+     * @param description Description of the values counted.
+     * @param unit Unit of the values counted.
+     * @return A counter.
+     */
+    LongCounter createLongUpDownCounter(String name, String description, String unit);
+
+    /**
+     * Gets whether the meter records anything, so that its users can skip the work of measuring values when it
+     * doesn't.
+     *
+     * @return {@code true} if the meter records values.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
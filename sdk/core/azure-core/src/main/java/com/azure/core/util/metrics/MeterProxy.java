@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * This class provides the {@link Meter meter} plugged into the SDK, which client libraries record their metrics with.
+ *
+ * @see Meter
+ */
+public final class MeterProxy {
+    private static final Meter METER = loadMeter();
+
+    private MeterProxy() {
+        // no-op
+    }
+
+    /**
+     * Gets the first {@link Meter meter} plugged into the SDK, or a meter that records nothing if there is none.
+     *
+     * @return The meter.
+     */
+    public static Meter getMeter() {
+        return METER;
+    }
+
+    /**
+     * Gets a meter that records nothing.
+     *
+     * @return A no-op meter.
+     */
+    public static Meter getNoopMeter() {
+        return NoopMeter.INSTANCE;
+    }
+
+    private static Meter loadMeter() {
+        final Iterator<Meter> meters = ServiceLoader.load(Meter.class).iterator();
+        return meters.hasNext() ? meters.next() : NoopMeter.INSTANCE;
+    }
+}
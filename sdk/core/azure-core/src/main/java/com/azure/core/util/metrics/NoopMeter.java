@@ -0,0 +1,37 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+/**
+ * The meter used when no {@link Meter} is plugged into the SDK, which records nothing.
+ */
+final class NoopMeter implements Meter {
+    static final NoopMeter INSTANCE = new NoopMeter();
+
+    private static final DoubleHistogram NOOP_HISTOGRAM = (value, attributes) -> { };
+    private static final LongCounter NOOP_COUNTER = (value, attributes) -> { };
+
+    private NoopMeter() {
+    }
+
+    @Override
+    public DoubleHistogram createDoubleHistogram(String name, String description, String unit) {
+        return NOOP_HISTOGRAM;
+    }
+
+    @Override
+    public LongCounter createLongCounter(String name, String description, String unit) {
+        return NOOP_COUNTER;
+    }
+
+    @Override
+    public LongCounter createLongUpDownCounter(String name, String description, String unit) {
+        return NOOP_COUNTER;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
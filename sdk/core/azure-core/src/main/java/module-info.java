@@ -3,6 +3,7 @@
 
 module com.azure.core {
     requires java.xml;
+    requires static java.compiler;
 
     requires transitive com.fasterxml.jackson.core;
     requires transitive com.fasterxml.jackson.annotation;
@@ -24,6 +25,7 @@ module com.azure.core {
     exports com.azure.core.http.rest;
     exports com.azure.core.util;
     exports com.azure.core.util.logging;
+    exports com.azure.core.util.metrics;
     exports com.azure.core.util.polling;
     exports com.azure.core.util.tracing;
     exports com.azure.core.cryptography;
@@ -126,6 +128,7 @@ module com.azure.core {
 
     // service provider interfaces
     uses com.azure.core.util.tracing.Tracer;
+    uses com.azure.core.util.metrics.Meter;
     uses com.azure.core.http.HttpClientProvider;
     uses com.azure.core.http.policy.BeforeRetryPolicyProvider;
     uses com.azure.core.http.policy.AfterRetryPolicyProvider;
@@ -8,6 +8,7 @@ import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
@@ -79,6 +80,48 @@ public class TokenCacheTests {
         Assert.assertTrue(refreshes.get() <= 11);
     }
 
+    @Test
+    public void testRefreshesAheadWhileServingCachedToken() {
+        AtomicInteger refreshes = new AtomicInteger(0);
+        // Tokens are valid for 5 seconds, which is within the 1 minute refresh offset.
+        SimpleTokenCache cache = new SimpleTokenCache(() ->
+            Mono.just(new Token(Integer.toString(refreshes.incrementAndGet()))), Duration.ofMinutes(1));
+
+        Assert.assertEquals("1", cache.getToken().block().getToken());
+        // The cached token is returned while it is refreshed in the background.
+        Assert.assertEquals("1", cache.getToken().block().getToken());
+        Assert.assertEquals(2, refreshes.get());
+        Assert.assertEquals("2", cache.getToken().block().getToken());
+    }
+
+    @Test
+    public void testBacksOffAfterFailedRefresh() {
+        AtomicInteger refreshes = new AtomicInteger(0);
+        SimpleTokenCache cache = new SimpleTokenCache(() -> {
+            refreshes.incrementAndGet();
+            return Mono.error(new IllegalStateException("AAD is unavailable"));
+        });
+
+        StepVerifier.create(cache.getToken())
+            .verifyError(IllegalStateException.class);
+        // The second request fails with the same error without refreshing again.
+        StepVerifier.create(cache.getToken())
+            .verifyErrorMessage("AAD is unavailable");
+        Assert.assertEquals(1, refreshes.get());
+    }
+
+    @Test
+    public void testScopedCacheSharesTokensOfSameScopes() {
+        AtomicInteger refreshes = new AtomicInteger(0);
+        ScopedTokenCache cache = new ScopedTokenCache(request ->
+            Mono.just(new Token(String.join(" ", request.getScopes()) + refreshes.incrementAndGet())), Duration.ZERO);
+
+        Assert.assertEquals("a b1", cache.getToken("b", "a").block().getToken());
+        Assert.assertEquals("a b1", cache.getToken("a", "b").block().getToken());
+        Assert.assertEquals("c2", cache.getToken("c").block().getToken());
+        Assert.assertEquals(2, refreshes.get());
+    }
+
     private Mono<AccessToken> remoteGetTokenAsync(long delayInMillis) {
         return Mono.delay(Duration.ofMillis(delayInMillis))
             .map(l -> new Token(Integer.toString(RANDOM.nextInt(100))));
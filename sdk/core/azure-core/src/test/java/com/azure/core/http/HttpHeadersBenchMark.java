@@ -0,0 +1,142 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the headers work of a typical request: the pipeline policies set and read its headers, and the HTTP client
+ * iterates them to send them. {@link #concurrentHashMapHeaders(Blackhole)} does the same with headers stored the way
+ * {@link HttpHeaders} stored them before, in a {@link ConcurrentHashMap} keyed by lower-cased names, as a baseline.
+ *
+ * <p>
+ * Run with {@code -prof gc} to compare the bytes allocated per operation.
+ * </p>
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HttpHeadersBenchMark {
+    private static final String[] NAMES = {
+        "User-Agent", "x-ms-client-request-id", "Date", "x-ms-version", "Content-Type", "Content-Length",
+        "Accept", "Authorization"
+    };
+    private static final String[] VALUES = {
+        "azsdk-java-storage-blob/12.0.0 1.8.0_222; Windows 10 10.0", "2b7c2e5c-7c4a-4c3f-9b1e-6e0c2f0d5a1b",
+        "Thu, 31 Oct 2019 00:00:00 GMT", "2019-02-02", "application/xml", "1024", "application/json",
+        "Bearer eyJ0eXAiOiJKV1QiLCJhbGciOiJSUzI1NiJ9"
+    };
+
+    /**
+     * Sets, reads and iterates the headers of a request with {@link HttpHeaders}.
+     */
+    @Benchmark
+    public void httpHeaders(Blackhole blackhole) {
+        final HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < NAMES.length; i++) {
+            headers.put(NAMES[i], VALUES[i]);
+        }
+
+        blackhole.consume(headers.getValue("content-length"));
+        blackhole.consume(headers.getValue("x-ms-date"));
+        blackhole.consume(headers.getValue("Content-Type"));
+
+        for (HttpHeader header : headers) {
+            blackhole.consume(header.getName());
+            blackhole.consume(header.getValue());
+        }
+    }
+
+    /**
+     * Sets, reads and iterates the headers of a request stored in a {@link ConcurrentHashMap} keyed by lower-cased
+     * names.
+     */
+    @Benchmark
+    public void concurrentHashMapHeaders(Blackhole blackhole) {
+        final ConcurrentHashMapHeaders headers = new ConcurrentHashMapHeaders();
+        for (int i = 0; i < NAMES.length; i++) {
+            headers.put(NAMES[i], VALUES[i]);
+        }
+
+        blackhole.consume(headers.getValue("content-length"));
+        blackhole.consume(headers.getValue("x-ms-date"));
+        blackhole.consume(headers.getValue("Content-Type"));
+
+        for (HttpHeader header : headers.headers.values()) {
+            blackhole.consume(header.getName());
+            blackhole.consume(header.getValue());
+        }
+    }
+
+    /**
+     * Converts the headers of a request to a {@link Map}.
+     */
+    @Benchmark
+    public Map<String, String> httpHeadersToMap() {
+        final HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < NAMES.length; i++) {
+            headers.put(NAMES[i], VALUES[i]);
+        }
+        return headers.toMap();
+    }
+
+    /**
+     * Converts the headers of a request stored in a {@link ConcurrentHashMap} keyed by lower-cased names to a
+     * {@link Map}.
+     */
+    @Benchmark
+    public Map<String, String> concurrentHashMapHeadersToMap() {
+        final ConcurrentHashMapHeaders headers = new ConcurrentHashMapHeaders();
+        for (int i = 0; i < NAMES.length; i++) {
+            headers.put(NAMES[i], VALUES[i]);
+        }
+        return headers.toMap();
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+    private static final class ConcurrentHashMapHeaders {
+        private final Map<String, HttpHeader> headers = new ConcurrentHashMap<>();
+
+        void put(String name, String value) {
+            headers.put(name.toLowerCase(Locale.ROOT), new HttpHeader(name, value));
+        }
+
+        String getValue(String name) {
+            final HttpHeader header = headers.get(name.toLowerCase(Locale.ROOT));
+            return header == null ? null : header.getValue();
+        }
+
+        Map<String, String> toMap() {
+            final Map<String, String> result = new HashMap<>();
+            for (final HttpHeader header : headers.values()) {
+                result.put(header.getName(), header.getValue());
+            }
+            return result;
+        }
+    }
+}
@@ -5,7 +5,14 @@ package com.azure.core.http;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
 public class HttpHeadersTests {
@@ -31,4 +38,99 @@ public class HttpHeadersTests {
         headers.put("a", null);
         assertNull(headers.getValue("a"));
     }
+
+    @Test
+    public void testGetIgnoresCase() {
+        final HttpHeaders headers = new HttpHeaders()
+            .put("Content-Type", "application/json")
+            .put("x-ms-client-request-id", "id");
+
+        assertEquals("application/json", headers.getValue("content-type"));
+        assertEquals("application/json", headers.getValue("CONTENT-TYPE"));
+        assertEquals("id", headers.get("X-MS-Client-Request-Id").getValue());
+        assertEquals("x-ms-client-request-id", headers.get("X-MS-Client-Request-Id").getName());
+        assertNull(headers.get("Content-Length"));
+    }
+
+    @Test
+    public void testAddValueToHeader() {
+        final HttpHeaders headers = new HttpHeaders().put("Accept", "application/json");
+
+        headers.get("accept").addValue("text/plain");
+
+        assertEquals("application/json,text/plain", headers.getValue("Accept"));
+        assertEquals(2, headers.getValues("Accept").length);
+    }
+
+    @Test
+    public void testReadsReturnSeparateHeaders() {
+        final HttpHeaders headers = new HttpHeaders().put("Accept", "application/json");
+
+        final HttpHeader first = headers.get("Accept");
+        final HttpHeader second = headers.iterator().next();
+        first.addValue("text/plain");
+
+        assertNotSame(first, second);
+        assertEquals("application/json", second.getValue());
+        assertEquals("application/json,text/plain", headers.getValue("Accept"));
+
+        final HttpHeader removed = headers.remove("Accept");
+        removed.addValue("text/html");
+        assertNull(headers.get("Accept"));
+    }
+
+    @Test
+    public void testRemoveAndGrow() {
+        final HttpHeaders headers = new HttpHeaders(1);
+        for (int i = 0; i < 100; i++) {
+            headers.put("header-" + i, String.valueOf(i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(String.valueOf(i), headers.remove("HEADER-" + i).getValue());
+        }
+
+        assertEquals(50, headers.getSize());
+        assertNull(headers.remove("header-0"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? null : String.valueOf(i), headers.getValue("header-" + i));
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final HttpHeaders headers = new HttpHeaders()
+            .put("a", "1")
+            .put("b", "2")
+            .put("c", "3");
+
+        final Iterator<HttpHeader> iterator = headers.iterator();
+        final Set<String> seen = new HashSet<>();
+        while (iterator.hasNext()) {
+            final HttpHeader header = iterator.next();
+            seen.add(header.getName());
+            if (!"c".equals(header.getName())) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), seen);
+        assertEquals(1, headers.getSize());
+        assertEquals("3", headers.getValue("C"));
+        assertEquals(Collections.singletonMap("c", "3"), headers.toMap());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final HttpHeaders headers = new HttpHeaders().put("a", "1");
+        headers.get("a").addValue("2");
+
+        final HttpHeaders copy = new HttpHeaders(headers);
+        copy.put("b", "3");
+        copy.get("a").addValue("4");
+
+        assertEquals("1,2", headers.getValue("a"));
+        assertNull(headers.getValue("b"));
+        assertEquals("1,2,4", copy.getValue("A"));
+        assertEquals(2, copy.stream().count());
+    }
 }
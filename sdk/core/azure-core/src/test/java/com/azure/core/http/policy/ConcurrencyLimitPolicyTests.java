@@ -0,0 +1,168 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+public class ConcurrencyLimitPolicyTests {
+    private final List<MonoProcessor<HttpResponse>> pendingResponses = new ArrayList<>();
+
+    @Test
+    public void limitsConcurrentRequests() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(2)));
+
+        final List<HttpResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pipeline.send(createRequest("http://localhost/")).subscribe(responses::add);
+        }
+
+        Assert.assertEquals(2, pendingResponses.size());
+
+        complete(0, 200);
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals(3, pendingResponses.size());
+
+        complete(1, 200);
+        complete(2, 200);
+        Assert.assertEquals(3, responses.size());
+    }
+
+    @Test
+    public void limitsEachHostSeparately() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(1)));
+
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+        pipeline.send(createRequest("http://otherhost/")).subscribe();
+
+        Assert.assertEquals(2, pendingResponses.size());
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(1)
+            .setMaxQueueSize(1)));
+
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+
+        StepVerifier.create(pipeline.send(createRequest("http://localhost/")))
+            .verifyError(RejectedExecutionException.class);
+        Assert.assertEquals(1, pendingResponses.size());
+    }
+
+    @Test
+    public void cancelledRequestLeavesQueue() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(1)));
+
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+        final Disposable waiting = pipeline.send(createRequest("http://localhost/")).subscribe();
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+
+        waiting.dispose();
+        complete(0, 200);
+
+        // The third request takes the place instead of the cancelled one.
+        Assert.assertEquals(2, pendingResponses.size());
+    }
+
+    @Test
+    public void shrinksOnceForConcurrentThrottledResponses() throws MalformedURLException {
+        final ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(10)
+            .setBackoffRatio(0.5));
+        final HttpPipeline pipeline = createPipeline(policy);
+        final URL url = new URL("http://localhost/");
+
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+        pipeline.send(createRequest("http://localhost/")).subscribe();
+
+        complete(0, 429);
+        Assert.assertEquals(5, policy.getLimit(url));
+
+        // This request was in flight when the limit shrank, so it doesn't shrink it again.
+        complete(1, 503);
+        Assert.assertEquals(5, policy.getLimit(url));
+    }
+
+    @Test
+    public void shrinksOnError() throws MalformedURLException {
+        final ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(4)
+            .setBackoffRatio(0.5));
+        final HttpPipeline pipeline = createPipeline(policy);
+
+        pipeline.send(createRequest("http://localhost/")).subscribe(response -> { }, error -> { });
+        pendingResponses.get(0).onError(new IllegalStateException("connection reset"));
+
+        Assert.assertEquals(2, policy.getLimit(new URL("http://localhost/")));
+    }
+
+    @Test
+    public void growsWhileRequestsSucceed() throws MalformedURLException {
+        final ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions()
+            .setInitialLimit(2)
+            .setMaxLimit(3)
+            .setLatencyTolerance(Double.MAX_VALUE));
+        final HttpPipeline pipeline = createPipeline(policy);
+
+        for (int i = 0; i < 20; i++) {
+            pipeline.send(createRequest("http://localhost/")).subscribe();
+            complete(i, 200);
+        }
+
+        Assert.assertEquals(3, policy.getLimit(new URL("http://localhost/")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidLimits() {
+        new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions().setInitialLimit(10).setMaxLimit(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBackoffRatio() {
+        new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions().setBackoffRatio(1));
+    }
+
+    private HttpPipeline createPipeline(ConcurrencyLimitPolicy policy) {
+        return new HttpPipelineBuilder()
+            .httpClient(request -> {
+                final MonoProcessor<HttpResponse> response = MonoProcessor.create();
+                pendingResponses.add(response);
+                return response;
+            })
+            .policies(policy)
+            .build();
+    }
+
+    private void complete(int index, int statusCode) {
+        final MonoProcessor<HttpResponse> response = pendingResponses.get(index);
+        response.onNext(new MockHttpResponse(null, statusCode));
+    }
+
+    private static HttpRequest createRequest(String url) throws MalformedURLException {
+        return new HttpRequest(HttpMethod.GET, new URL(url));
+    }
+}
@@ -0,0 +1,174 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.util.Context;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HedgingPolicyTests {
+    private static final Context HEDGING_ENABLED = new Context(HedgingPolicy.HEDGING_ENABLED_KEY, true);
+
+    private final List<MonoProcessor<HttpResponse>> pendingResponses = new ArrayList<>();
+    private final List<Integer> cancelledRequests = new ArrayList<>();
+
+    @Test
+    public void notHedgedWithoutContext() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy());
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET)))
+            .thenAwait(Duration.ofSeconds(10))
+            .then(() -> {
+                Assert.assertEquals(1, pendingResponses.size());
+                complete(0, 200);
+            })
+            .assertNext(response -> Assert.assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+    }
+
+    @Test
+    public void notHedgedForPost() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy());
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.POST), HEDGING_ENABLED))
+            .thenAwait(Duration.ofSeconds(10))
+            .then(() -> {
+                Assert.assertEquals(1, pendingResponses.size());
+                complete(0, 200);
+            })
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test
+    public void secondRequestWinsAndCancelsFirst() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy(new HedgingOptions()
+            .setInitialDelay(Duration.ofMillis(500))));
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+            .then(() -> Assert.assertEquals(1, pendingResponses.size()))
+            .thenAwait(Duration.ofMillis(500))
+            .then(() -> {
+                Assert.assertEquals(2, pendingResponses.size());
+                complete(1, 200);
+            })
+            .assertNext(response -> Assert.assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+
+        Assert.assertEquals(1, cancelledRequests.size());
+        Assert.assertEquals(0, (int) cancelledRequests.get(0));
+    }
+
+    @Test
+    public void failureBeforeHedgingIsReturned() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy());
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+            .then(() -> complete(0, 503))
+            .assertNext(response -> Assert.assertEquals(503, response.getStatusCode()))
+            .verifyComplete();
+
+        Assert.assertEquals(1, pendingResponses.size());
+    }
+
+    @Test
+    public void failureWaitsForOtherRequest() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy());
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+            .thenAwait(Duration.ofSeconds(1))
+            .then(() -> pendingResponses.get(1).onError(new IOException("connection reset")))
+            .expectNoEvent(Duration.ofSeconds(1))
+            .then(() -> complete(0, 200))
+            .assertNext(response -> Assert.assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+    }
+
+    @Test
+    public void lastFailureIsReturned() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy());
+
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+            .thenAwait(Duration.ofSeconds(1))
+            .then(() -> complete(0, 500))
+            .then(() -> pendingResponses.get(1).onError(new IOException("connection reset")))
+            .verifyError(IOException.class);
+    }
+
+    @Test
+    public void hedgingLimitedByBudget() throws MalformedURLException {
+        final HttpPipeline pipeline = createPipeline(new HedgingPolicy(new HedgingOptions()
+            .setInitialDelay(Duration.ofMillis(500))
+            .setMaxHedgeRatio(0.01)));
+
+        // The second requests kept for bursts are spent first.
+        for (int i = 0; i < HedgingPolicy.MAX_HEDGE_BURST; i++) {
+            final int first = pendingResponses.size();
+            StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+                .thenAwait(Duration.ofMillis(500))
+                .then(() -> {
+                    Assert.assertEquals(first + 2, pendingResponses.size());
+                    complete(first, 200);
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+        }
+
+        // Each call since then earned a hundredth of a second request, which isn't enough for another one.
+        final int first = pendingResponses.size();
+        StepVerifier.withVirtualTime(() -> pipeline.send(createRequest(HttpMethod.GET), HEDGING_ENABLED))
+            .thenAwait(Duration.ofSeconds(10))
+            .then(() -> {
+                Assert.assertEquals(first + 1, pendingResponses.size());
+                complete(first, 200);
+            })
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxHedgeRatio() {
+        new HedgingPolicy(new HedgingOptions().setMaxHedgeRatio(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentile() {
+        new HedgingPolicy(new HedgingOptions().setPercentile(1));
+    }
+
+    private HttpPipeline createPipeline(HedgingPolicy policy) {
+        return new HttpPipelineBuilder()
+            .httpClient(request -> {
+                final int index = pendingResponses.size();
+                final MonoProcessor<HttpResponse> response = MonoProcessor.create();
+                pendingResponses.add(response);
+                return response.doOnCancel(() -> cancelledRequests.add(index));
+            })
+            .policies(policy)
+            .build();
+    }
+
+    private void complete(int index, int statusCode) {
+        pendingResponses.get(index).onNext(new MockHttpResponse(null, statusCode));
+    }
+
+    private static HttpRequest createRequest(HttpMethod method) throws MalformedURLException {
+        return new HttpRequest(method, new URL("http://localhost/"));
+    }
+}
@@ -0,0 +1,122 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.util.Context;
+import com.azure.core.util.metrics.DoubleHistogram;
+import com.azure.core.util.metrics.LongCounter;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpMetricsPolicyTests {
+    @Test
+    public void recordsRequestMetrics() throws Exception {
+        final RecordingMeter meter = new RecordingMeter();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                Assert.assertEquals(1, meter.sum(HttpMetricsPolicy.IN_FLIGHT_METRIC));
+                return Mono.just(new MockHttpResponse(request, 200,
+                    new HttpHeaders().put("Content-Length", "42")));
+            })
+            .policies(new HttpMetricsPolicy(meter))
+            .build();
+        final HttpRequest request = new HttpRequest(HttpMethod.PUT, new URL("http://Localhost/"))
+            .setBody("hello");
+
+        StepVerifier.create(pipeline.send(request, new Context("caller-method", "Client.upload")))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        final Map<String, String> durationAttributes = meter.attributes(HttpMetricsPolicy.DURATION_METRIC).get(0);
+        Assert.assertEquals("localhost", durationAttributes.get("host"));
+        Assert.assertEquals("PUT", durationAttributes.get("method"));
+        Assert.assertEquals("Client.upload", durationAttributes.get("operation"));
+        Assert.assertEquals("200", durationAttributes.get("status_code"));
+        Assert.assertEquals(5, meter.sum(HttpMetricsPolicy.REQUEST_SIZE_METRIC));
+        Assert.assertEquals(42, meter.sum(HttpMetricsPolicy.RESPONSE_SIZE_METRIC));
+        Assert.assertEquals(0, meter.sum(HttpMetricsPolicy.RETRIES_METRIC));
+        Assert.assertEquals(0, meter.sum(HttpMetricsPolicy.IN_FLIGHT_METRIC));
+    }
+
+    @Test
+    public void recordsRetriesAndErrors() throws Exception {
+        final RecordingMeter meter = new RecordingMeter();
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> count.getAndIncrement() == 0
+                ? Mono.error(new IOException("connection reset"))
+                : Mono.just(new MockHttpResponse(request, 200)))
+            .policies(new RetryPolicy(1, Duration.ZERO), new HttpMetricsPolicy(meter))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        final List<Map<String, String>> durationAttributes = meter.attributes(HttpMetricsPolicy.DURATION_METRIC);
+        Assert.assertEquals(2, durationAttributes.size());
+        Assert.assertEquals(IOException.class.getName(), durationAttributes.get(0).get("error_type"));
+        Assert.assertEquals("200", durationAttributes.get(1).get("status_code"));
+        Assert.assertEquals(1, meter.sum(HttpMetricsPolicy.RETRIES_METRIC));
+        Assert.assertEquals(0, meter.sum(HttpMetricsPolicy.IN_FLIGHT_METRIC));
+    }
+
+    @Test
+    public void noopMeterIsDisabled() {
+        Assert.assertFalse(MeterProxy.getNoopMeter().isEnabled());
+    }
+
+    private static final class RecordingMeter implements Meter {
+        private final Map<String, List<Double>> values = new HashMap<>();
+        private final Map<String, List<Map<String, String>>> attributes = new HashMap<>();
+
+        @Override
+        public DoubleHistogram createDoubleHistogram(String name, String description, String unit) {
+            return (value, attributes) -> record(name, value, attributes);
+        }
+
+        @Override
+        public LongCounter createLongCounter(String name, String description, String unit) {
+            return (value, attributes) -> record(name, value, attributes);
+        }
+
+        @Override
+        public LongCounter createLongUpDownCounter(String name, String description, String unit) {
+            return (value, attributes) -> record(name, value, attributes);
+        }
+
+        long sum(String name) {
+            return (long) values.getOrDefault(name, new ArrayList<>()).stream().mapToDouble(Double::doubleValue).sum();
+        }
+
+        List<Map<String, String>> attributes(String name) {
+            return attributes.get(name);
+        }
+
+        private synchronized void record(String name, double value, Map<String, String> valueAttributes) {
+            values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+            attributes.computeIfAbsent(name, key -> new ArrayList<>()).add(new HashMap<>(valueAttributes));
+        }
+    }
+}
@@ -14,9 +14,11 @@ import org.junit.Assert;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RetryPolicyTests {
     @Test
@@ -63,4 +65,98 @@ public class RetryPolicyTests {
 
         Assert.assertEquals(500, response.getStatusCode());
     }
+
+    @Test
+    public void retryOnErrorCountsEachTry() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                count.incrementAndGet();
+                return Mono.error(new IOException("connection reset"));
+            })
+            .policies(new RetryPolicy(3, Duration.ZERO))
+            .build();
+
+        try {
+            pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+            Assert.fail("Expected the last error to be thrown.");
+        } catch (RuntimeException ex) {
+            Assert.assertTrue(ex.getCause() instanceof IOException);
+        }
+
+        Assert.assertEquals(4, count.get());
+    }
+
+    @Test
+    public void retryBudgetStopsRetries() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final RetryBudget retryBudget = new RetryBudget(0.5, 2);
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                count.incrementAndGet();
+                return Mono.just(new MockHttpResponse(request, 500));
+            })
+            .policies(new RetryPolicy(new FixedDelay(5, Duration.ZERO), retryBudget))
+            .build();
+
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+
+        Assert.assertEquals(500, response.getStatusCode());
+        Assert.assertEquals(3, count.get());
+        Assert.assertEquals(0, retryBudget.getAvailableRetries());
+    }
+
+    @Test
+    public void successfulRequestsRefillRetryBudget() throws Exception {
+        final RetryBudget retryBudget = new RetryBudget(0.5, 2);
+        final int[] codes = new int[]{500, 500, 500, 200, 200, 200, 500, 500};
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> Mono.just(new MockHttpResponse(request, codes[count.getAndIncrement()])))
+            .policies(new RetryPolicy(new FixedDelay(1, Duration.ZERO), retryBudget))
+            .build();
+        final HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+
+        // The first request withdraws a retry, the second one withdraws the last retry. Its success after a retry
+        // doesn't refill the budget.
+        Assert.assertEquals(500, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(200, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(0, retryBudget.getAvailableRetries());
+
+        // Two requests that succeed on the first try refill a whole token, which allows one more retry.
+        Assert.assertEquals(200, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(200, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(1, retryBudget.getAvailableRetries());
+        Assert.assertEquals(500, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(8, count.get());
+    }
+
+    @Test
+    public void failedRequestsDoNotRefillRetryBudget() throws Exception {
+        final RetryBudget retryBudget = new RetryBudget(0.5, 2);
+        final int[] codes = new int[]{500, 500, 500, 500, 404, 404, 501, 501};
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> Mono.just(new MockHttpResponse(request, codes[count.getAndIncrement()])))
+            .policies(new RetryPolicy(new FixedDelay(1, Duration.ZERO), retryBudget))
+            .build();
+        final HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+
+        // Empty the budget.
+        Assert.assertEquals(500, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(500, pipeline.send(request).block().getStatusCode());
+        Assert.assertEquals(0, retryBudget.getAvailableRetries());
+
+        // Responses that aren't retried, but are failures, leave the budget empty.
+        for (int i = 0; i < 4; i++) {
+            pipeline.send(request).block();
+        }
+        Assert.assertEquals(0, retryBudget.getAvailableRetries());
+        Assert.assertEquals(8, count.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRetryRatio() {
+        new RetryBudget(0, 10);
+    }
 }
@@ -0,0 +1,69 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+
+public class RetryStrategyTests {
+    @Test
+    public void fixedDelay() {
+        final FixedDelay strategy = new FixedDelay(3, Duration.ofMillis(50));
+
+        Assert.assertEquals(3, strategy.getMaxRetries());
+        Assert.assertEquals(Duration.ofMillis(50), strategy.calculateRetryDelay(0, null));
+        Assert.assertEquals(Duration.ofMillis(50), strategy.calculateRetryDelay(2, Duration.ofMillis(50)));
+    }
+
+    @Test
+    public void exponentialBackoffDoublesWithJitter() {
+        final ExponentialBackoff strategy = new ExponentialBackoff(10, Duration.ofMillis(100),
+            Duration.ofSeconds(10));
+
+        for (int retry = 0; retry < 5; retry++) {
+            final long expectedMillis = 100L << retry;
+            final long delayMillis = strategy.calculateRetryDelay(retry, null).toMillis();
+            Assert.assertTrue(delayMillis >= expectedMillis * 0.8 - 1);
+            Assert.assertTrue(delayMillis <= expectedMillis * 1.2);
+        }
+    }
+
+    @Test
+    public void exponentialBackoffIsCapped() {
+        final ExponentialBackoff strategy = new ExponentialBackoff(100, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+        Assert.assertTrue(strategy.calculateRetryDelay(10, null).compareTo(Duration.ofSeconds(1)) <= 0);
+        Assert.assertTrue(strategy.calculateRetryDelay(99, null).compareTo(Duration.ofSeconds(1)) <= 0);
+    }
+
+    @Test
+    public void decorrelatedJitterStaysWithinBounds() {
+        final Duration baseDelay = Duration.ofMillis(100);
+        final Duration maxDelay = Duration.ofSeconds(2);
+        final DecorrelatedJitterBackoff strategy = new DecorrelatedJitterBackoff(100, baseDelay, maxDelay);
+
+        Duration previousDelay = null;
+        for (int retry = 0; retry < 100; retry++) {
+            final Duration delay = strategy.calculateRetryDelay(retry, previousDelay);
+            final Duration upper = previousDelay == null ? baseDelay.multipliedBy(3) : previousDelay.multipliedBy(3);
+
+            Assert.assertTrue(delay.compareTo(baseDelay) >= 0);
+            Assert.assertTrue(delay.compareTo(maxDelay) <= 0);
+            Assert.assertTrue(delay.compareTo(upper) <= 0);
+            previousDelay = delay;
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxDelayLessThanBaseDelay() {
+        new ExponentialBackoff(3, Duration.ofSeconds(2), Duration.ofSeconds(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxRetries() {
+        new DecorrelatedJitterBackoff(-1, Duration.ofMillis(100), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,133 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation;
+
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.implementation.http.UrlBuilder;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating the request of a proxy method, against a {@link NoOpHttpClient} so that no time is spent sending
+ * it. {@link #composeUrlWithReplaceAndUrlBuilder(Blackhole)} composes the same URL the way it was done before the
+ * host and path templates were precompiled, as a baseline for {@link #composeUrl(Blackhole)}.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RestProxyBenchMark {
+    private static final String ACCOUNT = "https://myaccount.blob.core.windows.net";
+    private static final String CONTAINER = "mycontainer";
+    private static final String BLOB = "directory/my blob.txt";
+    private static final String SNAPSHOT = "2019-10-31T00:00:00.0000000Z";
+    private static final String REQUEST_ID = "2b7c2e5c-7c4a-4c3f-9b1e-6e0c2f0d5a1b";
+
+    @Host("{url}")
+    @ServiceInterface(name = "BenchMarkService")
+    interface BenchMarkService {
+        @Get("/{containerName}/{blob}")
+        @ExpectedResponses({200})
+        Mono<Void> getProperties(@HostParam("url") String url, @PathParam("containerName") String containerName,
+                                 @PathParam("blob") String blob, @QueryParam("snapshot") String snapshot,
+                                 @QueryParam("timeout") Integer timeout,
+                                 @HeaderParam("x-ms-client-request-id") String requestId);
+    }
+
+    private BenchMarkService service;
+    private SwaggerMethodParser methodParser;
+    private Object[] arguments;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient())
+            .build();
+        service = RestProxy.create(BenchMarkService.class, pipeline, new JacksonAdapter());
+
+        final Method method = BenchMarkService.class.getDeclaredMethod("getProperties", String.class, String.class,
+            String.class, String.class, Integer.class, String.class);
+        methodParser = new SwaggerMethodParser(method, "{url}");
+        arguments = new Object[]{ACCOUNT, CONTAINER, BLOB, SNAPSHOT, 30, REQUEST_ID};
+    }
+
+    /**
+     * Invokes the proxy method, which creates the request and sends it to the no-op client.
+     */
+    @Benchmark
+    public void invoke() {
+        service.getProperties(ACCOUNT, CONTAINER, BLOB, SNAPSHOT, 30, REQUEST_ID).block();
+    }
+
+    /**
+     * Composes the URL of the request from the precompiled templates.
+     */
+    @Benchmark
+    public void composeUrl(Blackhole blackhole) throws IOException {
+        blackhole.consume(methodParser.setUrl(arguments));
+    }
+
+    /**
+     * Composes the URL of the request by replacing each placeholder of the templates and parsing the results with
+     * {@link UrlBuilder}.
+     */
+    @Benchmark
+    public void composeUrlWithReplaceAndUrlBuilder(Blackhole blackhole) throws IOException {
+        final String path = "/{containerName}/{blob}"
+            .replace("{containerName}", UrlEscapers.PATH_ESCAPER.escape(CONTAINER))
+            .replace("{blob}", UrlEscapers.PATH_ESCAPER.escape(BLOB));
+        final String host = "{url}".replace("{url}", ACCOUNT);
+
+        final UrlBuilder urlBuilder;
+        final UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
+        if (pathUrlBuilder.getScheme() != null) {
+            urlBuilder = pathUrlBuilder;
+        } else {
+            urlBuilder = new UrlBuilder()
+                .setScheme(host.split("://")[0])
+                .setHost(host.split("://")[1])
+                .setPath(path);
+        }
+
+        urlBuilder.setQueryParameter("snapshot", UrlEscapers.QUERY_ESCAPER.escape(SNAPSHOT));
+        urlBuilder.setQueryParameter("timeout", "30");
+
+        final URL url = urlBuilder.toURL();
+        blackhole.consume(url);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation;
+
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RestProxyGeneratedImplementationTests {
+    @Host("https://azure.com")
+    @ServiceInterface(name = "proxiedService")
+    interface ProxiedService {
+        @Get("items/{name}")
+        @ExpectedResponses({200})
+        Mono<Void> getItem(@PathParam("name") String name);
+    }
+
+    private final List<HttpRequest> requests = new ArrayList<>();
+    private HttpPipeline pipeline;
+
+    @Before
+    public void setup() {
+        requests.clear();
+        pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                requests.add(request);
+                return Mono.just(new MockHttpResponse(request, 200));
+            })
+            .build();
+    }
+
+    @Test
+    public void generatedImplementationName() {
+        assertEquals("com.azure.core.implementation.RestProxyGeneratedImplementationTests_ProxiedServiceRestProxy",
+            RestProxy.getGeneratedImplementationName(ProxiedService.class));
+    }
+
+    @Test
+    public void createFallsBackToProxy() {
+        final ProxiedService service = RestProxy.create(ProxiedService.class, pipeline, new JacksonAdapter());
+
+        assertTrue(Proxy.isProxyClass(service.getClass()));
+
+        service.getItem("first").block();
+        assertEquals(1, requests.size());
+        assertEquals("https://azure.com/items/first", requests.get(0).getUrl().toString());
+    }
+
+    @Test
+    public void createFallsBackToProxyAgain() {
+        // The missing implementation is remembered after the first create.
+        RestProxy.create(ProxiedService.class, pipeline, new JacksonAdapter());
+        final ProxiedService service = RestProxy.create(ProxiedService.class, pipeline, new JacksonAdapter());
+
+        assertTrue(Proxy.isProxyClass(service.getClass()));
+
+        service.getItem("second").block();
+        assertEquals(1, requests.size());
+        assertEquals("https://azure.com/items/second", requests.get(0).getUrl().toString());
+    }
+}
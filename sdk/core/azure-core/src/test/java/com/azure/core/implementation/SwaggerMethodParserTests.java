@@ -6,7 +6,11 @@ package com.azure.core.implementation;
 import com.azure.core.MyOtherRestException;
 import com.azure.core.MyRestException;
 import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HostParam;
 import com.azure.core.annotation.Patch;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
 import com.azure.core.annotation.UnexpectedResponseExceptionType;
 import com.azure.core.implementation.entities.HttpBinJSON;
 import com.azure.core.exception.HttpResponseException;
@@ -206,4 +210,48 @@ public class SwaggerMethodParserTests {
         assertEquals("https", methodParser.setScheme(null));
         assertEquals("raw.host.com", methodParser.setHost(null));
     }
+
+    interface TestInterface9 {
+        @Get("{container}/{blob}")
+        void testMethod9(@HostParam("url") String url, @PathParam("container") String container,
+                         @PathParam(value = "blob", encoded = true) String blob, @QueryParam("comp") String comp,
+                         @QueryParam("prefix") String prefix);
+    }
+
+    @Test
+    public void setUrl() throws IOException {
+        final Method testMethod9 = TestInterface9.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod9, "{url}");
+
+        assertEquals("https://raw.host.com/my%20container/a/b?comp=list&prefix=a/b%20c",
+            methodParser.setUrl(new Object[]{"https://raw.host.com", "my container", "a/b", "list", "a/b c"})
+                .toString());
+        assertEquals("https://raw.host.com/container/blob?comp=list",
+            methodParser.setUrl(new Object[]{"https://raw.host.com", "container", "blob", "list", null}).toString());
+    }
+
+    @Test
+    public void setUrlWithHostPathAndPort() throws IOException {
+        final Method testMethod9 = TestInterface9.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod9, "{url}");
+
+        assertEquals("http://localhost:8080/account/container/blob?comp=list",
+            methodParser.setUrl(new Object[]{"http://localhost:8080/account", "container", "blob", "list", null})
+                .toString());
+    }
+
+    interface TestInterface10 {
+        @Get("{nextLink}")
+        void testMethod10(@PathParam(value = "nextLink", encoded = true) String nextLink,
+                          @QueryParam("comp") String comp);
+    }
+
+    @Test
+    public void setUrlWithFullUrlPath() throws IOException {
+        final Method testMethod10 = TestInterface10.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod10, "https://raw.host.com");
+
+        assertEquals("https://other.host.com/path?marker=abc&comp=list",
+            methodParser.setUrl(new Object[]{"https://other.host.com/path?marker=abc", "list"}).toString());
+    }
 }
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class UrlTemplateTests {
+    @Test
+    public void expandWithEscaping() {
+        final UrlTemplate template = new UrlTemplate("/{container}/{blob}",
+            Arrays.asList(new Substitution("container", 0, true), new Substitution("blob", 1, false)),
+            UrlEscapers.PATH_ESCAPER);
+
+        assertEquals("/my%20container/a/b c", template.expand(new Object[]{"my container", "a/b c"}, String::valueOf));
+    }
+
+    @Test
+    public void expandRepeatedPlaceholder() {
+        final UrlTemplate template = new UrlTemplate("{a}-{a}",
+            Collections.singletonList(new Substitution("a", 0, true)), UrlEscapers.PATH_ESCAPER);
+
+        assertEquals("x-x", template.expand(new Object[]{"x"}, String::valueOf));
+    }
+
+    @Test
+    public void expandKeepsUnknownPlaceholders() {
+        final UrlTemplate template = new UrlTemplate("{{a}/{b}/{c}",
+            Arrays.asList(new Substitution("a", 0, true), new Substitution("c", 5, true)), UrlEscapers.PATH_ESCAPER);
+
+        assertEquals("{x/{b}/{c}", template.expand(new Object[]{"x"}, String::valueOf));
+    }
+
+    @Test
+    public void expandNullArgument() {
+        final UrlTemplate template = new UrlTemplate("/a/{b}",
+            Collections.singletonList(new Substitution("b", 0, true)), UrlEscapers.PATH_ESCAPER);
+
+        assertEquals("/a/", template.expand(new Object[]{null}, value -> null));
+    }
+
+    @Test
+    public void expandWithoutArguments() {
+        final UrlTemplate template = new UrlTemplate("/a/{b}",
+            Collections.singletonList(new Substitution("b", 0, true)), UrlEscapers.PATH_ESCAPER);
+
+        assertEquals("/a/{b}", template.expand(null, String::valueOf));
+        assertNull(new UrlTemplate(null, Collections.emptyList(), null).expand(new Object[0], String::valueOf));
+    }
+}
@@ -0,0 +1,231 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.processor;
+
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.implementation.RestProxy;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link ServiceInterfaceProcessor} on sample service interfaces with the system Java compiler, compiles the
+ * implementations it generates along with them, and uses those implementations through {@link RestProxy#create(Class,
+ * HttpPipeline, com.azure.core.implementation.serializer.SerializerAdapter) RestProxy.create}.
+ */
+public class ServiceInterfaceProcessorTests {
+    private static final String SAMPLES = String.join("\n",
+        "package com.example;",
+        "",
+        "import com.azure.core.annotation.BodyParam;",
+        "import com.azure.core.annotation.ExpectedResponses;",
+        "import com.azure.core.annotation.Get;",
+        "import com.azure.core.annotation.HeaderParam;",
+        "import com.azure.core.annotation.Host;",
+        "import com.azure.core.annotation.PathParam;",
+        "import com.azure.core.annotation.Post;",
+        "import com.azure.core.annotation.QueryParam;",
+        "import com.azure.core.annotation.ServiceInterface;",
+        "import reactor.core.publisher.Mono;",
+        "",
+        "import java.util.List;",
+        "import java.util.Map;",
+        "",
+        "public final class Samples {",
+        "    @Host(\"https://azure.com\")",
+        "    @ServiceInterface(name = \"sampleService\")",
+        "    public interface SampleService {",
+        "        @Get(\"items/{name}\")",
+        "        @ExpectedResponses({200})",
+        "        Mono<Void> getItem(@PathParam(\"name\") String name);",
+        "",
+        "        @Get(\"items\")",
+        "        @ExpectedResponses({200})",
+        "        Mono<List<Map<String, Integer>>> listItems(@QueryParam(\"filter\") List<String> filters,",
+        "            @QueryParam(\"top\") int top);",
+        "",
+        "        @Post(\"items\")",
+        "        @ExpectedResponses({200})",
+        "        Mono<Void> createItems(@BodyParam(\"application/json\") String[][] items);",
+        "",
+        "        @Get(\"items/{name}\")",
+        "        @ExpectedResponses({200})",
+        "        <T extends Comparable<T>> Mono<T> getTypedItem(@PathParam(\"name\") String name,",
+        "            @HeaderParam(\"x-ms-tags\") String... tags);",
+        "",
+        "        default Mono<Void> getDefaultItem() {",
+        "            return getItem(\"default\");",
+        "        }",
+        "    }",
+        "",
+        "    @Host(\"https://azure.com\")",
+        "    @ServiceInterface(name = \"genericService\")",
+        "    public interface GenericService<T> {",
+        "        @Get(\"items/{name}\")",
+        "        @ExpectedResponses({200})",
+        "        Mono<T> getItem(@PathParam(\"name\") String name);",
+        "    }",
+        "",
+        "    @Host(\"https://azure.com\")",
+        "    @ServiceInterface(name = \"privateService\")",
+        "    private interface PrivateService {",
+        "        @Get(\"items/{name}\")",
+        "        @ExpectedResponses({200})",
+        "        Mono<Void> getItem(@PathParam(\"name\") String name);",
+        "    }",
+        "}",
+        "");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<HttpRequest> requests = new ArrayList<>();
+    private HttpPipeline pipeline;
+    private Path sourceOutput;
+    private Path classOutput;
+
+    @Before
+    public void setup() throws IOException, URISyntaxException {
+        requests.clear();
+        pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                requests.add(request);
+                return Mono.just(new MockHttpResponse(request, 200));
+            })
+            .build();
+
+        sourceOutput = temporaryFolder.newFolder("generated-sources").toPath();
+        classOutput = temporaryFolder.newFolder("classes").toPath();
+        compileSamples();
+    }
+
+    @Test
+    public void generatesImplementationOfServiceInterface() throws IOException {
+        final String source = readGeneratedSource("Samples_SampleServiceRestProxy");
+
+        // Generic types are printed with their type arguments, and looked up by their erasure.
+        assertTrue(source.contains("public reactor.core.publisher.Mono<java.util.List<java.util.Map<java.lang.String,"
+            + "java.lang.Integer>>> listItems(java.util.List<java.lang.String> filters, int top)"));
+        assertTrue(source.contains("getMethod(\"listItems\", java.util.List.class, int.class)"));
+        assertTrue(source.contains("getMethod(\"createItems\", java.lang.String[][].class)"));
+
+        // Type parameters keep their bounds and the last array parameter of a varargs method stays varargs.
+        assertTrue(source.contains("public <T extends java.lang.Comparable<T>> reactor.core.publisher.Mono<T> "
+            + "getTypedItem(java.lang.String name, java.lang.String... tags)"));
+        assertTrue(source.contains("getMethod(\"getTypedItem\", java.lang.String.class, java.lang.String[].class)"));
+
+        // Default methods keep their implementation.
+        assertFalse(source.contains("getDefaultItem"));
+    }
+
+    @Test
+    public void skipsGenericAndPrivateServiceInterfaces() {
+        assertFalse(Files.exists(sourceOutput.resolve("com/example/Samples_GenericServiceRestProxy.java")));
+        assertFalse(Files.exists(sourceOutput.resolve("com/example/Samples_PrivateServiceRestProxy.java")));
+    }
+
+    @Test
+    public void createUsesGeneratedImplementation() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classOutput.toUri().toURL()},
+            getClass().getClassLoader())) {
+            final Class<?> sampleService = Class.forName("com.example.Samples$SampleService", true, classLoader);
+
+            // Creating the implementation resolves every method of the interface from its erased parameter types.
+            final Object service = RestProxy.create(sampleService, pipeline, new JacksonAdapter());
+
+            assertEquals("com.example.Samples_SampleServiceRestProxy", service.getClass().getName());
+            assertFalse(Proxy.isProxyClass(service.getClass()));
+
+            ((Mono<?>) sampleService.getMethod("getItem", String.class).invoke(service, "first")).block();
+            ((Mono<?>) sampleService.getMethod("getDefaultItem").invoke(service)).block();
+            assertEquals(2, requests.size());
+            assertEquals("https://azure.com/items/first", requests.get(0).getUrl().toString());
+            assertEquals("https://azure.com/items/default", requests.get(1).getUrl().toString());
+        }
+    }
+
+    private void compileSamples() throws IOException, URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("Tests must run on a JDK.", compiler);
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> options = Arrays.asList("-classpath", getClassPath(),
+            "-s", sourceOutput.toString(), "-d", classOutput.toString());
+        final JavaFileObject samples = new SimpleJavaFileObject(URI.create("string:///com/example/Samples.java"),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return SAMPLES;
+            }
+        };
+
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+            Collections.singletonList(samples));
+        task.setProcessors(Collections.singletonList(new ServiceInterfaceProcessor()));
+
+        // The generated implementations are compiled in the same task, so any error in them fails it.
+        final boolean compiled = task.call();
+        final StringBuilder errors = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.append(diagnostic).append('\n');
+            }
+        }
+        assertTrue(errors.toString(), compiled);
+    }
+
+    private String readGeneratedSource(String implementationName) throws IOException {
+        final Path path = sourceOutput.resolve("com/example/" + implementationName + ".java");
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    /*
+     * The test class path may be a manifest-only jar, so the locations of the classes the samples and the generated
+     * implementations compile against are added explicitly.
+     */
+    private static String getClassPath() throws URISyntaxException {
+        final Set<String> entries = new LinkedHashSet<>(Arrays.asList(
+            System.getProperty("java.class.path").split(File.pathSeparator)));
+        for (Class<?> type : Arrays.asList(RestProxy.class, Mono.class, Publisher.class)) {
+            entries.add(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+        }
+
+        return String.join(File.pathSeparator, entries);
+    }
+}
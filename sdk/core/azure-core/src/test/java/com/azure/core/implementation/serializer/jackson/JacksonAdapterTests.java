@@ -6,12 +6,19 @@ package com.azure.core.implementation.serializer.jackson;
 import com.azure.core.implementation.serializer.SerializerEncoding;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class JacksonAdapterTests {
     @Test
@@ -56,6 +63,60 @@ public class JacksonAdapterTests {
         assertEquals("{\"\":\"test\"}", serializer.serialize(map, SerializerEncoding.JSON));
     }
 
+    @Test
+    public void deserializeBytes() throws IOException {
+        final byte[] value = "{\"map\":{\"key\":\"value\"}}".getBytes(StandardCharsets.UTF_8);
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        final MapHolder mapHolder = serializer.deserialize(value, MapHolder.class, SerializerEncoding.JSON);
+
+        assertEquals("value", mapHolder.map().get("key"));
+    }
+
+    @Test
+    public void deserializeBytesWithBom() throws IOException {
+        final byte[] value = "\uFEFF{\"map\":{\"key\":\"value\"}}".getBytes(StandardCharsets.UTF_8);
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        final MapHolder mapHolder = serializer.deserialize(value, MapHolder.class, SerializerEncoding.JSON);
+
+        assertEquals("value", mapHolder.map().get("key"));
+    }
+
+    @Test
+    public void deserializeEmptyBytes() throws IOException {
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        assertNull(serializer.deserialize(new byte[0], MapHolder.class, SerializerEncoding.JSON));
+        assertNull(serializer.deserialize("\uFEFF".getBytes(StandardCharsets.UTF_8), MapHolder.class,
+            SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void deserializeStream() throws IOException {
+        final byte[] value = "\uFEFF{\"map\":{\"key\":\"value\"}}".getBytes(StandardCharsets.UTF_8);
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        final MapHolder mapHolder = serializer.deserialize(new ByteArrayInputStream(value), MapHolder.class,
+            SerializerEncoding.JSON);
+
+        assertEquals("value", mapHolder.map().get("key"));
+        assertNull(serializer.deserialize(new ByteArrayInputStream(new byte[0]), MapHolder.class,
+            SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void deserializeByteBuffers() {
+        final byte[] value = "{\"map\":{\"key\":\"value\"}}".getBytes(StandardCharsets.UTF_8);
+        final Flux<ByteBuffer> buffers = Flux.just(ByteBuffer.wrap(Arrays.copyOfRange(value, 0, 10)),
+            ByteBuffer.wrap(Arrays.copyOfRange(value, 10, value.length)));
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        StepVerifier.create(serializer.<MapHolder>deserialize(buffers, MapHolder.class, SerializerEncoding.JSON))
+            .assertNext(mapHolder -> assertEquals("value", mapHolder.map().get("key")))
+            .verifyComplete();
+    }
+
     private static class MapHolder {
         @JsonInclude(content = JsonInclude.Include.ALWAYS)
         private Map<String, String> map = new HashMap<>();
@@ -381,6 +381,10 @@ public class BridgeInternal {
 
     public static void populatePropertyBagJsonSerializable(JsonSerializable jsonSerializable) { jsonSerializable.populatePropertyBag(); }
 
+    public static byte[] toJsonBytes(JsonSerializable jsonSerializable) {
+        return jsonSerializable.toJsonBytes();
+    }
+
     public static void setMapper(JsonSerializable jsonSerializable, ObjectMapper om) {
         jsonSerializable.setMapper(om);
     }
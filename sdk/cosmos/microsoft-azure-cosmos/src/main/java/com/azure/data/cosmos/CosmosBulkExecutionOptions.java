@@ -0,0 +1,116 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * Encapsulates options for the bulk execution of item operations with
+ * {@link CosmosContainer#executeBulkOperations(reactor.core.publisher.Flux, CosmosBulkExecutionOptions)}.
+ */
+public class CosmosBulkExecutionOptions {
+    private int maxConcurrencyPerPartitionKeyRange;
+    private int maxRetryAttemptsOnThrottledOperations;
+    private int maxBufferedOperations;
+
+    /**
+     * Creates a new instance of the CosmosBulkExecutionOptions class and initializes all
+     * properties to default values.
+     */
+    public CosmosBulkExecutionOptions() {
+        this.maxConcurrencyPerPartitionKeyRange = 10;
+        this.maxRetryAttemptsOnThrottledOperations = 3;
+        this.maxBufferedOperations = 10000;
+    }
+
+    /**
+     * Gets the maximum number of operations executed concurrently on each partition key range.
+     *
+     * @return the maximum number of concurrent operations per partition key range.
+     */
+    public int maxConcurrencyPerPartitionKeyRange() {
+        return this.maxConcurrencyPerPartitionKeyRange;
+    }
+
+    /**
+     * Sets the maximum number of operations executed concurrently on each partition key range.
+     * <p>
+     * Operations on different partition key ranges are executed independently, so the total number of
+     * concurrent operations grows with the number of partition key ranges the operations target.
+     * <p>
+     * The default value is 10.
+     *
+     * @param maxConcurrencyPerPartitionKeyRange the maximum number of concurrent operations per partition key range.
+     * @return the CosmosBulkExecutionOptions.
+     */
+    public CosmosBulkExecutionOptions maxConcurrencyPerPartitionKeyRange(int maxConcurrencyPerPartitionKeyRange) {
+        if (maxConcurrencyPerPartitionKeyRange < 1) {
+            throw new IllegalArgumentException("maxConcurrencyPerPartitionKeyRange value must be a positive integer.");
+        }
+
+        this.maxConcurrencyPerPartitionKeyRange = maxConcurrencyPerPartitionKeyRange;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of times an operation is executed again after it was throttled.
+     *
+     * @return the maximum number of retries of a throttled operation.
+     */
+    public int maxRetryAttemptsOnThrottledOperations() {
+        return this.maxRetryAttemptsOnThrottledOperations;
+    }
+
+    /**
+     * Sets the maximum number of times an operation is executed again after it was throttled.
+     * <p>
+     * These retries come on top of the ones of {@link RetryOptions}: an operation is only retried by the bulk
+     * execution once the client has given up on it. When that happens, the whole partition key range the
+     * operation targets is paused for the time the service asked to wait, so the other operations on it don't
+     * get throttled as well.
+     * <p>
+     * The default value is 3.
+     *
+     * @param maxRetryAttemptsOnThrottledOperations the maximum number of retries of a throttled operation.
+     * @return the CosmosBulkExecutionOptions.
+     */
+    public CosmosBulkExecutionOptions maxRetryAttemptsOnThrottledOperations(int maxRetryAttemptsOnThrottledOperations) {
+        if (maxRetryAttemptsOnThrottledOperations < 0) {
+            throw new IllegalArgumentException(
+                "maxRetryAttemptsOnThrottledOperations value must be a non-negative integer.");
+        }
+
+        this.maxRetryAttemptsOnThrottledOperations = maxRetryAttemptsOnThrottledOperations;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of operations read ahead of their execution, across all partition key ranges.
+     *
+     * @return the maximum number of buffered operations.
+     */
+    public int maxBufferedOperations() {
+        return this.maxBufferedOperations;
+    }
+
+    /**
+     * Sets the maximum number of operations read ahead of their execution, across all partition key ranges.
+     * <p>
+     * Operations are read from the input and queued per partition key range, and each partition key range executes
+     * its queued operations independently. Operations queued for a throttled or slow partition key range don't
+     * prevent the operations on other partition key ranges from being read and executed until this many operations
+     * are queued. A larger value keeps more operations in memory.
+     * <p>
+     * The default value is 10000.
+     *
+     * @param maxBufferedOperations the maximum number of buffered operations.
+     * @return the CosmosBulkExecutionOptions.
+     */
+    public CosmosBulkExecutionOptions maxBufferedOperations(int maxBufferedOperations) {
+        if (maxBufferedOperations < 1) {
+            throw new IllegalArgumentException("maxBufferedOperations value must be a positive integer.");
+        }
+
+        this.maxBufferedOperations = maxBufferedOperations;
+        return this;
+    }
+}
@@ -0,0 +1,196 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.AsyncDocumentClient;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.PartitionKeyRangeResolver;
+import com.azure.data.cosmos.internal.RequestOptions;
+import com.azure.data.cosmos.internal.ResourceResponse;
+import com.azure.data.cosmos.internal.Utils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Executes item operations in bulk for a {@link CosmosContainer}.
+ *
+ * The operations are grouped by the partition key range they target, resolved from the cached routing map of the
+ * container, and each group is executed with its own concurrency limit. When an operation is throttled, the group
+ * is paused for the time the service asked to wait before the operation is retried, so one hot partition key range
+ * slows down only the operations that target it.
+ *
+ * Operations are queued per partition key range until executed, up to
+ * {@link CosmosBulkExecutionOptions#maxBufferedOperations()} operations in total, so the operations that wait for a
+ * paused partition key range don't stop the input from being read for the others.
+ */
+final class CosmosBulkExecutor {
+    // Groups the operations that failed before being executed, so they don't need a partition key range.
+    private static final String UNRESOLVED_GROUP = "";
+    private static final long DEFAULT_THROTTLE_BACKOFF_MILLIS = 100;
+
+    private final CosmosContainer container;
+    private final AsyncDocumentClient client;
+    private final CosmosBulkExecutionOptions options;
+    private final PartitionKeyRangeResolver partitionKeyRangeResolver;
+
+    CosmosBulkExecutor(CosmosContainer container, CosmosBulkExecutionOptions options) {
+        this.container = container;
+        this.client = container.getDatabase().getDocClientWrapper();
+        this.options = options;
+        this.partitionKeyRangeResolver = new PartitionKeyRangeResolver(client, container.getLink());
+    }
+
+    Flux<CosmosBulkOperationResponse> execute(Flux<CosmosItemOperation> operations) {
+        return executeByPartitionKeyRange(
+                operations.flatMap(this::prepare),
+                operation -> operation.partitionKeyRangeId,
+                (operation, throttle) -> execute(operation, throttle, 0),
+                options);
+    }
+
+    /**
+     * Executes operations grouped by partition key range, each group with its own concurrency limit and throttle.
+     *
+     * The operations of each group wait in the queue groupBy keeps for it, and groupBy reads more input as the queues
+     * are drained. Its prefetch bounds the operations waiting across all groups, so it is large enough for a paused
+     * group to hold many operations before the others stop receiving new ones. groupBy also needs every group to be
+     * consumed to make progress, hence the unbounded concurrency of the groups.
+     */
+    static <T, R> Flux<R> executeByPartitionKeyRange(Flux<T> operations,
+                                                     Function<T, String> partitionKeyRangeId,
+                                                     BiFunction<T, PartitionThrottle, Mono<R>> execute,
+                                                     CosmosBulkExecutionOptions options) {
+        return operations
+                .groupBy(partitionKeyRangeId, options.maxBufferedOperations())
+                .flatMap(group -> {
+                    PartitionThrottle throttle = new PartitionThrottle();
+                    return group.flatMap(operation -> execute.apply(operation, throttle),
+                            options.maxConcurrencyPerPartitionKeyRange());
+                }, Integer.MAX_VALUE);
+    }
+
+    private Mono<PreparedOperation> prepare(CosmosItemOperation operation) {
+        RequestOptions requestOptions = operation.options().toRequestOptions();
+        Document document;
+        try {
+            document = operation.item() != null ? CosmosItemProperties.fromObject(operation.item(), container.getSerializer()) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.just(new PreparedOperation(operation, requestOptions, null, UNRESOLVED_GROUP, e));
+        }
+
+        return partitionKeyRangeResolver.resolvePartitionKeyRangeId(document, requestOptions.getPartitionKey())
+                .map(rangeId -> new PreparedOperation(operation, requestOptions, document, rangeId, null))
+                .onErrorResume(error -> Mono.just(
+                        new PreparedOperation(operation, requestOptions, document, UNRESOLVED_GROUP, error)));
+    }
+
+    private Mono<CosmosBulkOperationResponse> execute(PreparedOperation operation, PartitionThrottle throttle,
+                                                      int retryAttempt) {
+        if (operation.error != null) {
+            return Mono.just(new CosmosBulkOperationResponse(operation.operation, null, operation.error));
+        }
+
+        return throttle.awaitResume()
+                .then(Mono.defer(() -> send(operation)))
+                .map(response -> new CosmosBulkOperationResponse(operation.operation, response, null))
+                .onErrorResume(error -> {
+                    CosmosClientException clientException = Utils.as(Exceptions.unwrap(error),
+                            CosmosClientException.class);
+                    if (clientException != null
+                            && clientException.statusCode() == HttpConstants.StatusCodes.TOO_MANY_REQUESTS
+                            && retryAttempt < options.maxRetryAttemptsOnThrottledOperations()) {
+                        throttle.pause(clientException.retryAfterInMilliseconds());
+                        return execute(operation, throttle, retryAttempt + 1);
+                    }
+
+                    return Mono.just(new CosmosBulkOperationResponse(operation.operation, null, error));
+                });
+    }
+
+    private Mono<CosmosItemResponse> send(PreparedOperation operation) {
+        CosmosItemOperation itemOperation = operation.operation;
+        RequestOptions requestOptions = operation.requestOptions;
+        Flux<ResourceResponse<Document>> responses;
+        switch (itemOperation.operationType()) {
+            case CREATE:
+                responses = client.createDocument(container.getLink(), operation.document, requestOptions, true);
+                break;
+            case UPSERT:
+                responses = client.upsertDocument(container.getLink(), operation.document, requestOptions, true);
+                break;
+            case REPLACE:
+                responses = client.replaceDocument(getItemLink(itemOperation), operation.document, requestOptions);
+                break;
+            case DELETE:
+                responses = client.deleteDocument(getItemLink(itemOperation), requestOptions);
+                break;
+            case READ:
+                responses = client.readDocument(getItemLink(itemOperation), requestOptions);
+                break;
+            default:
+                return Mono.error(new UnsupportedOperationException(
+                        "Unsupported operation type " + itemOperation.operationType()));
+        }
+
+        return responses
+                .map(response -> new CosmosItemResponse(response, requestOptions.getPartitionKey(), container))
+                .single();
+    }
+
+    private String getItemLink(CosmosItemOperation operation) {
+        return container.getItem(operation.id(), null).getLink();
+    }
+
+    /**
+     * An operation along with what is needed to execute it.
+     */
+    private static final class PreparedOperation {
+        private final CosmosItemOperation operation;
+        private final RequestOptions requestOptions;
+        private final Document document;
+        private final String partitionKeyRangeId;
+        private final Throwable error;
+
+        PreparedOperation(CosmosItemOperation operation, RequestOptions requestOptions, Document document,
+                          String partitionKeyRangeId, Throwable error) {
+            this.operation = operation;
+            this.requestOptions = requestOptions;
+            this.document = document;
+            this.partitionKeyRangeId = partitionKeyRangeId;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The time until which the operations on a partition key range are paused after one was throttled.
+     */
+    static final class PartitionThrottle {
+        private final AtomicLong resumeAtMillis = new AtomicLong();
+
+        Mono<Void> awaitResume() {
+            return Mono.defer(() -> {
+                long waitMillis = resumeAtMillis.get() - now();
+                return waitMillis > 0 ? Mono.delay(Duration.ofMillis(waitMillis)).then() : Mono.empty();
+            });
+        }
+
+        void pause(long retryAfterMillis) {
+            long resumeAt = now() + (retryAfterMillis > 0 ? retryAfterMillis : DEFAULT_THROTTLE_BACKOFF_MILLIS);
+            resumeAtMillis.accumulateAndGet(resumeAt, Math::max);
+        }
+
+        private static long now() {
+            // The clock of the scheduler Mono.delay waits on.
+            return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos;
+
+/**
+ * The result of an item operation executed in bulk: either the response of the operation, or the error it failed
+ * with.
+ */
+public final class CosmosBulkOperationResponse {
+    private final CosmosItemOperation operation;
+    private final CosmosItemResponse response;
+    private final Throwable error;
+
+    CosmosBulkOperationResponse(CosmosItemOperation operation, CosmosItemResponse response, Throwable error) {
+        this.operation = operation;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Gets the operation this is the result of.
+     *
+     * @return the operation.
+     */
+    public CosmosItemOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Gets the response of the operation, or null if it failed.
+     *
+     * @return the cosmos item response.
+     */
+    public CosmosItemResponse response() {
+        return response;
+    }
+
+    /**
+     * Gets the error the operation failed with, or null if it succeeded.
+     *
+     * @return the error.
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    /**
+     * Gets whether the operation succeeded.
+     *
+     * @return true if the operation succeeded, false otherwise.
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -31,6 +31,7 @@ public class CosmosClient implements AutoCloseable {
     private final List<Permission> permissions;
     private final TokenResolver tokenResolver;
     private final CosmosKeyCredential cosmosKeyCredential;
+    private final CosmosSerializer serializer;
 
 
      CosmosClient(CosmosClientBuilder builder) {
@@ -42,6 +43,7 @@ public class CosmosClient implements AutoCloseable {
          this.permissions = builder.permissions();
          this.tokenResolver = builder.tokenResolver();
          this.cosmosKeyCredential = builder.cosmosKeyCredential();
+         this.serializer = builder.serializer() != null ? builder.serializer() : JacksonCosmosSerializer.DEFAULT;
          this.asyncDocumentClient = new AsyncDocumentClient.Builder()
              .withServiceEndpoint(this.serviceEndpoint)
              .withMasterKeyOrResourceToken(this.keyOrResourceToken)
@@ -141,6 +143,14 @@ public class CosmosClient implements AutoCloseable {
         return cosmosKeyCredential;
     }
 
+    /**
+     * Gets the serializer of the items
+     * @return the serializer
+     */
+    CosmosSerializer getSerializer() {
+        return serializer;
+    }
+
     /**
      * CREATE a Database if it does not already exist on the service
      *
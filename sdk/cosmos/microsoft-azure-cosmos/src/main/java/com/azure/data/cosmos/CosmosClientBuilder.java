@@ -36,6 +36,7 @@ public class CosmosClientBuilder {
     private List<Permission> permissions;
     private TokenResolver tokenResolver;
     private CosmosKeyCredential cosmosKeyCredential;
+    private CosmosSerializer serializer;
 
     public CosmosClientBuilder() {
     }
@@ -193,6 +194,26 @@ public class CosmosClientBuilder {
         return this;
     }
 
+    /**
+     * Gets the {@link CosmosSerializer} used to convert items from and to JSON
+     * @return the serializer, or null if the default serializer is used
+     */
+    public CosmosSerializer serializer() {
+        return serializer;
+    }
+
+    /**
+     * Sets the {@link CosmosSerializer} used to convert items from and to JSON in point operations, queries and the
+     * change feed. When not set, the items are converted with a {@link JacksonCosmosSerializer} using the default
+     * object mapper of the SDK.
+     * @param serializer {@link CosmosSerializer}
+     * @return current builder
+     */
+    public CosmosClientBuilder serializer(CosmosSerializer serializer) {
+        this.serializer = serializer;
+        return this;
+    }
+
     /**
      * Builds a cosmos configuration object with the provided properties
      * @return CosmosClient
@@ -6,9 +6,13 @@ import com.azure.data.cosmos.internal.HttpConstants;
 import com.azure.data.cosmos.internal.Offer;
 import com.azure.data.cosmos.internal.Paths;
 import com.azure.data.cosmos.internal.RequestOptions;
+import org.apache.commons.lang3.tuple.Pair;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static com.azure.data.cosmos.Resource.validateResource;
 
 /**
@@ -187,7 +191,7 @@ public class CosmosContainer {
         }
         RequestOptions requestOptions = options.toRequestOptions();
         return database.getDocClientWrapper()
-                .createDocument(getLink(), CosmosItemProperties.fromObject(item), requestOptions, true)
+                .createDocument(getLink(), CosmosItemProperties.fromObject(item, getSerializer()), requestOptions, true)
                 .map(response -> new CosmosItemResponse(response, requestOptions.getPartitionKey(), this)).single();
     }
 
@@ -225,10 +229,77 @@ public class CosmosContainer {
         RequestOptions requestOptions = options.toRequestOptions();
 
         return this.getDatabase().getDocClientWrapper()
-                .upsertDocument(this.getLink(), CosmosItemProperties.fromObject(item), options.toRequestOptions(), true)
+                .upsertDocument(this.getLink(), CosmosItemProperties.fromObject(item, getSerializer()), options.toRequestOptions(), true)
                 .map(response -> new CosmosItemResponse(response, requestOptions.getPartitionKey(), this)).single();
     }
 
+    /**
+     * Executes item operations in bulk.
+     *
+     * After subscription the operations will be performed. The {@link Flux} will
+     * contain one response per operation, with either the cosmos item response of
+     * the operation or the error it failed with, in the order the operations
+     * complete. The {@link Flux} only errors if the operations {@link Flux} does.
+     *
+     * @param operations the item operations.
+     * @return an {@link Flux} containing the responses of the operations.
+     */
+    public Flux<CosmosBulkOperationResponse> executeBulkOperations(Flux<CosmosItemOperation> operations) {
+        return executeBulkOperations(operations, new CosmosBulkExecutionOptions());
+    }
+
+    /**
+     * Executes item operations in bulk.
+     *
+     * The operations are grouped by the partition key range they target, and the
+     * operations on each partition key range are executed concurrently up to the
+     * limit set in the options. A partition key range whose operations are
+     * throttled is paused for the time the service asked to wait, while the
+     * operations on the other ones carry on.
+     *
+     * After subscription the operations will be performed. The {@link Flux} will
+     * contain one response per operation, with either the cosmos item response of
+     * the operation or the error it failed with, in the order the operations
+     * complete. The {@link Flux} only errors if the operations {@link Flux} does.
+     *
+     * @param operations the item operations.
+     * @param options    the bulk execution options.
+     * @return an {@link Flux} containing the responses of the operations.
+     */
+    public Flux<CosmosBulkOperationResponse> executeBulkOperations(Flux<CosmosItemOperation> operations,
+                                                                   CosmosBulkExecutionOptions options) {
+        if (options == null) {
+            options = new CosmosBulkExecutionOptions();
+        }
+        CosmosBulkExecutionOptions bulkOptions = options;
+        return Flux.defer(() -> new CosmosBulkExecutor(this, bulkOptions).execute(operations));
+    }
+
+    /**
+     * Reads many cosmos items by their ids and partition keys.
+     *
+     * The items are grouped by the partition key range they belong to, and each
+     * partition key range is read with a single targeted query, or a point read
+     * when only one of the items belongs to it. The partition key ranges are read
+     * in parallel.
+     *
+     * After subscription the operation will be performed. The {@link Mono} upon
+     * successful completion will contain a single feed response with the items
+     * that were found, in no particular order, and the total request charge of
+     * reading them. Items that don't exist are left out. In case of failure the
+     * {@link Mono} will error.
+     *
+     * @param itemIdentities the ids and partition keys of the items.
+     * @return an {@link Mono} containing the feed response with the read cosmos
+     *         items or an error.
+     */
+    public Mono<FeedResponse<CosmosItemProperties>> readMany(List<Pair<String, PartitionKey>> itemIdentities) {
+        if (itemIdentities == null) {
+            throw new IllegalArgumentException("itemIdentities");
+        }
+        return Mono.defer(() -> new CosmosReadManyExecutor(this).readMany(itemIdentities));
+    }
+
     /**
      * Reads all cosmos items in the container.
      *
@@ -256,7 +327,7 @@ public class CosmosContainer {
      */
     public Flux<FeedResponse<CosmosItemProperties>> readAllItems(FeedOptions options) {
         return getDatabase().getDocClientWrapper().readDocuments(getLink(), options).map(
-                response -> BridgeInternal.createFeedResponse(CosmosItemProperties.getFromV2Results(response.results()),
+                response -> BridgeInternal.createFeedResponse(CosmosItemProperties.getFromV2Results(response.results(), getSerializer()),
                         response.responseHeaders()));
     }
 
@@ -321,10 +392,62 @@ public class CosmosContainer {
     public Flux<FeedResponse<CosmosItemProperties>> queryItems(SqlQuerySpec querySpec, FeedOptions options) {
         return getDatabase().getDocClientWrapper().queryDocuments(getLink(), querySpec, options)
                 .map(response -> BridgeInternal.createFeedResponseWithQueryMetrics(
-                        CosmosItemProperties.getFromV2Results(response.results()), response.responseHeaders(),
+                        CosmosItemProperties.getFromV2Results(response.results(), getSerializer()), response.responseHeaders(),
                         response.queryMetrics()));
     }
 
+    /**
+     * Query for items in a container and deserializes them into objects of the
+     * given type.
+     *
+     * The items are converted straight into objects, which is cheaper than
+     * querying them as {@link CosmosItemProperties} and converting them with
+     * {@link CosmosItemProperties#getObject(Class)}.
+     *
+     * After subscription the operation will be performed. The {@link Flux} will
+     * contain one or several feed response of the obtained items. In case of
+     * failure the {@link Flux} will error.
+     *
+     * @param query    the query.
+     * @param options  the feed options.
+     * @param itemType the class of the items, which must be a POJO class.
+     * @param <T>      the type of the items.
+     * @return an {@link Flux} containing one or several feed response pages of the
+     *         obtained items or an error.
+     */
+    public <T> Flux<FeedResponse<T>> queryItems(String query, FeedOptions options, Class<T> itemType) {
+        return queryItems(new SqlQuerySpec(query), options, itemType);
+    }
+
+    /**
+     * Query for items in a container and deserializes them into objects of the
+     * given type.
+     *
+     * The items are converted straight into objects, which is cheaper than
+     * querying them as {@link CosmosItemProperties} and converting them with
+     * {@link CosmosItemProperties#getObject(Class)}.
+     *
+     * After subscription the operation will be performed. The {@link Flux} will
+     * contain one or several feed response of the obtained items. In case of
+     * failure the {@link Flux} will error.
+     *
+     * @param querySpec the SQL query specification.
+     * @param options   the feed options.
+     * @param itemType  the class of the items, which must be a POJO class.
+     * @param <T>       the type of the items.
+     * @return an {@link Flux} containing one or several feed response pages of the
+     *         obtained items or an error.
+     */
+    public <T> Flux<FeedResponse<T>> queryItems(SqlQuerySpec querySpec, FeedOptions options, Class<T> itemType) {
+        CosmosSerializer serializer = getSerializer();
+        return getDatabase().getDocClientWrapper().queryDocuments(getLink(), querySpec, options)
+                .map(response -> new FeedResponse<>(
+                        response.results().stream()
+                                .map(document -> serializer.deserialize(document.propertyBag, itemType))
+                                .collect(Collectors.toList()),
+                        response.responseHeaders(), response.queryMetrics()));
+    }
+
     /**
      * Query for documents in a items in a container
      *
@@ -339,7 +462,31 @@ public class CosmosContainer {
     public Flux<FeedResponse<CosmosItemProperties>> queryChangeFeedItems(ChangeFeedOptions changeFeedOptions) {
         return getDatabase().getDocClientWrapper().queryDocumentChangeFeed(getLink(), changeFeedOptions)
                 .map(response -> new FeedResponse<CosmosItemProperties>(
-                        CosmosItemProperties.getFromV2Results(response.results()), response.responseHeaders(), false));
+                        CosmosItemProperties.getFromV2Results(response.results(), getSerializer()), response.responseHeaders(), false));
+    }
+
+    /**
+     * Query for the changes of the items in a container and deserializes the
+     * items into objects of the given type.
+     *
+     * After subscription the operation will be performed. The {@link Flux} will
+     * contain one or several feed response of the obtained items. In case of
+     * failure the {@link Flux} will error.
+     *
+     * @param changeFeedOptions the feed options.
+     * @param itemType          the class of the items, which must be a POJO class.
+     * @param <T>               the type of the items.
+     * @return an {@link Flux} containing one or several feed response pages of the
+     *         obtained items or an error.
+     */
+    public <T> Flux<FeedResponse<T>> queryChangeFeedItems(ChangeFeedOptions changeFeedOptions, Class<T> itemType) {
+        CosmosSerializer serializer = getSerializer();
+        return getDatabase().getDocClientWrapper().queryDocumentChangeFeed(getLink(), changeFeedOptions)
+                .map(response -> new FeedResponse<T>(
+                        response.results().stream()
+                                .map(document -> serializer.deserialize(document.propertyBag, itemType))
+                                .collect(Collectors.toList()),
+                        response.responseHeaders(), false));
     }
 
     /**
@@ -459,6 +606,10 @@ public class CosmosContainer {
         return database;
     }
 
+    CosmosSerializer getSerializer() {
+        return database.getClient().getSerializer();
+    }
+
     String URIPathSegment() {
         return Paths.COLLECTIONS_PATH_SEGMENT;
     }
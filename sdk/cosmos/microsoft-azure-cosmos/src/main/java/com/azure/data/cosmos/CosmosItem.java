@@ -70,6 +70,32 @@ public class CosmosItem {
                 .single();
     }
 
+    /**
+     * Reads an item and deserializes it directly into an object of the given type.
+     *
+     * The response body is deserialized straight into the object, which is cheaper than reading the item as
+     * {@link CosmosItemProperties} and converting it with {@link CosmosItemProperties#getObject(Class)}.
+     *
+     * After subscription the operation will be performed. 
+     * The {@link Mono} upon successful completion will contain a cosmos typed item response with the read item
+     * In case of failure the {@link Mono} will error.
+     *
+     * @param options the request comosItemRequestOptions
+     * @param itemType the class of the item, which must be a POJO class
+     * @param <T> the type of the item
+     * @return an {@link Mono} containing the cosmos typed item response with the read item or an error
+     */
+    public <T> Mono<CosmosTypedItemResponse<T>> read(CosmosItemRequestOptions options, Class<T> itemType) {
+        if (options == null) {
+            options = new CosmosItemRequestOptions(partitionKey);
+        }
+        RequestOptions requestOptions = options.toRequestOptions();
+        return container.getDatabase().getDocClientWrapper()
+                .readDocument(getLink(), requestOptions)
+                .map(response -> new CosmosTypedItemResponse<>(response, itemType, container.getSerializer()))
+                .single();
+    }
+
     /**
      * Replaces an item with the passed in item.
      *
@@ -96,7 +122,7 @@ public class CosmosItem {
      * @return an {@link Mono} containing the  cosmos item resource response with the replaced item or an error.
      */
     public Mono<CosmosItemResponse> replace(Object item, CosmosItemRequestOptions options){
-        Document doc = CosmosItemProperties.fromObject(item);
+        Document doc = CosmosItemProperties.fromObject(item, container.getSerializer());
         if (options == null) {
             options = new CosmosItemRequestOptions();
         }
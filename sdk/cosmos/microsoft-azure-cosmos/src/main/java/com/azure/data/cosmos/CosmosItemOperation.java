@@ -0,0 +1,181 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos;
+
+/**
+ * An operation on an item, to be executed in bulk with
+ * {@link CosmosContainer#executeBulkOperations(reactor.core.publisher.Flux)}.
+ */
+public final class CosmosItemOperation {
+    private final CosmosItemOperationType operationType;
+    private final String id;
+    private final Object item;
+    private final CosmosItemRequestOptions options;
+
+    private CosmosItemOperation(CosmosItemOperationType operationType, String id, Object item,
+                                CosmosItemRequestOptions options) {
+        this.operationType = operationType;
+        this.id = id;
+        this.item = item;
+        this.options = options != null ? options : new CosmosItemRequestOptions();
+    }
+
+    /**
+     * Creates an operation that creates an item.
+     *
+     * @param item the item represented as a POJO or cosmos item object.
+     * @return the operation.
+     */
+    public static CosmosItemOperation createItemOperation(Object item) {
+        return createItemOperation(item, null);
+    }
+
+    /**
+     * Creates an operation that creates an item.
+     *
+     * @param item    the item represented as a POJO or cosmos item object.
+     * @param options the request options.
+     * @return the operation.
+     */
+    public static CosmosItemOperation createItemOperation(Object item, CosmosItemRequestOptions options) {
+        return new CosmosItemOperation(CosmosItemOperationType.CREATE, null, validateItem(item), options);
+    }
+
+    /**
+     * Creates an operation that upserts an item.
+     *
+     * @param item the item represented as a POJO or cosmos item object.
+     * @return the operation.
+     */
+    public static CosmosItemOperation upsertItemOperation(Object item) {
+        return upsertItemOperation(item, null);
+    }
+
+    /**
+     * Creates an operation that upserts an item.
+     *
+     * @param item    the item represented as a POJO or cosmos item object.
+     * @param options the request options.
+     * @return the operation.
+     */
+    public static CosmosItemOperation upsertItemOperation(Object item, CosmosItemRequestOptions options) {
+        return new CosmosItemOperation(CosmosItemOperationType.UPSERT, null, validateItem(item), options);
+    }
+
+    /**
+     * Creates an operation that replaces an item.
+     *
+     * @param id   the id of the item to replace.
+     * @param item the item represented as a POJO or cosmos item object.
+     * @return the operation.
+     */
+    public static CosmosItemOperation replaceItemOperation(String id, Object item) {
+        return replaceItemOperation(id, item, null);
+    }
+
+    /**
+     * Creates an operation that replaces an item.
+     *
+     * @param id      the id of the item to replace.
+     * @param item    the item represented as a POJO or cosmos item object.
+     * @param options the request options.
+     * @return the operation.
+     */
+    public static CosmosItemOperation replaceItemOperation(String id, Object item, CosmosItemRequestOptions options) {
+        return new CosmosItemOperation(CosmosItemOperationType.REPLACE, validateId(id), validateItem(item), options);
+    }
+
+    /**
+     * Creates an operation that deletes an item.
+     *
+     * @param id           the id of the item to delete.
+     * @param partitionKey the partition key of the item.
+     * @return the operation.
+     */
+    public static CosmosItemOperation deleteItemOperation(String id, Object partitionKey) {
+        return deleteItemOperation(id, new CosmosItemRequestOptions(partitionKey));
+    }
+
+    /**
+     * Creates an operation that deletes an item.
+     *
+     * @param id      the id of the item to delete.
+     * @param options the request options, which contain the partition key of the item.
+     * @return the operation.
+     */
+    public static CosmosItemOperation deleteItemOperation(String id, CosmosItemRequestOptions options) {
+        return new CosmosItemOperation(CosmosItemOperationType.DELETE, validateId(id), null, options);
+    }
+
+    /**
+     * Creates an operation that reads an item.
+     *
+     * @param id           the id of the item to read.
+     * @param partitionKey the partition key of the item.
+     * @return the operation.
+     */
+    public static CosmosItemOperation readItemOperation(String id, Object partitionKey) {
+        return readItemOperation(id, new CosmosItemRequestOptions(partitionKey));
+    }
+
+    /**
+     * Creates an operation that reads an item.
+     *
+     * @param id      the id of the item to read.
+     * @param options the request options, which contain the partition key of the item.
+     * @return the operation.
+     */
+    public static CosmosItemOperation readItemOperation(String id, CosmosItemRequestOptions options) {
+        return new CosmosItemOperation(CosmosItemOperationType.READ, validateId(id), null, options);
+    }
+
+    /**
+     * Gets the type of the operation.
+     *
+     * @return the operation type.
+     */
+    public CosmosItemOperationType operationType() {
+        return operationType;
+    }
+
+    /**
+     * Gets the id of the item the operation targets, or null for operations that create or upsert an item.
+     *
+     * @return the id of the item.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Gets the item sent by the operation, or null for operations that delete or read an item.
+     *
+     * @return the item.
+     */
+    public Object item() {
+        return item;
+    }
+
+    /**
+     * Gets the request options of the operation.
+     *
+     * @return the request options.
+     */
+    public CosmosItemRequestOptions options() {
+        return options;
+    }
+
+    private static String validateId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("id");
+        }
+        return id;
+    }
+
+    private static Object validateItem(Object item) {
+        if (item == null) {
+            throw new IllegalArgumentException("item");
+        }
+        return item;
+    }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * Specifies the type of an item operation executed in bulk in the Azure Cosmos DB database service.
+ */
+public enum CosmosItemOperationType {
+    /**
+     * Creates an item.
+     */
+    CREATE,
+
+    /**
+     * Creates an item or replaces the existing one.
+     */
+    UPSERT,
+
+    /**
+     * Replaces an existing item.
+     */
+    REPLACE,
+
+    /**
+     * Deletes an item.
+     */
+    DELETE,
+
+    /**
+     * Reads an item.
+     */
+    READ
+}
@@ -3,8 +3,7 @@
 package com.azure.data.cosmos;
 
 import com.azure.data.cosmos.internal.Document;
-import com.azure.data.cosmos.internal.Utils;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.util.List;
@@ -12,7 +11,7 @@ import java.util.stream.Collectors;
 
 public class CosmosItemProperties extends Resource {
 
-    private static final ObjectMapper mapper = Utils.getSimpleObjectMapper();
+    private CosmosSerializer serializer = JacksonCosmosSerializer.DEFAULT;
 
     /**
      * Initialize an empty CosmosItemProperties object.
@@ -40,33 +39,60 @@ public class CosmosItemProperties extends Resource {
         super(jsonString);
     }
 
+    /**
+     * Initialize a CosmosItemProperties object from an object node, which is used as is rather than copied, and
+     * converted with the given serializer.
+     *
+     * @param objectNode the object node that represents the document object.
+     * @param serializer the serializer of the items.
+     */
+    CosmosItemProperties(ObjectNode objectNode, CosmosSerializer serializer) {
+        super(objectNode);
+        this.serializer = serializer;
+    }
+
     /**
      * fromObject returns Document for compatibility with V2 sdk
      *
      * @param cosmosItem
+     * @param serializer the serializer of POJOs
      * @return
      */
-    static Document fromObject(Object cosmosItem) {
-        Document typedItem;
+    static Document fromObject(Object cosmosItem, CosmosSerializer serializer) {
         if (cosmosItem instanceof CosmosItemProperties) {
-            typedItem = new Document(((CosmosItemProperties) cosmosItem).toJson());
-        } else {
-            try {
-                return new Document(CosmosItemProperties.mapper.writeValueAsString(cosmosItem));
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Can't serialize the object into the json string", e);
-            }
+            CosmosItemProperties properties = (CosmosItemProperties) cosmosItem;
+            properties.populatePropertyBag();
+            return new Document(properties.propertyBag.deepCopy());
         }
-        return typedItem;
+        if (cosmosItem instanceof Document) {
+            return (Document) cosmosItem;
+        }
+        return new Document(serializer.serialize(cosmosItem));
     }
 
-    static List<CosmosItemProperties> getFromV2Results(List<Document> results) {
-        return results.stream().map(document -> new CosmosItemProperties(document.toJson()))
+    static List<CosmosItemProperties> getFromV2Results(List<Document> results, CosmosSerializer serializer) {
+        // The documents of the results aren't used once converted, so their property bags are shared rather than
+        // copied through a JSON string.
+        return results.stream().map(document -> new CosmosItemProperties(document.propertyBag, serializer))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the item as an object of the given type, converted with the serializer of the items.
+     *
+     * @param klass the type of the object.
+     * @param <T> the type of the object.
+     * @return the object.
+     * @throws IOException if the item can't be converted to the type.
+     */
     public <T> T getObject(Class<?> klass) throws IOException {
-        return (T) mapper.readValue(this.toJson(), klass);
+        this.populatePropertyBag();
+        try {
+            return (T) serializer.deserialize(this.propertyBag, klass);
+        } catch (IllegalArgumentException e) {
+            // Serializers fail with unchecked exceptions, while callers of this method expect an IOException.
+            throw new IOException(e.getMessage(), e);
+        }
     }
 
 }
@@ -13,7 +13,9 @@ public class CosmosItemResponse extends CosmosResponse<CosmosItemProperties>{
         if(response.getResource() == null){
             super.resourceSettings(null);
         }else{
-            super.resourceSettings(new CosmosItemProperties(response.getResource().toJson()));
+            // The document of the response isn't used otherwise, so its property bag is shared rather than copied.
+            super.resourceSettings(new CosmosItemProperties(response.getResource().propertyBag,
+                    container.getSerializer()));
             itemClient = new CosmosItem(response.getResource().id(),partitionKey, container);
         }
     }
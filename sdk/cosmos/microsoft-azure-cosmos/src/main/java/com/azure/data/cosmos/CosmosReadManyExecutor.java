@@ -0,0 +1,188 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.AsyncDocumentClient;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.Exceptions;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.PartitionKeyRangeResolver;
+import com.azure.data.cosmos.internal.RequestOptions;
+import org.apache.commons.lang3.tuple.Pair;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads many items of a {@link CosmosContainer} by their ids and partition keys.
+ *
+ * The items are grouped by the partition key range they belong to, resolved from the cached routing map of the
+ * container, and each partition key range is read with a single query targeted to it, or with a point read when a
+ * single item belongs to it. The ranges are read in parallel and the results merged in one feed response.
+ *
+ * A query targeted to a range that was split or merged since the routing map was cached fails with a
+ * {@link PartitionKeyRangeGoneException}. The routing map is then refreshed, and the items of the failed query are
+ * grouped again by the ranges that replaced it and read from them.
+ */
+final class CosmosReadManyExecutor {
+    // Keeps the query text and parameters of a range well within the limits of the service.
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    // A range may be split again while the items of its parent are read.
+    private static final int MAX_PARTITION_KEY_RANGE_GONE_RETRIES = 3;
+
+    private final CosmosContainer container;
+    private final AsyncDocumentClient client;
+    private final PartitionKeyRangeResolver partitionKeyRangeResolver;
+
+    CosmosReadManyExecutor(CosmosContainer container) {
+        this.container = container;
+        this.client = container.getDatabase().getDocClientWrapper();
+        this.partitionKeyRangeResolver = new PartitionKeyRangeResolver(client, container.getLink());
+    }
+
+    Mono<FeedResponse<CosmosItemProperties>> readMany(List<Pair<String, PartitionKey>> itemIdentities) {
+        return Flux.fromIterable(itemIdentities)
+                .flatMap(identity -> partitionKeyRangeResolver.resolveEffectivePartitionKey(null, identity.getRight())
+                        .map(effectivePartitionKey -> new ItemIdentity(identity.getLeft(), identity.getRight(),
+                                effectivePartitionKey)))
+                .collectList()
+                .flatMapMany(identities -> read(identities, 0))
+                .collectList()
+                .map(this::merge);
+    }
+
+    private Flux<Page> read(List<ItemIdentity> identities, int retryAttempt) {
+        return Flux.fromIterable(identities)
+                .flatMap(identity -> partitionKeyRangeResolver.resolvePartitionKeyRangeId(
+                        identity.effectivePartitionKey).map(rangeId -> Pair.of(rangeId, identity)))
+                .collectMultimap(Pair::getLeft, Pair::getRight)
+                .flatMapMany(identitiesByRange -> Flux.fromIterable(identitiesByRange.entrySet()))
+                .flatMap(rangeIdentities -> readRange(rangeIdentities.getKey(), rangeIdentities.getValue(),
+                        retryAttempt));
+    }
+
+    private Flux<Page> readRange(String partitionKeyRangeId, Collection<ItemIdentity> identities, int retryAttempt) {
+        if (identities.size() == 1) {
+            // A point read is routed by its partition key, so it doesn't fail when the range is gone.
+            return readItem(identities.iterator().next()).flux();
+        }
+
+        List<ItemIdentity> identityList = new ArrayList<>(identities);
+        List<List<ItemIdentity>> chunks = new ArrayList<>();
+        for (int i = 0; i < identityList.size(); i += MAX_IDS_PER_QUERY) {
+            chunks.add(identityList.subList(i, Math.min(i + MAX_IDS_PER_QUERY, identityList.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .flatMap(chunk -> queryRange(partitionKeyRangeId, chunk)
+                        .onErrorResume(error -> error instanceof CosmosClientException
+                                        && Exceptions.isPartitionSplit((CosmosClientException) error)
+                                        && retryAttempt < MAX_PARTITION_KEY_RANGE_GONE_RETRIES,
+                                error -> partitionKeyRangeResolver.refreshGonePartitionKeyRange(partitionKeyRangeId)
+                                        .thenMany(Flux.defer(() -> read(chunk, retryAttempt + 1)))));
+    }
+
+    private Mono<Page> readItem(ItemIdentity identity) {
+        RequestOptions requestOptions = new RequestOptions();
+        requestOptions.setPartitionKey(identity.partitionKey);
+
+        return client.readDocument(container.getItem(identity.id, null).getLink(), requestOptions)
+                .map(response -> new Page(Collections.singletonList(response.getResource()),
+                        response.getRequestCharge()))
+                .single()
+                .onErrorResume(error -> error instanceof CosmosClientException
+                                && ((CosmosClientException) error).statusCode() == HttpConstants.StatusCodes.NOTFOUND,
+                        error -> Mono.just(new Page(Collections.emptyList(),
+                                getRequestCharge((CosmosClientException) error))));
+    }
+
+    private static double getRequestCharge(CosmosClientException error) {
+        String requestCharge = error.responseHeaders() != null
+                ? error.responseHeaders().get(HttpConstants.HttpHeaders.REQUEST_CHARGE)
+                : null;
+        return requestCharge != null ? Double.parseDouble(requestCharge) : 0;
+    }
+
+    private Flux<Page> queryRange(String partitionKeyRangeId, List<ItemIdentity> identities) {
+        Set<Pair<String, String>> requested = new HashSet<>();
+        SqlParameterList parameters = new SqlParameterList();
+        StringBuilder queryText = new StringBuilder("SELECT * FROM c WHERE c.id IN (");
+        for (int i = 0; i < identities.size(); i++) {
+            ItemIdentity identity = identities.get(i);
+            requested.add(Pair.of(identity.id, identity.effectivePartitionKey));
+
+            String parameterName = "@id" + i;
+            parameters.add(new SqlParameter(parameterName, identity.id));
+            queryText.append(i == 0 ? "" : ", ").append(parameterName);
+        }
+        queryText.append(")");
+
+        FeedOptions feedOptions = new FeedOptions();
+        feedOptions.enableCrossPartitionQuery(true);
+        CommonsBridgeInternal.partitionKeyRangeIdInternal(feedOptions, partitionKeyRangeId);
+
+        // The query only matches the ids, items with the same id and another partition key of the range are
+        // filtered out.
+        return client.queryDocuments(container.getLink(), new SqlQuerySpec(queryText.toString(), parameters),
+                feedOptions)
+                .flatMap(response -> Flux.fromIterable(response.results())
+                        .filterWhen(document -> partitionKeyRangeResolver.resolveEffectivePartitionKey(document, null)
+                                .map(effectivePartitionKey -> requested.contains(
+                                        Pair.of(document.id(), effectivePartitionKey))))
+                        .collectList()
+                        .map(documents -> new Page(documents, response.requestCharge())))
+                // The pages are only emitted once all were read, so the query can be read again from other ranges
+                // when a later page fails.
+                .collectList()
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    private FeedResponse<CosmosItemProperties> merge(List<Page> pages) {
+        List<CosmosItemProperties> items = new ArrayList<>();
+        double requestCharge = 0;
+        for (Page page : pages) {
+            items.addAll(CosmosItemProperties.getFromV2Results(page.documents, container.getSerializer()));
+            requestCharge += page.requestCharge;
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.HttpHeaders.REQUEST_CHARGE, String.valueOf(requestCharge));
+        return BridgeInternal.createFeedResponse(items, headers);
+    }
+
+    /**
+     * The id and partition key of an item, along with the effective partition key it is routed by.
+     */
+    private static final class ItemIdentity {
+        private final String id;
+        private final PartitionKey partitionKey;
+        private final String effectivePartitionKey;
+
+        ItemIdentity(String id, PartitionKey partitionKey, String effectivePartitionKey) {
+            this.id = id;
+            this.partitionKey = partitionKey;
+            this.effectivePartitionKey = effectivePartitionKey;
+        }
+    }
+
+    /**
+     * The items read from a partition key range, and what reading them cost.
+     */
+    private static final class Page {
+        private final List<Document> documents;
+        private final double requestCharge;
+
+        Page(List<Document> documents, double requestCharge) {
+            this.documents = documents;
+            this.requestCharge = requestCharge;
+        }
+    }
+}
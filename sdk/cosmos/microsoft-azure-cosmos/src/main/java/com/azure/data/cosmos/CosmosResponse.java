@@ -8,7 +8,7 @@ import com.azure.data.cosmos.internal.StoredProcedureResponse;
 import java.time.Duration;
 import java.util.Map;
 
-public class CosmosResponse<T extends Resource> {
+public class CosmosResponse<T> {
     private T resourceSettings;
     ResourceResponse resourceResponseWrapper;
 
@@ -0,0 +1,53 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Converts the items of the containers of a {@link CosmosClient} from and to JSON. It is set with
+ * {@link CosmosClientBuilder#serializer(CosmosSerializer)} and used for the items sent by point operations and for the
+ * items returned by point operations, queries and the change feed.
+ * <br>
+ * The SDK keeps the items it sends and receives as JSON objects, since it reads their ids and partition keys, and the
+ * query pipeline merges, orders and aggregates them, so items are serialized to and deserialized from
+ * {@link ObjectNode}. Items read by a point operation are deserialized from the JSON text of the response, without
+ * building a JSON object first.
+ * <br>
+ * Implementations must be thread safe. {@link JacksonCosmosSerializer} is the default implementation, and takes the
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} to use, so it can be configured with additional modules.
+ */
+public interface CosmosSerializer {
+
+    /**
+     * Serializes an item into the JSON object it is stored as.
+     *
+     * @param item the item represented as a POJO.
+     * @return the JSON object of the item.
+     * @throws IllegalArgumentException if the item can't be serialized into a JSON object.
+     */
+    ObjectNode serialize(Object item);
+
+    /**
+     * Deserializes the JSON object of an item into an object of the given type.
+     *
+     * @param item     the JSON object of the item.
+     * @param itemType the type of the object.
+     * @param <T>      the type of the object.
+     * @return the object.
+     * @throws IllegalArgumentException if the item can't be deserialized into the given type.
+     */
+    <T> T deserialize(ObjectNode item, Class<T> itemType);
+
+    /**
+     * Deserializes the JSON text of an item into an object of the given type.
+     *
+     * @param item     the JSON text of the item.
+     * @param itemType the type of the object.
+     * @param <T>      the type of the object.
+     * @return the object.
+     * @throws IllegalArgumentException if the item can't be deserialized into the given type.
+     */
+    <T> T deserialize(String item, Class<T> itemType);
+}
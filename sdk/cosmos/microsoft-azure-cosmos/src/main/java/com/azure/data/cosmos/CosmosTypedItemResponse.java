@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.ResourceResponse;
+
+/**
+ * A cosmos item response whose item is deserialized directly into an object of the requested type.
+ *
+ * @param <T> the type of the item.
+ */
+public class CosmosTypedItemResponse<T> extends CosmosResponse<T> {
+
+    CosmosTypedItemResponse(ResourceResponse<Document> response, Class<T> itemType, CosmosSerializer serializer) {
+        super(response);
+        super.resourceSettings(response.getResourceAs(itemType, serializer));
+    }
+
+    /**
+     * Gets the item
+     * @return the item, or null if the response has none
+     */
+    public T item() {
+        return resourceSettings();
+    }
+}
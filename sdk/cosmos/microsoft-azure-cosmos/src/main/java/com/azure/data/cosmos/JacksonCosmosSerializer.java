@@ -0,0 +1,70 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.Utils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/**
+ * A {@link CosmosSerializer} which converts items with a Jackson {@link ObjectMapper}.
+ * <br>
+ * The mapper of the default serializer ignores unknown properties and allows single quotes and trailing commas.
+ * A mapper passed to {@link #JacksonCosmosSerializer(ObjectMapper)} is used as is, and must not be modified once
+ * the serializer is in use.
+ */
+public final class JacksonCosmosSerializer implements CosmosSerializer {
+
+    static final JacksonCosmosSerializer DEFAULT = new JacksonCosmosSerializer(Utils.getSimpleObjectMapper());
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a serializer which converts items with the given object mapper.
+     *
+     * @param mapper the object mapper.
+     */
+    public JacksonCosmosSerializer(ObjectMapper mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("mapper");
+        }
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ObjectNode serialize(Object item) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = mapper.valueToTree(item);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Can't serialize the object into the json string", e);
+        }
+        if (!(jsonNode instanceof ObjectNode)) {
+            throw new IllegalArgumentException("Can't serialize the object into a json object");
+        }
+        return (ObjectNode) jsonNode;
+    }
+
+    @Override
+    public <T> T deserialize(ObjectNode item, Class<T> itemType) {
+        try {
+            return mapper.treeToValue(item, itemType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Can't deserialize the json object into " + itemType.getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(String item, Class<T> itemType) {
+        try {
+            return mapper.readValue(item, itemType);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can't deserialize the json string into " + itemType.getName(), e);
+        }
+    }
+}
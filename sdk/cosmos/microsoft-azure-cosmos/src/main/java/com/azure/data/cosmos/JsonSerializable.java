@@ -538,7 +538,8 @@ public class JsonSerializable {
             // POJO
             JsonSerializable.checkForValidPOJO(c);
             try {
-                return this.getMapper().readValue(this.toJson(), c);
+                this.populatePropertyBag();
+                return this.getMapper().treeToValue(this.propertyBag, c);
             } catch (IOException e) {
                 throw new IllegalStateException("Failed to get POJO.", e);
             }
@@ -569,6 +570,20 @@ public class JsonSerializable {
         }
     }
 
+    /**
+     * Converts to JSON encoded in UTF-8, without going through a string.
+     *
+     * @return the JSON bytes.
+     */
+    byte[] toJsonBytes() {
+        this.populatePropertyBag();
+        try {
+            return getMapper().writeValueAsBytes(propertyBag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to convert JSON to bytes", e);
+        }
+    }
+
     /**
      * Gets Simple STRING representation of property bag.
      * 
@@ -11,6 +11,8 @@ import com.azure.data.cosmos.FeedOptions;
 import com.azure.data.cosmos.FeedResponse;
 import com.azure.data.cosmos.SqlQuerySpec;
 import com.azure.data.cosmos.TokenResolver;
+import com.azure.data.cosmos.internal.caches.IPartitionKeyRangeCache;
+import com.azure.data.cosmos.internal.caches.RxCollectionCache;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Flux;
 
@@ -1314,6 +1316,20 @@ public interface AsyncDocumentClient {
      */
     Flux<DatabaseAccount> getDatabaseAccount();
 
+    /**
+     * Gets the cache of the collections resolved by this client.
+     *
+     * @return the collection cache.
+     */
+    RxCollectionCache getCollectionCache();
+
+    /**
+     * Gets the cache of the partition key ranges of the collections resolved by this client.
+     *
+     * @return the partition key range cache.
+     */
+    IPartitionKeyRangeCache getPartitionKeyRangeCache();
+
     /**
      * Close this {@link AsyncDocumentClient} instance and cleans up the resources.
      */
@@ -4,9 +4,9 @@
 package com.azure.data.cosmos.internal;
 
 import com.azure.data.cosmos.Resource;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.IOException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static com.azure.data.cosmos.BridgeInternal.remove;
 import static com.azure.data.cosmos.BridgeInternal.setProperty;
@@ -59,18 +59,31 @@ public class Document extends Resource {
         super(jsonString);
     }
 
+    /**
+     * Initialize a document object from an object node, which is used as is rather than copied.
+     *
+     * @param objectNode the object node that represents the document object.
+     */
+    public Document(ObjectNode objectNode) {
+        super(objectNode);
+    }
+
     public static Document FromObject(Object document, ObjectMapper objectMapper) {
-        Document typedDocument;
         if (document instanceof Document) {
-            typedDocument = (Document) document;
-        } else {
-            try {
-                return new Document(objectMapper.writeValueAsString(document));
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Can't serialize the object into the json string", e);
-            }
+            return (Document) document;
+        }
+
+        // Converting to a tree directly avoids writing the object to a string and parsing it back.
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.valueToTree(document);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Can't serialize the object into the json string", e);
+        }
+        if (!(jsonNode instanceof ObjectNode)) {
+            throw new IllegalArgumentException("Can't serialize the object into a json object");
         }
-        return typedDocument;
+        return new Document((ObjectNode) jsonNode);
     }
 
     /**
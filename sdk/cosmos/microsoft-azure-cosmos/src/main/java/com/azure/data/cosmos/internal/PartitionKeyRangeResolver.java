@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.internal;
+
+import com.azure.data.cosmos.PartitionKey;
+import com.azure.data.cosmos.internal.caches.IPartitionKeyRangeCache;
+import com.azure.data.cosmos.internal.caches.RxCollectionCache;
+import com.azure.data.cosmos.internal.routing.CollectionRoutingMap;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternal;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternalHelper;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves the partition key ranges of the documents of a collection from the cached collection and routing map, so
+ * that many documents can be resolved without a request each.
+ *
+ * The collection and its routing map are resolved once, on the first resolution, and kept until
+ * {@link #refreshGonePartitionKeyRange(String)} is called. A resolved range may therefore have been split since.
+ * Operations that target a document by its partition key resolve their own address, so for them the range only
+ * serves to group documents. Requests sent to a range by its id fail with a
+ * {@link com.azure.data.cosmos.PartitionKeyRangeGoneException} instead, after which the routing map has to be
+ * refreshed and the documents resolved again.
+ *
+ * While this class is public, but it is not part of our published public APIs.
+ * This is meant to be internally used only by our sdk.
+ */
+public class PartitionKeyRangeResolver {
+    private final String collectionLink;
+    private final IPartitionKeyRangeCache partitionKeyRangeCache;
+    private final AtomicReference<Mono<Tuple2<DocumentCollection, CollectionRoutingMap>>> routing;
+
+    /**
+     * Creates a resolver for the documents of a collection.
+     *
+     * @param client         the client whose caches are used.
+     * @param collectionLink the link of the collection.
+     */
+    public PartitionKeyRangeResolver(AsyncDocumentClient client, String collectionLink) {
+        RxCollectionCache collectionCache = client.getCollectionCache();
+        this.collectionLink = collectionLink;
+        this.partitionKeyRangeCache = client.getPartitionKeyRangeCache();
+
+        this.routing = new AtomicReference<>(Mono.defer(() -> {
+            RxDocumentServiceRequest request = RxDocumentServiceRequest.create(
+                    OperationType.Read,
+                    ResourceType.Document,
+                    collectionLink, null
+                    ); //this request doesnt actually go to server
+            return collectionCache.resolveCollectionAsync(request);
+        }).flatMap(collection -> lookupRoutingMap(collection, null))
+                .cache());
+    }
+
+    /**
+     * Refreshes the routing map after a request sent to a partition key range failed because the range is gone,
+     * unless the routing map was already refreshed since.
+     *
+     * @param partitionKeyRangeId the id of the partition key range that is gone.
+     * @return a {@link Mono} that completes once the routing map is refreshed, or an error.
+     */
+    public Mono<Void> refreshGonePartitionKeyRange(String partitionKeyRangeId) {
+        return Mono.defer(() -> {
+            Mono<Tuple2<DocumentCollection, CollectionRoutingMap>> current = routing.get();
+            return current.flatMap(routingInfo -> {
+                if (routingInfo.getT2().tryGetRangeByPartitionKeyRangeId(partitionKeyRangeId) == null) {
+                    return Mono.empty();
+                }
+
+                // A failed refresh keeps the current routing map, so it can be retried.
+                return lookupRoutingMap(routingInfo.getT1(), routingInfo.getT2())
+                        .doOnNext(refreshed -> routing.compareAndSet(current, Mono.just(refreshed)));
+            }).then();
+        });
+    }
+
+    /**
+     * Resolves the partition key range of a document.
+     *
+     * @param document     the document, or null for operations that don't send one.
+     * @param partitionKey the partition key supplied with the operation, or null to extract it from the document.
+     * @return a {@link Mono} containing the id of the partition key range or an error.
+     */
+    public Mono<String> resolvePartitionKeyRangeId(Document document, PartitionKey partitionKey) {
+        return routing.get().map(routingInfo -> routingInfo.getT2().getRangeByEffectivePartitionKey(
+                getEffectivePartitionKey(routingInfo.getT1(), document, partitionKey)).id());
+    }
+
+    /**
+     * Resolves the partition key range of an effective partition key.
+     *
+     * @param effectivePartitionKey the effective partition key.
+     * @return a {@link Mono} containing the id of the partition key range or an error.
+     */
+    public Mono<String> resolvePartitionKeyRangeId(String effectivePartitionKey) {
+        return routing.get().map(routingInfo -> routingInfo.getT2()
+                .getRangeByEffectivePartitionKey(effectivePartitionKey).id());
+    }
+
+    /**
+     * Gets the effective partition key of a document, which is the same for documents with equal partition keys.
+     *
+     * @param document     the document, or null for operations that don't send one.
+     * @param partitionKey the partition key supplied with the operation, or null to extract it from the document.
+     * @return a {@link Mono} containing the effective partition key or an error.
+     */
+    public Mono<String> resolveEffectivePartitionKey(Document document, PartitionKey partitionKey) {
+        return routing.get().map(routingInfo -> getEffectivePartitionKey(routingInfo.getT1(), document, partitionKey));
+    }
+
+    private Mono<Tuple2<DocumentCollection, CollectionRoutingMap>> lookupRoutingMap(
+            DocumentCollection collection, CollectionRoutingMap previousRoutingMap) {
+        // A previous routing map forces the cache to refresh it.
+        return partitionKeyRangeCache.tryLookupAsync(collection.resourceId(), previousRoutingMap, null)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new IllegalStateException(
+                        "Failed to get the routing map of collection " + collectionLink))))
+                .map(routingMap -> Tuples.of(collection, routingMap));
+    }
+
+    private static String getEffectivePartitionKey(DocumentCollection collection, Document document,
+                                                   PartitionKey partitionKey) {
+        PartitionKeyInternal partitionKeyInternal = RxDocumentClientImpl.getPartitionKeyInternal(document,
+                partitionKey, collection.getPartitionKey());
+        return PartitionKeyInternalHelper.getEffectivePartitionKeyString(partitionKeyInternal,
+                collection.getPartitionKey());
+    }
+}
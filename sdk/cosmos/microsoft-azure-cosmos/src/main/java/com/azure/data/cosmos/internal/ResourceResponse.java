@@ -4,6 +4,7 @@
 package com.azure.data.cosmos.internal;
 
 import com.azure.data.cosmos.CosmosResponseDiagnostics;
+import com.azure.data.cosmos.CosmosSerializer;
 import com.azure.data.cosmos.Resource;
 import org.apache.commons.lang3.StringUtils;
 
@@ -20,6 +21,7 @@ import java.util.Map;
 public final class ResourceResponse<T extends Resource> {
     private Class<T> cls;
     private T resource;
+    private boolean resourceParsed;
     private RxDocumentServiceResponse response;
     private Map<String, Long> usageHeaders;
     private Map<String, Long> quotaHeaders;
@@ -29,7 +31,6 @@ public final class ResourceResponse<T extends Resource> {
         this.usageHeaders = new HashMap<String, Long>();
         this.quotaHeaders = new HashMap<String, Long>();
         this.cls = cls;
-        this.resource = this.response.getResource(this.cls);
     }
 
     /**
@@ -265,9 +266,26 @@ public final class ResourceResponse<T extends Resource> {
      * @return the resource.
      */
     public T getResource() {
+        // Parsed on first use, so that callers reading the body as another type don't pay for the resource.
+        if (!this.resourceParsed) {
+            this.resource = this.response.getResource(this.cls);
+            this.resourceParsed = true;
+        }
         return this.resource;
     }
 
+    /**
+     * Gets the resource for the request deserialized directly into an object of the given type.
+     *
+     * @param c          the type of the object.
+     * @param serializer the serializer to deserialize with.
+     * @param <V>        the type of the object.
+     * @return the object, or null if the response has no body.
+     */
+    public <V> V getResourceAs(Class<V> c, CosmosSerializer serializer) {
+        return this.response.getResourceAs(c, serializer);
+    }
+
     /**
      * Gets the number of index paths (terms) generated by the operation.
      *
@@ -888,24 +888,37 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
 
     private void addPartitionKeyInformation(RxDocumentServiceRequest request, Document document, RequestOptions options,
                                             DocumentCollection collection) {
-        PartitionKeyDefinition partitionKeyDefinition = collection.getPartitionKey();
+        PartitionKeyInternal partitionKeyInternal = getPartitionKeyInternal(document,
+                options != null ? options.getPartitionKey() : null, collection.getPartitionKey());
 
-        PartitionKeyInternal partitionKeyInternal = null;
-        if (options != null && options.getPartitionKey() != null && options.getPartitionKey().equals(PartitionKey.None)){
-            partitionKeyInternal = BridgeInternal.getNonePartitionKey(partitionKeyDefinition);
-        } else if (options != null && options.getPartitionKey() != null) {
-            partitionKeyInternal = options.getPartitionKey().getInternalPartitionKey();
+        request.getHeaders().put(HttpConstants.HttpHeaders.PARTITION_KEY, escapeNonAscii(partitionKeyInternal.toJson()));
+    }
+
+    /**
+     * Gets the partition key of a document, either the one supplied with the request or the one extracted from the
+     * document with the partition key definition of its collection.
+     *
+     * @param document the document, or null for operations that don't send one.
+     * @param partitionKey the partition key supplied with the request, or null.
+     * @param partitionKeyDefinition the partition key definition of the collection.
+     * @return the partition key.
+     * @throws UnsupportedOperationException if no partition key is supplied for an operation without a document.
+     */
+    static PartitionKeyInternal getPartitionKeyInternal(Document document, PartitionKey partitionKey,
+                                                        PartitionKeyDefinition partitionKeyDefinition) {
+        if (partitionKey != null && partitionKey.equals(PartitionKey.None)) {
+            return BridgeInternal.getNonePartitionKey(partitionKeyDefinition);
+        } else if (partitionKey != null) {
+            return partitionKey.getInternalPartitionKey();
         } else if (partitionKeyDefinition == null || partitionKeyDefinition.paths().size() == 0) {
             // For backward compatibility, if collection doesn't have partition key defined, we assume all documents
             // have empty value for it and user doesn't need to specify it explicitly.
-            partitionKeyInternal = PartitionKeyInternal.getEmpty();
+            return PartitionKeyInternal.getEmpty();
         } else if (document != null) {
-            partitionKeyInternal = extractPartitionKeyValueFromDocument(document, partitionKeyDefinition);
+            return extractPartitionKeyValueFromDocument(document, partitionKeyDefinition);
         } else {
             throw new UnsupportedOperationException("PartitionKey value must be supplied for this operation.");
         }
-
-        request.getHeaders().put(HttpConstants.HttpHeaders.PARTITION_KEY, escapeNonAscii(partitionKeyInternal.toJson()));
     }
 
     private static String escapeNonAscii(String partitionKeyJson) {
@@ -2662,6 +2675,12 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
         this.sessionContainer = (SessionContainer) sessionContainer;
     }
 
+    @Override
+    public RxCollectionCache getCollectionCache() {
+        return collectionCache;
+    }
+
+    @Override
     public RxPartitionKeyRangeCache getPartitionKeyRangeCache() {
         return partitionKeyRangeCache;
     }
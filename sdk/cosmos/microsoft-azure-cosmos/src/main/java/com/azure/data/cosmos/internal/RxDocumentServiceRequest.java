@@ -3,6 +3,7 @@
 
 package com.azure.data.cosmos.internal;
 
+import com.azure.data.cosmos.BridgeInternal;
 import com.azure.data.cosmos.ChangeFeedOptions;
 import com.azure.data.cosmos.FeedOptions;
 import com.azure.data.cosmos.Resource;
@@ -374,7 +375,7 @@ public class RxDocumentServiceRequest {
 
         RxDocumentServiceRequest request = new RxDocumentServiceRequest(operation, resourceType, relativePath,
                 // TODO: this re-encodes, can we improve performance here?
-                resource.toJson().getBytes(StandardCharsets.UTF_8), headers, AuthorizationTokenType.PrimaryMasterKey);
+                BridgeInternal.toJsonBytes(resource), headers, AuthorizationTokenType.PrimaryMasterKey);
         request.properties = getProperties(options);
         return request;
     }
@@ -532,7 +533,7 @@ public class RxDocumentServiceRequest {
             ResourceType resourceType,
             String relativePath,
             Map<String, String> headers) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operation, resourceType, relativePath, resourceContent, headers, AuthorizationTokenType.PrimaryMasterKey);
     }
 
@@ -552,7 +553,7 @@ public class RxDocumentServiceRequest {
             String relativePath,
             Map<String, String> headers,
             AuthorizationTokenType authorizationTokenType) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operation, resourceType, relativePath, resourceContent, headers, authorizationTokenType);
     }
 
@@ -604,7 +605,7 @@ public class RxDocumentServiceRequest {
             ResourceType resourceType,
             Resource resource,
             Map<String, String> headers) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operation, resourceId, resourceType, resourceContent, headers, false, AuthorizationTokenType.PrimaryMasterKey);
     }
 
@@ -624,7 +625,7 @@ public class RxDocumentServiceRequest {
             Resource resource,
             Map<String, String> headers,
             AuthorizationTokenType authorizationTokenType) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operation, resourceId, resourceType, resourceContent, headers, false, authorizationTokenType);
     }
 
@@ -673,7 +674,7 @@ public class RxDocumentServiceRequest {
             Resource resource,
             String resourceFullName,
             ResourceType resourceType) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operationType,
                 resourceFullName,
                 resourceType,
@@ -690,7 +691,7 @@ public class RxDocumentServiceRequest {
             String resourceFullName,
             ResourceType resourceType,
             AuthorizationTokenType authorizationTokenType) {
-        byte[] resourceContent = resource.toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] resourceContent = BridgeInternal.toJsonBytes(resource);
         return new RxDocumentServiceRequest(operationType,
                 resourceFullName,
                 resourceType,
@@ -5,6 +5,7 @@ package com.azure.data.cosmos.internal;
 
 import com.azure.data.cosmos.BridgeInternal;
 import com.azure.data.cosmos.CosmosResponseDiagnostics;
+import com.azure.data.cosmos.CosmosSerializer;
 import com.azure.data.cosmos.Resource;
 import com.azure.data.cosmos.internal.directconnectivity.Address;
 import com.azure.data.cosmos.internal.directconnectivity.StoreResponse;
@@ -107,6 +108,24 @@ public class RxDocumentServiceResponse {
         return resource;
     }
 
+    /**
+     * Deserializes the response body directly into an object of the given type, without building a tree or a
+     * {@link Resource} first.
+     *
+     * @param c          the type of the object.
+     * @param serializer the serializer to deserialize with.
+     * @param <T>        the type of the object.
+     * @return the object, or null if the response has no body.
+     */
+    public <T> T getResourceAs(Class<T> c, CosmosSerializer serializer) {
+        String responseBody = this.getReponseBodyAsString();
+        if (StringUtils.isEmpty(responseBody)) {
+            return null;
+        }
+
+        return serializer.deserialize(responseBody, c);
+    }
+
     public <T extends Resource> List<T> getQueryResponse(Class<T> c) {
         String responseBody = this.getReponseBodyAsString();
         if (responseBody == null) {
@@ -44,21 +44,23 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCounted;
-import io.netty.util.Timeout;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
 import io.netty.util.internal.ThrowableUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.azure.data.cosmos.internal.HttpConstants.StatusCodes;
 import static com.azure.data.cosmos.internal.HttpConstants.SubStatusCodes;
@@ -86,10 +88,12 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
     private final CompletableFuture<RntbdContextRequest> contextRequestFuture = new CompletableFuture<>();
     private final ChannelHealthChecker healthChecker;
     private final int pendingRequestLimit;
-    private final ConcurrentHashMap<Long, RntbdRequestRecord> pendingRequests;
+    private final RntbdRequestTable pendingRequests;
+    private final List<RntbdRequestRecord> expiredRequests = new ArrayList<>();
     private final Timestamps timestamps = new Timestamps();
 
     private boolean closingExceptionally = false;
+    private ScheduledFuture<?> pendingRequestExpiry;
     private CoalescingBufferQueue pendingWrites;
 
     // endregion
@@ -99,7 +103,7 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
         checkArgument(pendingRequestLimit > 0, "pendingRequestLimit: %s", pendingRequestLimit);
         checkNotNull(healthChecker, "healthChecker");
 
-        this.pendingRequests = new ConcurrentHashMap<>(pendingRequestLimit);
+        this.pendingRequests = new RntbdRequestTable(pendingRequestLimit);
         this.pendingRequestLimit = pendingRequestLimit;
         this.healthChecker = healthChecker;
     }
@@ -555,34 +559,71 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
 
     private RntbdRequestArgs addPendingRequestRecord(final ChannelHandlerContext context, final RntbdRequestRecord record) {
 
-        return this.pendingRequests.compute(record.transportRequestId(), (id, current) -> {
+        // The pending requests are confined to the event loop of the channel, on which write is called
 
-            boolean predicate = current == null;
-            String format = "id: {}, current: {}, request: {}";
+        final long id = record.transportRequestId();
+        final long expiryTime = record.expiryTime(System.nanoTime());
+        final RntbdRequestRecord current = this.pendingRequests.put(id, record, expiryTime);
 
-            reportIssueUnless(predicate, context, format, record);
+        reportIssueUnless(current == null, context, "id: {}, current: {}, request: {}", id, current, record);
 
-            final Timeout pendingRequestTimeout = record.newTimeout(timeout -> {
+        // Requests all have the same timeout, so a request expires after those already pending, and the expiry of the
+        // pending requests only needs to be scheduled when there is none
 
-                // We don't wish to complete on the timeout thread, but rather on a thread doled out by our executor
+        if (this.pendingRequestExpiry == null) {
+            this.schedulePendingRequestExpiry(context, expiryTime);
+        }
 
-                EventExecutor executor = context.executor();
+        record.whenComplete((response, error) -> {
 
-                if (executor.inEventLoop()) {
-                    record.expire();
-                } else {
-                    executor.next().execute(record::expire);
-                }
-            });
+            // A request may be completed on another thread, when it's cancelled for example
 
-            record.whenComplete((response, error) -> {
-                this.pendingRequests.remove(id);
-                pendingRequestTimeout.cancel();
-            });
+            final EventExecutor executor = context.executor();
+
+            if (executor.inEventLoop()) {
+                this.removePendingRequestRecord(id, record);
+            } else {
+                executor.execute(() -> this.removePendingRequestRecord(id, record));
+            }
+        });
+
+        return record.args();
+    }
+
+    private void removePendingRequestRecord(final long id, final RntbdRequestRecord record) {
+        if (this.pendingRequests.get(id) == record) {
+            this.pendingRequests.remove(id);
+        }
+    }
+
+    private void schedulePendingRequestExpiry(final ChannelHandlerContext context, final long expiryTime) {
+        final long delay = Math.max(expiryTime - System.nanoTime(), 0L);
+        this.pendingRequestExpiry = context.executor().schedule(() -> this.expirePendingRequests(context), delay, TimeUnit.NANOSECONDS);
+    }
 
-            return record;
+    /**
+     * Expires the pending requests whose timeout elapsed in one pass over the pending requests, and schedules the next
+     * pass for the time at which the earliest of the remaining pending requests expires
+     *
+     * @param context {@link ChannelHandlerContext} to which this {@link RntbdRequestManager} belongs
+     */
+    private void expirePendingRequests(final ChannelHandlerContext context) {
+
+        this.pendingRequestExpiry = null;
+
+        final long nextExpiryTime = this.pendingRequests.collectExpired(System.nanoTime(), this.expiredRequests);
+
+        try {
+            for (final RntbdRequestRecord record : this.expiredRequests) {
+                record.expire();
+            }
+        } finally {
+            this.expiredRequests.clear();
+        }
 
-        }).args();
+        if (nextExpiryTime != Long.MAX_VALUE && this.pendingRequestExpiry == null) {
+            this.schedulePendingRequestExpiry(context, nextExpiryTime);
+        }
     }
 
     private void completeAllPendingRequestsExceptionally(final ChannelHandlerContext context, final Throwable throwable) {
@@ -590,6 +631,11 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
         reportIssueUnless(!this.closingExceptionally, context, "", throwable);
         this.closingExceptionally = true;
 
+        if (this.pendingRequestExpiry != null) {
+            this.pendingRequestExpiry.cancel(false);
+            this.pendingRequestExpiry = null;
+        }
+
         if (this.pendingWrites != null && !this.pendingWrites.isEmpty()) {
             // an expensive call that fires at least one exceptionCaught event
             this.pendingWrites.releaseAndFailAll(context, throwable);
@@ -7,8 +7,6 @@ import com.azure.data.cosmos.BridgeInternal;
 import com.azure.data.cosmos.RequestTimeoutException;
 import com.azure.data.cosmos.internal.directconnectivity.StoreResponse;
 import io.micrometer.core.instrument.Timer;
-import io.netty.util.Timeout;
-import io.netty.util.TimerTask;
 
 import java.time.Duration;
 import java.util.UUID;
@@ -68,8 +66,8 @@ public final class RntbdRequestRecord extends CompletableFuture<StoreResponse> {
         return this.completeExceptionally(error);
     }
 
-    public Timeout newTimeout(final TimerTask task) {
-        return this.timer.newTimeout(task);
+    public long expiryTime(final long time) {
+        return this.timer.getExpiryTime(time);
     }
 
     public long stop(Timer requests, Timer responses) {
@@ -0,0 +1,245 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.directconnectivity.rntbd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The requests pending on a channel keyed by transport request identifier, along with the time at which each expires.
+ * <p>
+ * A table belongs to the {@link RntbdRequestManager} of a channel and is confined to the event loop of the channel: it
+ * must only be read and modified from there, except for {@link #size()}. It is an open addressing table with linear
+ * probing over primitive arrays, so adding, looking up and removing a request neither boxes its identifier nor
+ * allocates an entry.
+ */
+public final class RntbdRequestTable {
+
+    // region Fields
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] expiryTimes;
+    private long[] keys;
+    private RntbdRequestRecord[] records;
+    private int mask;
+    private int resizeThreshold;
+
+    // Written on the event loop only, and read by the channel pool to decide whether the channel is serviceable
+    private volatile int size;
+
+    // endregion
+
+    // region Constructors
+
+    public RntbdRequestTable(final int expectedSize) {
+        checkArgument(expectedSize > 0, "expectedSize: %s", expectedSize);
+        this.allocate(capacityFor(expectedSize));
+    }
+
+    // endregion
+
+    // region Accessors
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    // endregion
+
+    // region Methods
+
+    /**
+     * Collects the requests which expired at or before the given time, without removing them from the table.
+     * <p>
+     * Requests are removed once completed, which the caller does by expiring each of the collected requests.
+     *
+     * @param time    a {@link System#nanoTime()} value.
+     * @param expired the list to which the expired requests are added.
+     * @return the earliest expiry time of the requests which did not expire, or {@link Long#MAX_VALUE} if there is none.
+     */
+    public long collectExpired(final long time, final List<RntbdRequestRecord> expired) {
+
+        long nextExpiryTime = Long.MAX_VALUE;
+
+        for (int i = 0; i < this.records.length; i++) {
+
+            final RntbdRequestRecord record = this.records[i];
+
+            if (record == null) {
+                continue;
+            }
+
+            final long expiryTime = this.expiryTimes[i];
+
+            if (expiryTime - time <= 0L) {
+                expired.add(record);
+            } else if (nextExpiryTime == Long.MAX_VALUE || expiryTime - nextExpiryTime < 0L) {
+                nextExpiryTime = expiryTime;
+            }
+        }
+
+        return nextExpiryTime;
+    }
+
+    public RntbdRequestRecord get(final long transportRequestId) {
+        final int index = this.indexOf(transportRequestId);
+        return index < 0 ? null : this.records[index];
+    }
+
+    /**
+     * Adds a request to the table.
+     *
+     * @param transportRequestId the transport request identifier of the request.
+     * @param record             the request.
+     * @param expiryTime         the {@link System#nanoTime()} value at which the request expires.
+     * @return the request previously added with the same transport request identifier, which is replaced, or
+     * {@code null} if there is none.
+     */
+    public RntbdRequestRecord put(final long transportRequestId, final RntbdRequestRecord record, final long expiryTime) {
+
+        checkNotNull(record, "record");
+
+        int index = this.slotOf(transportRequestId);
+
+        for (RntbdRequestRecord current = this.records[index]; current != null; current = this.records[index]) {
+            if (this.keys[index] == transportRequestId) {
+                this.records[index] = record;
+                this.expiryTimes[index] = expiryTime;
+                return current;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        this.keys[index] = transportRequestId;
+        this.records[index] = record;
+        this.expiryTimes[index] = expiryTime;
+
+        if (++this.size > this.resizeThreshold) {
+            this.resize();
+        }
+
+        return null;
+    }
+
+    public RntbdRequestRecord remove(final long transportRequestId) {
+
+        int gap = this.indexOf(transportRequestId);
+
+        if (gap < 0) {
+            return null;
+        }
+
+        final RntbdRequestRecord removed = this.records[gap];
+
+        // Shifts back the entries which follow the removed one in its probe sequence, so lookups need no tombstones
+
+        for (int index = (gap + 1) & this.mask; this.records[index] != null; index = (index + 1) & this.mask) {
+
+            final int slot = this.slotOf(this.keys[index]);
+
+            if (((index - slot) & this.mask) >= ((index - gap) & this.mask)) {
+                this.keys[gap] = this.keys[index];
+                this.records[gap] = this.records[index];
+                this.expiryTimes[gap] = this.expiryTimes[index];
+                gap = index;
+            }
+        }
+
+        this.records[gap] = null;
+        this.size--;
+
+        return removed;
+    }
+
+    /**
+     * Gets a snapshot of the requests in the table, which may be completed, and so removed, while iterating over it.
+     *
+     * @return the requests in the table.
+     */
+    public List<RntbdRequestRecord> values() {
+
+        final List<RntbdRequestRecord> values = new ArrayList<>(this.size);
+
+        for (final RntbdRequestRecord record : this.records) {
+            if (record != null) {
+                values.add(record);
+            }
+        }
+
+        return values;
+    }
+
+    // endregion
+
+    // region Privates
+
+    private void allocate(final int capacity) {
+        this.expiryTimes = new long[capacity];
+        this.keys = new long[capacity];
+        this.records = new RntbdRequestRecord[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = capacity - (capacity >>> 2);
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(expectedSize + (expectedSize >>> 1), MINIMUM_CAPACITY - 1));
+        return capacity << 1;
+    }
+
+    private int indexOf(final long transportRequestId) {
+
+        int index = this.slotOf(transportRequestId);
+
+        while (this.records[index] != null) {
+            if (this.keys[index] == transportRequestId) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+
+        return -1;
+    }
+
+    private void resize() {
+
+        final long[] expiryTimes = this.expiryTimes;
+        final long[] keys = this.keys;
+        final RntbdRequestRecord[] records = this.records;
+
+        this.allocate(records.length << 1);
+
+        for (int i = 0; i < records.length; i++) {
+
+            if (records[i] == null) {
+                continue;
+            }
+
+            int index = this.slotOf(keys[i]);
+
+            while (this.records[index] != null) {
+                index = (index + 1) & this.mask;
+            }
+
+            this.keys[index] = keys[i];
+            this.records[index] = records[i];
+            this.expiryTimes[index] = expiryTimes[i];
+        }
+    }
+
+    private int slotOf(final long transportRequestId) {
+        // Transport request identifiers are sequential, so they are scrambled to spread them evenly over the table
+        final long hash = transportRequestId * 0x9E3779B97F4A7C15L;
+        return (int)(hash ^ (hash >>> 32)) & this.mask;
+    }
+
+    // endregion
+}
@@ -3,26 +3,18 @@
 
 package com.azure.data.cosmos.internal.directconnectivity.rntbd;
 
-import io.netty.util.HashedWheelTimer;
-import io.netty.util.Timeout;
-import io.netty.util.Timer;
-import io.netty.util.TimerTask;
-
 import java.util.concurrent.TimeUnit;
 
 public final class RntbdRequestTimer implements AutoCloseable {
 
-    private static final long FIVE_MILLISECONDS = 5000000L;
     private final long requestTimeout;
-    private final Timer timer;
 
     public RntbdRequestTimer(final long requestTimeout) {
 
-        // Inspection of the HashWheelTimer code indicates that our choice of a 5 millisecond timer resolution ensures
-        // a request will timeout within 10 milliseconds of the specified requestTimeout interval. This is because
-        // cancellation of a timeout takes two timer resolution units to complete.
+        // Requests are not timed individually. The RntbdRequestManager of each channel records the time at which each
+        // of its pending requests expires and expires them in batches on the event loop of the channel, so there is
+        // no timer thread and no timeout object per request.
 
-        this.timer = new HashedWheelTimer(FIVE_MILLISECONDS, TimeUnit.NANOSECONDS);
         this.requestTimeout = requestTimeout;
     }
 
@@ -30,12 +22,18 @@ public final class RntbdRequestTimer implements AutoCloseable {
         return unit.convert(requestTimeout, TimeUnit.NANOSECONDS);
     }
 
-    @Override
-    public void close() throws RuntimeException {
-        this.timer.stop();
+    /**
+     * Gets the {@link System#nanoTime()} value at which a request sent at the given time expires.
+     *
+     * @param time a {@link System#nanoTime()} value.
+     * @return the time at which the request expires.
+     */
+    public long getExpiryTime(final long time) {
+        return time + this.requestTimeout;
     }
 
-    public Timeout newTimeout(final TimerTask task) {
-        return this.timer.newTimeout(task, this.requestTimeout, TimeUnit.NANOSECONDS);
+    @Override
+    public void close() throws RuntimeException {
+        // There is nothing to release since requests are expired by the event loops of their channels
     }
 }
@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CosmosBulkExecutorTest {
+
+    private static final String THROTTLED_RANGE = "0";
+    private static final String HEALTHY_RANGE = "1";
+
+    // Operations on the throttled range are paused for longer than the tests run
+    private static final BiFunction<String, CosmosBulkExecutor.PartitionThrottle, Mono<String>> EXECUTE =
+            (operation, throttle) -> {
+                if (THROTTLED_RANGE.equals(partitionKeyRangeId(operation))) {
+                    throttle.pause(Duration.ofMinutes(1).toMillis());
+                    return throttle.awaitResume().then(Mono.just(operation));
+                }
+                return Mono.just(operation);
+            };
+
+    @Test(groups = { "unit" }, timeOut = 10000)
+    public void throttledRangeDoesNotStarveOtherRanges() {
+
+        // More operations on the throttled range, ahead of the others, than groupBy prefetches by default
+
+        Flux<String> operations = Flux.concat(
+                Flux.range(0, 1000).map(i -> "throttled-" + i),
+                Flux.range(0, 10).map(i -> "healthy-" + i));
+
+        List<String> executed = CosmosBulkExecutor.executeByPartitionKeyRange(
+                operations,
+                CosmosBulkExecutorTest::partitionKeyRangeId,
+                EXECUTE,
+                new CosmosBulkExecutionOptions())
+                .take(10)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(executed).hasSize(10);
+        assertThat(executed).allMatch(operation -> operation.startsWith("healthy-"));
+    }
+
+    @Test(groups = { "unit" }, timeOut = 10000)
+    public void bufferedOperationsAreBounded() {
+
+        Flux<String> operations = Flux.concat(
+                Flux.range(0, 1000).map(i -> "throttled-" + i),
+                Flux.range(0, 10).map(i -> "healthy-" + i));
+
+        // Once the buffer is full of operations waiting for the throttled range, no more input is read
+
+        List<String> executed = CosmosBulkExecutor.executeByPartitionKeyRange(
+                operations,
+                CosmosBulkExecutorTest::partitionKeyRangeId,
+                EXECUTE,
+                new CosmosBulkExecutionOptions().maxBufferedOperations(100))
+                .take(Duration.ofMillis(500))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(executed).isEmpty();
+    }
+
+    private static String partitionKeyRangeId(String operation) {
+        return operation.startsWith("throttled-") ? THROTTLED_RANGE : HEALTHY_RANGE;
+    }
+}
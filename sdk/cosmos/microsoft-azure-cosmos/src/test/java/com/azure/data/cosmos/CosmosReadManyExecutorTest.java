@@ -0,0 +1,166 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.AsyncDocumentClient;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.DocumentCollection;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.PartitionKeyRange;
+import com.azure.data.cosmos.internal.RxDocumentServiceRequest;
+import com.azure.data.cosmos.internal.caches.IPartitionKeyRangeCache;
+import com.azure.data.cosmos.internal.caches.RxCollectionCache;
+import com.azure.data.cosmos.internal.routing.CollectionRoutingMap;
+import com.azure.data.cosmos.internal.routing.IServerIdentity;
+import com.azure.data.cosmos.internal.routing.InMemoryCollectionRoutingMap;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternalHelper;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CosmosReadManyExecutorTest {
+    private static final String COLLECTION_RID = "rid1";
+    private static final int ITEM_COUNT = 20;
+
+    private DocumentCollection collection;
+    private Map<String, String> effectivePartitionKeyById;
+    private CollectionRoutingMap routingMapBeforeSplit;
+    private CollectionRoutingMap routingMapAfterSplit;
+    private IPartitionKeyRangeCache partitionKeyRangeCache;
+    private AsyncDocumentClient client;
+    private CosmosContainer container;
+    private List<String> queriedPartitionKeyRangeIds;
+
+    @BeforeMethod(groups = { "unit" })
+    public void setup() {
+        PartitionKeyDefinition partitionKeyDefinition = new PartitionKeyDefinition();
+        partitionKeyDefinition.paths(ImmutableList.of("/mypk"));
+        collection = new DocumentCollection();
+        collection.id("coll");
+        collection.resourceId(COLLECTION_RID);
+        collection.setPartitionKey(partitionKeyDefinition);
+
+        effectivePartitionKeyById = new HashMap<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            effectivePartitionKeyById.put(id(i), PartitionKeyInternalHelper.getEffectivePartitionKeyString(
+                    new PartitionKey(partitionKey(i)).getInternalPartitionKey(), partitionKeyDefinition));
+        }
+
+        // Range 0 is split in the middle of the items, so both of its child ranges have some
+        List<String> effectivePartitionKeys = effectivePartitionKeyById.values().stream().sorted()
+                .collect(Collectors.toList());
+        String splitKey = effectivePartitionKeys.get(ITEM_COUNT / 2);
+
+        routingMapBeforeSplit = createRoutingMap(new PartitionKeyRange("0",
+                PartitionKeyInternalHelper.MinimumInclusiveEffectivePartitionKey,
+                PartitionKeyInternalHelper.MaximumExclusiveEffectivePartitionKey));
+        routingMapAfterSplit = createRoutingMap(
+                new PartitionKeyRange("1", PartitionKeyInternalHelper.MinimumInclusiveEffectivePartitionKey,
+                        splitKey, ImmutableList.of("0")),
+                new PartitionKeyRange("2", splitKey,
+                        PartitionKeyInternalHelper.MaximumExclusiveEffectivePartitionKey, ImmutableList.of("0")));
+
+        RxCollectionCache collectionCache = Mockito.mock(RxCollectionCache.class);
+        Mockito.when(collectionCache.resolveCollectionAsync(Mockito.any(RxDocumentServiceRequest.class)))
+                .thenReturn(Mono.just(collection));
+
+        // The cached routing map is the one from before the split until a refresh is forced
+        partitionKeyRangeCache = Mockito.mock(IPartitionKeyRangeCache.class);
+        Mockito.when(partitionKeyRangeCache.tryLookupAsync(Mockito.eq(COLLECTION_RID), Mockito.isNull(),
+                Mockito.any())).thenReturn(Mono.just(routingMapBeforeSplit));
+        Mockito.when(partitionKeyRangeCache.tryLookupAsync(Mockito.eq(COLLECTION_RID),
+                Mockito.eq(routingMapBeforeSplit), Mockito.any())).thenReturn(Mono.just(routingMapAfterSplit));
+
+        queriedPartitionKeyRangeIds = Collections.synchronizedList(new ArrayList<>());
+        client = Mockito.mock(AsyncDocumentClient.class);
+        Mockito.when(client.getCollectionCache()).thenReturn(collectionCache);
+        Mockito.when(client.getPartitionKeyRangeCache()).thenReturn(partitionKeyRangeCache);
+        Mockito.when(client.queryDocuments(Mockito.anyString(), Mockito.any(SqlQuerySpec.class),
+                Mockito.any(FeedOptions.class))).thenAnswer(invocation -> query(invocation.getArgument(1),
+                        CommonsBridgeInternal.partitionKeyRangeIdInternal((FeedOptions) invocation.getArgument(2))));
+
+        CosmosClient cosmosClient = Mockito.mock(CosmosClient.class);
+        Mockito.when(cosmosClient.getDocClientWrapper()).thenReturn(client);
+        Mockito.when(cosmosClient.getSerializer()).thenReturn(JacksonCosmosSerializer.DEFAULT);
+        container = new CosmosContainer("coll", new CosmosDatabase("db", cosmosClient));
+    }
+
+    @Test(groups = { "unit" }, timeOut = 10000)
+    public void itemsOfSplitRangeAreReadFromChildRanges() {
+        List<Pair<String, PartitionKey>> itemIdentities = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemIdentities.add(Pair.of(id(i), new PartitionKey(partitionKey(i))));
+        }
+
+        FeedResponse<CosmosItemProperties> response = new CosmosReadManyExecutor(container)
+                .readMany(itemIdentities)
+                .block();
+
+        assertThat(response.results().stream().map(Resource::id).collect(Collectors.toSet()))
+                .isEqualTo(effectivePartitionKeyById.keySet());
+
+        // The query sent to the gone range is not retried, its items are queried again from the ranges after the split
+        assertThat(queriedPartitionKeyRangeIds).containsExactlyInAnyOrder("0", "1", "2");
+        Mockito.verify(partitionKeyRangeCache, Mockito.times(1)).tryLookupAsync(Mockito.eq(COLLECTION_RID),
+                Mockito.eq(routingMapBeforeSplit), Mockito.any());
+    }
+
+    private Flux<FeedResponse<Document>> query(SqlQuerySpec querySpec, String partitionKeyRangeId) {
+        queriedPartitionKeyRangeIds.add(partitionKeyRangeId);
+        PartitionKeyRange range = routingMapAfterSplit.tryGetRangeByPartitionKeyRangeId(partitionKeyRangeId);
+        if (range == null) {
+            return Flux.error(new PartitionKeyRangeGoneException());
+        }
+
+        Set<Object> ids = querySpec.parameters().stream()
+                .map(parameter -> parameter.value(String.class))
+                .collect(Collectors.toSet());
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            String effectivePartitionKey = effectivePartitionKeyById.get(id(i));
+            if (ids.contains(id(i))
+                    && effectivePartitionKey.compareTo(range.getMinInclusive()) >= 0
+                    && effectivePartitionKey.compareTo(range.getMaxExclusive()) < 0) {
+                documents.add(new Document(String.format("{\"id\": \"%s\", \"mypk\": \"%s\"}", id(i),
+                        partitionKey(i))));
+            }
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.HttpHeaders.REQUEST_CHARGE, "1");
+        return Flux.just(BridgeInternal.createFeedResponse(documents, headers));
+    }
+
+    private static CollectionRoutingMap createRoutingMap(PartitionKeyRange... ranges) {
+        List<ImmutablePair<PartitionKeyRange, IServerIdentity>> rangesWithIdentities = new ArrayList<>();
+        for (PartitionKeyRange range : ranges) {
+            rangesWithIdentities.add(ImmutablePair.of(range, null));
+        }
+
+        return InMemoryCollectionRoutingMap.tryCreateCompleteRoutingMap(rangesWithIdentities, COLLECTION_RID);
+    }
+
+    private static String id(int i) {
+        return "item-" + i;
+    }
+
+    private static String partitionKey(int i) {
+        return "pk-" + i;
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+import com.azure.data.cosmos.internal.Document;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.fail;
+
+public class CosmosSerializerTest {
+
+    public static class Item {
+        public String id;
+        public String partitionKeyValue;
+    }
+
+    private final CosmosSerializer serializer = new JacksonCosmosSerializer(
+            new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE));
+
+    @Test(groups = { "unit" })
+    public void itemsAreSerializedWithTheSerializer() {
+        Item item = new Item();
+        item.id = "item";
+        item.partitionKeyValue = "pk";
+
+        Document document = CosmosItemProperties.fromObject(item, serializer);
+        assertThat(document.id()).isEqualTo("item");
+        assertThat(document.getString("partition_key_value")).isEqualTo("pk");
+        assertThat(document.has("partitionKeyValue")).isFalse();
+    }
+
+    @Test(groups = { "unit" })
+    public void itemsAreDeserializedWithTheSerializer() throws Exception {
+        Document document = new Document("{ 'id': 'item', 'partition_key_value': 'pk' }");
+
+        List<CosmosItemProperties> results = CosmosItemProperties.getFromV2Results(
+                Collections.singletonList(document), serializer);
+        Item item = results.get(0).getObject(Item.class);
+        assertThat(item.id).isEqualTo("item");
+        assertThat(item.partitionKeyValue).isEqualTo("pk");
+
+        item = serializer.deserialize("{ \"id\": \"item\", \"partition_key_value\": \"pk\" }", Item.class);
+        assertThat(item.partitionKeyValue).isEqualTo("pk");
+    }
+
+    @Test(groups = { "unit" })
+    public void getObjectFailsWithIOException() {
+        Document document = new Document("{ 'id': 'item', 'partition_key_value': { 'nested': 'pk' } }");
+        CosmosItemProperties properties = CosmosItemProperties.getFromV2Results(
+                Collections.singletonList(document), serializer).get(0);
+
+        try {
+            properties.getObject(Item.class);
+            fail("failure expected");
+        } catch (IOException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void cosmosItemPropertiesAreNotSerialized() {
+        CosmosItemProperties properties = new CosmosItemProperties("{ 'id': 'item', 'partitionKeyValue': 'pk' }");
+
+        Document document = CosmosItemProperties.fromObject(properties, serializer);
+        assertThat(document.getString("partitionKeyValue")).isEqualTo("pk");
+    }
+
+    @Test(groups = { "unit" })
+    public void serializeRejectsNonObjects() {
+        try {
+            serializer.serialize("value");
+            fail("failure expected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void serializeReturnsObjectNodes() {
+        Item item = new Item();
+        item.id = "item";
+
+        ObjectNode objectNode = JacksonCosmosSerializer.DEFAULT.serialize(item);
+        assertThat(objectNode.get("id").asText()).isEqualTo("item");
+        assertThat(objectNode.has("partitionKeyValue")).isTrue();
+    }
+}
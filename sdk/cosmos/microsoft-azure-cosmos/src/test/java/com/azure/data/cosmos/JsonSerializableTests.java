@@ -4,12 +4,14 @@
 package com.azure.data.cosmos;
 
 import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.Utils;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
 import org.testng.annotations.Test;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 import static com.azure.data.cosmos.BridgeInternal.setProperty;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,6 +95,34 @@ public class JsonSerializableTests {
         assertThat(readInnerDocument.id()).isEqualTo(innerDocument.id());
     }
 
+    @Test(groups = { "unit" })
+    public void toObjectAndFromObjectRoundTrip() {
+        Document document = Document.FromObject(new Pojo(1, 2), Utils.getSimpleObjectMapper());
+        assertThat(document.getInt("a")).isEqualTo(1);
+        assertThat(document.getInt("b")).isEqualTo(2);
+
+        setProperty(document, "a", 3);
+        Pojo pojo = document.toObject(Pojo.class);
+        assertThat(pojo.getA()).isEqualTo(3);
+        assertThat(pojo.getB()).isEqualTo(2);
+    }
+
+    @Test(groups = { "unit" })
+    public void fromObjectRejectsNonObjects() {
+        try {
+            Document.FromObject("value", Utils.getSimpleObjectMapper());
+            fail("failure expected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void toJsonBytesMatchesToJson() {
+        Document document = new Document("{ 'id': 'doc', 'text': 'caf\u00e9', 'values': [1, 2.5, true, null] }");
+        assertThat(BridgeInternal.toJsonBytes(document)).isEqualTo(document.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test(groups = { "unit" })
     public void objectMapperInvalidJsonNoQuotesForFieldAndValue() {
         // INVALID Json - field and value must be quoted
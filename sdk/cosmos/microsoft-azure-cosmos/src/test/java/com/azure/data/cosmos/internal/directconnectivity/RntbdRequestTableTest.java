@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.directconnectivity;
+
+import com.azure.data.cosmos.internal.OperationType;
+import com.azure.data.cosmos.internal.ResourceType;
+import com.azure.data.cosmos.internal.RxDocumentServiceRequest;
+import com.azure.data.cosmos.internal.directconnectivity.rntbd.RntbdRequestArgs;
+import com.azure.data.cosmos.internal.directconnectivity.rntbd.RntbdRequestRecord;
+import com.azure.data.cosmos.internal.directconnectivity.rntbd.RntbdRequestTable;
+import com.azure.data.cosmos.internal.directconnectivity.rntbd.RntbdRequestTimer;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RntbdRequestTableTest {
+
+    private static final RntbdRequestTimer requestTimer = new RntbdRequestTimer(TimeUnit.SECONDS.toNanos(5));
+
+    @Test(groups = { "unit" })
+    public void putGetAndRemove() {
+
+        final RntbdRequestTable table = new RntbdRequestTable(4);
+        final List<RntbdRequestRecord> records = new ArrayList<>();
+
+        // Enough requests to resize the table several times, with identifiers spread like those of a busy channel
+
+        for (int i = 0; i < 1000; i++) {
+            final RntbdRequestRecord record = newRecord();
+            records.add(record);
+            assertThat(table.put(record.transportRequestId(), record, i)).isNull();
+        }
+
+        assertThat(table.size()).isEqualTo(records.size());
+
+        for (final RntbdRequestRecord record : records) {
+            assertThat(table.get(record.transportRequestId())).isSameAs(record);
+        }
+
+        for (int i = 0; i < records.size(); i += 2) {
+            assertThat(table.remove(records.get(i).transportRequestId())).isSameAs(records.get(i));
+        }
+
+        assertThat(table.size()).isEqualTo(records.size() / 2);
+
+        for (int i = 0; i < records.size(); i++) {
+            final RntbdRequestRecord record = records.get(i);
+            assertThat(table.get(record.transportRequestId())).isSameAs(i % 2 == 0 ? null : record);
+        }
+
+        assertThat(table.remove(records.get(0).transportRequestId())).isNull();
+        assertThat(table.values()).containsExactlyInAnyOrderElementsOf(oddElements(records));
+    }
+
+    @Test(groups = { "unit" })
+    public void putReplacesRequestWithSameIdentifier() {
+
+        final RntbdRequestTable table = new RntbdRequestTable(4);
+        final RntbdRequestRecord first = newRecord();
+        final RntbdRequestRecord second = newRecord();
+
+        assertThat(table.put(1L, first, 0L)).isNull();
+        assertThat(table.put(1L, second, 0L)).isSameAs(first);
+        assertThat(table.get(1L)).isSameAs(second);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test(groups = { "unit" })
+    public void collectExpired() {
+
+        final RntbdRequestTable table = new RntbdRequestTable(4);
+        final RntbdRequestRecord expired = newRecord();
+        final RntbdRequestRecord pending = newRecord();
+        final RntbdRequestRecord later = newRecord();
+
+        table.put(expired.transportRequestId(), expired, 100L);
+        table.put(pending.transportRequestId(), pending, 200L);
+        table.put(later.transportRequestId(), later, 300L);
+
+        final List<RntbdRequestRecord> collected = new ArrayList<>();
+
+        assertThat(table.collectExpired(100L, collected)).isEqualTo(200L);
+        assertThat(collected).containsExactly(expired);
+
+        // Expired requests are left in the table until they are completed and removed
+
+        assertThat(table.size()).isEqualTo(3);
+
+        table.remove(expired.transportRequestId());
+        table.remove(pending.transportRequestId());
+        table.remove(later.transportRequestId());
+        collected.clear();
+
+        assertThat(table.collectExpired(1000L, collected)).isEqualTo(Long.MAX_VALUE);
+        assertThat(collected).isEmpty();
+        assertThat(table.isEmpty()).isTrue();
+    }
+
+    private static List<RntbdRequestRecord> oddElements(final List<RntbdRequestRecord> records) {
+        final List<RntbdRequestRecord> elements = new ArrayList<>();
+        for (int i = 1; i < records.size(); i += 2) {
+            elements.add(records.get(i));
+        }
+        return elements;
+    }
+
+    private static RntbdRequestRecord newRecord() {
+        final RxDocumentServiceRequest request = RxDocumentServiceRequest.create(
+            OperationType.Read, ResourceType.Document, "/dbs/db/colls/col/docs/doc", new HashMap<String, String>());
+        final RntbdRequestArgs args = new RntbdRequestArgs(request, URI.create("rntbd://localhost:10251/replica/"));
+        return new RntbdRequestRecord(args, requestTimer);
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.rx;
+
+import com.azure.data.cosmos.CosmosBulkExecutionOptions;
+import com.azure.data.cosmos.CosmosBulkOperationResponse;
+import com.azure.data.cosmos.CosmosClient;
+import com.azure.data.cosmos.CosmosClientBuilder;
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.CosmosContainer;
+import com.azure.data.cosmos.CosmosItemOperation;
+import com.azure.data.cosmos.CosmosItemOperationType;
+import com.azure.data.cosmos.CosmosItemProperties;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkExecutionTest extends TestSuiteBase {
+
+    private CosmosClient client;
+    private CosmosContainer container;
+
+    @Factory(dataProvider = "clientBuildersWithDirect")
+    public BulkExecutionTest(CosmosClientBuilder clientBuilder) {
+        super(clientBuilder);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT)
+    public void createAndReadItems() {
+        List<CosmosItemProperties> items = IntStream.range(0, 50)
+                .mapToObj(i -> getDocumentDefinition())
+                .collect(Collectors.toList());
+
+        List<CosmosBulkOperationResponse> createResponses = container
+                .executeBulkOperations(Flux.fromIterable(items).map(CosmosItemOperation::createItemOperation),
+                        new CosmosBulkExecutionOptions().maxConcurrencyPerPartitionKeyRange(5))
+                .collectList()
+                .block();
+
+        assertThat(createResponses).hasSize(items.size());
+        assertThat(createResponses).allMatch(CosmosBulkOperationResponse::isSuccessful);
+        assertThat(createResponses.stream().map(response -> response.response().properties().id()))
+                .containsExactlyInAnyOrderElementsOf(items.stream().map(CosmosItemProperties::id)
+                        .collect(Collectors.toList()));
+
+        List<CosmosBulkOperationResponse> readResponses = container
+                .executeBulkOperations(Flux.fromIterable(items)
+                        .map(item -> CosmosItemOperation.readItemOperation(item.id(), item.get("mypk"))))
+                .collectList()
+                .block();
+
+        assertThat(readResponses).hasSize(items.size());
+        assertThat(readResponses).allMatch(CosmosBulkOperationResponse::isSuccessful);
+        assertThat(readResponses).allMatch(response -> response.operation().operationType()
+                == CosmosItemOperationType.READ);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT)
+    public void failedOperationDoesNotFailOthers() {
+        CosmosItemProperties item = getDocumentDefinition();
+        String missingId = UUID.randomUUID().toString();
+
+        List<CosmosBulkOperationResponse> responses = container
+                .executeBulkOperations(Flux.just(
+                        CosmosItemOperation.upsertItemOperation(item),
+                        CosmosItemOperation.deleteItemOperation(missingId, item.get("mypk"))))
+                .collectList()
+                .block();
+
+        assertThat(responses).hasSize(2);
+        for (CosmosBulkOperationResponse response : responses) {
+            if (response.operation().operationType() == CosmosItemOperationType.UPSERT) {
+                assertThat(response.isSuccessful()).isTrue();
+                assertThat(response.response().properties().id()).isEqualTo(item.id());
+            } else {
+                assertThat(response.isSuccessful()).isFalse();
+                assertThat(response.error()).isInstanceOf(CosmosClientException.class);
+                assertThat(((CosmosClientException) response.error()).statusCode()).isEqualTo(404);
+            }
+        }
+    }
+
+    @BeforeClass(groups = { "simple" }, timeOut = SETUP_TIMEOUT)
+    public void beforeClass() {
+        assertThat(this.client).isNull();
+        this.client = this.clientBuilder().build();
+        this.container = getSharedMultiPartitionCosmosContainer(this.client);
+    }
+
+    @AfterClass(groups = { "simple" }, timeOut = SHUTDOWN_TIMEOUT, alwaysRun = true)
+    public void afterClass() {
+        safeClose(client);
+    }
+
+    private CosmosItemProperties getDocumentDefinition() {
+        String uuid = UUID.randomUUID().toString();
+        return new CosmosItemProperties(String.format("{ "
+                + "\"id\": \"%s\", "
+                + "\"mypk\": \"%s\", "
+                + "\"prop\": \"%s\""
+                + "}"
+                , UUID.randomUUID().toString(), uuid, uuid));
+    }
+}
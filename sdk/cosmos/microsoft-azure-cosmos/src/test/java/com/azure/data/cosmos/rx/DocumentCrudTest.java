@@ -12,7 +12,13 @@ import com.azure.data.cosmos.CosmosItemProperties;
 import com.azure.data.cosmos.CosmosItemRequestOptions;
 import com.azure.data.cosmos.CosmosItemResponse;
 import com.azure.data.cosmos.CosmosResponseValidator;
+import com.azure.data.cosmos.CosmosTypedItemResponse;
+import com.azure.data.cosmos.FeedOptions;
+import com.azure.data.cosmos.FeedResponse;
 import com.azure.data.cosmos.PartitionKey;
+import com.azure.data.cosmos.SqlParameter;
+import com.azure.data.cosmos.SqlParameterList;
+import com.azure.data.cosmos.SqlQuerySpec;
 import com.azure.data.cosmos.internal.FailureValidator;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.DataProvider;
@@ -25,6 +31,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeoutException;
 
@@ -159,6 +166,43 @@ public class DocumentCrudTest extends TestSuiteBase {
         validateSuccess(readObservable, validator);
     }
 
+    @Test(groups = { "simple" }, timeOut = TIMEOUT, dataProvider = "documentCrudArgProvider")
+    public void readDocumentAsPojo(String documentId) throws InterruptedException {
+
+        CosmosItemProperties docDefinition = getDocumentDefinition(documentId);
+        CosmosItem document = container.createItem(docDefinition, new CosmosItemRequestOptions()).block().item();
+
+        waitIfNeededForReplicasToCatchUp(clientBuilder());
+
+        CosmosItemRequestOptions options = new CosmosItemRequestOptions();
+        options.partitionKey(new PartitionKey(docDefinition.get("mypk")));
+        CosmosTypedItemResponse<TestItem> response = document.read(options, TestItem.class).block();
+
+        assertThat(response.item().id).isEqualTo(documentId);
+        assertThat(response.item().mypk).isEqualTo(docDefinition.get("mypk"));
+        assertThat(response.requestCharge()).isGreaterThan(0);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT, dataProvider = "documentCrudArgProvider")
+    public void queryDocumentsAsPojo(String documentId) throws InterruptedException {
+
+        CosmosItemProperties docDefinition = getDocumentDefinition(documentId);
+        container.createItem(docDefinition, new CosmosItemRequestOptions()).block();
+
+        waitIfNeededForReplicasToCatchUp(clientBuilder());
+
+        FeedOptions options = new FeedOptions();
+        options.partitionKey(new PartitionKey(docDefinition.get("mypk")));
+        List<TestItem> items = container.queryItems(new SqlQuerySpec("SELECT * FROM c WHERE c.id = @id",
+                new SqlParameterList(new SqlParameter("@id", documentId))), options, TestItem.class)
+            .flatMapIterable(FeedResponse::results)
+            .collectList()
+            .block();
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).id).isEqualTo(documentId);
+    }
+
     //FIXME test is flaky
     @Ignore
     @Test(groups = { "simple" }, timeOut = TIMEOUT, dataProvider = "documentCrudArgProvider")
@@ -335,6 +379,11 @@ public class DocumentCrudTest extends TestSuiteBase {
         this.client.close();
     }
 
+    public static class TestItem {
+        public String id;
+        public String mypk;
+    }
+
     private CosmosItemProperties getDocumentDefinition(String documentId) {
         final String uuid = UUID.randomUUID().toString();
         final CosmosItemProperties properties = new CosmosItemProperties(String.format("{ "
@@ -0,0 +1,91 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.rx;
+
+import com.azure.data.cosmos.CosmosClient;
+import com.azure.data.cosmos.CosmosClientBuilder;
+import com.azure.data.cosmos.CosmosContainer;
+import com.azure.data.cosmos.CosmosItemProperties;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.PartitionKey;
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadManyTest extends TestSuiteBase {
+
+    private CosmosClient client;
+    private CosmosContainer container;
+    private List<CosmosItemProperties> createdDocuments;
+
+    @Factory(dataProvider = "clientBuildersWithDirect")
+    public ReadManyTest(CosmosClientBuilder clientBuilder) {
+        super(clientBuilder);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT)
+    public void readMany() {
+        List<Pair<String, PartitionKey>> identities = createdDocuments.stream()
+                .map(document -> Pair.of(document.id(), new PartitionKey(document.get("mypk"))))
+                .collect(Collectors.toList());
+
+        FeedResponse<CosmosItemProperties> response = container.readMany(identities).block();
+
+        assertThat(response.results().stream().map(CosmosItemProperties::id).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(createdDocuments.stream().map(CosmosItemProperties::id)
+                        .collect(Collectors.toList()));
+        assertThat(response.requestCharge()).isGreaterThan(0);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT)
+    public void readManyLeavesOutMissingItems() {
+        CosmosItemProperties document = createdDocuments.get(0);
+        List<Pair<String, PartitionKey>> identities = new ArrayList<>();
+        identities.add(Pair.of(document.id(), new PartitionKey(document.get("mypk"))));
+        // Same id, but another partition key.
+        identities.add(Pair.of(document.id(), new PartitionKey(UUID.randomUUID().toString())));
+        identities.add(Pair.of(UUID.randomUUID().toString(), new PartitionKey(document.get("mypk"))));
+
+        FeedResponse<CosmosItemProperties> response = container.readMany(identities).block();
+
+        assertThat(response.results()).hasSize(1);
+        assertThat(response.results().get(0).id()).isEqualTo(document.id());
+    }
+
+    @BeforeClass(groups = { "simple" }, timeOut = SETUP_TIMEOUT)
+    public void beforeClass() {
+        assertThat(this.client).isNull();
+        this.client = this.clientBuilder().build();
+        this.container = getSharedMultiPartitionCosmosContainer(this.client);
+
+        List<CosmosItemProperties> documentDefinitions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            documentDefinitions.add(getDocumentDefinition());
+        }
+        createdDocuments = bulkInsertBlocking(container, documentDefinitions);
+    }
+
+    @AfterClass(groups = { "simple" }, timeOut = SHUTDOWN_TIMEOUT, alwaysRun = true)
+    public void afterClass() {
+        safeClose(client);
+    }
+
+    private CosmosItemProperties getDocumentDefinition() {
+        String uuid = UUID.randomUUID().toString();
+        return new CosmosItemProperties(String.format("{ "
+                + "\"id\": \"%s\", "
+                + "\"mypk\": \"%s\", "
+                + "\"prop\": \"%s\""
+                + "}"
+                , UUID.randomUUID().toString(), uuid, uuid));
+    }
+}
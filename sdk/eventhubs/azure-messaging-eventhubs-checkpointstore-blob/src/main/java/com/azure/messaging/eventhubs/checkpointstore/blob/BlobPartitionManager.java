@@ -18,14 +18,23 @@ import com.azure.storage.blob.models.BlobListDetails;
 import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.models.ModifiedAccessConditions;
+import reactor.core.Disposable;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 
+import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -35,9 +44,18 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * for persisting partition ownership and checkpoint information. {@link EventProcessor EventProcessors} can use this
  * implementation to load balance and update checkpoints.
  *
+ * <p>
+ * By default, every call to {@link #updateCheckpoint(Checkpoint)} writes the checkpoint to its blob. When created with
+ * a checkpoint flush interval, checkpoints are coalesced instead: only the latest checkpoint of each partition is kept
+ * and pending checkpoints are written when the flush interval elapses or when the number of partitions with a pending
+ * checkpoint reaches the configured maximum, whichever happens first. Each write is conditioned on the last known ETag
+ * of the blob, so a checkpoint is never written over an ownership change made by another {@link EventProcessor}.
+ * {@link #close()} writes the checkpoints that are still pending.
+ * </p>
+ *
  * @see EventProcessor
  */
-public class BlobPartitionManager implements PartitionManager {
+public class BlobPartitionManager implements PartitionManager, Closeable {
 
     private static final String SEQUENCE_NUMBER = "SequenceNumber";
     private static final String OFFSET = "Offset";
@@ -47,19 +65,66 @@ public class BlobPartitionManager implements PartitionManager {
 
     private static final String BLOB_PATH_SEPARATOR = "/";
     private static final ByteBuffer UPLOAD_DATA = ByteBuffer.wrap("".getBytes(UTF_8));
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(60);
+    // How long to wait for writes in progress before checking again whether pending checkpoints are left to drain.
+    private static final Duration DRAIN_INTERVAL = Duration.ofMillis(100);
 
     private final BlobContainerAsyncClient blobContainerAsyncClient;
     private final ClientLogger logger = new ClientLogger(BlobPartitionManager.class);
     private final Map<String, BlobAsyncClient> blobClients = new ConcurrentHashMap<>();
+    private final Map<String, String> lastKnownETags = new ConcurrentHashMap<>();
+    private final Map<String, PendingCheckpoint> pendingCheckpoints = new ConcurrentHashMap<>();
+    private final Set<String> checkpointsInFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicReference<Disposable> scheduledFlush = new AtomicReference<>();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+    private final Duration checkpointFlushInterval;
+    private final int maxPendingCheckpoints;
 
     /**
-     * Creates an instance of BlobPartitionManager.
+     * Creates an instance of BlobPartitionManager that writes every checkpoint to Storage Blobs as soon as it is
+     * updated.
      *
      * @param blobContainerAsyncClient The {@link BlobContainerAsyncClient} this instance will use to read and update
      * blobs in the storage container.
      */
     public BlobPartitionManager(BlobContainerAsyncClient blobContainerAsyncClient) {
         this.blobContainerAsyncClient = blobContainerAsyncClient;
+        this.checkpointFlushInterval = null;
+        this.maxPendingCheckpoints = 0;
+    }
+
+    /**
+     * Creates an instance of BlobPartitionManager that coalesces checkpoint updates. Only the latest checkpoint of each
+     * partition is written to Storage Blobs, either once {@code checkpointFlushInterval} has elapsed or once
+     * {@code maxPendingCheckpoints} partitions have a pending checkpoint. The {@link Mono} returned by {@link
+     * #updateCheckpoint(Checkpoint)} completes when the checkpoint, or a later checkpoint of the same partition that
+     * replaced it, has been written.
+     *
+     * @param blobContainerAsyncClient The {@link BlobContainerAsyncClient} this instance will use to read and update
+     * blobs in the storage container.
+     * @param checkpointFlushInterval The maximum time a checkpoint is kept pending before it is written.
+     * @param maxPendingCheckpoints The number of partitions with a pending checkpoint that triggers a write before the
+     * flush interval elapses.
+     * @throws NullPointerException if {@code checkpointFlushInterval} is null.
+     * @throws IllegalArgumentException if {@code checkpointFlushInterval} is not positive or {@code
+     * maxPendingCheckpoints} is less than 1.
+     */
+    public BlobPartitionManager(BlobContainerAsyncClient blobContainerAsyncClient, Duration checkpointFlushInterval,
+        int maxPendingCheckpoints) {
+        Objects.requireNonNull(checkpointFlushInterval, "'checkpointFlushInterval' cannot be null.");
+        if (checkpointFlushInterval.isZero() || checkpointFlushInterval.isNegative()) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'checkpointFlushInterval' has to be positive."));
+        }
+        if (maxPendingCheckpoints < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxPendingCheckpoints' has to be at least 1."));
+        }
+
+        this.blobContainerAsyncClient = blobContainerAsyncClient;
+        this.checkpointFlushInterval = checkpointFlushInterval;
+        this.maxPendingCheckpoints = maxPendingCheckpoints;
     }
 
     /**
@@ -133,14 +198,18 @@ public class BlobPartitionManager implements PartitionManager {
     }
 
     private Mono<PartitionOwnership> updateOwnershipETag(Response<?> response, PartitionOwnership ownership) {
-        return Mono.just(ownership.setETag(response.getHeaders().get(ETAG).getValue()));
+        String eTag = response.getHeaders().get(ETAG).getValue();
+        lastKnownETags.put(getBlobName(ownership.getEventHubName(), ownership.getConsumerGroupName(),
+            ownership.getPartitionId()), eTag);
+        return Mono.just(ownership.setETag(eTag));
     }
 
     /**
      * Updates the checkpoint in Storage Blobs for a partition.
      *
      * @param checkpoint Checkpoint information containing sequence number and offset to be stored for this partition.
-     * @return The new ETag on successful update.
+     * @return The new ETag on successful update. When checkpoints are coalesced, the checkpoint is only recorded once
+     * the returned {@link Mono} is subscribed to.
      */
     @Override
     public Mono<String> updateCheckpoint(Checkpoint checkpoint) {
@@ -150,8 +219,129 @@ public class BlobPartitionManager implements PartitionManager {
                     "Both sequence number and offset cannot be null when updating a checkpoint")));
         }
 
-        String partitionId = checkpoint.getPartitionId();
-        String blobName = getBlobName(checkpoint.getEventHubName(), checkpoint.getConsumerGroupName(), partitionId);
+        String blobName = getBlobName(checkpoint.getEventHubName(), checkpoint.getConsumerGroupName(),
+            checkpoint.getPartitionId());
+        if (checkpointFlushInterval == null) {
+            return writeCheckpoint(blobName, checkpoint, checkpoint.getETag());
+        }
+
+        return Mono.defer(() -> {
+            if (isClosed.get()) {
+                return Mono.error(logger.logExceptionAsError(new IllegalStateException(
+                    "Cannot update checkpoints using a closed partition manager.")));
+            }
+
+            PendingCheckpoint pendingCheckpoint = pendingCheckpoints.compute(blobName, (name, existing) ->
+                existing == null ? new PendingCheckpoint(checkpoint) : existing.replace(checkpoint));
+
+            if (pendingCheckpoints.size() >= maxPendingCheckpoints) {
+                flushCheckpoints().subscribe();
+            } else {
+                scheduleFlush();
+            }
+            return pendingCheckpoint.result;
+        });
+    }
+
+    /**
+     * Writes all pending checkpoints to Storage Blobs without waiting for the checkpoint flush interval to elapse. This
+     * has no effect if this instance was not created with a checkpoint flush interval. Checkpoints of partitions that
+     * already have a write in progress remain pending until the next flush.
+     *
+     * @return A {@link Mono} that completes when the pending checkpoints have been written. Failures to write
+     * individual checkpoints are reported to the callers of {@link #updateCheckpoint(Checkpoint)}.
+     */
+    public Mono<Void> flushCheckpoints() {
+        return Flux.defer(() -> {
+            cancelScheduledFlush();
+            return Flux.fromIterable(new ArrayList<>(pendingCheckpoints.keySet()));
+        })
+            // Only one write per blob can be in progress, otherwise the second write would use a stale ETag.
+            .filter(checkpointsInFlight::add)
+            .flatMap(blobName -> {
+                PendingCheckpoint pendingCheckpoint = pendingCheckpoints.remove(blobName);
+                if (pendingCheckpoint == null) {
+                    checkpointsInFlight.remove(blobName);
+                    return Mono.empty();
+                }
+
+                Checkpoint checkpoint = pendingCheckpoint.checkpoint;
+                String eTag = lastKnownETags.getOrDefault(blobName, checkpoint.getETag());
+                return writeCheckpoint(blobName, checkpoint, eTag)
+                    .map(newETag -> {
+                        lastKnownETags.put(blobName, newETag);
+                        checkpointsInFlight.remove(blobName);
+                        pendingCheckpoint.result.onNext(newETag);
+                        return newETag;
+                    })
+                    .onErrorResume(error -> {
+                        logger.warning("Failed to update checkpoint for partition {}", checkpoint.getPartitionId(),
+                            error);
+                        lastKnownETags.remove(blobName);
+                        checkpointsInFlight.remove(blobName);
+                        pendingCheckpoint.result.onError(error);
+                        return Mono.empty();
+                    });
+            })
+            .then()
+            .doFinally(signal -> {
+                if (!pendingCheckpoints.isEmpty()) {
+                    scheduleFlush();
+                }
+            });
+    }
+
+    /**
+     * Writes the pending checkpoints, waiting for writes already in progress, and stops scheduling flushes. Checkpoints
+     * updated afterwards are rejected. This has no effect if this instance was not created with a checkpoint flush
+     * interval.
+     */
+    @Override
+    public void close() {
+        if (checkpointFlushInterval == null || isClosed.getAndSet(true)) {
+            return;
+        }
+
+        try {
+            drainCheckpoints().block(CLOSE_TIMEOUT);
+        } catch (RuntimeException error) {
+            logger.warning("Unable to write pending checkpoints before closing.", error);
+        } finally {
+            cancelScheduledFlush();
+        }
+    }
+
+    private Mono<Void> drainCheckpoints() {
+        return flushCheckpoints().then(Mono.defer(() -> pendingCheckpoints.isEmpty()
+            ? Mono.empty()
+            : Mono.delay(DRAIN_INTERVAL).then(drainCheckpoints())));
+    }
+
+    private void scheduleFlush() {
+        if (isClosed.get() || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        // The flush is subscribed to separately, so that disposing of a timer which already fired doesn't cancel it.
+        Disposable timer = Mono.delay(checkpointFlushInterval).subscribe(ignored -> {
+            flushScheduled.set(false);
+            flushCheckpoints().subscribe();
+        });
+        Disposable previous = scheduledFlush.getAndSet(timer);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        Disposable timer = scheduledFlush.getAndSet(null);
+        if (timer != null) {
+            timer.dispose();
+        }
+        flushScheduled.set(false);
+    }
+
+    private Mono<String> writeCheckpoint(String blobName, Checkpoint checkpoint, String eTag) {
         if (!blobClients.containsKey(blobName)) {
             blobClients.put(blobName, blobContainerAsyncClient.getBlobAsyncClient(blobName));
         }
@@ -166,7 +356,7 @@ public class BlobPartitionManager implements PartitionManager {
         metadata.put(OWNER_ID, checkpoint.getOwnerId());
         BlobAsyncClient blobAsyncClient = blobClients.get(blobName);
         BlobAccessConditions blobAccessConditions = new BlobAccessConditions()
-            .setModifiedAccessConditions(new ModifiedAccessConditions().setIfMatch(checkpoint.getETag()));
+            .setModifiedAccessConditions(new ModifiedAccessConditions().setIfMatch(eTag));
 
         return blobAsyncClient.setMetadataWithResponse(metadata, blobAccessConditions)
             .map(response -> response.getHeaders().get(ETAG).getValue());
@@ -216,4 +406,30 @@ public class BlobPartitionManager implements PartitionManager {
         return partitionOwnership;
     }
 
+    /**
+     * The latest checkpoint of a partition that has not been written yet, and the result shared by every caller whose
+     * checkpoint it replaced.
+     */
+    private static final class PendingCheckpoint {
+        private final Checkpoint checkpoint;
+        private final MonoProcessor<String> result;
+
+        PendingCheckpoint(Checkpoint checkpoint) {
+            this(checkpoint, MonoProcessor.create());
+        }
+
+        private PendingCheckpoint(Checkpoint checkpoint, MonoProcessor<String> result) {
+            this.checkpoint = checkpoint;
+            this.result = result;
+        }
+
+        PendingCheckpoint replace(Checkpoint newer) {
+            // Never move a checkpoint backwards if updates for the same partition arrive out of order.
+            if (checkpoint.getSequenceNumber() != null && newer.getSequenceNumber() != null
+                && newer.getSequenceNumber() < checkpoint.getSequenceNumber()) {
+                return this;
+            }
+            return new PendingCheckpoint(newer, result);
+        }
+    }
 }
@@ -20,15 +20,18 @@ import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.test.StepVerifier;
 
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -39,6 +42,9 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -165,6 +171,104 @@ public class BlobPartitionManagerTest {
                 .expectError(SocketTimeoutException.class).verify();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCoalescedCheckpoints() {
+        Checkpoint checkpoint1 = createCheckpoint("0", 2L, 100L);
+        Checkpoint checkpoint2 = createCheckpoint("0", 3L, 150L);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobAccessConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobPartitionManager blobPartitionManager = new BlobPartitionManager(blobContainerAsyncClient,
+            Duration.ofMillis(100), 10);
+        Mono<String> firstUpdate = blobPartitionManager.updateCheckpoint(checkpoint1);
+        Mono<String> secondUpdate = blobPartitionManager.updateCheckpoint(checkpoint2);
+
+        // Checkpoints are recorded when subscribed to, so both are pending before the flush interval elapses.
+        StepVerifier.create(Mono.zip(firstUpdate, secondUpdate))
+            .assertNext(etags -> {
+                assertEquals("etag2", etags.getT1());
+                assertEquals("etag2", etags.getT2());
+            })
+            .verifyComplete();
+
+        ArgumentCaptor<Map<String, String>> metadata = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<BlobAccessConditions> accessConditions = ArgumentCaptor.forClass(BlobAccessConditions.class);
+        verify(blobAsyncClient, times(1)).setMetadataWithResponse(metadata.capture(), accessConditions.capture());
+        assertEquals("3", metadata.getValue().get("SequenceNumber"));
+        assertEquals("150", metadata.getValue().get("Offset"));
+        assertEquals("etag", accessConditions.getValue().getModifiedAccessConditions().getIfMatch());
+    }
+
+    @Test
+    public void testCoalescedCheckpointsFlushOnCount() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient(ArgumentMatchers.startsWith("eh/cg/")))
+            .thenReturn(blobAsyncClient);
+        when(blobAsyncClient.setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobAccessConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        // The flush interval is long enough that only reaching the pending count can trigger the write.
+        BlobPartitionManager blobPartitionManager = new BlobPartitionManager(blobContainerAsyncClient,
+            Duration.ofMinutes(5), 2);
+        Mono<String> firstUpdate = blobPartitionManager.updateCheckpoint(createCheckpoint("0", 2L, 100L));
+        Mono<String> secondUpdate = blobPartitionManager.updateCheckpoint(createCheckpoint("1", 5L, 500L));
+
+        StepVerifier.create(Mono.zip(firstUpdate, secondUpdate))
+            .assertNext(etags -> {
+                assertEquals("etag2", etags.getT1());
+                assertEquals("etag2", etags.getT2());
+            })
+            .verifyComplete();
+        verify(blobAsyncClient, times(2))
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobAccessConditions.class));
+        blobPartitionManager.close();
+    }
+
+    @Test
+    public void testCoalescedCheckpointNotRecordedUntilSubscribed() {
+        BlobPartitionManager blobPartitionManager = new BlobPartitionManager(blobContainerAsyncClient,
+            Duration.ofMinutes(5), 1);
+        blobPartitionManager.updateCheckpoint(createCheckpoint("0", 2L, 100L));
+
+        StepVerifier.create(blobPartitionManager.flushCheckpoints()).verifyComplete();
+        blobPartitionManager.close();
+        verify(blobAsyncClient, never())
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobAccessConditions.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCloseWritesPendingCheckpoints() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobAccessConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        // The flush interval is long enough that only closing can trigger the write.
+        BlobPartitionManager blobPartitionManager = new BlobPartitionManager(blobContainerAsyncClient,
+            Duration.ofMinutes(5), 10);
+        MonoProcessor<String> update = blobPartitionManager.updateCheckpoint(createCheckpoint("0", 2L, 100L))
+            .toProcessor();
+
+        blobPartitionManager.close();
+
+        StepVerifier.create(update).assertNext(etag -> assertEquals("etag2", etag)).verifyComplete();
+        ArgumentCaptor<Map<String, String>> metadata = ArgumentCaptor.forClass(Map.class);
+        verify(blobAsyncClient, times(1)).setMetadataWithResponse(metadata.capture(), any(BlobAccessConditions.class));
+        assertEquals("2", metadata.getValue().get("SequenceNumber"));
+
+        StepVerifier.create(blobPartitionManager.updateCheckpoint(createCheckpoint("0", 3L, 150L)))
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
     @Test
     public void testFailedOwnershipClaim() {
         PartitionOwnership po = createPartitionOwnership("eh", "cg", "0", "owner1");
@@ -180,6 +284,17 @@ public class BlobPartitionManagerTest {
         StepVerifier.create(blobPartitionManager.claimOwnership(po)).verifyComplete();
     }
 
+    private Checkpoint createCheckpoint(String partitionId, long sequenceNumber, long offset) {
+        return new Checkpoint()
+            .setEventHubName("eh")
+            .setConsumerGroupName("cg")
+            .setOwnerId("owner1")
+            .setPartitionId(partitionId)
+            .setETag("etag")
+            .setSequenceNumber(sequenceNumber)
+            .setOffset(offset);
+    }
+
     private PartitionOwnership createPartitionOwnership(String eventHubName, String consumerGroupName,
         String partitionId, String ownerId) {
         return new PartitionOwnership()
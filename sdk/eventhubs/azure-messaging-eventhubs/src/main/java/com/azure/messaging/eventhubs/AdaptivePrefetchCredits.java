@@ -0,0 +1,149 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Sizes the credits added to a receive link from the rate at which events are consumed downstream and the average size
+ * of the events received, so that the events prefetched but not yet consumed stay within a memory budget.
+ *
+ * <p>The consumer aims to hold {@link #TARGET_BUFFER_TIME} worth of events at the observed consumption rate. That
+ * number is capped by the prefetch count and by the number of events of average size that fit in the memory budget.
+ * Credits already on the link and events received but not yet consumed count towards it.</p>
+ *
+ * <p>Until events are received, their size is assumed to be the largest an Event Hub accepts, so the first credits
+ * added to the link cannot exceed the memory budget however large the events turn out to be.</p>
+ */
+class AdaptivePrefetchCredits {
+    /**
+     * Amount of time, at the observed consumption rate, worth of events to keep prefetched.
+     */
+    static final Duration TARGET_BUFFER_TIME = Duration.ofSeconds(1);
+
+    // Consumption rate is only sampled over intervals at least this long, so bursts of credit requests do not produce
+    // meaningless rates.
+    private static final long MINIMUM_SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final int maxPrefetchCount;
+    private final long memoryBudgetInBytes;
+    private final LongSupplier nanoTime;
+
+    private long receivedEvents;
+    private long consumedEvents;
+    private double averageEventSize;
+    private double consumptionRate = -1;
+    private long lastSampledConsumedEvents;
+    private long lastSampleNanos;
+
+    /**
+     * Creates an instance that sizes credits for at most {@code maxPrefetchCount} events and
+     * {@code memoryBudgetInBytes} bytes of received events.
+     *
+     * @param maxPrefetchCount The maximum number of events to prefetch.
+     * @param memoryBudgetInBytes The maximum size, in bytes, of events prefetched but not yet consumed.
+     * @param nanoTime Supplies the current value of a monotonic clock, in nanoseconds.
+     */
+    AdaptivePrefetchCredits(int maxPrefetchCount, long memoryBudgetInBytes, LongSupplier nanoTime) {
+        this.maxPrefetchCount = maxPrefetchCount;
+        this.memoryBudgetInBytes = memoryBudgetInBytes;
+        this.nanoTime = nanoTime;
+        this.lastSampleNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Records an event received from the link.
+     *
+     * @param sizeInBytes Size of the event received.
+     */
+    synchronized void onEventReceived(int sizeInBytes) {
+        final int size = Math.max(1, sizeInBytes);
+        averageEventSize = receivedEvents == 0
+            ? size
+            : averageEventSize + SMOOTHING_FACTOR * (size - averageEventSize);
+        receivedEvents++;
+    }
+
+    /**
+     * Records an event delivered to a downstream subscriber.
+     */
+    synchronized void onEventConsumed() {
+        consumedEvents++;
+    }
+
+    /**
+     * Gets the number of events received and not yet consumed.
+     *
+     * @return The number of events received and not yet consumed.
+     */
+    synchronized long getBufferedEvents() {
+        return Math.max(0, receivedEvents - consumedEvents);
+    }
+
+    /**
+     * Gets the number of credits to add to the link.
+     *
+     * @param linkCredits Credits currently on the link.
+     * @return The number of credits to add to the link, or {@code 0} if enough events are prefetched.
+     */
+    synchronized int getCreditsToAdd(int linkCredits) {
+        updateConsumptionRate();
+
+        // Before any consumption is observed, only the prefetch count and the memory budget limit the credits.
+        final long target = consumptionRate < 0
+            ? maxPrefetchCount
+            : (long) Math.ceil(consumptionRate * TARGET_BUFFER_TIME.toNanos() / TimeUnit.SECONDS.toNanos(1));
+        final double eventSize = averageEventSize > 0
+            ? averageEventSize
+            : ClientConstants.MAX_MESSAGE_LENGTH_BYTES;
+        final long memoryLimit = (long) (memoryBudgetInBytes / eventSize);
+
+        // At least one event is always allowed so the consumer makes progress, even if a single event is larger than
+        // the memory budget.
+        final long limit = Math.max(1, Math.min(maxPrefetchCount, Math.min(target, memoryLimit)));
+        final long outstanding = getBufferedEvents() + Math.max(0, linkCredits);
+
+        return (int) Math.max(0, limit - outstanding);
+    }
+
+    /**
+     * Gets the average size of the events received.
+     *
+     * @return The average size of the events received, in bytes, or {@code 0} if no events were received.
+     */
+    synchronized double getAverageEventSize() {
+        return averageEventSize;
+    }
+
+    /**
+     * Gets the rate at which events are consumed.
+     *
+     * @return The number of events consumed per second, or a negative value if it was not observed yet.
+     */
+    synchronized double getConsumptionRate() {
+        return consumptionRate;
+    }
+
+    private void updateConsumptionRate() {
+        final long now = nanoTime.getAsLong();
+        final long elapsed = now - lastSampleNanos;
+        if (elapsed < MINIMUM_SAMPLE_NANOS) {
+            return;
+        }
+
+        final double rate = (consumedEvents - lastSampledConsumedEvents) * (double) TimeUnit.SECONDS.toNanos(1)
+            / elapsed;
+        consumptionRate = consumptionRate < 0
+            ? rate
+            : consumptionRate + SMOOTHING_FACTOR * (rate - consumptionRate);
+
+        lastSampledConsumedEvents = consumedEvents;
+        lastSampleNanos = now;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.azure.core.amqp.MessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
 import static com.azure.core.amqp.MessageConstant.OFFSET_ANNOTATION_NAME;
@@ -55,6 +56,10 @@ public class EventData implements Comparable<EventData> {
     private final SystemProperties systemProperties;
     private Context context;
 
+    // For a received event, computes the system properties other than the offset, partition key, enqueued time, and
+    // sequence number. They are only added to systemProperties when first accessed. null once they are added.
+    private volatile Supplier<Map<String, Object>> pendingSystemProperties;
+
     static {
         final Set<String> properties = new HashSet<>();
         properties.add(OFFSET_ANNOTATION_NAME.getValue());
@@ -123,18 +128,24 @@ public class EventData implements Comparable<EventData> {
     }
 
     /**
-     * Creates an event with the given {@code body}, system properties and context.
+     * Creates a received event with the given {@code body}, application properties, system properties and context.
      *
      * @param body The data to set for this event.
+     * @param properties The application properties of the event. The map is used as is, without copying it.
      * @param systemProperties System properties set by message broker for this event.
+     * @param pendingSystemProperties Computes the remaining system properties, which are added to
+     *     {@code systemProperties} the first time {@link #getSystemProperties()} is called.
      * @param context A specified key-value pair of type {@link Context}.
-     * @throws NullPointerException if {@code body}, {@code systemProperties}, or {@code context} is {@code null}.
+     * @throws NullPointerException if {@code body}, {@code properties}, {@code systemProperties}, or {@code context} is
+     *     {@code null}.
      */
-    EventData(ByteBuffer body, SystemProperties systemProperties, Context context) {
+    EventData(ByteBuffer body, Map<String, Object> properties, SystemProperties systemProperties,
+        Supplier<Map<String, Object>> pendingSystemProperties, Context context) {
         this.body = Objects.requireNonNull(body, "'body' cannot be null.");
         this.context = Objects.requireNonNull(context, "'context' cannot be null.");
-        this.systemProperties =  Objects.requireNonNull(systemProperties, "'systemProperties' cannot be null.");
-        this.properties = new HashMap<>();
+        this.systemProperties = Objects.requireNonNull(systemProperties, "'systemProperties' cannot be null.");
+        this.properties = Objects.requireNonNull(properties, "'properties' cannot be null.");
+        this.pendingSystemProperties = pendingSystemProperties;
     }
 
     /**
@@ -212,6 +223,16 @@ public class EventData implements Comparable<EventData> {
      * the {@link EventData} is not received and is created by the public constructors.
      */
     public Map<String, Object> getSystemProperties() {
+        if (pendingSystemProperties != null) {
+            synchronized (systemProperties) {
+                final Supplier<Map<String, Object>> pending = pendingSystemProperties;
+                if (pending != null) {
+                    systemProperties.putAll(pending.get());
+                    pendingSystemProperties = null;
+                }
+            }
+        }
+
         return systemProperties;
     }
 
@@ -334,29 +355,24 @@ public class EventData implements Comparable<EventData> {
             sequenceNumber = null;
         }
 
-        SystemProperties(final Map<String, Object> map) {
-            super(map);
-            this.partitionKey = removeSystemProperty(PARTITION_KEY_ANNOTATION_NAME.getValue());
-
-            final String offset = removeSystemProperty(OFFSET_ANNOTATION_NAME.getValue());
+        SystemProperties(String offset, String partitionKey, Date enqueuedTime, Long sequenceNumber) {
+            super();
             if (offset == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "offset: %s should always be in map.", OFFSET_ANNOTATION_NAME.getValue()));
             }
-            this.offset = Long.valueOf(offset);
-
-            final Date enqueuedTimeValue = removeSystemProperty(ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue());
-            if (enqueuedTimeValue == null) {
+            if (enqueuedTime == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "enqueuedTime: %s should always be in map.", ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue()));
             }
-            this.enqueuedTime = enqueuedTimeValue.toInstant();
-
-            final Long sequenceNumber = removeSystemProperty(SEQUENCE_NUMBER_ANNOTATION_NAME.getValue());
             if (sequenceNumber == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "sequenceNumber: %s should always be in map.", SEQUENCE_NUMBER_ANNOTATION_NAME.getValue()));
             }
+
+            this.offset = Long.valueOf(offset);
+            this.partitionKey = partitionKey;
+            this.enqueuedTime = enqueuedTime.toInstant();
             this.sequenceNumber = sequenceNumber;
         }
 
@@ -399,14 +415,5 @@ public class EventData implements Comparable<EventData> {
         private Long getSequenceNumber() {
             return sequenceNumber;
         }
-
-        @SuppressWarnings("unchecked")
-        private <T> T removeSystemProperty(final String key) {
-            if (this.containsKey(key)) {
-                return (T) (this.remove(key));
-            }
-
-            return null;
-        }
     }
 }
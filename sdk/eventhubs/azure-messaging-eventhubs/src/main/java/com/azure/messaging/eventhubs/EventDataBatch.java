@@ -9,6 +9,7 @@ import com.azure.core.amqp.exception.ErrorCondition;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.amqp.implementation.AmqpConstants;
 import com.azure.core.amqp.implementation.ErrorContextProvider;
+import com.azure.core.amqp.implementation.MessageEncodingUtil;
 import org.apache.qpid.proton.Proton;
 import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
@@ -34,14 +35,18 @@ import java.util.Objects;
  * @see EventHubAsyncProducer See EventHubAsyncProducer for examples using the asynchronous producer.
  */
 public final class EventDataBatch {
+    private static final int DATA_SECTION_OVERHEAD = 16;
+
     private final ClientLogger logger = new ClientLogger(EventDataBatch.class);
     private final Object lock = new Object();
     private final int maxMessageSize;
     private final String partitionKey;
     private final ErrorContextProvider contextProvider;
     private final List<EventData> events;
+    // The batch message, as it is sent on the wire. Events are encoded into it as they are added.
     private final byte[] eventBytes;
     private int sizeInBytes;
+    private int encodedSizeInBytes;
 
     EventDataBatch(int maxMessageSize, String partitionKey, ErrorContextProvider contextProvider) {
         this.maxMessageSize = maxMessageSize;
@@ -85,25 +90,33 @@ public final class EventDataBatch {
             throw logger.logExceptionAsWarning(new IllegalArgumentException("eventData cannot be null"));
         }
 
-        final int size;
-        try {
-            size = getSize(eventData, events.isEmpty());
-        } catch (BufferOverflowException exception) {
-            throw logger.logExceptionAsWarning(new AmqpException(false, ErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
-                String.format(Locale.US, "Size of the payload exceeded maximum message size: %s kb",
-                    maxMessageSize / 1024),
-                contextProvider.getErrorContext()));
-        }
-
         synchronized (lock) {
+            final boolean isFirst = events.isEmpty();
+            final int encodedSize;
+            try {
+                encodedSize = encode(eventData, isFirst);
+            } catch (BufferOverflowException exception) {
+                if (!isFirst) {
+                    return false;
+                }
+
+                throw logger.logExceptionAsWarning(new AmqpException(false, ErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
+                    String.format(Locale.US, "Size of the payload exceeded maximum message size: %s kb",
+                        maxMessageSize / 1024),
+                    contextProvider.getErrorContext()));
+            }
+
+            // The data section is accounted for with 16 bytes of overhead, although its header takes 8 bytes.
+            final int size = encodedSize + DATA_SECTION_OVERHEAD - MessageEncodingUtil.DATA_SECTION_HEADER_SIZE;
             if (this.sizeInBytes + size > this.maxMessageSize) {
                 return false;
             }
 
             this.sizeInBytes += size;
+            this.encodedSizeInBytes += encodedSize;
+            this.events.add(eventData);
         }
 
-        this.events.add(eventData);
         return true;
     }
 
@@ -115,23 +128,49 @@ public final class EventDataBatch {
         return this.partitionKey;
     }
 
-    private int getSize(final EventData eventData, final boolean isFirst) {
+    /*
+     * Gets the batch message the events were encoded into. Only the first getEncodedSizeInBytes() bytes are part of
+     * the message.
+     */
+    byte[] getEncodedBytes() {
+        return eventBytes;
+    }
+
+    int getEncodedSizeInBytes() {
+        synchronized (lock) {
+            return encodedSizeInBytes;
+        }
+    }
+
+    /*
+     * Creates an empty batch with the same maximum size, partition key, and error context as this batch.
+     */
+    EventDataBatch createEmptyBatch() {
+        return new EventDataBatch(maxMessageSize, partitionKey, contextProvider);
+    }
+
+    /*
+     * Must be called while holding 'lock'. Encodes the event at the end of the batch message, preceded by the batch
+     * envelope if it is the first event, and returns the number of bytes written. The encoded bytes only become part of
+     * the batch once encodedSizeInBytes is advanced.
+     */
+    private int encode(final EventData eventData, final boolean isFirst) {
         Objects.requireNonNull(eventData, "'eventData' cannot be null.");
 
         final Message amqpMessage = createAmqpMessage(eventData, partitionKey);
-        int eventSize = amqpMessage.encode(this.eventBytes, 0, maxMessageSize); // actual encoded bytes size
-        eventSize += 16; // data section overhead
+        int offset = encodedSizeInBytes;
 
         if (isFirst) {
-            amqpMessage.setBody(null);
-            amqpMessage.setApplicationProperties(null);
-            amqpMessage.setProperties(null);
-            amqpMessage.setDeliveryAnnotations(null);
-
-            eventSize += amqpMessage.encode(this.eventBytes, 0, maxMessageSize);
+            // The batch envelope carries the message annotations, such as the partition key, of the first event.
+            final Message envelope = Proton.message();
+            envelope.setMessageAnnotations(amqpMessage.getMessageAnnotations());
+            offset = envelope.encode(this.eventBytes, 0, maxMessageSize);
         }
 
-        return eventSize;
+        final int dataSectionSize = MessageEncodingUtil.encodeAsDataSection(amqpMessage, this.eventBytes, offset,
+            maxMessageSize - offset);
+
+        return offset + dataSectionSize - encodedSizeInBytes;
     }
 
     /*
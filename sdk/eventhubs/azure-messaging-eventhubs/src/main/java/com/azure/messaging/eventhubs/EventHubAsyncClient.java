@@ -22,11 +22,13 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.implementation.EventHubConnection;
 import com.azure.messaging.eventhubs.implementation.EventHubManagementNode;
 import com.azure.messaging.eventhubs.implementation.EventHubSession;
+import com.azure.messaging.eventhubs.models.BufferedProducerOptions;
 import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
 import com.azure.messaging.eventhubs.models.EventHubProducerOptions;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -189,7 +191,39 @@ public class EventHubAsyncClient implements Closeable {
                     retryPolicy).cast(AmqpSendLink.class);
             });
 
-        return new EventHubAsyncProducer(amqpLinkMono, clonedOptions, tracerProvider, messageSerializer);
+        return new EventHubAsyncProducer(amqpLinkMono, clonedOptions, tracerProvider);
+    }
+
+    /**
+     * Creates a producer that buffers individual events into a batch per partition and sends the batches to the
+     * partitions of the Event Hub concurrently, using the default {@link BufferedProducerOptions}.
+     *
+     * @return A new {@link EventHubBufferedAsyncProducer}.
+     */
+    public EventHubBufferedAsyncProducer createBufferedProducer() {
+        return createBufferedProducer(new BufferedProducerOptions());
+    }
+
+    /**
+     * Creates a producer that buffers individual events into a batch per partition and sends the batches to the
+     * partitions of the Event Hub concurrently.
+     *
+     * @param options The set of options to apply when creating the producer.
+     * @return A new {@link EventHubBufferedAsyncProducer}.
+     * @throws NullPointerException if {@code options} is {@code null}.
+     * @throws IllegalArgumentException if {@link BufferedProducerOptions#getMaxWaitTime() options.maxWaitTime()} is
+     *     not a positive duration or {@link BufferedProducerOptions#getMaxConcurrentSends()
+     *     options.maxConcurrentSends()} is less than 1.
+     */
+    public EventHubBufferedAsyncProducer createBufferedProducer(BufferedProducerOptions options) {
+        Objects.requireNonNull(options, "'options' cannot be null.");
+
+        final BufferedProducerOptions clonedOptions = options.clone();
+        if (clonedOptions.getRetry() == null) {
+            clonedOptions.setRetry(connectionOptions.getRetry());
+        }
+
+        return new EventHubBufferedAsyncProducer(this, clonedOptions, Schedulers.parallel());
     }
 
     /**
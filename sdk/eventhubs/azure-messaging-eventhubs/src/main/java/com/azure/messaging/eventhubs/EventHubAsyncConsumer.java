@@ -69,6 +69,11 @@ public class EventHubAsyncConsumer implements Closeable {
     private final EmitterProcessor<EventData> emitterProcessor;
     private final Flux<EventData> messageFlux;
     private final boolean trackLastEnqueuedEventProperties;
+    // Sizes the credits added to the link when a prefetch memory budget is set. null otherwise.
+    private final AdaptivePrefetchCredits adaptivePrefetch;
+    // The last event emitted by the emitter processor, so that an event multicast to several subscribers is only
+    // counted as consumed once.
+    private final AtomicReference<EventData> lastConsumedEvent = new AtomicReference<>();
 
     private volatile AmqpReceiveLink receiveLink;
 
@@ -77,6 +82,10 @@ public class EventHubAsyncConsumer implements Closeable {
         this.messageSerializer = Objects.requireNonNull(messageSerializer, "'messageSerializer' cannot be null.");
         this.emitterProcessor = EmitterProcessor.create(options.getPrefetchCount(), false);
         this.trackLastEnqueuedEventProperties = options.getTrackLastEnqueuedEventProperties();
+        this.adaptivePrefetch = options.getPrefetchMemoryBudgetInBytes() != null
+            ? new AdaptivePrefetchCredits(options.getPrefetchCount(), options.getPrefetchMemoryBudgetInBytes(),
+                System::nanoTime)
+            : null;
 
         if (options.getTrackLastEnqueuedEventProperties()) {
             lastEnqueuedEventProperties.set(new LastEnqueuedEventProperties(null, null, null, null));
@@ -85,12 +94,15 @@ public class EventHubAsyncConsumer implements Closeable {
         // Caching the created link so we don't invoke another link creation.
         this.messageFlux = receiveLinkMono.cache().flatMapMany(link -> {
             if (RECEIVE_LINK_FIELD_UPDATER.compareAndSet(this, null, link)) {
-                logger.info("Created AMQP receive link. Initializing prefetch credits: {}", options.getPrefetchCount());
-                link.addCredits(options.getPrefetchCount());
+                final int initialCredits = adaptivePrefetch != null
+                    ? adaptivePrefetch.getCreditsToAdd(0)
+                    : options.getPrefetchCount();
+                logger.info("Created AMQP receive link. Initializing prefetch credits: {}", initialCredits);
+                link.addCredits(initialCredits);
 
                 link.setEmptyCreditListener(() -> {
                     if (emitterProcessor.hasDownstreams()) {
-                        return creditsToRequest.get();
+                        return getCreditsToRequest();
                     } else {
                         logger.verbose("Emitter has no downstream subscribers. Not adding credits.");
                         return 0;
@@ -127,7 +139,7 @@ public class EventHubAsyncConsumer implements Closeable {
                 logger.verbose("Subscription received for consumer.");
                 if (existingLink.getCredits() == 0) {
                     logger.info("Subscription received and there are no remaining credits on the link. Adding more.");
-                    existingLink.addCredits(creditsToRequest.get());
+                    existingLink.addCredits(getCreditsToRequest());
                 }
             })
             .doOnRequest(request -> {
@@ -144,7 +156,8 @@ public class EventHubAsyncConsumer implements Closeable {
                 logger.verbose("Back pressure request. Old value: {}. New value: {}", creditsToRequest.get(),
                     newRequest);
                 creditsToRequest.set(newRequest);
-            });
+            })
+            .doOnNext(this::onEventConsumed);
     }
 
     /**
@@ -190,6 +203,52 @@ public class EventHubAsyncConsumer implements Closeable {
         return lastEnqueuedEventProperties.get();
     }
 
+    /**
+     * Gets the number of credits to add to the link once it has no credits left.
+     *
+     * @return The number of credits to add to the link.
+     */
+    private int getCreditsToRequest() {
+        return adaptivePrefetch != null
+            ? adaptivePrefetch.getCreditsToAdd(0)
+            : creditsToRequest.get();
+    }
+
+    /**
+     * When prefetch is adaptive, credits are not added while too many events are waiting to be consumed. Once events
+     * are consumed and the link has no credits left, this adds the credits that became available.
+     *
+     * <p>The emitter processor hands each event to all of its subscribers, one after the other, before emitting the
+     * next one. An event leaves its buffer at that point, so it is counted when the first subscriber receives it and
+     * ignored for the others.</p>
+     */
+    private void onEventConsumed(EventData event) {
+        if (adaptivePrefetch == null || lastConsumedEvent.getAndSet(event) == event) {
+            return;
+        }
+
+        adaptivePrefetch.onEventConsumed();
+
+        final AmqpReceiveLink link = RECEIVE_LINK_FIELD_UPDATER.get(this);
+        if (link == null) {
+            return;
+        }
+
+        // Synchronized so concurrent subscribers do not both add credits to an empty link.
+        synchronized (adaptivePrefetch) {
+            if (link.getCredits() > 0) {
+                return;
+            }
+
+            final int credits = adaptivePrefetch.getCreditsToAdd(0);
+            if (credits > 0) {
+                logger.verbose("Adaptive prefetch. Adding credits: {}. Buffered events: {}", credits,
+                    adaptivePrefetch.getBufferedEvents());
+                link.addCredits(credits);
+            }
+        }
+    }
+
     /**
      * On each message received from the service, it will try to:
      * 1. Deserialize the message into an EventData
@@ -203,6 +262,10 @@ public class EventHubAsyncConsumer implements Closeable {
     private EventData onMessageReceived(Message message) {
         final EventData event = messageSerializer.deserialize(message, EventData.class);
 
+        if (adaptivePrefetch != null) {
+            adaptivePrefetch.onEventReceived(event.getBody().remaining());
+        }
+
         if (trackLastEnqueuedEventProperties) {
             final LastEnqueuedEventProperties enqueuedEventProperties =
                 messageSerializer.deserialize(message, LastEnqueuedEventProperties.class);
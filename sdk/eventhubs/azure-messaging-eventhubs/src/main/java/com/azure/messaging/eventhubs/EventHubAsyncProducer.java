@@ -8,7 +8,6 @@ import com.azure.core.amqp.exception.ErrorCondition;
 import com.azure.core.amqp.implementation.AmqpConstants;
 import com.azure.core.amqp.implementation.AmqpSendLink;
 import com.azure.core.amqp.implementation.ErrorContextProvider;
-import com.azure.core.amqp.implementation.MessageSerializer;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.annotation.Immutable;
 import com.azure.core.util.tracing.ProcessKind;
@@ -18,8 +17,6 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.models.BatchOptions;
 import com.azure.messaging.eventhubs.models.EventHubProducerOptions;
 import com.azure.messaging.eventhubs.models.SendOptions;
-import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
-import org.apache.qpid.proton.message.Message;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Signal;
@@ -28,7 +25,6 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -41,7 +37,6 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import static com.azure.core.util.tracing.Tracer.DIAGNOSTIC_ID_KEY;
 import static com.azure.core.util.tracing.Tracer.ENTITY_PATH;
@@ -120,7 +115,6 @@ public class EventHubAsyncProducer implements Closeable {
     private final Mono<AmqpSendLink> sendLinkMono;
     private final boolean isPartitionSender;
     private final TracerProvider tracerProvider;
-    private final MessageSerializer messageSerializer;
 
     /**
      * Creates a new instance of this {@link EventHubAsyncProducer} that sends messages to {@link
@@ -128,13 +122,12 @@ public class EventHubAsyncProducer implements Closeable {
      * otherwise, allows the service to load balance the messages amongst available partitions.
      */
     EventHubAsyncProducer(Mono<AmqpSendLink> amqpSendLinkMono, EventHubProducerOptions options,
-                          TracerProvider tracerProvider, MessageSerializer messageSerializer) {
+                          TracerProvider tracerProvider) {
         // Caching the created link so we don't invoke another link creation.
         this.sendLinkMono = amqpSendLinkMono.cache();
         this.senderOptions = options;
         this.isPartitionSender = !ImplUtils.isNullOrEmpty(options.getPartitionId());
         this.tracerProvider = tracerProvider;
-        this.messageSerializer = messageSerializer;
     }
 
     /**
@@ -298,24 +291,12 @@ public class EventHubAsyncProducer implements Closeable {
             logger.info("Sending batch with size[{}], partitionKey[{}].", batch.getSize(), batch.getPartitionKey());
         }
 
-        final String partitionKey = batch.getPartitionKey();
-        final List<Message> messages = batch.getEvents().stream().map(event -> {
-            final Message message = messageSerializer.serialize(event);
+        // The events were encoded into the batch message as they were added, so it is handed to the link as is.
+        final byte[] encodedBatch = batch.getEncodedBytes();
+        final int encodedSize = batch.getEncodedSizeInBytes();
 
-            if (!ImplUtils.isNullOrEmpty(partitionKey)) {
-                final MessageAnnotations messageAnnotations = message.getMessageAnnotations() == null
-                    ? new MessageAnnotations(new HashMap<>())
-                    : message.getMessageAnnotations();
-                messageAnnotations.getValue().put(AmqpConstants.PARTITION_KEY, partitionKey);
-                message.setMessageAnnotations(messageAnnotations);
-            }
-
-            return message;
-        }).collect(Collectors.toList());
-
-        return sendLinkMono.flatMap(link -> messages.size() == 1
-            ? link.send(messages.get(0))
-            : link.send(messages));
+        return sendLinkMono.flatMap(link -> link.send(encodedBatch, encodedSize,
+            AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
     }
 
     private Mono<Void> sendInternal(Flux<EventData> events, SendOptions options) {
@@ -0,0 +1,473 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.core.amqp.exception.ErrorCondition;
+import com.azure.core.implementation.util.ImplUtils;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.BatchOptions;
+import com.azure.messaging.eventhubs.models.BufferedProducerOptions;
+import com.azure.messaging.eventhubs.models.EventHubProducerOptions;
+import com.azure.messaging.eventhubs.models.SendOptions;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.publisher.UnicastProcessor;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.azure.messaging.eventhubs.implementation.ClientConstants.OPERATION_TIMEOUT;
+
+/**
+ * A producer that accepts individual events, buffers them into one {@link EventDataBatch} per partition, and sends
+ * the batches to their partitions concurrently.
+ *
+ * <p>
+ * Events sent with a {@link SendOptions#getPartitionKey() partition key} are assigned to a partition by hashing the
+ * key, so events that share a partition key are delivered, in order, to the same partition. Events without a partition
+ * key are distributed amongst all partitions using a round-robin approach. Unlike {@link EventHubAsyncProducer}, the
+ * partition is selected by this producer and not by the Event Hubs service, so a given partition key may map to a
+ * different partition than when it is sent with {@link EventHubAsyncProducer#send(EventData, SendOptions)}.
+ * </p>
+ *
+ * <p>
+ * A batch is sent as soon as it is full, or once {@link BufferedProducerOptions#getMaxWaitTime()} has elapsed since
+ * its first event was added. At most one batch is sent to each partition at a time, which preserves the order of the
+ * events within a partition, and at most {@link BufferedProducerOptions#getMaxConcurrentSends()} batches are sent
+ * concurrently across all partitions. While a batch is being sent to a partition, at most
+ * {@link BufferedProducerOptions#getMaxPendingBatchesPerPartition()} full batches are buffered for it; once that many
+ * are waiting, sending more events to the partition waits until a batch has been sent.
+ * </p>
+ *
+ * @see EventHubAsyncClient#createBufferedProducer()
+ * @see EventHubAsyncClient#createBufferedProducer(BufferedProducerOptions)
+ */
+public class EventHubBufferedAsyncProducer implements Closeable {
+    private static final SendOptions DEFAULT_SEND_OPTIONS = new SendOptions();
+    private static final int MAX_PARTITION_KEY_LENGTH = 128;
+    private static final Duration PARTITION_IDS_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    private final ClientLogger logger = new ClientLogger(EventHubBufferedAsyncProducer.class);
+    private final AtomicBoolean isDisposed = new AtomicBoolean();
+    private final AtomicInteger roundRobinIndex = new AtomicInteger();
+    private final Map<String, Mono<PartitionBuffer>> partitionBuffers = new ConcurrentHashMap<>();
+    private final Map<String, EventHubAsyncProducer> partitionProducers = new ConcurrentHashMap<>();
+    private final EventHubAsyncClient client;
+    private final BufferedProducerOptions options;
+    private final Scheduler scheduler;
+    private final Mono<List<String>> partitionIdsMono;
+    private final FluxSink<PendingBatch> readyBatches;
+    private final Disposable sendSubscription;
+
+    /**
+     * Creates a new instance of this {@link EventHubBufferedAsyncProducer} that sends events to the partitions of the
+     * Event Hub associated with {@code client}.
+     */
+    EventHubBufferedAsyncProducer(EventHubAsyncClient client, BufferedProducerOptions options, Scheduler scheduler) {
+        this.client = Objects.requireNonNull(client, "'client' cannot be null.");
+        this.options = Objects.requireNonNull(options, "'options' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+
+        if (options.getMaxWaitTime() == null || options.getMaxWaitTime().isNegative()
+            || options.getMaxWaitTime().isZero()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'options.maxWaitTime' has to be a positive duration."));
+        }
+        if (options.getMaxConcurrentSends() < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'options.maxConcurrentSends' has to be at least 1."));
+        }
+        if (options.getMaxPendingBatchesPerPartition() < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'options.maxPendingBatchesPerPartition' has to be at least 1."));
+        }
+
+        // Partitions can only be added to an Event Hub, so the partition ids are refreshed occasionally rather than
+        // retrieved for every event. Errors are not cached so that the next send retries the request.
+        this.partitionIdsMono = client.getPartitionIds()
+            .collectList()
+            .cache(ids -> PARTITION_IDS_REFRESH_INTERVAL, error -> Duration.ZERO, () -> Duration.ZERO);
+
+        // Each partition has at most one batch in this processor at a time, so it never holds more batches than there
+        // are partitions.
+        final UnicastProcessor<PendingBatch> processor = UnicastProcessor.create();
+        this.readyBatches = processor.sink();
+        this.sendSubscription = processor
+            .flatMap(this::sendBatch, options.getMaxConcurrentSends())
+            .subscribe();
+    }
+
+    /**
+     * Adds a single event to the batch of the next partition, in round-robin order.
+     *
+     * @param event Event to send to the service.
+     * @return A {@link Mono} that completes when the batch containing the event is pushed to the service.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    public Mono<Void> send(EventData event) {
+        return send(event, DEFAULT_SEND_OPTIONS);
+    }
+
+    /**
+     * Adds a single event to the batch of a partition. If {@link SendOptions#getPartitionKey() options.partitionKey()}
+     * is set, the partition is selected by hashing the partition key; otherwise, the next partition, in round-robin
+     * order, is selected.
+     *
+     * @param event Event to send to the service.
+     * @param options The set of options to consider when sending this event.
+     * @return A {@link Mono} that completes when the batch containing the event is pushed to the service. If the
+     * partition already has {@link BufferedProducerOptions#getMaxPendingBatchesPerPartition()} full batches waiting to
+     * be sent, the event is only added once one of them has been sent.
+     * @throws NullPointerException if {@code event} or {@code options} is {@code null}.
+     * @throws IllegalArgumentException if the partition key is longer than the maximum allowed length.
+     */
+    public Mono<Void> send(EventData event, SendOptions options) {
+        Objects.requireNonNull(event, "'event' cannot be null.");
+        Objects.requireNonNull(options, "'options' cannot be null.");
+
+        final String partitionKey = options.getPartitionKey();
+        if (partitionKey != null && partitionKey.length() > MAX_PARTITION_KEY_LENGTH) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "PartitionKey '%s' exceeds the maximum allowed length: '%s'.", partitionKey,
+                MAX_PARTITION_KEY_LENGTH)));
+        }
+
+        return Mono.defer(() -> {
+            if (isDisposed.get()) {
+                return Mono.error(logger.logExceptionAsError(
+                    new IllegalStateException("Cannot send events using a closed producer.")));
+            }
+
+            return partitionIdsMono
+                .map(partitionIds -> selectPartition(partitionIds, partitionKey))
+                .flatMap(this::getPartitionBuffer)
+                .flatMap(buffer -> buffer.add(event));
+        });
+    }
+
+    /**
+     * Sends all buffered events without waiting for their batches to fill up.
+     *
+     * @return A {@link Mono} that completes when all events buffered at the time of the call are pushed to the service.
+     */
+    public Mono<Void> flush() {
+        return Flux.fromIterable(partitionBuffers.values())
+            .flatMap(bufferMono -> bufferMono.onErrorResume(error -> Mono.empty()))
+            .flatMap(PartitionBuffer::flush)
+            .then();
+    }
+
+    /**
+     * Sends all buffered events and closes the producers of each partition.
+     *
+     * @throws IOException if the underlying transport could not be closed and its resources could not be disposed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isDisposed.getAndSet(true)) {
+            return;
+        }
+
+        try {
+            flush().block(OPERATION_TIMEOUT);
+        } catch (RuntimeException error) {
+            logger.warning("Unable to send buffered events before closing the producer.", error);
+        }
+
+        sendSubscription.dispose();
+        readyBatches.complete();
+        partitionBuffers.values().forEach(bufferMono ->
+            bufferMono.subscribe(PartitionBuffer::releaseWaitingEvents, error -> { }));
+
+        IOException closeError = null;
+        for (EventHubAsyncProducer producer : partitionProducers.values()) {
+            try {
+                producer.close();
+            } catch (IOException error) {
+                logger.warning("Unable to close producer.", error);
+                closeError = closeError == null ? error : closeError;
+            }
+        }
+        partitionProducers.clear();
+
+        if (closeError != null) {
+            throw closeError;
+        }
+    }
+
+    private String selectPartition(List<String> partitionIds, String partitionKey) {
+        if (partitionIds.isEmpty()) {
+            throw logger.logExceptionAsError(new IllegalStateException("The Event Hub does not have any partitions."));
+        }
+
+        final int index = ImplUtils.isNullOrEmpty(partitionKey)
+            ? roundRobinIndex.getAndIncrement()
+            : partitionKey.hashCode();
+
+        return partitionIds.get(Math.floorMod(index, partitionIds.size()));
+    }
+
+    private Mono<PartitionBuffer> getPartitionBuffer(String partitionId) {
+        return partitionBuffers.computeIfAbsent(partitionId, id -> {
+            final EventHubAsyncProducer producer = partitionProducers.computeIfAbsent(id, key ->
+                client.createProducer(new EventHubProducerOptions()
+                    .setPartitionId(key)
+                    .setRetry(options.getRetry())));
+            final BatchOptions batchOptions = new BatchOptions()
+                .setMaximumSizeInBytes(options.getMaximumSizeInBytes());
+
+            return producer.createBatch(batchOptions)
+                .map(batch -> new PartitionBuffer(id, producer, batch))
+                .doOnError(error -> {
+                    logger.warning("Unable to create batch for partition '{}'.", id, error);
+                    partitionBuffers.remove(id);
+                })
+                .cache();
+        });
+    }
+
+    private Mono<Void> sendBatch(PendingBatch pending) {
+        final PartitionBuffer buffer = pending.buffer;
+        logger.verbose("Sending batch with size[{}] to partition '{}'.", pending.batch.getSize(),
+            buffer.partitionId);
+
+        return buffer.producer.send(pending.batch)
+            .doOnSuccess(unused -> pending.sent.onComplete())
+            .doOnError(error -> {
+                logger.warning("Error sending batch to partition '{}'.", buffer.partitionId, error);
+                pending.sent.onError(error);
+            })
+            .onErrorResume(error -> Mono.empty())
+            .doFinally(signal -> buffer.onBatchSent());
+    }
+
+    /**
+     * A batch of events for a single partition and the result of sending it.
+     */
+    private static final class PendingBatch {
+        private final PartitionBuffer buffer;
+        private final EventDataBatch batch;
+        private final MonoProcessor<Void> sent = MonoProcessor.create();
+        private Disposable maxWaitTimer;
+        private boolean maxWaitTimeElapsed;
+
+        private PendingBatch(PartitionBuffer buffer, EventDataBatch batch) {
+            this.buffer = buffer;
+            this.batch = batch;
+        }
+    }
+
+    /**
+     * Buffers the events of a single partition. Only the batch that is currently being filled is open for events;
+     * batches that are full are queued until the batch in flight for the partition has been sent. Once the queue is
+     * full, events that do not fit in the current batch wait for a batch to be sent.
+     */
+    private final class PartitionBuffer {
+        private final Object lock = new Object();
+        private final String partitionId;
+        private final EventHubAsyncProducer producer;
+        private final EventDataBatch template;
+
+        // All of the following fields are guarded by 'lock'.
+        private final Queue<PendingBatch> sealedBatches = new ArrayDeque<>();
+        private PendingBatch currentBatch;
+        private PendingBatch batchInFlight;
+        // Completed when a queued batch is sent; not null while events wait for room in the queue.
+        private MonoProcessor<Void> batchDequeued;
+
+        private PartitionBuffer(String partitionId, EventHubAsyncProducer producer, EventDataBatch firstBatch) {
+            this.partitionId = partitionId;
+            this.producer = producer;
+            this.template = firstBatch;
+            this.currentBatch = new PendingBatch(this, firstBatch);
+        }
+
+        private Mono<Void> add(EventData event) {
+            PendingBatch target = null;
+            PendingBatch ready = null;
+            MonoProcessor<Void> waitFor = null;
+            try {
+                synchronized (lock) {
+                    if (batchDequeued != null) {
+                        // Events already waiting for room stay ahead of this one.
+                        waitFor = batchDequeued;
+                    } else {
+                        if (currentBatch == null) {
+                            currentBatch = new PendingBatch(this, template.createEmptyBatch());
+                        }
+
+                        if (currentBatch.batch.tryAdd(event)) {
+                            target = currentBatch;
+                        } else if (currentBatch.batch.getSize() == 0) {
+                            throw createEventTooLargeException();
+                        } else if (isQueueFull()) {
+                            batchDequeued = MonoProcessor.create();
+                            waitFor = batchDequeued;
+                        } else {
+                            ready = seal(currentBatch);
+                            currentBatch = new PendingBatch(this, template.createEmptyBatch());
+                            if (!currentBatch.batch.tryAdd(event)) {
+                                throw createEventTooLargeException();
+                            }
+                            target = currentBatch;
+                        }
+
+                        if (target != null && target.batch.getSize() == 1) {
+                            final PendingBatch timed = target;
+                            timed.maxWaitTimer = scheduler.schedule(() -> onMaxWaitTimeElapsed(timed),
+                                options.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS);
+                        }
+                    }
+                }
+            } catch (RuntimeException error) {
+                dispatch(ready);
+                return Mono.error(error);
+            }
+
+            dispatch(ready);
+            if (waitFor != null) {
+                return waitFor.then(Mono.defer(() -> isDisposed.get()
+                    ? Mono.error(logger.logExceptionAsError(
+                        new IllegalStateException("Cannot send events using a closed producer.")))
+                    : add(event)));
+            }
+
+            return target.sent;
+        }
+
+        private Mono<Void> flush() {
+            final List<Mono<Void>> pending = new ArrayList<>();
+            final PendingBatch ready;
+            synchronized (lock) {
+                if (currentBatch != null && currentBatch.batch.getSize() > 0) {
+                    ready = seal(currentBatch);
+                    currentBatch = null;
+                } else {
+                    ready = null;
+                }
+
+                if (batchInFlight != null) {
+                    pending.add(batchInFlight.sent);
+                }
+                sealedBatches.forEach(batch -> pending.add(batch.sent));
+            }
+
+            dispatch(ready);
+            return Mono.when(pending);
+        }
+
+        private void onMaxWaitTimeElapsed(PendingBatch pending) {
+            final PendingBatch ready;
+            synchronized (lock) {
+                if (currentBatch != pending) {
+                    // The batch filled up, or was flushed, before the timer elapsed.
+                    return;
+                }
+                if (isQueueFull()) {
+                    // Sent as soon as a batch has been sent to the partition and there is room for it.
+                    pending.maxWaitTimeElapsed = true;
+                    return;
+                }
+
+                ready = seal(pending);
+                currentBatch = null;
+            }
+
+            dispatch(ready);
+        }
+
+        private void onBatchSent() {
+            final PendingBatch next;
+            PendingBatch expired = null;
+            final MonoProcessor<Void> waiting;
+            synchronized (lock) {
+                next = sealedBatches.poll();
+                batchInFlight = next;
+                if (currentBatch != null && currentBatch.maxWaitTimeElapsed) {
+                    expired = seal(currentBatch);
+                    currentBatch = null;
+                }
+                waiting = batchDequeued;
+                batchDequeued = null;
+            }
+
+            dispatch(next);
+            dispatch(expired);
+            if (waiting != null) {
+                waiting.onComplete();
+            }
+        }
+
+        /*
+         * Called once the producer is closed, when no more batches are sent, so that events waiting for room fail
+         * instead of waiting forever.
+         */
+        private void releaseWaitingEvents() {
+            final MonoProcessor<Void> waiting;
+            synchronized (lock) {
+                waiting = batchDequeued;
+                batchDequeued = null;
+            }
+
+            if (waiting != null) {
+                waiting.onComplete();
+            }
+        }
+
+        /*
+         * Must be called while holding 'lock'.
+         */
+        private boolean isQueueFull() {
+            return batchInFlight != null && sealedBatches.size() >= options.getMaxPendingBatchesPerPartition();
+        }
+
+        /*
+         * Must be called while holding 'lock'. Closes the batch for new events and returns it if it can be sent right
+         * away; otherwise, queues it behind the batch in flight and returns null.
+         */
+        private PendingBatch seal(PendingBatch pending) {
+            if (pending.maxWaitTimer != null) {
+                pending.maxWaitTimer.dispose();
+                pending.maxWaitTimer = null;
+            }
+
+            if (batchInFlight == null) {
+                batchInFlight = pending;
+                return pending;
+            }
+
+            sealedBatches.add(pending);
+            return null;
+        }
+
+        private void dispatch(PendingBatch ready) {
+            if (ready != null) {
+                readyBatches.next(ready);
+            }
+        }
+
+        private RuntimeException createEventTooLargeException() {
+            return logger.logExceptionAsError(new AmqpException(false, ErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
+                String.format(Locale.US, "EventData does not fit into an empty batch for partition '%s'.",
+                    partitionId), null));
+        }
+    }
+}
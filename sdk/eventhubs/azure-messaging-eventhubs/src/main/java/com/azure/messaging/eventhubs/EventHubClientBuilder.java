@@ -38,6 +38,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 /**
  * This class provides a fluent builder API to aid the instantiation of {@link EventHubAsyncClient} and {@link
@@ -82,6 +83,7 @@ public class EventHubClientBuilder {
 
     private TokenCredential credentials;
     private Configuration configuration;
+    private EventHubConnectionPool connectionPool;
     private ProxyConfiguration proxyConfiguration;
     private RetryOptions retryOptions;
     private Scheduler scheduler;
@@ -199,6 +201,20 @@ public class EventHubClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the connection pool shared by clients of the same namespace. When set, the client uses one of the pool's
+     * connections instead of opening its own, and closing the client releases the connection back to the pool. If not
+     * specified, each client opens its own connection.
+     *
+     * @param connectionPool The connection pool to share connections from.
+     *
+     * @return The updated {@link EventHubClientBuilder} object.
+     */
+    public EventHubClientBuilder connectionPool(EventHubConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        return this;
+    }
+
     /**
      * Sets the credential information for which Event Hub instance to connect to, and how to authorize against it.
      *
@@ -307,7 +323,7 @@ public class EventHubClientBuilder {
      */
     public EventHubAsyncClient buildAsyncClient() {
         final ConnectionOptions connectionOptions = getConnectionOptions();
-        return buildAsyncClient(connectionOptions);
+        return buildAsyncClient(connectionOptions, connectionPool);
     }
 
     /**
@@ -337,18 +353,19 @@ public class EventHubClientBuilder {
      */
     public EventHubClient buildClient() {
         final ConnectionOptions connectionOptions = getConnectionOptions();
-        final EventHubAsyncClient client = buildAsyncClient(connectionOptions);
+        final EventHubAsyncClient client = buildAsyncClient(connectionOptions, connectionPool);
 
         return new EventHubClient(client, connectionOptions);
     }
 
-    private static EventHubAsyncClient buildAsyncClient(ConnectionOptions connectionOptions) {
+    private static EventHubAsyncClient buildAsyncClient(ConnectionOptions connectionOptions,
+                                                        EventHubConnectionPool connectionPool) {
         final ReactorProvider provider = new ReactorProvider();
         final ReactorHandlerProvider handlerProvider = new ReactorHandlerProvider(provider);
         final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
         final MessageSerializer messageSerializer = new EventHubMessageSerializer();
 
-        final Mono<EventHubConnection> connectionMono = Mono.fromCallable(() -> {
+        final Supplier<EventHubReactorConnection> connectionSupplier = () -> {
             final String connectionId = StringUtil.getRandomString("MF");
             final TokenManagerProvider tokenManagerProvider = new AzureTokenManagerProvider(
                 connectionOptions.getAuthorizationType(), connectionOptions.getHostname(),
@@ -356,7 +373,11 @@ public class EventHubClientBuilder {
 
             return new EventHubReactorConnection(connectionId, connectionOptions, provider, handlerProvider,
                 tokenManagerProvider, messageSerializer);
-        });
+        };
+
+        final Mono<EventHubConnection> connectionMono = connectionPool != null
+            ? Mono.fromCallable(() -> connectionPool.acquire(connectionOptions, connectionSupplier))
+            : Mono.<EventHubConnection>fromCallable(connectionSupplier::get);
 
         return new EventHubAsyncClient(connectionOptions, tracerProvider, messageSerializer, connectionMono);
     }
@@ -0,0 +1,369 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.AmqpEndpointState;
+import com.azure.core.amqp.AmqpSession;
+import com.azure.core.amqp.AmqpShutdownSignal;
+import com.azure.core.amqp.CBSNode;
+import com.azure.core.amqp.RetryOptions;
+import com.azure.core.amqp.TransportType;
+import com.azure.core.amqp.implementation.CBSAuthorizationType;
+import com.azure.core.amqp.implementation.ConnectionOptions;
+import com.azure.core.amqp.models.ProxyConfiguration;
+import com.azure.core.credentials.TokenCredential;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.implementation.EventHubConnection;
+import com.azure.messaging.eventhubs.implementation.EventHubManagementNode;
+import com.azure.messaging.eventhubs.implementation.EventHubReactorConnection;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A pool of AMQP connections shared by the Event Hub clients of a namespace. Rather than each client opening its own
+ * connection, with its own reactor thread, clients built with the same pool share at most
+ * {@link #getMaxConnectionsPerNamespace() maxConnectionsPerNamespace} connections per namespace, and their sessions and
+ * links are multiplexed over them.
+ *
+ * <p>
+ * A pool is used by setting it with {@link EventHubClientBuilder#connectionPool(EventHubConnectionPool)}. New
+ * connections are opened until the maximum is reached; after that, each client is assigned the connection shared by
+ * the fewest clients. A connection is closed once every client that uses it is closed.
+ * </p>
+ *
+ * <p>
+ * A connection is authorized with the credential of the client that opened it, so connections are only shared between
+ * clients that use the same {@link com.azure.core.credentials.TokenCredential} instance, authorization type, transport
+ * type, retry options, proxy configuration, and scheduler. Clients that differ in any of these get connections of
+ * their own, each subject to the maximum.
+ * </p>
+ *
+ * @see EventHubClientBuilder#connectionPool(EventHubConnectionPool)
+ */
+public final class EventHubConnectionPool implements Closeable {
+    /**
+     * The default maximum number of connections opened to each namespace.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_NAMESPACE = 1;
+
+    private final ClientLogger logger = new ClientLogger(EventHubConnectionPool.class);
+    private final Map<ConnectionKey, List<SharedConnection>> connections = new HashMap<>();
+    private final int maxConnectionsPerNamespace;
+    private boolean isClosed;
+
+    /**
+     * Creates a pool that opens at most {@link #DEFAULT_MAX_CONNECTIONS_PER_NAMESPACE} connections to each namespace.
+     */
+    public EventHubConnectionPool() {
+        this(DEFAULT_MAX_CONNECTIONS_PER_NAMESPACE);
+    }
+
+    /**
+     * Creates a pool that opens at most {@code maxConnectionsPerNamespace} connections to each namespace.
+     *
+     * @param maxConnectionsPerNamespace The maximum number of connections opened to each namespace.
+     * @throws IllegalArgumentException if {@code maxConnectionsPerNamespace} is less than 1.
+     */
+    public EventHubConnectionPool(int maxConnectionsPerNamespace) {
+        if (maxConnectionsPerNamespace < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "'maxConnectionsPerNamespace' has to be at least 1. Actual: %s", maxConnectionsPerNamespace)));
+        }
+
+        this.maxConnectionsPerNamespace = maxConnectionsPerNamespace;
+    }
+
+    /**
+     * Gets the maximum number of connections opened to each namespace.
+     *
+     * @return The maximum number of connections opened to each namespace.
+     */
+    public int getMaxConnectionsPerNamespace() {
+        return maxConnectionsPerNamespace;
+    }
+
+    /**
+     * Closes every connection in the pool, including the ones still used by clients.
+     */
+    @Override
+    public void close() {
+        final List<SharedConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            connections.values().forEach(toClose::addAll);
+            connections.clear();
+        }
+
+        toClose.forEach(SharedConnection::close);
+    }
+
+    /**
+     * Gets a connection for the Event Hub described by {@code connectionOptions}.
+     *
+     * @param connectionOptions Options of the client requesting the connection.
+     * @param connectionSupplier Creates a new connection when the pool opens another connection to the namespace.
+     * @return A connection to the Event Hub. Closing it releases the shared connection.
+     * @throws IllegalStateException if the pool is closed.
+     */
+    EventHubConnection acquire(ConnectionOptions connectionOptions,
+                               Supplier<EventHubReactorConnection> connectionSupplier) {
+        final ConnectionKey key = new ConnectionKey(connectionOptions);
+        final SharedConnection connection;
+        final boolean isNew;
+
+        synchronized (this) {
+            if (isClosed) {
+                throw logger.logExceptionAsError(new IllegalStateException(
+                    "Cannot acquire a connection from a closed connection pool."));
+            }
+
+            final List<SharedConnection> namespaceConnections =
+                connections.computeIfAbsent(key, unused -> new ArrayList<>());
+
+            if (namespaceConnections.size() < maxConnectionsPerNamespace) {
+                connection = new SharedConnection(key, connectionSupplier.get());
+                namespaceConnections.add(connection);
+                isNew = true;
+                logger.info("Opened connection {} of {} to {}.", namespaceConnections.size(),
+                    maxConnectionsPerNamespace, key.hostname);
+            } else {
+                SharedConnection leastUsed = namespaceConnections.get(0);
+                for (SharedConnection candidate : namespaceConnections) {
+                    if (candidate.leases < leastUsed.leases) {
+                        leastUsed = candidate;
+                    }
+                }
+
+                connection = leastUsed;
+                isNew = false;
+            }
+
+            connection.leases++;
+        }
+
+        // Watched once it is in the pool, so a connection that closes right away is still removed from it.
+        if (isNew) {
+            connection.start();
+        }
+
+        return new PooledConnection(connection, connectionOptions.getEntityPath());
+    }
+
+    /**
+     * Gets the number of connections open to the namespace of {@code connectionOptions}.
+     */
+    synchronized int getConnectionCount(ConnectionOptions connectionOptions) {
+        final List<SharedConnection> namespaceConnections = connections.get(new ConnectionKey(connectionOptions));
+        return namespaceConnections != null ? namespaceConnections.size() : 0;
+    }
+
+    private void release(SharedConnection connection) {
+        synchronized (this) {
+            if (--connection.leases > 0) {
+                return;
+            }
+
+            remove(connection);
+        }
+
+        connection.close();
+    }
+
+    private synchronized void remove(SharedConnection connection) {
+        final List<SharedConnection> namespaceConnections = connections.get(connection.key);
+        if (namespaceConnections == null) {
+            return;
+        }
+
+        namespaceConnections.remove(connection);
+        if (namespaceConnections.isEmpty()) {
+            connections.remove(connection.key);
+        }
+    }
+
+    /**
+     * Identifies the connections a client may share. The credential, proxy configuration, and scheduler are compared
+     * by identity since they have no notion of equality; the token manager used by a connection is derived from the
+     * hostname and authorization type.
+     */
+    private static final class ConnectionKey {
+        private final String hostname;
+        private final TransportType transportType;
+        private final CBSAuthorizationType authorizationType;
+        private final TokenCredential tokenCredential;
+        private final RetryOptions retryOptions;
+        private final ProxyConfiguration proxyConfiguration;
+        private final Scheduler scheduler;
+
+        private ConnectionKey(ConnectionOptions connectionOptions) {
+            this.hostname = connectionOptions.getHostname().toLowerCase(Locale.ROOT);
+            this.transportType = connectionOptions.getTransportType();
+            this.authorizationType = connectionOptions.getAuthorizationType();
+            this.tokenCredential = connectionOptions.getTokenCredential();
+            this.retryOptions = connectionOptions.getRetry();
+            this.proxyConfiguration = connectionOptions.getProxyConfiguration();
+            this.scheduler = connectionOptions.getScheduler();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConnectionKey)) {
+                return false;
+            }
+
+            final ConnectionKey other = (ConnectionKey) obj;
+            return hostname.equals(other.hostname)
+                && transportType == other.transportType
+                && authorizationType == other.authorizationType
+                && tokenCredential == other.tokenCredential
+                && Objects.equals(retryOptions, other.retryOptions)
+                && proxyConfiguration == other.proxyConfiguration
+                && scheduler == other.scheduler;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hostname, transportType, authorizationType, System.identityHashCode(tokenCredential),
+                retryOptions, System.identityHashCode(proxyConfiguration), System.identityHashCode(scheduler));
+        }
+    }
+
+    /**
+     * A connection shared by clients of a namespace. Access to {@code leases} is guarded by the pool.
+     */
+    private final class SharedConnection {
+        private final ConnectionKey key;
+        private final EventHubReactorConnection connection;
+        private final Disposable.Swap closedSubscription = Disposables.swap();
+        private int leases;
+
+        private SharedConnection(ConnectionKey key, EventHubReactorConnection connection) {
+            this.key = key;
+            this.connection = connection;
+        }
+
+        /**
+         * Stops handing out this connection to new clients once it closes on its own.
+         */
+        private void start() {
+            closedSubscription.update(connection.getConnectionStates()
+                .filter(state -> state == AmqpEndpointState.CLOSED)
+                .next()
+                .subscribe(state -> remove(this)));
+        }
+
+        private void close() {
+            closedSubscription.dispose();
+            connection.close();
+        }
+    }
+
+    /**
+     * The connection handed to a client. Sessions and links are created on the shared connection, and closing it
+     * releases the client's lease on the shared connection.
+     */
+    private final class PooledConnection implements EventHubConnection {
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+        private final SharedConnection sharedConnection;
+        private final EventHubReactorConnection connection;
+        private final String eventHubName;
+
+        private PooledConnection(SharedConnection sharedConnection, String eventHubName) {
+            this.sharedConnection = sharedConnection;
+            this.connection = sharedConnection.connection;
+            this.eventHubName = eventHubName;
+        }
+
+        @Override
+        public Mono<EventHubManagementNode> getManagementNode() {
+            return connection.getManagementNode(eventHubName);
+        }
+
+        @Override
+        public String getId() {
+            return connection.getId();
+        }
+
+        @Override
+        public String getHostname() {
+            return connection.getHostname();
+        }
+
+        @Override
+        public int getMaxFrameSize() {
+            return connection.getMaxFrameSize();
+        }
+
+        @Override
+        public Map<String, Object> getConnectionProperties() {
+            return connection.getConnectionProperties();
+        }
+
+        @Override
+        public Mono<CBSNode> getCBSNode() {
+            return connection.getCBSNode();
+        }
+
+        @Override
+        public Mono<AmqpSession> createSession(String sessionName) {
+            return connection.createSession(sessionName);
+        }
+
+        @Override
+        public boolean removeSession(String sessionName) {
+            return connection.removeSession(sessionName);
+        }
+
+        @Override
+        public AmqpEndpointState getCurrentState() {
+            return connection.getCurrentState();
+        }
+
+        @Override
+        public Flux<Throwable> getErrors() {
+            return connection.getErrors();
+        }
+
+        @Override
+        public Flux<AmqpEndpointState> getConnectionStates() {
+            return connection.getConnectionStates();
+        }
+
+        @Override
+        public Flux<AmqpShutdownSignal> getShutdownSignals() {
+            return connection.getShutdownSignals();
+        }
+
+        /**
+         * Releases this client's lease on the shared connection. The shared connection is closed once it has no
+         * leases left. Sessions are left open since clients of the same Event Hub share them.
+         */
+        @Override
+        public void close() {
+            if (!isClosed.getAndSet(true)) {
+                release(sharedConnection);
+            }
+        }
+    }
+}
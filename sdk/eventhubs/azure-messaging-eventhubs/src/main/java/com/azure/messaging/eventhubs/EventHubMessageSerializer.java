@@ -18,6 +18,7 @@ import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.DeliveryAnnotations;
 import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.amqp.messaging.Properties;
 import org.apache.qpid.proton.amqp.messaging.Section;
 import org.apache.qpid.proton.message.Message;
 
@@ -28,7 +29,12 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
+import static com.azure.core.amqp.MessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
+import static com.azure.core.amqp.MessageConstant.OFFSET_ANNOTATION_NAME;
+import static com.azure.core.amqp.MessageConstant.PARTITION_KEY_ANNOTATION_NAME;
+import static com.azure.core.amqp.MessageConstant.SEQUENCE_NUMBER_ANNOTATION_NAME;
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_OFFSET;
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_SEQUENCE_NUMBER;
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_TIME_UTC;
@@ -45,6 +51,10 @@ class EventHubMessageSerializer implements MessageSerializer {
     private static final Symbol LAST_ENQUEUED_TIME_UTC = Symbol.getSymbol(MANAGEMENT_RESULT_LAST_ENQUEUED_TIME_UTC);
     private static final Symbol RETRIEVAL_TIME_UTC =
         Symbol.getSymbol(MANAGEMENT_RESULT_RUNTIME_INFO_RETRIEVAL_TIME_UTC);
+    private static final Symbol OFFSET = Symbol.getSymbol(OFFSET_ANNOTATION_NAME.getValue());
+    private static final Symbol PARTITION_KEY = Symbol.getSymbol(PARTITION_KEY_ANNOTATION_NAME.getValue());
+    private static final Symbol ENQUEUED_TIME_UTC = Symbol.getSymbol(ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue());
+    private static final Symbol SEQUENCE_NUMBER = Symbol.getSymbol(SEQUENCE_NUMBER_ANNOTATION_NAME.getValue());
 
     /**
      * Gets the serialized size of the AMQP message.
@@ -189,27 +199,15 @@ class EventHubMessageSerializer implements MessageSerializer {
 
     private EventData deserializeEventData(Message message) {
         final Map<Symbol, Object> messageAnnotations = message.getMessageAnnotations().getValue();
-        final HashMap<String, Object> receiveProperties = new HashMap<>();
+        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(
+            (String) messageAnnotations.get(OFFSET), (String) messageAnnotations.get(PARTITION_KEY),
+            (Date) messageAnnotations.get(ENQUEUED_TIME_UTC), (Long) messageAnnotations.get(SEQUENCE_NUMBER));
 
-        for (Map.Entry<Symbol, Object> annotation : messageAnnotations.entrySet()) {
-            receiveProperties.put(annotation.getKey().toString(), annotation.getValue());
-        }
-
-        if (message.getProperties() != null) {
-            addMapEntry(receiveProperties, MessageConstant.MESSAGE_ID, message.getMessageId());
-            addMapEntry(receiveProperties, MessageConstant.USER_ID, message.getUserId());
-            addMapEntry(receiveProperties, MessageConstant.TO, message.getAddress());
-            addMapEntry(receiveProperties, MessageConstant.SUBJECT, message.getSubject());
-            addMapEntry(receiveProperties, MessageConstant.REPLY_TO, message.getReplyTo());
-            addMapEntry(receiveProperties, MessageConstant.CORRELATION_ID, message.getCorrelationId());
-            addMapEntry(receiveProperties, MessageConstant.CONTENT_TYPE, message.getContentType());
-            addMapEntry(receiveProperties, MessageConstant.CONTENT_ENCODING, message.getContentEncoding());
-            addMapEntry(receiveProperties, MessageConstant.ABSOLUTE_EXPIRY_TIME, message.getExpiryTime());
-            addMapEntry(receiveProperties, MessageConstant.CREATION_TIME, message.getCreationTime());
-            addMapEntry(receiveProperties, MessageConstant.GROUP_ID, message.getGroupId());
-            addMapEntry(receiveProperties, MessageConstant.GROUP_SEQUENCE, message.getGroupSequence());
-            addMapEntry(receiveProperties, MessageConstant.REPLY_TO_GROUP_ID, message.getReplyToGroupId());
-        }
+        // The remaining system properties are only computed if they are accessed, since most consumers only look at
+        // the offset, sequence number, enqueued time, or partition key.
+        final Properties amqpProperties = message.getProperties();
+        final Supplier<Map<String, Object>> pendingSystemProperties =
+            () -> toSystemProperties(messageAnnotations, amqpProperties);
 
         final Section bodySection = message.getBody();
         ByteBuffer body;
@@ -224,16 +222,52 @@ class EventHubMessageSerializer implements MessageSerializer {
             body = ByteBuffer.wrap(new byte[0]);
         }
 
-        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(receiveProperties);
-        final EventData eventData = new EventData(body, systemProperties, Context.NONE);
+        // The decoded application properties are owned by this message, so they are used as is rather than copied.
         final Map<String, Object> properties = message.getApplicationProperties() == null
+            || message.getApplicationProperties().getValue() == null
             ? new HashMap<>()
             : message.getApplicationProperties().getValue();
 
-        properties.forEach((key, value) -> eventData.addProperty(key, value));
-
         message.clear();
-        return eventData;
+        return new EventData(body, properties, systemProperties, pendingSystemProperties, Context.NONE);
+    }
+
+    /*
+     * Gets the system properties of a received message, other than the ones already exposed by EventData: offset,
+     * partition key, enqueued time, and sequence number.
+     */
+    private static Map<String, Object> toSystemProperties(Map<Symbol, Object> messageAnnotations,
+        Properties amqpProperties) {
+        final HashMap<String, Object> receiveProperties = new HashMap<>();
+
+        for (Map.Entry<Symbol, Object> annotation : messageAnnotations.entrySet()) {
+            final Symbol key = annotation.getKey();
+            if (!OFFSET.equals(key) && !PARTITION_KEY.equals(key) && !ENQUEUED_TIME_UTC.equals(key)
+                && !SEQUENCE_NUMBER.equals(key)) {
+                receiveProperties.put(key.toString(), annotation.getValue());
+            }
+        }
+
+        if (amqpProperties != null) {
+            final Message message = Proton.message();
+            message.setProperties(amqpProperties);
+
+            addMapEntry(receiveProperties, MessageConstant.MESSAGE_ID, message.getMessageId());
+            addMapEntry(receiveProperties, MessageConstant.USER_ID, message.getUserId());
+            addMapEntry(receiveProperties, MessageConstant.TO, message.getAddress());
+            addMapEntry(receiveProperties, MessageConstant.SUBJECT, message.getSubject());
+            addMapEntry(receiveProperties, MessageConstant.REPLY_TO, message.getReplyTo());
+            addMapEntry(receiveProperties, MessageConstant.CORRELATION_ID, message.getCorrelationId());
+            addMapEntry(receiveProperties, MessageConstant.CONTENT_TYPE, message.getContentType());
+            addMapEntry(receiveProperties, MessageConstant.CONTENT_ENCODING, message.getContentEncoding());
+            addMapEntry(receiveProperties, MessageConstant.ABSOLUTE_EXPIRY_TIME, message.getExpiryTime());
+            addMapEntry(receiveProperties, MessageConstant.CREATION_TIME, message.getCreationTime());
+            addMapEntry(receiveProperties, MessageConstant.GROUP_ID, message.getGroupId());
+            addMapEntry(receiveProperties, MessageConstant.GROUP_SEQUENCE, message.getGroupSequence());
+            addMapEntry(receiveProperties, MessageConstant.REPLY_TO_GROUP_ID, message.getReplyToGroupId());
+        }
+
+        return receiveProperties;
     }
 
     private EventHubProperties toEventHubProperties(Map<?, ?> amqpBody) {
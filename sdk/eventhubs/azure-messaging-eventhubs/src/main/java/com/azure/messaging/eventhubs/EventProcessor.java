@@ -5,9 +5,13 @@ package com.azure.messaging.eventhubs;
 
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
 import com.azure.messaging.eventhubs.implementation.PartitionBasedLoadBalancer;
 import com.azure.messaging.eventhubs.implementation.PartitionPumpManager;
 import com.azure.messaging.eventhubs.models.EventPosition;
+import com.azure.messaging.eventhubs.models.PartitionPumpMetrics;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.UUID;
@@ -59,17 +63,45 @@ public class EventProcessor {
     EventProcessor(EventHubAsyncClient eventHubAsyncClient, String consumerGroup,
         Supplier<PartitionProcessor> partitionProcessorFactory, EventPosition initialEventPosition,
         PartitionManager partitionManager, TracerProvider tracerProvider) {
+        this(eventHubAsyncClient, consumerGroup, partitionProcessorFactory, initialEventPosition, partitionManager,
+            tracerProvider, null, ClientConstants.DEFAULT_BATCH_MAX_WAIT_TIME, null, Schedulers.boundedElastic());
+    }
+
+    /**
+     * Package-private constructor. Use {@link EventHubClientBuilder} to create an instance.
+     *
+     * @param eventHubAsyncClient The {@link EventHubAsyncClient}.
+     * @param consumerGroup The consumer group name used in this event processor to consumer events.
+     * @param partitionProcessorFactory The factory to create new partition processor(s).
+     * @param initialEventPosition Initial event position to start consuming events.
+     * @param partitionManager The partition manager used for reading and updating partition ownership and checkpoint
+     * information.
+     * @param tracerProvider The tracer implementation.
+     * @param maxBatchSize The maximum number of events delivered in a batch, or {@code null} to deliver events one at
+     * a time.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up before it is delivered.
+     * @param prefetchCount The maximum number of events received and not yet processed per partition, or {@code null}
+     * to dispatch events as soon as they are received.
+     * @param scheduler The scheduler shared by all partition pumps to process events and time out batches.
+     */
+    EventProcessor(EventHubAsyncClient eventHubAsyncClient, String consumerGroup,
+        Supplier<PartitionProcessor> partitionProcessorFactory, EventPosition initialEventPosition,
+        PartitionManager partitionManager, TracerProvider tracerProvider, Integer maxBatchSize, Duration maxWaitTime,
+        Integer prefetchCount, Scheduler scheduler) {
 
         Objects.requireNonNull(eventHubAsyncClient, "eventHubAsyncClient cannot be null");
         Objects.requireNonNull(consumerGroup, "consumerGroup cannot be null");
         Objects.requireNonNull(partitionProcessorFactory, "partitionProcessorFactory cannot be null");
         Objects.requireNonNull(initialEventPosition, "initialEventPosition cannot be null");
+        Objects.requireNonNull(maxWaitTime, "maxWaitTime cannot be null");
+        Objects.requireNonNull(scheduler, "scheduler cannot be null");
 
         this.partitionManager = partitionManager == null ? findPartitionManager() : partitionManager;
         this.identifier = UUID.randomUUID().toString();
         logger.info("The instance ID for this event processors is {}", this.identifier);
         this.partitionPumpManager = new PartitionPumpManager(partitionManager, partitionProcessorFactory,
-            initialEventPosition, eventHubAsyncClient, tracerProvider);
+            initialEventPosition, eventHubAsyncClient, tracerProvider, maxBatchSize, maxWaitTime, prefetchCount,
+            scheduler);
         this.partitionBasedLoadBalancer =
             new PartitionBasedLoadBalancer(this.partitionManager, eventHubAsyncClient,
                 eventHubAsyncClient.getEventHubName(),
@@ -121,6 +153,16 @@ public class EventProcessor {
         return this.identifier;
     }
 
+    /**
+     * Gets a snapshot of the processing state of every partition this event processor is currently processing,
+     * including the number of received events waiting to be processed and the processing lag.
+     *
+     * @return The processing state of each partition owned by this event processor, keyed by partition id.
+     */
+    public Map<String, PartitionPumpMetrics> getPartitionPumpMetrics() {
+        return this.partitionPumpManager.getPartitionPumpMetrics();
+    }
+
     /**
      * Starts processing of events for all partitions of the Event Hub that this event processor can own, assigning a
      * dedicated {@link PartitionProcessor} to each partition. If there are other Event Processors active for the same
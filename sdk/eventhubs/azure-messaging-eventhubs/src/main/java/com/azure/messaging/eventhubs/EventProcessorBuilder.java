@@ -6,11 +6,19 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.tracing.Tracer;
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.PartitionContext;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * This class provides a fluent builder API to help aid the configuration and instantiation of the {@link
@@ -34,6 +42,12 @@ import java.util.function.Supplier;
  * {@link PartitionProcessor#processEvent(PartitionContext, EventData)}.</li>
  * </ul>
  *
+ * <p>
+ * Optionally, configure {@link #maxBatchSize(int)} and {@link #maxWaitTime(Duration)} to have events delivered in
+ * batches to {@link PartitionProcessor#processEvents(PartitionContext, List)}, or {@link #prefetchCount(int)} to
+ * process the events of each partition in order with a bounded number of events received ahead of processing.
+ * </p>
+ *
  * <p><strong>Creating an {@link EventProcessor}</strong></p>
  * {@codesnippet com.azure.messaging.eventhubs.eventprocessorbuilder.instantiation}
  *
@@ -48,6 +62,10 @@ public class EventProcessorBuilder {
     private String consumerGroup;
     private PartitionManager partitionManager;
     private EventHubAsyncClient eventHubAsyncClient;
+    private Integer maxBatchSize;
+    private Duration maxWaitTime = ClientConstants.DEFAULT_BATCH_MAX_WAIT_TIME;
+    private Integer prefetchCount;
+    private Scheduler scheduler = Schedulers.boundedElastic();
 
     /**
      * Sets the Event Hub client the {@link EventProcessor} will use to connect to the Event Hub for consuming events.
@@ -105,6 +123,89 @@ public class EventProcessorBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum number of events delivered to {@link PartitionProcessor#processEvents(PartitionContext, List)}
+     * in a single call. When set, events are delivered in batches instead of one at a time to
+     * {@link PartitionProcessor#processEvent(PartitionContext, EventData)}, and no more events are requested from a
+     * partition until the previous batch has been processed.
+     *
+     * @param maxBatchSize The maximum number of events in a batch.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1.
+     */
+    public EventProcessorBuilder maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxBatchSize' has to be at least 1."));
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of time to wait for a batch to reach {@link #maxBatchSize(int) maxBatchSize} events,
+     * measured from when the first event of the batch is received. Once this time elapses, the events received so far
+     * are delivered as a smaller batch. This has no effect unless {@link #maxBatchSize(int) maxBatchSize} is set. If
+     * not specified, a default of 1 second is used.
+     *
+     * @param maxWaitTime The maximum time to wait for a batch to fill up.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws NullPointerException if {@code maxWaitTime} is null.
+     * @throws IllegalArgumentException if {@code maxWaitTime} is zero or negative.
+     */
+    public EventProcessorBuilder maxWaitTime(Duration maxWaitTime) {
+        Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null.");
+        if (maxWaitTime.isZero() || maxWaitTime.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxWaitTime' has to be positive."));
+        }
+
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of events received from each partition ahead of processing. When set, the events of a
+     * partition are processed one at a time and in order, and receiving stops once {@code prefetchCount} events are
+     * waiting to be processed, so a slow {@link PartitionProcessor} does not cause events to be buffered without bound.
+     * If not set, every event is dispatched to the {@link PartitionProcessor} as soon as it is received. This cannot be
+     * combined with {@link #maxBatchSize(int) maxBatchSize}, which bounds the events received ahead of processing to a
+     * single batch per partition.
+     *
+     * @param prefetchCount The maximum number of events received and not yet processed per partition.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws IllegalArgumentException if {@code prefetchCount} is less than {@link
+     * EventHubConsumerOptions#MINIMUM_PREFETCH_COUNT} or greater than {@link
+     * EventHubConsumerOptions#MAXIMUM_PREFETCH_COUNT}.
+     */
+    public EventProcessorBuilder prefetchCount(int prefetchCount) {
+        if (prefetchCount < EventHubConsumerOptions.MINIMUM_PREFETCH_COUNT
+            || prefetchCount > EventHubConsumerOptions.MAXIMUM_PREFETCH_COUNT) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "'prefetchCount', '%s' has to be between %s and %s", prefetchCount,
+                EventHubConsumerOptions.MINIMUM_PREFETCH_COUNT, EventHubConsumerOptions.MAXIMUM_PREFETCH_COUNT)));
+        }
+
+        this.prefetchCount = prefetchCount;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler shared by all partitions to process events when {@link #prefetchCount(int) prefetchCount} is
+     * set, and to time out partially filled batches when {@link #maxBatchSize(int) maxBatchSize} is set. Using a
+     * bounded scheduler limits the number of threads processing events regardless of the number of partitions owned
+     * by the {@link EventProcessor}. Since events are processed on this scheduler, its threads are blocked for as long
+     * as the {@link PartitionProcessor} blocks. If not specified, {@link Schedulers#boundedElastic()} is used, which
+     * tolerates blocking processors; a non-blocking processor may use {@link Schedulers#parallel()} instead.
+     *
+     * @param scheduler The scheduler shared by all partitions.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws NullPointerException if {@code scheduler} is null.
+     */
+    public EventProcessorBuilder scheduler(Scheduler scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        return this;
+    }
+
     /**
      * This will create a new {@link EventProcessor} configured with the options set in this builder. Each call to this
      * method will return a new instance of {@link EventProcessor}.
@@ -115,10 +216,18 @@ public class EventProcessorBuilder {
      * </p>
      *
      * @return A new instance of {@link EventProcessor}.
+     * @throws IllegalStateException if both {@link #maxBatchSize(int) maxBatchSize} and
+     * {@link #prefetchCount(int) prefetchCount} are set.
      */
     public EventProcessor buildEventProcessor() {
+        if (maxBatchSize != null && prefetchCount != null) {
+            throw logger.logExceptionAsError(new IllegalStateException(
+                "'maxBatchSize' and 'prefetchCount' cannot both be set."));
+        }
+
         final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
         return new EventProcessor(eventHubAsyncClient, this.consumerGroup,
-            this.partitionProcessorFactory, EventPosition.earliest(), partitionManager, tracerProvider);
+            this.partitionProcessorFactory, EventPosition.earliest(), partitionManager, tracerProvider,
+            maxBatchSize, maxWaitTime, prefetchCount, scheduler);
     }
 }
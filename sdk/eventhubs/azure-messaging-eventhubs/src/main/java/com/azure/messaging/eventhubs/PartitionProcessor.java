@@ -5,6 +5,8 @@ package com.azure.messaging.eventhubs;
 
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.models.PartitionContext;
+import java.util.List;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -12,6 +14,9 @@ import reactor.core.publisher.Mono;
  * should extend from this class and implement {@link #processEvent(PartitionContext, EventData)} for processing events.
  * Additionally, users can override:
  * <ul>
+ *     <li>{@link #processEvents(PartitionContext, List)} - This method is called with a batch of events when the
+ *     {@link EventProcessor} is configured to deliver events in batches using
+ *     {@link EventProcessorBuilder#maxBatchSize(int)}.</li>
  *     <li>{@link #initialize(PartitionContext)} - This method is called before at the beginning of processing a
  *     partition.</li>
  *     <li>{@link #processError(PartitionContext, Throwable)} - This method is called if there is an error while
@@ -54,6 +59,27 @@ public abstract class PartitionProcessor {
      */
     public abstract Mono<Void> processEvent(PartitionContext partitionContext, EventData eventData);
 
+    /**
+     * This method is called with a batch of events received for this partition when the {@link EventProcessor} is
+     * configured to deliver events in batches using {@link EventProcessorBuilder#maxBatchSize(int)}. The batch
+     * contains at least one and at most {@code maxBatchSize} events, in the order they were received from the
+     * partition. No more events are requested from the partition until the returned {@link Mono} completes.
+     *
+     * <p>
+     * The default implementation invokes {@link #processEvent(PartitionContext, EventData)} sequentially for each
+     * event in the batch. Override this method to process the events together, for example as a single bulk write,
+     * and update the checkpoint with the last event in the batch.
+     *
+     * @param partitionContext The partition information the events belong to.
+     * @param events The batch of {@link EventData} received from this partition.
+     * @return a representation of the deferred computation of this call.
+     */
+    public Mono<Void> processEvents(PartitionContext partitionContext, List<EventData> events) {
+        return Flux.fromIterable(events)
+            .concatMap(eventData -> processEvent(partitionContext, eventData))
+            .then();
+    }
+
     /**
      * This method is called when an error occurs while receiving events from Event Hub. An error also marks the end of
      * event data stream.
@@ -15,6 +15,11 @@ public final class ClientConstants {
      */
     public static final int MAX_MESSAGE_LENGTH_BYTES = 256 * 1024;
 
+    /**
+     * The default amount of time to wait for a batch to fill up before delivering it to the partition processor.
+     */
+    public static final Duration DEFAULT_BATCH_MAX_WAIT_TIME = Duration.ofSeconds(1);
+
     /**
      * URI format for an Event Hubs FQDN.
      */
@@ -0,0 +1,248 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.EventData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Subscriber that groups events received from a partition into batches of at most {@code maxBatchSize} events and
+ * hands them to a batch processing function.
+ *
+ * <p>
+ * A batch is delivered when it reaches {@code maxBatchSize} events or when {@code maxWaitTime} has elapsed since the
+ * first event of the batch was received, whichever happens first. Only one batch is processed at a time and the
+ * subscriber never has more than {@code maxBatchSize} events requested and not yet processed; credit for more events is
+ * requested only once the batch processing {@link Mono} terminates.
+ * </p>
+ */
+final class EventBatchSubscriber extends BaseSubscriber<EventData> {
+    private final ClientLogger logger = new ClientLogger(EventBatchSubscriber.class);
+    private final Object lock = new Object();
+    private final int maxBatchSize;
+    private final Duration maxWaitTime;
+    private final Scheduler scheduler;
+    private final Function<List<EventData>, Mono<Void>> batchProcessor;
+    private final Consumer<Throwable> processingErrorHandler;
+    private final Consumer<Throwable> receiveErrorHandler;
+    private final Runnable receiveCompleteHandler;
+
+    // All of the following fields are guarded by 'lock'.
+    private List<EventData> pendingEvents;
+    private Disposable maxWaitTimer;
+    // Incremented each time a batch is taken, so a max-wait timer only ever flushes the batch it was armed for.
+    private long batchNumber;
+    private boolean flushRequested;
+    private boolean batchInFlight;
+    private boolean upstreamTerminated;
+    private boolean completed;
+
+    /**
+     * Creates a subscriber that delivers received events in batches.
+     *
+     * @param maxBatchSize The maximum number of events in a batch.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up after its first event is received.
+     * @param scheduler The scheduler used to time out partially filled batches.
+     * @param batchProcessor The function invoked with each batch of events.
+     * @param processingErrorHandler Invoked when processing a batch fails.
+     * @param receiveErrorHandler Invoked when receiving events fails. This terminates the subscriber.
+     * @param receiveCompleteHandler Invoked once all events have been received and processed.
+     */
+    EventBatchSubscriber(int maxBatchSize, Duration maxWaitTime, Scheduler scheduler,
+        Function<List<EventData>, Mono<Void>> batchProcessor, Consumer<Throwable> processingErrorHandler,
+        Consumer<Throwable> receiveErrorHandler, Runnable receiveCompleteHandler) {
+        if (maxBatchSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxBatchSize' has to be at least 1."));
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTime = Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.batchProcessor = Objects.requireNonNull(batchProcessor, "'batchProcessor' cannot be null.");
+        this.processingErrorHandler = Objects.requireNonNull(processingErrorHandler,
+            "'processingErrorHandler' cannot be null.");
+        this.receiveErrorHandler = Objects.requireNonNull(receiveErrorHandler,
+            "'receiveErrorHandler' cannot be null.");
+        this.receiveCompleteHandler = Objects.requireNonNull(receiveCompleteHandler,
+            "'receiveCompleteHandler' cannot be null.");
+        this.pendingEvents = new ArrayList<>(maxBatchSize);
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+        request(maxBatchSize);
+    }
+
+    @Override
+    protected void hookOnNext(EventData eventData) {
+        final List<EventData> batch;
+        synchronized (lock) {
+            pendingEvents.add(eventData);
+            if (pendingEvents.size() == 1) {
+                final long timedBatchNumber = batchNumber;
+                maxWaitTimer = scheduler.schedule(() -> onMaxWaitTimeElapsed(timedBatchNumber),
+                    maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (pendingEvents.size() >= maxBatchSize) {
+                flushRequested = true;
+            }
+            batch = takeBatchIfReady();
+        }
+
+        processBatch(batch);
+    }
+
+    @Override
+    protected void hookOnComplete() {
+        final List<EventData> batch;
+        final boolean isDone;
+        synchronized (lock) {
+            upstreamTerminated = true;
+            flushRequested = true;
+            batch = takeBatchIfReady();
+            isDone = tryComplete();
+        }
+
+        processBatch(batch);
+        if (isDone) {
+            receiveCompleteHandler.run();
+        }
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+        synchronized (lock) {
+            upstreamTerminated = true;
+            completed = true;
+            disposeMaxWaitTimer();
+            if (!pendingEvents.isEmpty()) {
+                logger.info("Receive failed. Dropping {} events that were not processed.", pendingEvents.size());
+                pendingEvents.clear();
+            }
+        }
+
+        receiveErrorHandler.accept(throwable);
+    }
+
+    @Override
+    protected void hookOnCancel() {
+        synchronized (lock) {
+            disposeMaxWaitTimer();
+        }
+    }
+
+    private void onMaxWaitTimeElapsed(long timedBatchNumber) {
+        final List<EventData> batch;
+        synchronized (lock) {
+            // The timer may fire after its batch was already taken, when disposing it raced with it running. It must
+            // not flush the next batch before that batch's own maxWaitTime has elapsed.
+            if (timedBatchNumber != batchNumber || pendingEvents.isEmpty()) {
+                return;
+            }
+
+            flushRequested = true;
+            batch = takeBatchIfReady();
+        }
+
+        processBatch(batch);
+    }
+
+    private void processBatch(List<EventData> batch) {
+        if (batch == null) {
+            return;
+        }
+
+        Mono<Void> processing;
+        try {
+            processing = batchProcessor.apply(batch);
+        } catch (Exception ex) {
+            processing = Mono.error(ex);
+        }
+
+        processing.subscribe(unused -> {
+        }, error -> {
+            processingErrorHandler.accept(error);
+            onBatchProcessed(batch.size());
+        }, () -> onBatchProcessed(batch.size()));
+    }
+
+    private void onBatchProcessed(int processedCount) {
+        final List<EventData> nextBatch;
+        final boolean isDone;
+        final boolean requestMore;
+        synchronized (lock) {
+            batchInFlight = false;
+            requestMore = !upstreamTerminated;
+            nextBatch = takeBatchIfReady();
+            isDone = tryComplete();
+        }
+
+        // Replenish exactly the number of events that were just processed so that there are never more than
+        // maxBatchSize events outstanding for this partition.
+        if (requestMore) {
+            request(processedCount);
+        }
+
+        processBatch(nextBatch);
+        if (isDone) {
+            receiveCompleteHandler.run();
+        }
+    }
+
+    /*
+     * Must be called while holding 'lock'. Returns the pending events if a batch should be delivered now, otherwise
+     * null.
+     */
+    private List<EventData> takeBatchIfReady() {
+        if (pendingEvents.isEmpty()) {
+            // A flush requested with nothing pending must not carry over to the next event.
+            flushRequested = false;
+            return null;
+        }
+
+        if (batchInFlight || !flushRequested) {
+            return null;
+        }
+
+        final List<EventData> batch = pendingEvents;
+        pendingEvents = new ArrayList<>(maxBatchSize);
+        batchNumber++;
+        flushRequested = false;
+        batchInFlight = true;
+        disposeMaxWaitTimer();
+        return batch;
+    }
+
+    /*
+     * Must be called while holding 'lock'. Returns true exactly once, when the upstream has completed and every
+     * received event has been processed.
+     */
+    private boolean tryComplete() {
+        if (completed || !upstreamTerminated || batchInFlight || !pendingEvents.isEmpty()) {
+            return false;
+        }
+
+        completed = true;
+        return true;
+    }
+
+    private void disposeMaxWaitTimer() {
+        if (maxWaitTimer != null) {
+            maxWaitTimer.dispose();
+            maxWaitTimer = null;
+        }
+    }
+}
@@ -16,6 +16,9 @@ import org.apache.qpid.proton.engine.BaseHandler;
 import org.apache.qpid.proton.engine.Session;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A proton-j AMQP connection to an Azure Event Hub instance. Adds additional support for management operations.
  */
@@ -24,7 +27,8 @@ public class EventHubReactorConnection extends ReactorConnection implements Even
     private static final String MANAGEMENT_LINK_NAME = "mgmt";
     private static final String MANAGEMENT_ADDRESS = "$management";
 
-    private final Mono<EventHubManagementNode> managementChannelMono;
+    private final ConcurrentMap<String, Mono<EventHubManagementNode>> managementNodes = new ConcurrentHashMap<>();
+    private final ConnectionOptions connectionOptions;
     private final ReactorProvider reactorProvider;
     private final ReactorHandlerProvider handlerProvider;
     private final TokenManagerProvider tokenManagerProvider;
@@ -51,20 +55,36 @@ public class EventHubReactorConnection extends ReactorConnection implements Even
         this.tokenManagerProvider = tokenManagerProvider;
         this.retryOptions = connectionOptions.getRetry();
         this.messageSerializer = messageSerializer;
-
-        this.managementChannelMono = getReactorConnection().then(
-            Mono.fromCallable(() -> {
-                return (EventHubManagementNode) new ManagementChannel(
-                    createRequestResponseChannel(MANAGEMENT_SESSION_NAME, MANAGEMENT_LINK_NAME, MANAGEMENT_ADDRESS),
-                    connectionOptions.getEntityPath(), connectionOptions.getTokenCredential(),
-                    this.tokenManagerProvider, this.messageSerializer);
-            }))
-            .cache();
+        this.connectionOptions = connectionOptions;
     }
 
     @Override
     public Mono<EventHubManagementNode> getManagementNode() {
-        return managementChannelMono;
+        return getManagementNode(connectionOptions.getEntityPath());
+    }
+
+    /**
+     * Gets the management node of an Event Hub in the namespace of this connection. Management nodes of every Event Hub
+     * share the same management session and are multiplexed over this connection.
+     *
+     * @param eventHubName Name of the Event Hub.
+     * @return A Mono that completes with the management node of the Event Hub.
+     */
+    public Mono<EventHubManagementNode> getManagementNode(String eventHubName) {
+        return managementNodes.computeIfAbsent(eventHubName, name -> {
+            final String linkName = name.equals(connectionOptions.getEntityPath())
+                ? MANAGEMENT_LINK_NAME
+                : MANAGEMENT_LINK_NAME + "-" + name;
+
+            return getReactorConnection().then(
+                Mono.fromCallable(() -> {
+                    return (EventHubManagementNode) new ManagementChannel(
+                        createRequestResponseChannel(MANAGEMENT_SESSION_NAME, linkName, MANAGEMENT_ADDRESS),
+                        name, connectionOptions.getTokenCredential(), this.tokenManagerProvider,
+                        this.messageSerializer);
+                }))
+                .cache();
+        });
     }
 
     @Override
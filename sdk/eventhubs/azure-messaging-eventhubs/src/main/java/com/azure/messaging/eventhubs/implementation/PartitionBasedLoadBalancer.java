@@ -16,12 +16,15 @@ import reactor.util.function.Tuple2;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,9 +40,20 @@ import static java.util.stream.Collectors.toList;
  * active. If a partition ownership entry has not be updated for a specified duration of time, the owner of that
  * partition is considered inactive and the partition is available for other EventProcessors to own.
  * </p>
+ * <p>
+ * Once a cycle finds the load balanced, following cycles are skipped until half of the inactivity time limit has
+ * elapsed since ownership records were last listed, since no owner can have become inactive before then. Cycles run
+ * again right away when a cycle fails or an ownership claim is rejected because of an ETag mismatch. The partition ids
+ * of the Event Hub are cached and refreshed at most once per {@link #PARTITION_IDS_REFRESH_INTERVAL}.
+ * </p>
  */
 public final class PartitionBasedLoadBalancer {
 
+    /**
+     * The interval at which the partition ids of the Event Hub are refreshed.
+     */
+    static final Duration PARTITION_IDS_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
     private static final Random RANDOM = new Random();
     private final ClientLogger logger = new ClientLogger(PartitionBasedLoadBalancer.class);
 
@@ -51,6 +65,11 @@ public final class PartitionBasedLoadBalancer {
     private final long inactiveTimeLimitInSeconds;
     private final PartitionPumpManager partitionPumpManager;
 
+    private volatile long ownershipListedAtMillis;
+    private volatile boolean loadBalancedInLastCycle;
+    private volatile List<String> cachedPartitionIds;
+    private volatile long partitionIdsRefreshedAtMillis;
+
     /**
      * Creates an instance of PartitionBasedLoadBalancer for the given Event Hub name and consumer group.
      *
@@ -79,40 +98,83 @@ public final class PartitionBasedLoadBalancer {
 
     /**
      * This is the main method responsible for load balancing. This method is expected to be invoked by the {@link
-     * EventProcessor} periodically. Every call to this method will result in this {@link EventProcessor} owning <b>at
-     * most one</b> new partition.
+     * EventProcessor} periodically. Every call to this method will result in this {@link EventProcessor} claiming, in
+     * a single request to the {@link PartitionManager}, as many partitions as it needs to reach its share of the load.
      * <p>
      * The load is considered balanced when no active EventProcessor owns 2 partitions more than any other active
-     * EventProcessor. Given that each invocation to this method results in ownership claim of at most one partition,
-     * this algorithm converges gradually towards a steady state.
+     * EventProcessor. Unclaimed partitions are claimed first, and partitions are only stolen from event processors that
+     * own at least 2 more partitions than this one, so the load converges to a steady state within a couple of cycles.
      * </p>
      * When a new partition is claimed, this method is also responsible for starting a partition pump that creates an
      * {@link EventHubAsyncConsumer} for processing events from that partition.
      */
     public void loadBalance() {
+        if (loadBalancedInLastCycle && isOwnershipListingRecent()) {
+            logger.verbose("Load was balanced in the last cycle and ownership records are recent. Skipping.");
+            return;
+        }
+
         /*
          * Retrieve current partition ownership details from the datastore.
          */
         final Mono<Map<String, PartitionOwnership>> partitionOwnershipMono = partitionManager
             .listOwnership(eventHubName, consumerGroupName)
             .timeout(Duration.ofSeconds(1)) // TODO: configurable by the user
-            .collectMap(PartitionOwnership::getPartitionId, Function.identity());
+            .collectMap(PartitionOwnership::getPartitionId, Function.identity())
+            .doOnNext(ignored -> ownershipListedAtMillis = System.currentTimeMillis());
 
         /*
          * Retrieve the list of partition ids from the Event Hub.
          */
-        final Mono<List<String>> partitionsMono = eventHubAsyncClient
-            .getPartitionIds()
-            .timeout(Duration.ofSeconds(1)) // TODO: configurable
-            .collectList();
+        final Mono<List<String>> partitionsMono = getPartitionIds();
 
         Mono.zip(partitionOwnershipMono, partitionsMono)
             .flatMap(this::loadBalance)
             // if there was an error, log warning and TODO: call user provided error handler
-            .doOnError(ex -> logger.warning("Load balancing for event processor failed - {}", ex.getMessage()))
+            .doOnError(ex -> {
+                logger.warning("Load balancing for event processor failed - {}", ex.getMessage());
+                requireOwnershipListing();
+            })
             .subscribe();
     }
 
+    /*
+     * Returns the cached partition ids if they were refreshed recently. Partitions can only be added to an Event Hub,
+     * which is rare, so they do not need to be retrieved on every cycle.
+     */
+    private Mono<List<String>> getPartitionIds() {
+        final List<String> partitionIds = cachedPartitionIds;
+        if (partitionIds != null && System.currentTimeMillis() - partitionIdsRefreshedAtMillis
+            < PARTITION_IDS_REFRESH_INTERVAL.toMillis()) {
+            return Mono.just(partitionIds);
+        }
+
+        return eventHubAsyncClient
+            .getPartitionIds()
+            .timeout(Duration.ofSeconds(1)) // TODO: configurable
+            .collectList()
+            .doOnNext(ids -> {
+                if (!ids.isEmpty()) {
+                    cachedPartitionIds = Collections.unmodifiableList(ids);
+                    partitionIdsRefreshedAtMillis = System.currentTimeMillis();
+                }
+            });
+    }
+
+    /*
+     * Ownership records only need to be listed again once an owner may have become inactive, which takes at least
+     * inactiveTimeLimitInSeconds, as long as the load was balanced and no claim was rejected since they were listed.
+     */
+    private boolean isOwnershipListingRecent() {
+        return System.currentTimeMillis() - ownershipListedAtMillis
+            < TimeUnit.SECONDS.toMillis(inactiveTimeLimitInSeconds) / 2;
+    }
+
+    private void requireOwnershipListing() {
+        loadBalancedInLastCycle = false;
+        ownershipListedAtMillis = 0;
+    }
+
     /*
      * This method works with the given partition ownership details and Event Hub partitions to evaluate whether the
      * current Event Processor should take on the responsibility of processing more partitions.
@@ -120,6 +182,7 @@ public final class PartitionBasedLoadBalancer {
     private Mono<Void> loadBalance(final Tuple2<Map<String, PartitionOwnership>, List<String>> tuple) {
         return Mono.fromRunnable(() -> {
             logger.info("Starting load balancer");
+            loadBalancedInLastCycle = false;
             Map<String, PartitionOwnership> partitionOwnershipMap = tuple.getT1();
 
             List<String> partitionIds = tuple.getT2();
@@ -154,7 +217,8 @@ public final class PartitionBasedLoadBalancer {
                  * running or all Event Processors are down for this Event Hub, consumer group combination. All
                  * partitions in this Event Hub are available to claim. Choose a random partition to claim ownership.
                  */
-                claimOwnership(partitionOwnershipMap, partitionIds.get(RANDOM.nextInt(numberOfPartitions)));
+                claimOwnership(partitionOwnershipMap,
+                    Collections.singletonList(partitionIds.get(RANDOM.nextInt(numberOfPartitions))));
                 return;
             }
 
@@ -193,10 +257,13 @@ public final class PartitionBasedLoadBalancer {
                 ownerPartitionMap)) {
                 // If the partitions are evenly distributed among all active event processors, no change required.
                 logger.info("Load is balanced");
+                loadBalancedInLastCycle = true;
                 return;
             }
 
-            if (!shouldOwnMorePartitions(minPartitionsPerEventProcessor, ownerPartitionMap)) {
+            int numberOfPartitionsToClaim = getNumberOfPartitionsToClaim(minPartitionsPerEventProcessor,
+                ownerPartitionMap);
+            if (numberOfPartitionsToClaim <= 0) {
                 // This event processor already has enough partitions and shouldn't own more.
                 logger.info("This event processor owns {} partitions and shouldn't own more",
                     ownerPartitionMap.get(ownerId).size());
@@ -205,28 +272,35 @@ public final class PartitionBasedLoadBalancer {
 
             // If we have reached this stage, this event processor has to claim/steal ownership of at least 1
             // more partition
-            logger.info(
-                "Load is unbalanced and this event processor should own more partitions");
+            logger.info("Load is unbalanced and this event processor should own {} more partitions",
+                numberOfPartitionsToClaim);
             /*
              * If some partitions are unclaimed, this could be because an event processor is down and
              * it's partitions are now available for others to own or because event processors are just
-             * starting up and gradually claiming partitions to own or new partitions were added to Event Hub.
-             * Find any partition that is not actively owned and claim it.
+             * starting up and claiming partitions to own or new partitions were added to Event Hub.
+             * Claim partitions that are not actively owned first.
              *
-             * OR
+             * THEN
              *
-             * Find a partition to steal from another event processor. Pick the event processor that has owns the
-             * highest number of partitions.
+             * Steal the remaining partitions from the event processors that own the highest number of partitions.
              */
-            String partitionToClaim = partitionIds.parallelStream()
+            List<String> partitionsToClaim = partitionIds.stream()
                 .filter(partitionId -> !activePartitionOwnershipMap.containsKey(partitionId))
-                .findAny()
-                .orElseGet(() -> {
-                    logger.info("No unclaimed partitions, stealing from another event processor");
-                    return findPartitionToSteal(ownerPartitionMap);
-                });
+                .collect(Collectors.toCollection(ArrayList::new));
+            Collections.shuffle(partitionsToClaim, RANDOM);
+            if (partitionsToClaim.size() > numberOfPartitionsToClaim) {
+                partitionsToClaim = partitionsToClaim.subList(0, numberOfPartitionsToClaim);
+            } else if (partitionsToClaim.size() < numberOfPartitionsToClaim) {
+                logger.info("Not enough unclaimed partitions, stealing from other event processors");
+                partitionsToClaim.addAll(findPartitionsToSteal(ownerPartitionMap,
+                    numberOfPartitionsToClaim - partitionsToClaim.size(), partitionsToClaim.size()));
+            }
 
-            claimOwnership(partitionOwnershipMap, partitionToClaim);
+            if (partitionsToClaim.isEmpty()) {
+                logger.info("No partitions can be claimed or stolen without unbalancing other event processors");
+                return;
+            }
+            claimOwnership(partitionOwnershipMap, partitionsToClaim);
         });
     }
 
@@ -248,18 +322,37 @@ public final class PartitionBasedLoadBalancer {
     }
 
     /*
-     * Find the event processor that owns the maximum number of partitions and steal a random partition
-     * from it.
+     * Repeatedly find the event processor that owns the maximum number of partitions and steal a random partition from
+     * it, as long as it owns at least 2 more partitions than this event processor would after the steal. This never
+     * makes the distribution less balanced, so two event processors cannot keep stealing from each other.
      */
-    private String findPartitionToSteal(final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
-        Map.Entry<String, List<PartitionOwnership>> ownerWithMaxPartitions = ownerPartitionMap.entrySet()
-            .stream()
-            .max(Comparator.comparingInt(entry -> entry.getValue().size()))
-            .get();
-        int numberOfPartitions = ownerWithMaxPartitions.getValue().size();
-        logger.info("Owner id {} owns {} partitions, stealing a partition from it", ownerWithMaxPartitions.getKey(),
-            numberOfPartitions);
-        return ownerWithMaxPartitions.getValue().get(RANDOM.nextInt(numberOfPartitions)).getPartitionId();
+    private List<String> findPartitionsToSteal(final Map<String, List<PartitionOwnership>> ownerPartitionMap,
+        final int numberOfPartitionsToSteal, final int numberOfPartitionsAlreadyClaimed) {
+        final Map<String, List<PartitionOwnership>> remainingPartitions = new HashMap<>();
+        ownerPartitionMap.forEach((owner, ownerships) -> {
+            if (!ownerId.equals(owner)) {
+                remainingPartitions.put(owner, new ArrayList<>(ownerships));
+            }
+        });
+
+        int numberOfPartitionsOwned = ownerPartitionMap.get(ownerId).size() + numberOfPartitionsAlreadyClaimed;
+        final List<String> partitionsToSteal = new ArrayList<>();
+        while (partitionsToSteal.size() < numberOfPartitionsToSteal && !remainingPartitions.isEmpty()) {
+            Map.Entry<String, List<PartitionOwnership>> ownerWithMaxPartitions = remainingPartitions.entrySet()
+                .stream()
+                .max(Comparator.comparingInt(entry -> entry.getValue().size()))
+                .get();
+            List<PartitionOwnership> ownerships = ownerWithMaxPartitions.getValue();
+            if (ownerships.size() < numberOfPartitionsOwned + 2) {
+                break;
+            }
+
+            logger.info("Owner id {} owns {} partitions, stealing a partition from it", ownerWithMaxPartitions.getKey(),
+                ownerships.size());
+            partitionsToSteal.add(ownerships.remove(RANDOM.nextInt(ownerships.size())).getPartitionId());
+            numberOfPartitionsOwned++;
+        }
+        return partitionsToSteal;
     }
 
     /*
@@ -287,12 +380,12 @@ public final class PartitionBasedLoadBalancer {
     }
 
     /*
-     * This method is called after determining that the load is not balanced. This method will evaluate
-     * if the current event processor should own more partitions. Specifically, this method returns true if the
-     * current event processor owns less than the minimum number of partitions or if it owns the minimum number
-     * and no other event processor owns lesser number of partitions than this event processor.
+     * This method is called after determining that the load is not balanced. This method will evaluate how many more
+     * partitions the current event processor should own. It should own at least the minimum number of partitions, and
+     * one more than the minimum if it owns the least number of partitions of all event processors, in which case the
+     * additional partition is claimed from the event processors that own more.
      */
-    private boolean shouldOwnMorePartitions(final int minPartitionsPerEventProcessor,
+    private int getNumberOfPartitionsToClaim(final int minPartitionsPerEventProcessor,
         final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
 
         int numberOfPartitionsOwned = ownerPartitionMap.get(this.ownerId).size();
@@ -300,8 +393,10 @@ public final class PartitionBasedLoadBalancer {
         int leastPartitionsOwnedByAnyEventProcessor =
             ownerPartitionMap.values().stream().min(Comparator.comparingInt(List::size)).get().size();
 
-        return numberOfPartitionsOwned < minPartitionsPerEventProcessor
-            || numberOfPartitionsOwned == leastPartitionsOwnedByAnyEventProcessor;
+        if (numberOfPartitionsOwned < minPartitionsPerEventProcessor) {
+            return minPartitionsPerEventProcessor - numberOfPartitionsOwned;
+        }
+        return numberOfPartitionsOwned == leastPartitionsOwnedByAnyEventProcessor ? 1 : 0;
     }
 
     /*
@@ -322,19 +417,33 @@ public final class PartitionBasedLoadBalancer {
     }
 
     private void claimOwnership(final Map<String, PartitionOwnership> partitionOwnershipMap,
-        final String partitionIdToClaim) {
-        logger.info("Attempting to claim ownership of partition {}", partitionIdToClaim);
-        PartitionOwnership ownershipRequest = createPartitionOwnershipRequest(partitionOwnershipMap,
-            partitionIdToClaim);
+        final List<String> partitionIdsToClaim) {
+        logger.info("Attempting to claim ownership of partitions {}", partitionIdsToClaim);
+        PartitionOwnership[] ownershipRequests = partitionIdsToClaim.stream()
+            .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
+            .toArray(PartitionOwnership[]::new);
 
+        AtomicInteger numberOfClaimedPartitions = new AtomicInteger();
         partitionManager
-            .claimOwnership(ownershipRequest)
+            .claimOwnership(ownershipRequests)
             .timeout(Duration.ofSeconds(1)) // TODO: configurable
-            .doOnNext(partitionOwnership -> logger.info("Successfully claimed ownership of partition {}",
-                partitionOwnership.getPartitionId()))
-            .doOnError(ex -> logger
-                .warning("Failed to claim ownership of partition {} - {}", ownershipRequest.getPartitionId(),
-                    ex.getMessage(), ex))
+            .doOnNext(partitionOwnership -> {
+                logger.info("Successfully claimed ownership of partition {}", partitionOwnership.getPartitionId());
+                numberOfClaimedPartitions.incrementAndGet();
+            })
+            .doOnComplete(() -> {
+                // Claims are rejected when the ETag changed, which means the listed ownership records are stale.
+                if (numberOfClaimedPartitions.get() < ownershipRequests.length) {
+                    logger.info("Claimed {} of {} requested partitions", numberOfClaimedPartitions.get(),
+                        ownershipRequests.length);
+                    requireOwnershipListing();
+                }
+            })
+            .doOnError(ex -> {
+                logger.warning("Failed to claim ownership of partitions {} - {}", partitionIdsToClaim,
+                    ex.getMessage(), ex);
+                requireOwnershipListing();
+            })
             .subscribe(partitionPumpManager::startPartitionPump);
     }
 
@@ -23,14 +23,22 @@ import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.PartitionContext;
 import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import com.azure.messaging.eventhubs.models.PartitionPumpMetrics;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * The partition pump manager that keeps track of all the partition pumps started by this {@link EventProcessor}. Each
@@ -47,11 +55,13 @@ public class PartitionPumpManager {
 
     private final ClientLogger logger = new ClientLogger(PartitionPumpManager.class);
     private final Map<String, EventHubAsyncConsumer> partitionPumps = new ConcurrentHashMap<>();
+    private final Map<String, PartitionPumpStatistics> partitionPumpStatistics = new ConcurrentHashMap<>();
     private final PartitionManager partitionManager;
     private final Supplier<PartitionProcessor> partitionProcessorFactory;
     private final EventPosition initialEventPosition;
     private final EventHubAsyncClient eventHubAsyncClient;
     private final TracerProvider tracerProvider;
+    private final PartitionPumpOptions partitionPumpOptions;
 
     /**
      * Creates an instance of partition pump manager.
@@ -62,15 +72,54 @@ public class PartitionPumpManager {
      * @param initialEventPosition The initial event position to use when a new partition pump is created and no
      * checkpoint for the partition is available.
      * @param eventHubAsyncClient The client used to receive events from the Event Hub.
+     * @param tracerProvider The tracer implementation.
      */
     public PartitionPumpManager(PartitionManager partitionManager,
         Supplier<PartitionProcessor> partitionProcessorFactory,
         EventPosition initialEventPosition, EventHubAsyncClient eventHubAsyncClient, TracerProvider tracerProvider) {
+        this(partitionManager, partitionProcessorFactory, initialEventPosition, eventHubAsyncClient, tracerProvider,
+            new PartitionPumpOptions());
+    }
+
+    /**
+     * Creates an instance of partition pump manager.
+     *
+     * @param partitionManager The partition manager that is used to store and update checkpoints.
+     * @param partitionProcessorFactory The partition processor factory that is used to create new instances of {@link
+     * PartitionProcessor} when new partition pumps are started.
+     * @param initialEventPosition The initial event position to use when a new partition pump is created and no
+     * checkpoint for the partition is available.
+     * @param eventHubAsyncClient The client used to receive events from the Event Hub.
+     * @param tracerProvider The tracer implementation.
+     * @param maxBatchSize The maximum number of events delivered in a batch, or {@code null} to deliver events one at
+     * a time.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up before it is delivered.
+     * @param prefetchCount The maximum number of events received and not yet processed per partition, or {@code null}
+     * to dispatch events as soon as they are received.
+     * @param scheduler The scheduler shared by all partition pumps to process events and time out batches.
+     */
+    public PartitionPumpManager(PartitionManager partitionManager,
+        Supplier<PartitionProcessor> partitionProcessorFactory,
+        EventPosition initialEventPosition, EventHubAsyncClient eventHubAsyncClient, TracerProvider tracerProvider,
+        Integer maxBatchSize, Duration maxWaitTime, Integer prefetchCount, Scheduler scheduler) {
+        this(partitionManager, partitionProcessorFactory, initialEventPosition, eventHubAsyncClient, tracerProvider,
+            new PartitionPumpOptions()
+                .setMaxBatchSize(maxBatchSize)
+                .setMaxWaitTime(Objects.requireNonNull(maxWaitTime, "maxWaitTime cannot be null"))
+                .setPrefetchCount(prefetchCount)
+                .setScheduler(Objects.requireNonNull(scheduler, "scheduler cannot be null")));
+    }
+
+    private PartitionPumpManager(PartitionManager partitionManager,
+        Supplier<PartitionProcessor> partitionProcessorFactory,
+        EventPosition initialEventPosition, EventHubAsyncClient eventHubAsyncClient, TracerProvider tracerProvider,
+        PartitionPumpOptions partitionPumpOptions) {
         this.partitionManager = partitionManager;
         this.partitionProcessorFactory = partitionProcessorFactory;
         this.initialEventPosition = initialEventPosition;
         this.eventHubAsyncClient = eventHubAsyncClient;
         this.tracerProvider = tracerProvider;
+        this.partitionPumpOptions = partitionPumpOptions;
     }
 
     /**
@@ -85,10 +134,22 @@ public class PartitionPumpManager {
                 logger.warning("Failed to close consumer for partition {}", partitionId, ex);
             } finally {
                 partitionPumps.remove(partitionId);
+                partitionPumpStatistics.remove(partitionId);
             }
         });
     }
 
+    /**
+     * Gets a snapshot of the processing state of every partition that has an active partition pump.
+     *
+     * @return The processing state of active partition pumps, keyed by partition id.
+     */
+    public Map<String, PartitionPumpMetrics> getPartitionPumpMetrics() {
+        final Map<String, PartitionPumpMetrics> metrics = new HashMap<>();
+        partitionPumpStatistics.forEach((partitionId, statistics) -> metrics.put(partitionId, statistics.toMetrics()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
     /**
      * Starts a new partition pump for the newly claimed partition. If the partition already has an active partition
      * pump, this will not create a new consumer.
@@ -117,31 +178,117 @@ public class PartitionPumpManager {
         }
 
         EventHubConsumerOptions eventHubConsumerOptions = new EventHubConsumerOptions().setOwnerLevel(0L);
+        if (partitionPumpOptions.isBoundedDeliveryEnabled()) {
+            // Keep link credits in line with the number of events the pump is allowed to buffer.
+            eventHubConsumerOptions.setPrefetchCount(partitionPumpOptions.getPrefetchCount());
+        }
         EventHubAsyncConsumer eventHubConsumer = eventHubAsyncClient
             .createConsumer(claimedOwnership.getConsumerGroupName(), claimedOwnership.getPartitionId(),
                 startFromEventPosition,
                 eventHubConsumerOptions);
 
+        PartitionPumpStatistics statistics = new PartitionPumpStatistics(claimedOwnership.getPartitionId());
+        partitionPumpStatistics.put(claimedOwnership.getPartitionId(), statistics);
         partitionPumps.put(claimedOwnership.getPartitionId(), eventHubConsumer);
+        if (partitionPumpOptions.isBatchDeliveryEnabled()) {
+            startBatchPartitionPump(claimedOwnership, eventHubConsumer, partitionProcessor, partitionContext,
+                statistics);
+            return;
+        } else if (partitionPumpOptions.isBoundedDeliveryEnabled()) {
+            startBoundedPartitionPump(claimedOwnership, eventHubConsumer, partitionProcessor, partitionContext,
+                statistics);
+            return;
+        }
+
         eventHubConsumer.receive().subscribe(eventData -> {
-            try {
-                Context processSpanContext = startProcessTracingSpan(eventData);
-                if (processSpanContext.getData(SPAN_CONTEXT).isPresent()) {
-                    eventData.addContext(SPAN_CONTEXT, processSpanContext);
-                }
-                partitionProcessor.processEvent(partitionContext, eventData).doOnEach(signal ->
-                    endProcessTracingSpan(processSpanContext, signal)).subscribe(unused -> {
-                    }, /* event processing returned error */ ex -> handleProcessingError(claimedOwnership,
+            statistics.onEventReceived();
+            processEvent(partitionProcessor, partitionContext, eventData)
+                .doFinally(signal -> statistics.onEventsProcessed(1, eventData.getEnqueuedTime()))
+                .subscribe(unused -> {
+                }, /* event processing returned error */ ex -> handleProcessingError(claimedOwnership,
                     eventHubConsumer, partitionProcessor, ex, partitionContext));
-            } catch (Exception ex) {
-                /* event processing threw an exception */
-                handleProcessingError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext);
-            }
         }, /* EventHubConsumer receive() returned an error */
             ex -> handleReceiveError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
             () -> partitionProcessor.close(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN));
     }
 
+    /*
+     * Processes events of the partition one at a time and in order on the scheduler shared by all partition pumps. At
+     * most prefetchCount events are received ahead of processing, so a slow partition processor slows down receiving
+     * instead of buffering events without bound.
+     */
+    private void startBoundedPartitionPump(PartitionOwnership claimedOwnership,
+        EventHubAsyncConsumer eventHubConsumer, PartitionProcessor partitionProcessor,
+        PartitionContext partitionContext, PartitionPumpStatistics statistics) {
+        eventHubConsumer.receive()
+            .doOnNext(eventData -> statistics.onEventReceived())
+            .publishOn(partitionPumpOptions.getScheduler(), partitionPumpOptions.getPrefetchCount())
+            .concatMap(eventData -> processEvent(partitionProcessor, partitionContext, eventData)
+                .onErrorResume(ex -> {
+                    /* event processing returned error */
+                    handleProcessingError(claimedOwnership, eventHubConsumer, partitionProcessor, ex,
+                        partitionContext);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> statistics.onEventsProcessed(1, eventData.getEnqueuedTime())), 1)
+            .subscribe(unused -> {
+            }, /* EventHubConsumer receive() returned an error */
+                ex -> handleReceiveError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
+                () -> partitionProcessor.close(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN));
+    }
+
+    /*
+     * Delivers events to PartitionProcessor.processEvents() in batches. More events are requested from the consumer
+     * only after the previous batch has been processed.
+     */
+    private void startBatchPartitionPump(PartitionOwnership claimedOwnership, EventHubAsyncConsumer eventHubConsumer,
+        PartitionProcessor partitionProcessor, PartitionContext partitionContext, PartitionPumpStatistics statistics) {
+        eventHubConsumer.receive()
+            .doOnNext(eventData -> statistics.onEventReceived())
+            .subscribe(new EventBatchSubscriber(partitionPumpOptions.getMaxBatchSize(),
+                partitionPumpOptions.getMaxWaitTime(), partitionPumpOptions.getScheduler(),
+                events -> processEvents(partitionProcessor, partitionContext, events)
+                    .doFinally(signal -> statistics.onEventsProcessed(events.size(),
+                        events.get(events.size() - 1).getEnqueuedTime())),
+                /* event processing returned error */ ex -> handleProcessingError(claimedOwnership, eventHubConsumer,
+                    partitionProcessor, ex, partitionContext),
+                /* EventHubConsumer receive() returned an error */ ex -> handleReceiveError(claimedOwnership,
+                    eventHubConsumer, partitionProcessor, ex, partitionContext),
+                () -> partitionProcessor.close(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN)));
+    }
+
+    /*
+     * Processes a single event within a process tracing span. Exceptions thrown by the partition processor are
+     * returned as an error.
+     */
+    private Mono<Void> processEvent(PartitionProcessor partitionProcessor, PartitionContext partitionContext,
+        EventData eventData) {
+        try {
+            Context processSpanContext = startProcessTracingSpan(eventData);
+            if (processSpanContext.getData(SPAN_CONTEXT).isPresent()) {
+                eventData.addContext(SPAN_CONTEXT, processSpanContext);
+            }
+            return partitionProcessor.processEvent(partitionContext, eventData).doOnEach(signal ->
+                endProcessTracingSpan(processSpanContext, signal));
+        } catch (Exception ex) {
+            /* event processing threw an exception */
+            return Mono.error(ex);
+        }
+    }
+
+    /*
+     * Processes a batch of events within a single process tracing span, linked to the first event of the batch.
+     */
+    private Mono<Void> processEvents(PartitionProcessor partitionProcessor, PartitionContext partitionContext,
+        List<EventData> events) {
+        Context processSpanContext = startProcessTracingSpan(events.get(0));
+        if (processSpanContext.getData(SPAN_CONTEXT).isPresent()) {
+            events.forEach(eventData -> eventData.addContext(SPAN_CONTEXT, processSpanContext));
+        }
+        return partitionProcessor.processEvents(partitionContext, events)
+            .doOnEach(signal -> endProcessTracingSpan(processSpanContext, signal));
+    }
+
     private void handleProcessingError(PartitionOwnership claimedOwnership, EventHubAsyncConsumer eventHubConsumer,
         PartitionProcessor partitionProcessor, Throwable error, PartitionContext partitionContext) {
         try {
@@ -178,6 +325,7 @@ public class PartitionPumpManager {
             } finally {
                 // finally, remove the partition from partitionPumps map
                 partitionPumps.remove(claimedOwnership.getPartitionId());
+                partitionPumpStatistics.remove(claimedOwnership.getPartitionId());
             }
         }
     }
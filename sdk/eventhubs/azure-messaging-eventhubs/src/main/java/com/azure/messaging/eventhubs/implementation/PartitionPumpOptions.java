@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventProcessor;
+import com.azure.messaging.eventhubs.PartitionProcessor;
+import com.azure.messaging.eventhubs.models.PartitionContext;
+import java.time.Duration;
+import java.util.List;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The set of options that control how partition pumps started by an {@link EventProcessor} deliver events to their
+ * {@link PartitionProcessor}.
+ */
+final class PartitionPumpOptions {
+    private Integer maxBatchSize;
+    private Duration maxWaitTime = ClientConstants.DEFAULT_BATCH_MAX_WAIT_TIME;
+    private Integer prefetchCount;
+    private Scheduler scheduler = Schedulers.boundedElastic();
+
+    /**
+     * Sets the maximum number of events delivered in a single call to
+     * {@link PartitionProcessor#processEvents(PartitionContext, List)}. If {@code null}, events are delivered one at a
+     * time to {@link PartitionProcessor#processEvent(PartitionContext, EventData)}.
+     *
+     * @param maxBatchSize The maximum number of events in a batch.
+     * @return The updated {@link PartitionPumpOptions} object.
+     */
+    PartitionPumpOptions setMaxBatchSize(Integer maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of time to wait, after the first event of a batch is received, before delivering a batch
+     * that has not reached the maximum batch size.
+     *
+     * @param maxWaitTime The maximum time to wait for a batch to fill up.
+     * @return The updated {@link PartitionPumpOptions} object.
+     */
+    PartitionPumpOptions setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of events each partition pump receives ahead of processing. When set, events of a
+     * partition are processed one at a time, in order, on the {@link #setScheduler(Scheduler) scheduler} shared by all
+     * partition pumps, and the pump stops receiving once {@code prefetchCount} events are waiting to be processed. If
+     * {@code null}, every event is dispatched as soon as it is received.
+     *
+     * @param prefetchCount The maximum number of events received and not yet processed per partition.
+     * @return The updated {@link PartitionPumpOptions} object.
+     */
+    PartitionPumpOptions setPrefetchCount(Integer prefetchCount) {
+        this.prefetchCount = prefetchCount;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler shared by all partition pumps to process events when a
+     * {@link #setPrefetchCount(Integer) prefetch count} is set, and to time out partially filled batches. Defaults to
+     * {@link Schedulers#boundedElastic()} since partition processors may block.
+     *
+     * @param scheduler The scheduler used to process events.
+     * @return The updated {@link PartitionPumpOptions} object.
+     */
+    PartitionPumpOptions setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of events delivered in a single batch.
+     *
+     * @return The maximum number of events in a batch or {@code null} if events are delivered one at a time.
+     */
+    Integer getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets the maximum amount of time to wait for a batch to fill up before it is delivered.
+     *
+     * @return The maximum time to wait for a batch to fill up.
+     */
+    Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Gets the maximum number of events each partition pump receives ahead of processing.
+     *
+     * @return The maximum number of events received and not yet processed per partition or {@code null} if events are
+     * dispatched as soon as they are received.
+     */
+    Integer getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    /**
+     * Gets the scheduler shared by all partition pumps to process events.
+     *
+     * @return The scheduler used to process events.
+     */
+    Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets whether events are delivered to the partition processor in batches.
+     *
+     * @return {@code true} if events are delivered in batches; {@code false} otherwise.
+     */
+    boolean isBatchDeliveryEnabled() {
+        return maxBatchSize != null;
+    }
+
+    /**
+     * Gets whether events are processed in order with a bounded number of events received ahead of processing.
+     *
+     * @return {@code true} if the number of events received ahead of processing is bounded; {@code false} otherwise.
+     */
+    boolean isBoundedDeliveryEnabled() {
+        return prefetchCount != null;
+    }
+}
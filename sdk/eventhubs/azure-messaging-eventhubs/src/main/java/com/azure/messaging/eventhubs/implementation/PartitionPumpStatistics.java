@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.models.PartitionPumpMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the number of received and processed events of a single partition pump.
+ */
+final class PartitionPumpStatistics {
+    private final String partitionId;
+    private final AtomicLong receivedEventCount = new AtomicLong();
+    private final AtomicLong processedEventCount = new AtomicLong();
+
+    private volatile Duration processingLag;
+
+    PartitionPumpStatistics(String partitionId) {
+        this.partitionId = partitionId;
+    }
+
+    /**
+     * Records that an event was received from the partition.
+     */
+    void onEventReceived() {
+        receivedEventCount.incrementAndGet();
+    }
+
+    /**
+     * Records that events finished processing, successfully or not.
+     *
+     * @param count Number of events that finished processing.
+     * @param lastEnqueuedTime The enqueued time of the last event that was processed. May be {@code null}.
+     */
+    void onEventsProcessed(int count, Instant lastEnqueuedTime) {
+        processedEventCount.addAndGet(count);
+        if (lastEnqueuedTime != null) {
+            processingLag = Duration.between(lastEnqueuedTime, Instant.now());
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current statistics.
+     *
+     * @return A snapshot of the current statistics.
+     */
+    PartitionPumpMetrics toMetrics() {
+        final long processed = processedEventCount.get();
+        final long queueDepth = Math.max(0, receivedEventCount.get() - processed);
+        return new PartitionPumpMetrics(partitionId, queueDepth, processed, processingLag);
+    }
+}
@@ -0,0 +1,175 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.core.amqp.RetryOptions;
+import com.azure.core.annotation.Fluent;
+import com.azure.messaging.eventhubs.EventDataBatch;
+import com.azure.messaging.eventhubs.EventHubAsyncClient;
+import com.azure.messaging.eventhubs.EventHubBufferedAsyncProducer;
+
+import java.time.Duration;
+
+/**
+ * The set of options that can be specified when creating an {@link EventHubBufferedAsyncProducer} to configure how
+ * events are buffered and sent.
+ *
+ * @see EventHubBufferedAsyncProducer
+ * @see EventHubAsyncClient#createBufferedProducer(BufferedProducerOptions)
+ */
+@Fluent
+public class BufferedProducerOptions implements Cloneable {
+    /**
+     * The default amount of time an {@link EventDataBatch} is held open for more events before it is sent.
+     */
+    public static final Duration DEFAULT_MAX_WAIT_TIME = Duration.ofMillis(250);
+
+    /**
+     * The default number of batches that are sent concurrently across all partitions.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_SENDS = 4;
+
+    /**
+     * The default number of full batches buffered per partition while a batch is being sent to that partition.
+     */
+    public static final int DEFAULT_MAX_PENDING_BATCHES_PER_PARTITION = 8;
+
+    private Duration maxWaitTime = DEFAULT_MAX_WAIT_TIME;
+    private int maxConcurrentSends = DEFAULT_MAX_CONCURRENT_SENDS;
+    private int maxPendingBatchesPerPartition = DEFAULT_MAX_PENDING_BATCHES_PER_PARTITION;
+    private int maximumSizeInBytes;
+    private RetryOptions retryOptions;
+
+    /**
+     * Sets the maximum amount of time an {@link EventDataBatch} is held open for more events, after its first event is
+     * added, before it is sent. A batch that is full is sent immediately.
+     *
+     * @param maxWaitTime The maximum amount of time to wait for a batch to fill up.
+     * @return The updated {@link BufferedProducerOptions} object.
+     */
+    public BufferedProducerOptions setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Gets the maximum amount of time an {@link EventDataBatch} is held open for more events before it is sent.
+     *
+     * @return The maximum amount of time to wait for a batch to fill up.
+     */
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Sets the maximum number of batches sent concurrently across all partitions. At most one batch is sent to a
+     * partition at a time.
+     *
+     * @param maxConcurrentSends The maximum number of batches sent concurrently.
+     * @return The updated {@link BufferedProducerOptions} object.
+     */
+    public BufferedProducerOptions setMaxConcurrentSends(int maxConcurrentSends) {
+        this.maxConcurrentSends = maxConcurrentSends;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches sent concurrently across all partitions.
+     *
+     * @return The maximum number of batches sent concurrently.
+     */
+    public int getMaxConcurrentSends() {
+        return maxConcurrentSends;
+    }
+
+    /**
+     * Sets the maximum number of full batches buffered for a partition while a batch is being sent to it. Once this
+     * many batches are waiting, sending an event that does not fit in the batch being filled waits until a batch has
+     * been sent to the partition, so a partition that cannot keep up does not buffer events without bound.
+     *
+     * @param maxPendingBatchesPerPartition The maximum number of batches waiting to be sent to a partition.
+     * @return The updated {@link BufferedProducerOptions} object.
+     */
+    public BufferedProducerOptions setMaxPendingBatchesPerPartition(int maxPendingBatchesPerPartition) {
+        this.maxPendingBatchesPerPartition = maxPendingBatchesPerPartition;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of full batches buffered for a partition while a batch is being sent to it.
+     *
+     * @return The maximum number of batches waiting to be sent to a partition.
+     */
+    public int getMaxPendingBatchesPerPartition() {
+        return maxPendingBatchesPerPartition;
+    }
+
+    /**
+     * Sets the maximum size of each {@link EventDataBatch}, in bytes. If {@code 0}, batches are as large as the
+     * transport allows.
+     *
+     * @param maximumSizeInBytes The maximum size of a batch, in bytes.
+     * @return The updated {@link BufferedProducerOptions} object.
+     */
+    public BufferedProducerOptions setMaximumSizeInBytes(int maximumSizeInBytes) {
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        return this;
+    }
+
+    /**
+     * Gets the maximum size of each {@link EventDataBatch}, in bytes.
+     *
+     * @return The maximum size of a batch, in bytes, or {@code 0} if batches are as large as the transport allows.
+     */
+    public int getMaximumSizeInBytes() {
+        return maximumSizeInBytes;
+    }
+
+    /**
+     * Sets the retry options used to govern retry attempts when an issue is encountered while sending.
+     *
+     * @param retry The retry options used to govern retry attempts when an issue is encountered while sending.
+     * @return The updated {@link BufferedProducerOptions} object.
+     */
+    public BufferedProducerOptions setRetry(RetryOptions retry) {
+        this.retryOptions = retry;
+        return this;
+    }
+
+    /**
+     * Gets the retry options used to govern retry attempts when an issue is encountered while sending.
+     *
+     * @return the retry options used to govern retry attempts when an issue is encountered while sending. If
+     *         {@code null}, then the retry options configured on the associated {@link EventHubAsyncClient} is used.
+     */
+    public RetryOptions getRetry() {
+        return retryOptions;
+    }
+
+    /**
+     * Creates a clone of this instance.
+     *
+     * @return A shallow clone of this object.
+     */
+    @Override
+    public BufferedProducerOptions clone() {
+        BufferedProducerOptions clone;
+        try {
+            clone = (BufferedProducerOptions) super.clone();
+        } catch (CloneNotSupportedException e) {
+            clone = new BufferedProducerOptions();
+        }
+
+        clone.setMaxWaitTime(maxWaitTime)
+            .setMaxConcurrentSends(maxConcurrentSends)
+            .setMaxPendingBatchesPerPartition(maxPendingBatchesPerPartition)
+            .setMaximumSizeInBytes(maximumSizeInBytes);
+
+        if (retryOptions != null) {
+            clone.setRetry(retryOptions.clone());
+        }
+
+        return clone;
+    }
+}
@@ -49,6 +49,7 @@ public class EventHubConsumerOptions implements Cloneable {
     private RetryOptions retry;
     private Scheduler scheduler;
     private int prefetchCount;
+    private Long prefetchMemoryBudgetInBytes;
 
     /**
      * Creates a new instance with the default prefetch amount.
@@ -139,6 +140,27 @@ public class EventHubConsumerOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * Sets the maximum size, in bytes, of the events the consumer receives and queues locally before they are consumed.
+     * When set, the consumer adapts the number of events it prefetches to the rate at which they are consumed and to the
+     * average size of the events received, up to {@link #getPrefetchCount() prefetch count} events that fit in
+     * {@code prefetchMemoryBudgetInBytes}. If {@code null}, the consumer prefetches a fixed number of events.
+     *
+     * @param prefetchMemoryBudgetInBytes The maximum size of the events queued locally, in bytes.
+     * @return The updated {@link EventHubConsumerOptions} object.
+     * @throws IllegalArgumentException if {@code prefetchMemoryBudgetInBytes} is not {@code null} and is not a
+     *     positive value.
+     */
+    public EventHubConsumerOptions setPrefetchMemoryBudgetInBytes(Long prefetchMemoryBudgetInBytes) {
+        if (prefetchMemoryBudgetInBytes != null && prefetchMemoryBudgetInBytes <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "PrefetchMemoryBudgetInBytes, '%s', has to be a positive value.", prefetchMemoryBudgetInBytes)));
+        }
+
+        this.prefetchMemoryBudgetInBytes = prefetchMemoryBudgetInBytes;
+        return this;
+    }
+
     /**
      * Sets the scheduler for receiving events from Event Hubs. If not specified, the scheduler configured with the
      * associated {@link EventHubAsyncClient} is used.
@@ -222,6 +244,16 @@ public class EventHubConsumerOptions implements Cloneable {
         return prefetchCount;
     }
 
+    /**
+     * Gets the maximum size, in bytes, of the events the consumer receives and queues locally before they are consumed.
+     *
+     * @return The maximum size of the events queued locally, in bytes, or {@code null} if the consumer prefetches a
+     *     fixed number of events.
+     */
+    public Long getPrefetchMemoryBudgetInBytes() {
+        return prefetchMemoryBudgetInBytes;
+    }
+
     /**
      * Gets whether or not the consumer should request information on the last enqueued event on its associated
      * partition, and track that information as events are received.
@@ -250,6 +282,7 @@ public class EventHubConsumerOptions implements Cloneable {
         clone.setScheduler(this.getScheduler())
             .setIdentifier(this.getIdentifier())
             .setPrefetchCount(this.getPrefetchCount())
+            .setPrefetchMemoryBudgetInBytes(this.getPrefetchMemoryBudgetInBytes())
             .setOwnerLevel(this.getOwnerLevel());
 
         if (retry != null) {
@@ -0,0 +1,80 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.messaging.eventhubs.EventProcessor;
+import com.azure.messaging.eventhubs.PartitionProcessor;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A point-in-time snapshot of the processing state of a partition owned by an {@link EventProcessor}.
+ *
+ * @see EventProcessor#getPartitionPumpMetrics()
+ */
+@Immutable
+public class PartitionPumpMetrics {
+    private final String partitionId;
+    private final long queueDepth;
+    private final long processedEventCount;
+    private final Duration processingLag;
+
+    /**
+     * Creates an instance with the processing state of a partition.
+     *
+     * @param partitionId The identifier of the partition.
+     * @param queueDepth The number of events received from the partition that have not been processed yet.
+     * @param processedEventCount The number of events processed since the partition was claimed.
+     * @param processingLag The time between when the most recently processed event was enqueued in the partition and
+     *     when its processing completed. {@code null} if no event has been processed, yet.
+     * @throws NullPointerException if {@code partitionId} is null.
+     */
+    public PartitionPumpMetrics(String partitionId, long queueDepth, long processedEventCount,
+                                Duration processingLag) {
+        this.partitionId = Objects.requireNonNull(partitionId, "'partitionId' cannot be null.");
+        this.queueDepth = queueDepth;
+        this.processedEventCount = processedEventCount;
+        this.processingLag = processingLag;
+    }
+
+    /**
+     * Gets the identifier of the partition.
+     *
+     * @return The identifier of the partition.
+     */
+    public String getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Gets the number of events received from the partition that have not been processed by the
+     * {@link PartitionProcessor} yet.
+     *
+     * @return The number of events waiting to be processed.
+     */
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Gets the number of events processed since the partition was claimed.
+     *
+     * @return The number of events processed since the partition was claimed.
+     */
+    public long getProcessedEventCount() {
+        return processedEventCount;
+    }
+
+    /**
+     * Gets the time between when the most recently processed event was enqueued in the partition and when its
+     * processing completed.
+     *
+     * @return The processing lag of the partition. {@code null} if no event has been processed, yet.
+     */
+    public Duration getProcessingLag() {
+        return processingLag;
+    }
+}
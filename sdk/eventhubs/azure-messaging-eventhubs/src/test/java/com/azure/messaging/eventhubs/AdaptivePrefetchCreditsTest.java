@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link AdaptivePrefetchCredits}.
+ */
+public class AdaptivePrefetchCreditsTest {
+    private static final int MAX_PREFETCH = 500;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    /**
+     * Verifies that the prefetch count is used before any consumption is observed when the memory budget allows it.
+     */
+    @Test
+    public void initialCredits() {
+        // Arrange
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(MAX_PREFETCH, Long.MAX_VALUE,
+            nanoTime::get);
+
+        // Act & Assert
+        Assert.assertEquals(MAX_PREFETCH, credits.getCreditsToAdd(0));
+        Assert.assertEquals(MAX_PREFETCH - 10, credits.getCreditsToAdd(10));
+    }
+
+    /**
+     * Verifies that the initial credits are derived from the memory budget, assuming events of the largest size, before
+     * any event is received.
+     */
+    @Test
+    public void initialCreditsCappedByMemoryBudget() {
+        // Arrange
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(MAX_PREFETCH,
+            10L * ClientConstants.MAX_MESSAGE_LENGTH_BYTES, nanoTime::get);
+
+        // Act & Assert
+        Assert.assertEquals(10, credits.getCreditsToAdd(0));
+    }
+
+    /**
+     * Verifies that the initial credits do not exceed the prefetch count.
+     */
+    @Test
+    public void initialCreditsCappedByPrefetchCount() {
+        // Arrange
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(5, Long.MAX_VALUE, nanoTime::get);
+
+        // Act & Assert
+        Assert.assertEquals(5, credits.getCreditsToAdd(0));
+    }
+
+    /**
+     * Verifies that the credits follow the rate at which events are consumed.
+     */
+    @Test
+    public void creditsFollowConsumptionRate() {
+        // Arrange
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(MAX_PREFETCH, Long.MAX_VALUE,
+            nanoTime::get);
+
+        // Act
+        // 50 events consumed in half a second.
+        receiveAndConsume(credits, 50, 100);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Assert
+        Assert.assertEquals(100, credits.getConsumptionRate(), 0.01);
+        Assert.assertEquals(100, credits.getCreditsToAdd(0));
+    }
+
+    /**
+     * Verifies that events received and not yet consumed are limited by the memory budget.
+     */
+    @Test
+    public void creditsCappedByMemoryBudget() {
+        // Arrange
+        final int eventSize = 1024 * 1024;
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(MAX_PREFETCH, 10L * eventSize,
+            nanoTime::get);
+
+        // Act
+        // 1000 events per second would need 1000 credits, but only 10 events of this size fit in the budget.
+        receiveAndConsume(credits, 1000, eventSize);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        Assert.assertEquals(eventSize, credits.getAverageEventSize(), 0.01);
+        Assert.assertEquals(10, credits.getCreditsToAdd(0));
+
+        credits.onEventReceived(eventSize);
+        credits.onEventReceived(eventSize);
+        Assert.assertEquals(2, credits.getBufferedEvents());
+        Assert.assertEquals(8, credits.getCreditsToAdd(0));
+    }
+
+    /**
+     * Verifies that a credit is always available when nothing is buffered, even if a single event is larger than the
+     * memory budget.
+     */
+    @Test
+    public void alwaysMakesProgress() {
+        // Arrange
+        final AdaptivePrefetchCredits credits = new AdaptivePrefetchCredits(MAX_PREFETCH, 1024, nanoTime::get);
+
+        // Act
+        receiveAndConsume(credits, 1, 1024 * 1024);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Assert
+        Assert.assertEquals(1, credits.getCreditsToAdd(0));
+        credits.onEventReceived(1024 * 1024);
+        Assert.assertEquals(0, credits.getCreditsToAdd(0));
+    }
+
+    private static void receiveAndConsume(AdaptivePrefetchCredits credits, int numberOfEvents, int eventSize) {
+        for (int i = 0; i < numberOfEvents; i++) {
+            credits.onEventReceived(eventSize);
+            credits.onEventConsumed();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling an {@link EventDataBatch} of the maximum message size with events of a given size.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EventDataBatchBenchMark {
+    @Param({"64", "1024", "16384"})
+    private int eventSize;
+
+    @Param({"", "a-partition-key"})
+    private String partitionKey;
+
+    private EventData event;
+
+    @Setup
+    public void setup() {
+        event = new EventData(new byte[eventSize]);
+        event.addProperty("benchmark-property", "benchmark-value");
+    }
+
+    /**
+     * Adds events to a new batch until it is full.
+     */
+    @Benchmark
+    public void tryAddUntilFull(Blackhole blackhole) {
+        final EventDataBatch batch = new EventDataBatch(ClientConstants.MAX_MESSAGE_LENGTH_BYTES,
+            partitionKey.isEmpty() ? null : partitionKey, null);
+
+        while (batch.tryAdd(event)) {
+            // Keep adding until the batch is full.
+        }
+
+        blackhole.consume(batch.getSizeInBytes());
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -6,14 +6,21 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.exception.ErrorCondition;
 import com.azure.core.amqp.exception.ErrorContext;
+import com.azure.core.amqp.implementation.AmqpConstants;
 import com.azure.core.amqp.implementation.ErrorContextProvider;
 import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.message.Message;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.Mockito.when;
 
 public class EventDataBatchTest {
@@ -62,4 +69,24 @@ public class EventDataBatchTest {
         Assert.assertTrue(batch.tryAdd(within));
         Assert.assertEquals(1, batch.getSize());
     }
+
+    /**
+     * Verify that events are encoded into the batch message as they are added, each one in its own data section.
+     */
+    @Test
+    public void encodesEventsAsTheyAreAdded() {
+        final EventDataBatch batch = new EventDataBatch(ClientConstants.MAX_MESSAGE_LENGTH_BYTES, PARTITION_KEY, null);
+
+        Assert.assertTrue(batch.tryAdd(new EventData("first".getBytes(UTF_8))));
+        Assert.assertTrue(batch.tryAdd(new EventData("second".getBytes(UTF_8))));
+
+        final List<Message> messages = TestUtils.decodeBatch(batch.getEncodedBytes(), batch.getEncodedSizeInBytes());
+        Assert.assertEquals(2, messages.size());
+        final Binary firstBody = ((Data) messages.get(0).getBody()).getValue();
+        Assert.assertEquals("first",
+            new String(firstBody.getArray(), firstBody.getArrayOffset(), firstBody.getLength(), UTF_8));
+        Assert.assertEquals(PARTITION_KEY,
+            messages.get(1).getMessageAnnotations().getValue().get(AmqpConstants.PARTITION_KEY));
+        Assert.assertTrue(batch.getEncodedSizeInBytes() <= batch.getSizeInBytes());
+    }
 }
@@ -6,8 +6,8 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.amqp.RetryOptions;
 import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.exception.ErrorCondition;
+import com.azure.core.amqp.implementation.AmqpConstants;
 import com.azure.core.amqp.implementation.AmqpSendLink;
-import com.azure.core.amqp.implementation.MessageSerializer;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.tracing.ProcessKind;
 import com.azure.core.util.Context;
@@ -40,7 +40,7 @@ import static com.azure.core.util.tracing.Tracer.OPENCENSUS_SPAN_KEY;
 import static com.azure.core.util.tracing.Tracer.SPAN_CONTEXT;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
@@ -53,13 +53,12 @@ import static org.mockito.Mockito.when;
 public class EventHubAsyncProducerTest {
     @Mock
     private AmqpSendLink sendLink;
-    private MessageSerializer messageSerializer = new EventHubMessageSerializer();
 
     @Captor
-    private ArgumentCaptor<Message> singleMessageCaptor;
+    private ArgumentCaptor<byte[]> encodedBatchCaptor;
 
     @Captor
-    private ArgumentCaptor<List<Message>> messagesCaptor;
+    private ArgumentCaptor<Integer> encodedSizeCaptor;
 
     @Before
     public void setup() {
@@ -71,12 +70,12 @@ public class EventHubAsyncProducerTest {
     public void teardown() {
         Mockito.framework().clearInlineMocks();
         sendLink = null;
-        singleMessageCaptor = null;
-        messagesCaptor = null;
+        encodedBatchCaptor = null;
+        encodedSizeCaptor = null;
     }
 
     /**
-     * Verifies that sending multiple events will result in calling producer.send(List&lt;Message&gt;).
+     * Verifies that sending multiple events will result in sending a single encoded batch message.
      */
     @Test
     public void sendMultipleMessages() {
@@ -88,54 +87,60 @@ public class EventHubAsyncProducerTest {
             return Flux.just(data);
         });
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
 
         final SendOptions options = new SendOptions();
         final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act
         StepVerifier.create(producer.send(testData, options))
             .verifyComplete();
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
+        verify(sendLink).send(encodedBatchCaptor.capture(), encodedSizeCaptor.capture(),
+            eq(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
 
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = TestUtils.decodeBatch(encodedBatchCaptor.getValue(),
+            encodedSizeCaptor.getValue());
         Assert.assertEquals(count, messagesSent.size());
 
         messagesSent.forEach(message -> Assert.assertEquals(Section.SectionType.Data, message.getBody().getType()));
     }
 
     /**
-     * Verifies that sending a single event data will result in calling producer.send(Message).
+     * Verifies that sending a single event data will result in sending an encoded batch message with that event.
      */
     @Test
     public void sendSingleMessage() {
         // Arrange
         final EventData testData = new EventData(TEST_CONTENTS.getBytes(UTF_8));
 
-        when(sendLink.send(any(Message.class))).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
 
         final SendOptions options = new SendOptions();
         final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act
         StepVerifier.create(producer.send(testData, options))
             .verifyComplete();
 
         // Assert
-        verify(sendLink, times(1)).send(any(Message.class));
-        verify(sendLink).send(singleMessageCaptor.capture());
+        verify(sendLink, times(1)).send(encodedBatchCaptor.capture(), encodedSizeCaptor.capture(),
+            eq(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
 
-        final Message message = singleMessageCaptor.getValue();
+        final List<Message> messagesSent = TestUtils.decodeBatch(encodedBatchCaptor.getValue(),
+            encodedSizeCaptor.getValue());
+        Assert.assertEquals(1, messagesSent.size());
+
+        final Message message = messagesSent.get(0);
         Assert.assertEquals(Section.SectionType.Data, message.getBody().getType());
     }
 
@@ -149,7 +154,7 @@ public class EventHubAsyncProducerTest {
             new EventData(TEST_CONTENTS.getBytes(UTF_8)),
             new EventData(TEST_CONTENTS.getBytes(UTF_8)));
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
 
         final SendOptions options = new SendOptions().setPartitionKey("Some partition key");
         final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
@@ -158,7 +163,7 @@ public class EventHubAsyncProducerTest {
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
 
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         try {
@@ -184,14 +189,14 @@ public class EventHubAsyncProducerTest {
             new EventData(TEST_CONTENTS.getBytes(UTF_8)),
             new EventData(TEST_CONTENTS.getBytes(UTF_8)));
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
 
         final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)))
             .setPartitionId("my-partition-id");
 
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         when(tracer1.start(eq("Azure.eventhubs.send"), any(), eq(ProcessKind.SEND))).thenAnswer(
             invocation -> {
@@ -231,14 +236,14 @@ public class EventHubAsyncProducerTest {
             new EventData(TEST_CONTENTS.getBytes(UTF_8), new Context(SPAN_CONTEXT, Context.NONE)),
             new EventData(TEST_CONTENTS.getBytes(UTF_8), new Context(SPAN_CONTEXT, Context.NONE)));
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
 
         final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)))
             .setPartitionId("my-partition-id");
 
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         when(tracer1.start(eq("Azure.eventhubs.send"), any(), eq(ProcessKind.SEND))).thenAnswer(
             invocation -> {
@@ -279,14 +284,14 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.send(testData, options))
             .verifyErrorMatches(error -> error instanceof AmqpException
                 && ((AmqpException) error).getErrorCondition() == ErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED);
 
-        verify(link, times(0)).send(any(Message.class));
+        verify(link, times(0)).send(any(byte[].class), anyInt(), anyInt());
     }
 
     /**
@@ -315,7 +320,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch())
@@ -356,7 +361,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch(options))
@@ -385,7 +390,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch(options))
@@ -421,7 +426,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch(options))
@@ -453,7 +458,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch(options))
@@ -486,7 +491,7 @@ public class EventHubAsyncProducerTest {
             .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         final EventHubAsyncProducer producer = new EventHubAsyncProducer(Mono.just(link), producerOptions,
-            tracerProvider, messageSerializer);
+            tracerProvider);
 
         // Act & Assert
         StepVerifier.create(producer.createBatch())
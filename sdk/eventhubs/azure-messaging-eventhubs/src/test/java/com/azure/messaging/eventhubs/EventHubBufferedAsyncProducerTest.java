@@ -0,0 +1,231 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.RetryOptions;
+import com.azure.core.amqp.implementation.AmqpConstants;
+import com.azure.core.amqp.implementation.AmqpSendLink;
+import com.azure.core.amqp.implementation.TracerProvider;
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import com.azure.messaging.eventhubs.models.BufferedProducerOptions;
+import com.azure.messaging.eventhubs.models.EventHubProducerOptions;
+import com.azure.messaging.eventhubs.models.SendOptions;
+import org.apache.qpid.proton.message.Message;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventHubBufferedAsyncProducerTest {
+    private static final String TEST_CONTENTS = "Buffered producer test contents";
+    private static final List<String> PARTITION_IDS = Arrays.asList("0", "1", "2");
+
+    @Mock
+    private EventHubAsyncClient client;
+
+    @Captor
+    private ArgumentCaptor<byte[]> encodedBatchCaptor;
+    @Captor
+    private ArgumentCaptor<Integer> encodedSizeCaptor;
+
+    private final Map<String, AmqpSendLink> sendLinks = new HashMap<>();
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+
+        final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
+        final Map<String, EventHubAsyncProducer> producers = new HashMap<>();
+        for (String partitionId : PARTITION_IDS) {
+            final AmqpSendLink sendLink = mock(AmqpSendLink.class);
+            when(sendLink.getLinkSize()).thenReturn(Mono.just(ClientConstants.MAX_MESSAGE_LENGTH_BYTES));
+            when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
+            sendLinks.put(partitionId, sendLink);
+
+            final EventHubProducerOptions producerOptions = new EventHubProducerOptions()
+                .setPartitionId(partitionId)
+                .setRetry(new RetryOptions().setTryTimeout(Duration.ofSeconds(30)));
+            producers.put(partitionId, new EventHubAsyncProducer(Mono.just(sendLink), producerOptions,
+                tracerProvider));
+        }
+
+        when(client.getPartitionIds()).thenReturn(Flux.fromIterable(PARTITION_IDS));
+        when(client.createProducer(any(EventHubProducerOptions.class))).thenAnswer(invocation -> {
+            final EventHubProducerOptions options = invocation.getArgument(0);
+            return producers.get(options.getPartitionId());
+        });
+    }
+
+    @After
+    public void teardown() {
+        Mockito.framework().clearInlineMocks();
+        sendLinks.clear();
+    }
+
+    /**
+     * Verifies that events sharing a partition key are sent to the same partition in a single batch.
+     */
+    @Test
+    public void sendEventsWithPartitionKeyInSingleBatch() throws IOException {
+        // Arrange
+        final int count = 5;
+        final EventHubBufferedAsyncProducer producer = new EventHubBufferedAsyncProducer(client,
+            new BufferedProducerOptions().setMaxWaitTime(Duration.ofMinutes(1)), Schedulers.parallel());
+        final SendOptions sendOptions = new SendOptions().setPartitionKey("sandwiches");
+        final String expectedPartitionId = PARTITION_IDS.get(Math.floorMod("sandwiches".hashCode(),
+            PARTITION_IDS.size()));
+
+        // Act
+        final List<Mono<Void>> sends = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sends.add(producer.send(new EventData(TEST_CONTENTS.getBytes(UTF_8)), sendOptions).cache());
+        }
+        sends.forEach(send -> send.subscribe());
+
+        StepVerifier.create(producer.flush())
+            .verifyComplete();
+        StepVerifier.create(Mono.when(sends))
+            .verifyComplete();
+
+        // Assert
+        verify(sendLinks.get(expectedPartitionId)).send(encodedBatchCaptor.capture(), encodedSizeCaptor.capture(),
+            eq(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
+        final List<Message> messagesSent = TestUtils.decodeBatch(encodedBatchCaptor.getValue(),
+            encodedSizeCaptor.getValue());
+        Assert.assertEquals(count, messagesSent.size());
+        sendLinks.forEach((partitionId, sendLink) -> {
+            if (!expectedPartitionId.equals(partitionId)) {
+                verify(sendLink, never()).send(any(byte[].class), anyInt(), anyInt());
+            }
+        });
+
+        producer.close();
+    }
+
+    /**
+     * Verifies that events without a partition key are distributed amongst all partitions.
+     */
+    @Test
+    public void sendEventsRoundRobin() throws IOException {
+        // Arrange
+        final EventHubBufferedAsyncProducer producer = new EventHubBufferedAsyncProducer(client,
+            new BufferedProducerOptions().setMaxWaitTime(Duration.ofMinutes(1)), Schedulers.parallel());
+
+        // Act
+        final List<Mono<Void>> sends = new ArrayList<>();
+        for (int i = 0; i < PARTITION_IDS.size(); i++) {
+            sends.add(producer.send(new EventData(TEST_CONTENTS.getBytes(UTF_8))).cache());
+        }
+        sends.forEach(send -> send.subscribe());
+
+        StepVerifier.create(producer.flush())
+            .verifyComplete();
+        StepVerifier.create(Mono.when(sends))
+            .verifyComplete();
+
+        // Assert
+        sendLinks.values().forEach(sendLink -> verify(sendLink, times(1)).send(any(byte[].class), anyInt(), anyInt()));
+
+        producer.close();
+    }
+
+    /**
+     * Verifies that a batch that does not fill up is sent once the maximum wait time elapses.
+     */
+    @Test
+    public void sendsBatchAfterMaxWaitTime() throws IOException {
+        // Arrange
+        final EventHubBufferedAsyncProducer producer = new EventHubBufferedAsyncProducer(client,
+            new BufferedProducerOptions().setMaxWaitTime(Duration.ofMillis(100)), Schedulers.parallel());
+        final SendOptions sendOptions = new SendOptions().setPartitionKey("linger");
+
+        // Act & Assert
+        StepVerifier.create(producer.send(new EventData(TEST_CONTENTS.getBytes(UTF_8)), sendOptions))
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+
+        producer.close();
+    }
+
+    /**
+     * Verifies that events wait for room once the maximum number of batches is buffered for a partition, and are
+     * added once a batch has been sent to it.
+     */
+    @Test
+    public void sendWaitsWhenPendingBatchesAreFull() throws IOException {
+        // Arrange
+        final MonoProcessor<Void> firstSend = MonoProcessor.create();
+        final SendOptions sendOptions = new SendOptions().setPartitionKey("backpressure");
+        final String partitionId = PARTITION_IDS.get(Math.floorMod("backpressure".hashCode(), PARTITION_IDS.size()));
+        final AmqpSendLink sendLink = sendLinks.get(partitionId);
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(firstSend, Mono.empty());
+
+        // Each batch holds a single event.
+        final EventHubBufferedAsyncProducer producer = new EventHubBufferedAsyncProducer(client,
+            new BufferedProducerOptions()
+                .setMaxWaitTime(Duration.ofMinutes(1))
+                .setMaximumSizeInBytes(1024)
+                .setMaxPendingBatchesPerPartition(1),
+            Schedulers.parallel());
+
+        // Act
+        // The first batch is in flight, the second is queued, the third is being filled and the fourth event waits.
+        final List<MonoProcessor<Void>> sends = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sends.add(producer.send(new EventData(new byte[600]), sendOptions).toProcessor());
+        }
+
+        // Assert
+        verify(sendLink, timeout(5000).times(1)).send(any(byte[].class), anyInt(), anyInt());
+        Assert.assertFalse(sends.get(3).isTerminated());
+
+        firstSend.onComplete();
+        StepVerifier.create(producer.flush())
+            .verifyComplete();
+        StepVerifier.create(Mono.when(sends))
+            .verifyComplete();
+        verify(sendLink, times(4)).send(any(byte[].class), anyInt(), anyInt());
+
+        producer.close();
+    }
+
+    /**
+     * Verifies that an invalid maximum wait time is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxWaitTime() {
+        new EventHubBufferedAsyncProducer(client, new BufferedProducerOptions().setMaxWaitTime(Duration.ZERO),
+            Schedulers.parallel());
+    }
+}
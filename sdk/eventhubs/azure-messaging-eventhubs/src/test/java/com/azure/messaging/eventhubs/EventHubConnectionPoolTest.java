@@ -0,0 +1,205 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.AmqpEndpointState;
+import com.azure.core.amqp.RetryOptions;
+import com.azure.core.amqp.TransportType;
+import com.azure.core.amqp.implementation.CBSAuthorizationType;
+import com.azure.core.amqp.implementation.ConnectionOptions;
+import com.azure.core.amqp.models.ProxyConfiguration;
+import com.azure.core.credentials.TokenCredential;
+import com.azure.messaging.eventhubs.implementation.EventHubConnection;
+import com.azure.messaging.eventhubs.implementation.EventHubManagementNode;
+import com.azure.messaging.eventhubs.implementation.EventHubReactorConnection;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EventHubConnectionPool}.
+ */
+public class EventHubConnectionPoolTest {
+    private static final String HOSTNAME = "test-namespace.servicebus.windows.net";
+
+    @Mock
+    private TokenCredential tokenCredential;
+
+    private final List<EventHubReactorConnection> createdConnections = new ArrayList<>();
+    private final List<DirectProcessor<AmqpEndpointState>> connectionStates = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @After
+    public void teardown() {
+        Mockito.framework().clearInlineMocks();
+        createdConnections.clear();
+        connectionStates.clear();
+    }
+
+    /**
+     * Verifies that clients of a namespace share connections, up to the maximum number of connections.
+     */
+    @Test
+    public void sharesConnectionsWithinNamespace() throws IOException {
+        // Arrange
+        final EventHubConnectionPool pool = new EventHubConnectionPool(2);
+        final ConnectionOptions options = getConnectionOptions(HOSTNAME, "hub-1");
+
+        // Act
+        final EventHubConnection first = pool.acquire(options, this::createConnection);
+        final EventHubConnection second = pool.acquire(getConnectionOptions(HOSTNAME, "hub-2"), this::createConnection);
+        final EventHubConnection third = pool.acquire(getConnectionOptions(HOSTNAME, "hub-3"), this::createConnection);
+
+        // Assert
+        Assert.assertEquals(2, createdConnections.size());
+        Assert.assertEquals(2, pool.getConnectionCount(options));
+        Assert.assertEquals(first.getId(), third.getId());
+        Assert.assertNotEquals(first.getId(), second.getId());
+
+        first.close();
+        verify(createdConnections.get(0), never()).close();
+        third.close();
+        verify(createdConnections.get(0), times(1)).close();
+        Assert.assertEquals(1, pool.getConnectionCount(options));
+
+        second.close();
+        verify(createdConnections.get(1), times(1)).close();
+        Assert.assertEquals(0, pool.getConnectionCount(options));
+    }
+
+    /**
+     * Verifies that each namespace has its own connections.
+     */
+    @Test
+    public void separateConnectionsPerNamespace() {
+        // Arrange
+        final EventHubConnectionPool pool = new EventHubConnectionPool();
+
+        // Act
+        pool.acquire(getConnectionOptions(HOSTNAME, "hub-1"), this::createConnection);
+        pool.acquire(getConnectionOptions("other-namespace.servicebus.windows.net", "hub-1"),
+            this::createConnection);
+
+        // Assert
+        Assert.assertEquals(2, createdConnections.size());
+
+        pool.close();
+        createdConnections.forEach(connection -> verify(connection).close());
+    }
+
+    /**
+     * Verifies that clients with different credentials do not share a connection.
+     */
+    @Test
+    public void separateConnectionsPerCredential() {
+        // Arrange
+        final EventHubConnectionPool pool = new EventHubConnectionPool();
+        final TokenCredential otherCredential = mock(TokenCredential.class);
+        final ConnectionOptions options = getConnectionOptions(HOSTNAME, "hub-1");
+        final ConnectionOptions otherOptions = new ConnectionOptions(HOSTNAME, "hub-1", otherCredential,
+            CBSAuthorizationType.SHARED_ACCESS_SIGNATURE, TransportType.AMQP, new RetryOptions(),
+            ProxyConfiguration.SYSTEM_DEFAULTS, Schedulers.parallel());
+
+        // Act
+        final EventHubConnection first = pool.acquire(options, this::createConnection);
+        final EventHubConnection second = pool.acquire(otherOptions, this::createConnection);
+        final EventHubConnection third = pool.acquire(getConnectionOptions(HOSTNAME, "hub-2"),
+            this::createConnection);
+
+        // Assert
+        Assert.assertEquals(2, createdConnections.size());
+        Assert.assertNotEquals(first.getId(), second.getId());
+        Assert.assertEquals(first.getId(), third.getId());
+        Assert.assertEquals(1, pool.getConnectionCount(options));
+        Assert.assertEquals(1, pool.getConnectionCount(otherOptions));
+    }
+
+    /**
+     * Verifies that each client gets the management node of its own Event Hub.
+     */
+    @Test
+    public void getsManagementNodeOfEventHub() {
+        // Arrange
+        final EventHubConnectionPool pool = new EventHubConnectionPool();
+        final EventHubManagementNode managementNode = mock(EventHubManagementNode.class);
+
+        // Act
+        final EventHubConnection connection = pool.acquire(getConnectionOptions(HOSTNAME, "hub-2"),
+            this::createConnection);
+        when(createdConnections.get(0).getManagementNode("hub-2")).thenReturn(Mono.just(managementNode));
+
+        // Assert
+        Assert.assertSame(managementNode, connection.getManagementNode().block());
+    }
+
+    /**
+     * Verifies that a connection that closed is not handed out to new clients.
+     */
+    @Test
+    public void replacesClosedConnection() {
+        // Arrange
+        final EventHubConnectionPool pool = new EventHubConnectionPool();
+        final ConnectionOptions options = getConnectionOptions(HOSTNAME, "hub-1");
+        pool.acquire(options, this::createConnection);
+
+        // Act
+        connectionStates.get(0).onNext(AmqpEndpointState.CLOSED);
+        pool.acquire(options, this::createConnection);
+
+        // Assert
+        Assert.assertEquals(2, createdConnections.size());
+        Assert.assertEquals(1, pool.getConnectionCount(options));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxConnections() {
+        new EventHubConnectionPool(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cannotAcquireFromClosedPool() {
+        final EventHubConnectionPool pool = new EventHubConnectionPool();
+        pool.close();
+
+        pool.acquire(getConnectionOptions(HOSTNAME, "hub-1"), this::createConnection);
+    }
+
+    private EventHubReactorConnection createConnection() {
+        final DirectProcessor<AmqpEndpointState> states = DirectProcessor.create();
+        final EventHubReactorConnection connection = mock(EventHubReactorConnection.class);
+        when(connection.getId()).thenReturn("connection-" + createdConnections.size());
+        when(connection.getConnectionStates()).thenReturn(states);
+
+        createdConnections.add(connection);
+        connectionStates.add(states);
+        return connection;
+    }
+
+    private ConnectionOptions getConnectionOptions(String hostname, String eventHubName) {
+        return new ConnectionOptions(hostname, eventHubName, tokenCredential,
+            CBSAuthorizationType.SHARED_ACCESS_SIGNATURE, TransportType.AMQP, new RetryOptions(),
+            ProxyConfiguration.SYSTEM_DEFAULTS, Schedulers.parallel());
+    }
+}
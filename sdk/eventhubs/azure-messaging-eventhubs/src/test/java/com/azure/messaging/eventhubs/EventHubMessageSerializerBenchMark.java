@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.message.Message;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.azure.messaging.eventhubs.TestUtils.getMessage;
+
+/**
+ * Measures converting between {@link EventData} and AMQP messages with the {@link EventHubMessageSerializer}, which is
+ * done for every event sent and received.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EventHubMessageSerializerBenchMark {
+    @Param({"64", "1024", "16384"})
+    private int eventSize;
+
+    private EventHubMessageSerializer serializer;
+    private EventData event;
+    private byte[] encodedMessage;
+    private int encodedSize;
+
+    @Setup
+    public void setup() {
+        serializer = new EventHubMessageSerializer();
+
+        event = new EventData(new byte[eventSize]);
+        event.addProperty("benchmark-property", "benchmark-value");
+
+        // Received messages are decoded from the wire and are consumed by deserialization, so each invocation decodes
+        // a new message from the same bytes.
+        final Message received = getMessage(new byte[eventSize], "benchmark-tracking-id");
+        encodedMessage = new byte[eventSize + 1024];
+        encodedSize = received.encode(encodedMessage, 0, encodedMessage.length);
+    }
+
+    /**
+     * Converts an event to the AMQP message that is sent.
+     */
+    @Benchmark
+    public void serialize(Blackhole blackhole) {
+        blackhole.consume(serializer.serialize(event));
+    }
+
+    /**
+     * Gets the encoded size of the AMQP message of an event, as is done when adding it to a batch.
+     */
+    @Benchmark
+    public int getSize() {
+        return serializer.getSize(serializer.serialize(event));
+    }
+
+    /**
+     * Decodes a received AMQP message and converts it to an event without accessing its system properties.
+     */
+    @Benchmark
+    public void deserialize(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(decode(), EventData.class));
+    }
+
+    /**
+     * Decodes a received AMQP message, converts it to an event, and reads its system properties.
+     */
+    @Benchmark
+    public void deserializeWithSystemProperties(Blackhole blackhole) {
+        final EventData received = serializer.deserialize(decode(), EventData.class);
+
+        blackhole.consume(received.getSequenceNumber());
+        blackhole.consume(received.getSystemProperties());
+    }
+
+    private Message decode() {
+        final Message message = Proton.message();
+        message.decode(encodedMessage, 0, encodedSize);
+        return message;
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
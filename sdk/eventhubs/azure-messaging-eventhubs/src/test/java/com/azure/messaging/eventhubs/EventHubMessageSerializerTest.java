@@ -3,6 +3,7 @@
 
 package com.azure.messaging.eventhubs;
 
+import com.azure.core.amqp.MessageConstant;
 import com.azure.core.exception.AzureException;
 import com.azure.messaging.eventhubs.implementation.ManagementChannel;
 import org.apache.qpid.proton.Proton;
@@ -113,6 +114,35 @@ public class EventHubMessageSerializerTest {
         // Verifying the contents of our message is the same.
     }
 
+    /**
+     * Verify that the AMQP message properties of a received message are added to the system properties when they are
+     * first accessed, and that the application properties are kept after the message is cleared.
+     */
+    @Test
+    public void deserializeEventDataWithMessageProperties() {
+        // Arrange
+        final String messageId = "test-message-id";
+        final String contentType = "application/json";
+        final Message message = getMessage("hello-world".getBytes(UTF_8));
+        message.setMessageId(messageId);
+        message.setContentType(contentType);
+
+        // Act
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Assert
+        Assert.assertNull(message.getApplicationProperties());
+        Assert.assertEquals(OFFSET, eventData.getOffset());
+        Assert.assertEquals(SEQUENCE_NUMBER, eventData.getSequenceNumber());
+        Assert.assertEquals(APPLICATION_PROPERTIES.size(), eventData.getProperties().size());
+
+        final Map<String, Object> systemProperties = eventData.getSystemProperties();
+        Assert.assertEquals(messageId, systemProperties.get(MessageConstant.MESSAGE_ID.getValue()));
+        Assert.assertEquals(contentType, systemProperties.get(MessageConstant.CONTENT_TYPE.getValue()));
+        Assert.assertTrue(systemProperties.containsKey(OTHER_SYSTEM_PROPERTY));
+        Assert.assertSame(systemProperties, eventData.getSystemProperties());
+    }
+
     /**
      * Verify we can deserialize a message to {@link PartitionProperties}.
      */
@@ -7,8 +7,8 @@ import com.azure.core.amqp.RetryOptions;
 import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.exception.ErrorCondition;
 import com.azure.core.amqp.exception.ErrorContext;
+import com.azure.core.amqp.implementation.AmqpConstants;
 import com.azure.core.amqp.implementation.AmqpSendLink;
-import com.azure.core.amqp.implementation.MessageSerializer;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.tracing.ProcessKind;
 import com.azure.core.util.Context;
@@ -41,7 +41,7 @@ import static com.azure.core.util.tracing.Tracer.OPENCENSUS_SPAN_KEY;
 import static com.azure.core.util.tracing.Tracer.SPAN_CONTEXT;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
@@ -57,34 +57,32 @@ public class EventHubProducerTest {
     @Mock
     private AmqpSendLink sendLink;
     @Captor
-    private ArgumentCaptor<Message> singleMessageCaptor;
+    private ArgumentCaptor<byte[]> encodedBatchCaptor;
     @Captor
-    private ArgumentCaptor<List<Message>> messagesCaptor;
+    private ArgumentCaptor<Integer> encodedSizeCaptor;
 
     private EventHubAsyncProducer asyncProducer;
     private RetryOptions retryOptions = new RetryOptions().setTryTimeout(Duration.ofSeconds(30));
-    private MessageSerializer messageSerializer = new EventHubMessageSerializer();
 
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
         when(sendLink.getLinkSize()).thenReturn(Mono.just(ClientConstants.MAX_MESSAGE_LENGTH_BYTES));
         when(sendLink.getErrorContext()).thenReturn(new ErrorContext("test-namespace"));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
-        when(sendLink.send(any(Message.class))).thenReturn(Mono.empty());
+        when(sendLink.send(any(byte[].class), anyInt(), anyInt())).thenReturn(Mono.empty());
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
 
         asyncProducer = new EventHubAsyncProducer(
             Mono.fromCallable(() -> sendLink),
-            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider, messageSerializer);
+            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider);
     }
 
     @After
     public void teardown() {
         Mockito.framework().clearInlineMocks();
         sendLink = null;
-        singleMessageCaptor = null;
-        messagesCaptor = null;
+        encodedBatchCaptor = null;
+        encodedSizeCaptor = null;
     }
 
     /**
@@ -100,10 +98,14 @@ public class EventHubProducerTest {
         producer.send(eventData);
 
         // Assert
-        verify(sendLink, times(1)).send(any(Message.class));
-        verify(sendLink).send(singleMessageCaptor.capture());
+        verify(sendLink, times(1)).send(encodedBatchCaptor.capture(), encodedSizeCaptor.capture(),
+            eq(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
 
-        final Message message = singleMessageCaptor.getValue();
+        final List<Message> messagesSent = TestUtils.decodeBatch(encodedBatchCaptor.getValue(),
+            encodedSizeCaptor.getValue());
+        Assert.assertEquals(1, messagesSent.size());
+
+        final Message message = messagesSent.get(0);
         Assert.assertEquals(Section.SectionType.Data, message.getBody().getType());
     }
 
@@ -119,7 +121,7 @@ public class EventHubProducerTest {
 
         EventHubAsyncProducer asyncProducer = new EventHubAsyncProducer(
             Mono.fromCallable(() -> sendLink),
-            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider, messageSerializer);
+            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider);
         final EventHubProducer producer = new EventHubProducer(asyncProducer, retryOptions.getTryTimeout());
         final EventData eventData = new EventData("hello-world".getBytes(UTF_8));
 
@@ -159,7 +161,7 @@ public class EventHubProducerTest {
 
         EventHubAsyncProducer asyncProducer = new EventHubAsyncProducer(
             Mono.fromCallable(() -> sendLink),
-            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider, messageSerializer);
+            new EventHubProducerOptions().setRetry(retryOptions), tracerProvider);
         final EventHubProducer producer = new EventHubProducer(asyncProducer, retryOptions.getTryTimeout());
         final EventData eventData = new EventData("hello-world".getBytes(UTF_8), new Context(SPAN_CONTEXT, Context.NONE));
 
@@ -200,9 +202,11 @@ public class EventHubProducerTest {
         producer.send(events, options);
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
+        verify(sendLink).send(encodedBatchCaptor.capture(), encodedSizeCaptor.capture(),
+            eq(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT));
 
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = TestUtils.decodeBatch(encodedBatchCaptor.getValue(),
+            encodedSizeCaptor.getValue());
         Assert.assertEquals(count, messagesSent.size());
 
         messagesSent.forEach(message -> Assert.assertEquals(Section.SectionType.Data, message.getBody().getType()));
@@ -234,7 +238,7 @@ public class EventHubProducerTest {
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
 
         final EventHubAsyncProducer hubAsyncProducer = new EventHubAsyncProducer(Mono.fromCallable(() -> link),
-            producerOptions, tracerProvider, messageSerializer);
+            producerOptions, tracerProvider);
         final EventHubProducer hubProducer = new EventHubProducer(hubAsyncProducer, retryOptions.getTryTimeout());
 
         // Act
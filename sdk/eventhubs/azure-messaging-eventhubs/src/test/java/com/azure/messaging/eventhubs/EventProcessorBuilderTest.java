@@ -73,4 +73,24 @@ public class EventProcessorBuilderTest {
         assertNotNull(eventProcessor);
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void testEventProcessorBuilderRejectsBatchSizeWithPrefetchCount() {
+        EventHubAsyncClient eventHubAsyncClient = new EventHubClientBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .buildAsyncClient();
+
+        new EventProcessorBuilder()
+            .consumerGroup("consumer-group")
+            .eventHubClient(eventHubAsyncClient)
+            .partitionProcessorFactory((() -> new PartitionProcessor() {
+                    @Override
+                    public Mono<Void> processEvent(PartitionContext partitionContext, EventData eventData) {
+                        return Mono.empty();
+                    }
+                }))
+            .partitionManager(new InMemoryPartitionManager())
+            .maxBatchSize(10)
+            .prefetchCount(10)
+            .buildEventProcessor();
+    }
 }
@@ -28,18 +28,23 @@ import com.azure.core.util.tracing.Tracer;
 import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.PartitionContext;
+import com.azure.messaging.eventhubs.models.PartitionPumpMetrics;
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -370,6 +375,130 @@ public class EventProcessorTest {
             }).verifyComplete();
     }
 
+    /**
+     * Tests {@link EventProcessor} delivering events in batches to {@link PartitionProcessor#processEvents(
+     * PartitionContext, List)}.
+     *
+     * @throws Exception if an error occurs while running the test.
+     */
+    @Test
+    public void testWithBatchPartitionProcessor() throws Exception {
+        // Arrange
+        when(eventHubAsyncClient.getEventHubName()).thenReturn("test-eh");
+        when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.just("1"));
+        when(eventHubAsyncClient
+            .createConsumer(anyString(), anyString(), any(EventPosition.class), any(EventHubConsumerOptions.class)))
+            .thenReturn(consumer1);
+        when(consumer1.receive()).thenReturn(Flux.just(eventData1, eventData2, eventData3));
+        when(eventData1.getSequenceNumber()).thenReturn(1L);
+        when(eventData2.getSequenceNumber()).thenReturn(2L);
+        when(eventData3.getSequenceNumber()).thenReturn(3L);
+        when(eventData1.getOffset()).thenReturn(1L);
+        when(eventData2.getOffset()).thenReturn(100L);
+        when(eventData3.getOffset()).thenReturn(150L);
+
+        final InMemoryPartitionManager partitionManager = new InMemoryPartitionManager();
+        final BatchPartitionProcessor batchPartitionProcessor = new BatchPartitionProcessor();
+
+        // Act
+        final EventProcessor eventProcessor = new EventProcessorBuilder()
+            .eventHubClient(eventHubAsyncClient)
+            .consumerGroup("test-consumer")
+            .partitionProcessorFactory(() -> batchPartitionProcessor)
+            .partitionManager(partitionManager)
+            .maxBatchSize(2)
+            .maxWaitTime(Duration.ofMillis(500))
+            .buildEventProcessor();
+
+        eventProcessor.start();
+        TimeUnit.SECONDS.sleep(10);
+        eventProcessor.stop();
+
+        // Assert
+        assertEquals(2, batchPartitionProcessor.batchSizes.size());
+        assertEquals(Integer.valueOf(2), batchPartitionProcessor.batchSizes.get(0));
+        assertEquals(Integer.valueOf(1), batchPartitionProcessor.batchSizes.get(1));
+
+        StepVerifier.create(partitionManager.listOwnership("test-eh", "test-consumer"))
+            .assertNext(partitionOwnership -> {
+                assertEquals("Sequence number", 3, (long) partitionOwnership.getSequenceNumber());
+                assertEquals("Offset", Long.valueOf(150), partitionOwnership.getOffset());
+            }).verifyComplete();
+    }
+
+    /**
+     * Tests {@link EventProcessor} processing events of a partition in order when a prefetch count is set, even if
+     * earlier events take longer to process.
+     *
+     * @throws Exception if an error occurs while running the test.
+     */
+    @Test
+    public void testWithBoundedPartitionPump() throws Exception {
+        // Arrange
+        when(eventHubAsyncClient.getEventHubName()).thenReturn("test-eh");
+        when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.just("1"));
+        when(eventHubAsyncClient
+            .createConsumer(anyString(), anyString(), any(EventPosition.class), any(EventHubConsumerOptions.class)))
+            .thenReturn(consumer1);
+        when(consumer1.receive()).thenReturn(Flux.just(eventData1, eventData2, eventData3));
+        when(eventData1.getSequenceNumber()).thenReturn(1L);
+        when(eventData2.getSequenceNumber()).thenReturn(2L);
+        when(eventData3.getSequenceNumber()).thenReturn(3L);
+
+        final InMemoryPartitionManager partitionManager = new InMemoryPartitionManager();
+        final List<Long> processed = new CopyOnWriteArrayList<>();
+        final PartitionProcessor partitionProcessor = new PartitionProcessor() {
+            @Override
+            public Mono<Void> processEvent(PartitionContext partitionContext, EventData eventData) {
+                // The first event takes the longest to process.
+                final Duration delay = Duration.ofMillis(300 / eventData.getSequenceNumber());
+                return Mono.delay(delay).then(Mono.fromRunnable(() -> processed.add(eventData.getSequenceNumber())));
+            }
+        };
+
+        // Act
+        final EventProcessor eventProcessor = new EventProcessorBuilder()
+            .eventHubClient(eventHubAsyncClient)
+            .consumerGroup("test-consumer")
+            .partitionProcessorFactory(() -> partitionProcessor)
+            .partitionManager(partitionManager)
+            .prefetchCount(2)
+            .buildEventProcessor();
+
+        eventProcessor.start();
+        TimeUnit.SECONDS.sleep(10);
+        final Map<String, PartitionPumpMetrics> metrics = eventProcessor.getPartitionPumpMetrics();
+        eventProcessor.stop();
+
+        // Assert
+        assertEquals(Arrays.asList(1L, 2L, 3L), processed);
+        assertEquals(1, metrics.size());
+        assertEquals(0, metrics.get("1").getQueueDepth());
+        assertEquals(3, metrics.get("1").getProcessedEventCount());
+        assertTrue(eventProcessor.getPartitionPumpMetrics().isEmpty());
+
+        final ArgumentCaptor<EventHubConsumerOptions> options = ArgumentCaptor.forClass(EventHubConsumerOptions.class);
+        verify(eventHubAsyncClient).createConsumer(anyString(), anyString(), any(EventPosition.class),
+            options.capture());
+        assertEquals(2, options.getValue().getPrefetchCount());
+    }
+
+    private static final class BatchPartitionProcessor extends PartitionProcessor {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Mono<Void> processEvent(PartitionContext partitionContext, EventData eventData) {
+            return Mono.error(new IllegalStateException("Events should be delivered in batches."));
+        }
+
+        @Override
+        public Mono<Void> processEvents(PartitionContext partitionContext, List<EventData> events) {
+            batchSizes.add(events.size());
+            return partitionContext.updateCheckpoint(events.get(events.size() - 1));
+        }
+    }
+
     private static final class FaultyPartitionProcessor extends PartitionProcessor {
 
         boolean error;
@@ -12,13 +12,19 @@ import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.codec.AMQPDefinedTypes;
+import org.apache.qpid.proton.codec.DecoderImpl;
+import org.apache.qpid.proton.codec.EncoderImpl;
 import org.apache.qpid.proton.message.Message;
 import reactor.core.publisher.Flux;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.azure.core.amqp.MessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
@@ -52,6 +58,32 @@ public final class TestUtils {
         APPLICATION_PROPERTIES.put("a-number", 10L);
     }
 
+    /**
+     * Decodes the messages of a batch message encoded by an {@link EventDataBatch}. Each message is the binary of a
+     * data section that follows the batch envelope.
+     */
+    static List<Message> decodeBatch(byte[] encodedBatch, int encodedSize) {
+        final DecoderImpl decoder = new DecoderImpl();
+        final EncoderImpl encoder = new EncoderImpl(decoder);
+        AMQPDefinedTypes.registerAllTypes(decoder, encoder);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(encodedBatch, 0, encodedSize);
+        decoder.setByteBuffer(buffer);
+
+        final List<Message> messages = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            final Object section = decoder.readObject();
+            if (section instanceof Data) {
+                final Binary binary = ((Data) section).getValue();
+                final Message message = Proton.message();
+                message.decode(binary.getArray(), binary.getArrayOffset(), binary.getLength());
+                messages.add(message);
+            }
+        }
+
+        return messages;
+    }
+
     static Symbol getSymbol(MessageConstant messageConstant) {
         return Symbol.getSymbol(messageConstant.getValue());
     }
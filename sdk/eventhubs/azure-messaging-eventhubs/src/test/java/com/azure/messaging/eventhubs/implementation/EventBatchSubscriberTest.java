@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.EventData;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class EventBatchSubscriberTest {
+
+    /**
+     * Verifies that a max-wait timer which fires after its batch was delivered by size does not flush the next event
+     * as a batch of one.
+     */
+    @Test
+    public void staleMaxWaitTimerDoesNotFlushNextBatch() {
+        // Arrange
+        final ManualScheduler scheduler = new ManualScheduler();
+        final List<Integer> batchSizes = new ArrayList<>();
+        final DirectProcessor<EventData> events = DirectProcessor.create();
+        final EventBatchSubscriber subscriber = new EventBatchSubscriber(2, Duration.ofMinutes(1), scheduler,
+            batch -> {
+                batchSizes.add(batch.size());
+                return Mono.empty();
+            }, error -> Assert.fail(error.toString()), error -> Assert.fail(error.toString()), () -> { });
+        events.subscribe(subscriber);
+
+        // Act
+        events.onNext(new EventData("1"));
+        events.onNext(new EventData("2"));
+
+        // The timer armed by the first event runs although the batch it was armed for was delivered by size.
+        scheduler.runTask(0);
+        events.onNext(new EventData("3"));
+
+        // Assert
+        Assert.assertEquals(1, batchSizes.size());
+        Assert.assertEquals(Integer.valueOf(2), batchSizes.get(0));
+
+        // The timer armed by the third event flushes it.
+        scheduler.runTask(1);
+        Assert.assertEquals(2, batchSizes.size());
+        Assert.assertEquals(Integer.valueOf(1), batchSizes.get(1));
+
+        subscriber.dispose();
+    }
+
+    /**
+     * A scheduler whose delayed tasks are only run when the test asks for it, and which cannot cancel them, like a
+     * timer that already started running when it is disposed.
+     */
+    private static final class ManualScheduler implements Scheduler {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            task.run();
+            return () -> { };
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            tasks.add(task);
+            return () -> { };
+        }
+
+        @Override
+        public Worker createWorker() {
+            return Schedulers.immediate().createWorker();
+        }
+
+        void runTask(int index) {
+            tasks.get(index).run();
+        }
+    }
+}
@@ -94,6 +94,26 @@ public class EventHubReactorConnectionTest {
             .verifyComplete();
     }
 
+    /**
+     * Verifies that a connection serves a management node per Event Hub, and caches it.
+     */
+    @Test
+    public void getsManagementChannelPerEventHub() {
+        // Arrange
+        final EventHubReactorConnection connection = new EventHubReactorConnection(CONNECTION_ID, connectionOptions,
+            reactorProvider, handlerProvider, tokenManagerProvider, messageSerializer);
+
+        // Act
+        final EventHubManagementNode defaultNode = connection.getManagementNode().block();
+        final EventHubManagementNode otherNode = connection.getManagementNode("other-event-hub").block();
+
+        // Assert
+        Assert.assertTrue(otherNode instanceof ManagementChannel);
+        Assert.assertNotSame(defaultNode, otherNode);
+        Assert.assertSame(defaultNode, connection.getManagementNode("event-hub-name").block());
+        Assert.assertSame(otherNode, connection.getManagementNode("other-event-hub").block());
+    }
+
     @After
     public void teardown() {
         Mockito.framework().clearInlineMocks();
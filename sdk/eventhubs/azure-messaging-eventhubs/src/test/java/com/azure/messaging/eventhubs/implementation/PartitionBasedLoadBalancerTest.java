@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +39,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.After;
 import org.junit.Before;
@@ -100,18 +102,67 @@ public class PartitionBasedLoadBalancerTest {
 
         PartitionBasedLoadBalancer partitionBasedLoadBalancer = createPartitionLoadBalancer("owner1");
 
+        // The first cycle claims a single partition, the second claims all remaining partitions.
+        List<Integer> expectedOwnedPartitions = Arrays.asList(1, 3, 3);
         IntStream.range(0, partitionIds.size()).forEach(index -> {
             partitionBasedLoadBalancer.loadBalance();
             List<PartitionOwnership> partitionOwnership = partitionManager.listOwnership(eventHubName,
                 consumerGroupName).collectList().block();
 
             assertNotNull(partitionOwnership);
-            assertEquals(index + 1, partitionOwnership.size());
+            assertEquals((int) expectedOwnedPartitions.get(index), partitionOwnership.size());
             partitionOwnership.forEach(po -> assertEquals("owner1", partitionOwnership.get(0).getOwnerId()));
-            assertEquals(index + 1, partitionOwnership.stream().map(po -> po.getPartitionId()).distinct().count());
+            assertEquals((long) expectedOwnedPartitions.get(index),
+                partitionOwnership.stream().map(po -> po.getPartitionId()).distinct().count());
         });
     }
 
+    @Test
+    public void testClaimsMultiplePartitionsPerCycle() {
+        List<String> partitionIds = IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList());
+        when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.fromIterable(partitionIds));
+        when(eventHubAsyncClient.createConsumer(anyString(), anyString(), any(EventPosition.class), any(
+            EventHubConsumerOptions.class))).thenReturn(eventHubConsumer);
+        when(eventHubConsumer.receive())
+            .thenReturn(Flux.interval(Duration.ofSeconds(1)).map(index -> eventDataList.get(index.intValue())));
+
+        PartitionBasedLoadBalancer partitionBasedLoadBalancer1 = createPartitionLoadBalancer("owner1");
+        partitionBasedLoadBalancer1.loadBalance();
+        partitionBasedLoadBalancer1.loadBalance();
+        List<PartitionOwnership> partitionOwnership = partitionManager.listOwnership(eventHubName,
+            consumerGroupName).collectList().block();
+        assertEquals(10, partitionOwnership.stream().filter(po -> "owner1".equals(po.getOwnerId())).count());
+
+        // A second event processor steals its whole share in a single cycle.
+        PartitionBasedLoadBalancer partitionBasedLoadBalancer2 = createPartitionLoadBalancer("owner2");
+        partitionBasedLoadBalancer2.loadBalance();
+        partitionOwnership = partitionManager.listOwnership(eventHubName, consumerGroupName).collectList().block();
+        assertEquals(10, partitionOwnership.size());
+        assertEquals(5, partitionOwnership.stream().filter(po -> "owner1".equals(po.getOwnerId())).count());
+        assertEquals(5, partitionOwnership.stream().filter(po -> "owner2".equals(po.getOwnerId())).count());
+    }
+
+    @Test
+    public void testBalancedLoadSkipsRecentCycles() {
+        List<String> partitionIds = Arrays.asList("1", "2", "3");
+        when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.fromIterable(partitionIds));
+        when(eventHubAsyncClient.createConsumer(anyString(), anyString(), any(EventPosition.class), any(
+            EventHubConsumerOptions.class))).thenReturn(eventHubConsumer);
+        when(eventHubConsumer.receive())
+            .thenReturn(Flux.interval(Duration.ofSeconds(1)).map(index -> eventDataList.get(index.intValue())));
+        partitionManager = spy(partitionManager);
+
+        PartitionBasedLoadBalancer partitionBasedLoadBalancer = createPartitionLoadBalancer("owner1");
+
+        // Claim one partition, claim the remaining ones, then find the load balanced.
+        IntStream.range(0, 3).forEach(index -> partitionBasedLoadBalancer.loadBalance());
+        // The load was balanced and ownership was listed recently, so these cycles are skipped.
+        IntStream.range(0, 3).forEach(index -> partitionBasedLoadBalancer.loadBalance());
+
+        verify(partitionManager, times(3)).listOwnership(eventHubName, consumerGroupName);
+        verify(eventHubAsyncClient, times(1)).getPartitionIds();
+    }
+
     private void sleep(int secondsToSleep) {
         try {
             TimeUnit.SECONDS.sleep(secondsToSleep);
@@ -163,13 +214,14 @@ public class PartitionBasedLoadBalancerTest {
         PartitionBasedLoadBalancer partitionBasedLoadBalancer1 = createPartitionLoadBalancer("owner1");
 
         // First event processor claims all partitions
+        List<Integer> expectedOwnedPartitions = Arrays.asList(1, 3, 3);
         IntStream.range(0, partitionIds.size()).forEach(index -> {
             partitionBasedLoadBalancer1.loadBalance();
             List<PartitionOwnership> partitionOwnership = partitionManager.listOwnership(eventHubName,
                 consumerGroupName).collectList().block();
-            assertEquals(index + 1, partitionOwnership.size());
+            assertEquals((int) expectedOwnedPartitions.get(index), partitionOwnership.size());
             partitionOwnership.forEach(po -> assertEquals("owner1", partitionOwnership.get(0).getOwnerId()));
-            assertEquals(index + 1,
+            assertEquals((long) expectedOwnedPartitions.get(index),
                 partitionOwnership.stream().map(PartitionOwnership::getPartitionId).distinct().count());
         });
 
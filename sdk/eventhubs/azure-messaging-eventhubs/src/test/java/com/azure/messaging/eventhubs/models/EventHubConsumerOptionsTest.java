@@ -99,4 +99,24 @@ public class EventHubConsumerOptionsTest {
         // Assert
         Assert.assertEquals(Long.valueOf(ownerLevel), options.getOwnerLevel());
     }
+
+    @Test
+    public void invalidPrefetchMemoryBudget() {
+        // Arrange
+        final long budget = 64 * 1024 * 1024;
+        final EventHubConsumerOptions options = new EventHubConsumerOptions()
+            .setPrefetchMemoryBudgetInBytes(budget);
+
+        // Act
+        try {
+            options.setPrefetchMemoryBudgetInBytes(0L);
+            Assert.fail("Setting this should have failed.");
+        } catch (IllegalArgumentException e) {
+            // This is what we expect.
+        }
+
+        // Assert
+        Assert.assertEquals(Long.valueOf(budget), options.getPrefetchMemoryBudgetInBytes());
+        Assert.assertEquals(Long.valueOf(budget), options.clone().getPrefetchMemoryBudgetInBytes());
+    }
 }
@@ -0,0 +1,22 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.metrics.micrometer;
+
+import com.azure.core.http.policy.AfterRetryPolicyProvider;
+import com.azure.core.http.policy.HttpMetricsPolicy;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+
+/**
+ * Adds a {@link HttpMetricsPolicy} after the retry policy of the pipelines of the SDK, so that their requests are
+ * recorded with the {@link MicrometerMeter} once this package is on the classpath.
+ */
+public class MicrometerHttpPolicyProvider implements AfterRetryPolicyProvider {
+    /**
+     * @return a HTTP metrics policy recording with the meter plugged into the SDK.
+     */
+    @Override
+    public HttpPipelinePolicy create() {
+        return new HttpMetricsPolicy();
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.metrics.micrometer;
+
+import com.azure.core.util.metrics.DoubleHistogram;
+import com.azure.core.util.metrics.LongCounter;
+import com.azure.core.util.metrics.Meter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Meter} recording the metrics of the SDK with a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Histograms in milliseconds are recorded as {@link Timer timers} and other histograms as {@link
+ * DistributionSummary distribution summaries}, both publishing percentile histograms. Up-down counters are recorded
+ * as {@link Gauge gauges}. Every distinct set of attributes is a set of Micrometer tags.</p>
+ */
+public class MicrometerMeter implements Meter {
+    private static final String MILLISECONDS = "ms";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Creates a MicrometerMeter recording with the Micrometer global registry, which is how the SDK loads it.
+     */
+    public MicrometerMeter() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates a MicrometerMeter.
+     *
+     * @param registry The registry to record with.
+     * @throws NullPointerException If {@code registry} is {@code null}.
+     */
+    public MicrometerMeter(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "'registry' cannot be null.");
+    }
+
+    @Override
+    public DoubleHistogram createDoubleHistogram(String name, String description, String unit) {
+        if (MILLISECONDS.equals(unit)) {
+            final TaggedInstruments<Timer> timers = new TaggedInstruments<>(tags -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry));
+            return (value, attributes) -> timers.get(attributes)
+                .record((long) (value * TimeUnit.MILLISECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+        }
+
+        final TaggedInstruments<DistributionSummary> summaries = new TaggedInstruments<>(tags ->
+            DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry));
+        return (value, attributes) -> summaries.get(attributes).record(value);
+    }
+
+    @Override
+    public LongCounter createLongCounter(String name, String description, String unit) {
+        final TaggedInstruments<Counter> counters = new TaggedInstruments<>(tags -> Counter.builder(name)
+            .description(description)
+            .baseUnit(unit)
+            .tags(tags)
+            .register(registry));
+        return (value, attributes) -> counters.get(attributes).increment(value);
+    }
+
+    @Override
+    public LongCounter createLongUpDownCounter(String name, String description, String unit) {
+        final TaggedInstruments<AtomicLong> values = new TaggedInstruments<>(tags -> {
+            // The gauge only keeps a weak reference to the value, which the instruments keep alive.
+            final AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                .description(description)
+                .baseUnit(unit)
+                .tags(tags)
+                .register(registry);
+            return value;
+        });
+        return (value, attributes) -> values.get(attributes).addAndGet(value);
+    }
+
+    /**
+     * The instruments of a metric, one per distinct set of attributes.
+     */
+    private static final class TaggedInstruments<T> {
+        private final Map<Map<String, String>, T> instruments = new ConcurrentHashMap<>();
+        private final Function<List<Tag>, T> factory;
+
+        TaggedInstruments(Function<List<Tag>, T> factory) {
+            this.factory = factory;
+        }
+
+        T get(Map<String, String> attributes) {
+            final T instrument = instruments.get(attributes);
+            if (instrument != null) {
+                return instrument;
+            }
+
+            // The attributes are only valid during the call, so the key is a copy of them.
+            return instruments.computeIfAbsent(new HashMap<>(attributes), key -> factory.apply(toTags(key)));
+        }
+
+        private static List<Tag> toTags(Map<String, String> attributes) {
+            final List<Tag> tags = new ArrayList<>(attributes.size());
+            attributes.forEach((key, value) -> tags.add(Tag.of(key, value)));
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+module com.azure.core.metrics.micrometer {
+    requires com.azure.core;
+    requires micrometer.core;
+
+    exports com.azure.core.metrics.micrometer;
+
+    provides com.azure.core.util.metrics.Meter
+        with com.azure.core.metrics.micrometer.MicrometerMeter;
+    provides com.azure.core.http.policy.AfterRetryPolicyProvider
+        with com.azure.core.metrics.micrometer.MicrometerHttpPolicyProvider;
+}
@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.metrics.micrometer;
+
+import com.azure.core.util.metrics.DoubleHistogram;
+import com.azure.core.util.metrics.LongCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class MicrometerMeterTest {
+    private static final Map<String, String> ATTRIBUTES = Collections.singletonMap("host", "localhost");
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMeter meter;
+
+    @Before
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        meter = new MicrometerMeter(registry);
+    }
+
+    @Test
+    public void millisecondHistogramIsTimer() {
+        final DoubleHistogram histogram = meter.createDoubleHistogram("duration", "Duration", "ms");
+
+        histogram.record(5, ATTRIBUTES);
+        histogram.record(15, new HashMap<>(ATTRIBUTES));
+
+        final Timer timer = registry.get("duration").tag("host", "localhost").timer();
+        Assert.assertEquals(2, timer.count());
+        Assert.assertEquals(20, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    public void otherHistogramIsDistributionSummary() {
+        final DoubleHistogram histogram = meter.createDoubleHistogram("size", "Size", "bytes");
+
+        histogram.record(100, ATTRIBUTES);
+        histogram.record(50, Collections.singletonMap("host", "otherhost"));
+
+        final DistributionSummary summary = registry.get("size").tag("host", "localhost").summary();
+        Assert.assertEquals(1, summary.count());
+        Assert.assertEquals(100, summary.totalAmount(), 0.001);
+        Assert.assertEquals(2, registry.get("size").summaries().size());
+    }
+
+    @Test
+    public void counter() {
+        final LongCounter counter = meter.createLongCounter("retries", "Retries", "{retry}");
+
+        counter.add(1, ATTRIBUTES);
+        counter.add(2, ATTRIBUTES);
+
+        final Counter registered = registry.get("retries").tag("host", "localhost").counter();
+        Assert.assertEquals(3, registered.count(), 0.001);
+    }
+
+    @Test
+    public void upDownCounterIsGauge() {
+        final LongCounter counter = meter.createLongUpDownCounter("in_flight", "In flight", "{request}");
+
+        counter.add(1, ATTRIBUTES);
+        counter.add(1, ATTRIBUTES);
+        counter.add(-1, ATTRIBUTES);
+
+        final Gauge gauge = registry.get("in_flight").tag("host", "localhost").gauge();
+        Assert.assertEquals(1, gauge.value(), 0.001);
+    }
+}
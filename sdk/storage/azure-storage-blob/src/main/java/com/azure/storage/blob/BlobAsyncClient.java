@@ -316,6 +316,8 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
             ? new ParallelTransferOptions()
             : parallelTransferOptions;
 
+        // The channel only keeps the file open while it is uploaded, the blocks are read from the path so that the
+        // HTTP client can send them directly from the file.
         return Mono.using(() -> uploadFileResourceSupplier(filePath),
             channel -> {
                 final SortedMap<Long, String> blockIds = new TreeMap<>();
@@ -324,8 +326,8 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
                     .flatMap(chunk -> {
                         String blockId = blockIds.get(chunk.getOffset());
                         return getBlockBlobAsyncClient()
-                            .stageBlockWithResponse(blockId, FluxUtil.readFile(channel, chunk.getOffset(),
-                                chunk.getCount()), chunk.getCount(), null);
+                            .stageBlockWithResponse(blockId, FluxUtil.readFile(Paths.get(filePath),
+                                chunk.getOffset(), chunk.getCount()), chunk.getCount(), null);
                     })
                     .then(Mono.defer(() -> getBlockBlobAsyncClient().commitBlockListWithResponse(
                         new ArrayList<>(blockIds.values()), headers, metadata, tier, accessConditions)))
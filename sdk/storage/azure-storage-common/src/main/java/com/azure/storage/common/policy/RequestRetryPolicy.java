@@ -11,6 +11,7 @@ import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.policy.HttpPipelinePolicy;
 import com.azure.core.implementation.http.UrlBuilder;
+import com.azure.core.implementation.util.FileSegmentFlux;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -90,11 +91,13 @@ public final class RequestRetryPolicy implements HttpPipelinePolicy {
          stream, the buffers that were emitted will have already been consumed (their position set to their limit),
          so it is not a true reset. By adding the map function, we ensure that anything which consumes the
          ByteBuffers downstream will only actually consume a duplicate so the original is preserved. This only
-         duplicates the ByteBuffer object, not the underlying data.
+         duplicates the ByteBuffer object, not the underlying data. A file segment is read again from the file on every
+         try, so it is kept as it is, which lets the HTTP client send it directly from the file.
          */
         context.setHttpRequest(originalRequest.copy());
-        Flux<ByteBuffer> bufferedBody = (context.getHttpRequest().getBody() == null)
-            ? null
+        Flux<ByteBuffer> bufferedBody = (context.getHttpRequest().getBody() == null
+            || context.getHttpRequest().getBody() instanceof FileSegmentFlux)
+            ? context.getHttpRequest().getBody()
             : context.getHttpRequest().getBody().map(ByteBuffer::duplicate);
         context.getHttpRequest().setBody(bufferedBody);
         if (!tryingPrimary) {